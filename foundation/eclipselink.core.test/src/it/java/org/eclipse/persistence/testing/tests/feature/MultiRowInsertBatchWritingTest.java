@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.feature;
+
+import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.internal.databaseaccess.BatchWritingMechanism;
+import org.eclipse.persistence.internal.databaseaccess.DatabaseAccessor;
+import org.eclipse.persistence.internal.databaseaccess.MultiRowInsertBatchWritingMechanism;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.queries.ReportQuery;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.testing.framework.*;
+import org.eclipse.persistence.testing.models.employee.domain.Address;
+
+/**
+ * This tests that a batch of inserts written as multi-row insert statements inserts all the rows.
+ */
+public class MultiRowInsertBatchWritingTest extends AutoVerifyTestCase {
+    protected static int NUM_INSERTS = 200;
+    protected DatabaseSession multiRowSession;
+
+    public MultiRowInsertBatchWritingTest() {
+        setDescription("Tests a large number of inserts using multi-row insert batch writing");
+    }
+
+    @Override
+    public void setup() {
+        if (getSession().getPlatform().getMaxMultiRowInsertSize(1) == 0) {
+            throw new TestWarningException("This database platform does not support multi-row inserts.");
+        }
+        // The accessor of the test session may already use JDBC batches, so a new session is used.
+        Project project = getSession().getProject().clone();
+        DatabaseLogin login = (DatabaseLogin)project.getLogin().clone();
+        login.getPlatform().setUsesMultiRowInsertBatchWriting(true);
+        project.setLogin(login);
+        this.multiRowSession = project.createDatabaseSession();
+        this.multiRowSession.setLog(getSession().getLog());
+        this.multiRowSession.setLogLevel(getSession().getLogLevel());
+        this.multiRowSession.login();
+        this.multiRowSession.beginTransaction();
+    }
+
+    @Override
+    public void test() {
+        UnitOfWork uow = this.multiRowSession.acquireUnitOfWork();
+        for (int i = 0; i < NUM_INSERTS; i++) {
+            Address address = new Address();
+            address.setCity("multirow" + i);
+            address.setProvince("province" + i);
+            uow.registerObject(address);
+        }
+        uow.commit();
+        AbstractSession session = (AbstractSession)this.multiRowSession;
+        BatchWritingMechanism mechanism = ((DatabaseAccessor)session.getAccessor()).getActiveBatchWritingMechanism(session);
+        if (!(mechanism instanceof MultiRowInsertBatchWritingMechanism)) {
+            throw new TestErrorException("Multi-row insert batch writing is not used: " + mechanism);
+        }
+        //force the remaining SQL to go to the Database
+        mechanism.executeBatchedStatements(session);
+    }
+
+    @Override
+    public void verify() {
+        ExpressionBuilder builder = new ExpressionBuilder();
+        ReportQuery query = new ReportQuery(Address.class, builder);
+        query.setSelectionCriteria(builder.get("city").like("multirow%"));
+        query.addCount();
+        query.setShouldReturnSingleValue(true);
+        Number count = (Number)this.multiRowSession.executeQuery(query);
+        if (count.intValue() != NUM_INSERTS) {
+            throw new TestErrorException(count + " rows were inserted instead of " + NUM_INSERTS);
+        }
+    }
+
+    @Override
+    public void reset() {
+        if (this.multiRowSession != null) {
+            if (this.multiRowSession.isInTransaction()) {
+                this.multiRowSession.rollbackTransaction();
+            }
+            this.multiRowSession.logout();
+            this.multiRowSession = null;
+        }
+    }
+}
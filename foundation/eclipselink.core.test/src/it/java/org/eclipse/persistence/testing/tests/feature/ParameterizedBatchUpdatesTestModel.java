@@ -66,5 +66,6 @@ public void reset() {
     public void addTests() {
         super.addTests();
         addTest(new CacheStatementBatchWritingTest());
+        addTest(new MultiRowInsertBatchWritingTest());
     }
 }
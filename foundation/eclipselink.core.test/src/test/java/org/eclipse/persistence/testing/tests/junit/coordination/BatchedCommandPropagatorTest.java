@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.coordination;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.identitymaps.CacheId;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.DirectToFieldChangeRecord;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.internal.sessions.coordination.BatchedCommandPropagator;
+import org.eclipse.persistence.internal.sessions.coordination.ConnectToHostCommand;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.coordination.Command;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BatchedCommandPropagatorTest {
+
+    public static class Item {
+        public Long id;
+        public String name;
+    }
+
+    /**
+     * Records the batches instead of sending them, the worker can be held in the send.
+     */
+    static class RecordingPropagator extends BatchedCommandPropagator {
+        final List<List<Command>> batches = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch sending = new CountDownLatch(1);
+        volatile CountDownLatch release = new CountDownLatch(0);
+
+        RecordingPropagator(RemoteCommandManager rcm) {
+            super(rcm);
+        }
+
+        @Override
+        protected void sendBatch(List<Command> batch) {
+            this.batches.add(batch);
+            this.sending.countDown();
+            try {
+                this.release.await();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        List<Command> sent() {
+            List<Command> commands = new ArrayList<>();
+            synchronized (this.batches) {
+                for (List<Command> batch : this.batches) {
+                    commands.addAll(batch);
+                }
+            }
+            return commands;
+        }
+    }
+
+    private RelationalDescriptor descriptor;
+    private RemoteCommandManager rcm;
+    private RecordingPropagator propagator;
+
+    @Before
+    public void setup() {
+        descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Item.class);
+        descriptor.addTableName("ITEM");
+        descriptor.addPrimaryKeyFieldName("ITEM.ID");
+        descriptor.addDirectMapping("id", "ITEM.ID");
+        descriptor.addDirectMapping("name", "ITEM.NAME");
+        Project project = new Project(new DatabaseLogin());
+        project.addDescriptor(descriptor);
+        AbstractSession session = (AbstractSession)project.createDatabaseSession();
+        rcm = new RemoteCommandManager(session);
+        propagator = new RecordingPropagator(rcm);
+    }
+
+    private static Command command() {
+        return new ConnectToHostCommand();
+    }
+
+    private MergeChangeSetCommand update(long id, String name) {
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet();
+        ObjectChangeSet objectChangeSet = new ObjectChangeSet(new CacheId(new Object[] {id}), descriptor, null, changeSet, false);
+        DirectToFieldChangeRecord record = new DirectToFieldChangeRecord(objectChangeSet);
+        record.setAttribute("name");
+        record.setNewValue(name);
+        objectChangeSet.addChange(record);
+        changeSet.getAllChangeSets().put(objectChangeSet, objectChangeSet);
+        MergeChangeSetCommand command = new MergeChangeSetCommand();
+        command.setChangeSet(changeSet);
+        return command;
+    }
+
+    private static ObjectChangeSet single(MergeChangeSetCommand command) {
+        return command.getChangeSet(null).getAllChangeSets().keySet().iterator().next();
+    }
+
+    private static Object name(ObjectChangeSet objectChangeSet) {
+        return ((DirectToFieldChangeRecord)objectChangeSet.getChangesForAttributeNamed("name")).getNewValue();
+    }
+
+    private static void awaitSent(RecordingPropagator propagator, int count) throws InterruptedException {
+        long end = System.currentTimeMillis() + 10000;
+        while ((propagator.sent().size() < count) && (System.currentTimeMillis() < end)) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    public void commandsAreQueuedUntilBatchSize() throws Exception {
+        rcm.setCommandBatchSize(3);
+        rcm.setCommandBatchDelay(10000);
+        List<Command> commands = List.of(command(), command(), command());
+        for (Command command : commands) {
+            propagator.propagateCommand(command);
+        }
+        awaitSent(propagator, 3);
+        assertEquals(1, propagator.batches.size());
+        assertEquals(commands, propagator.batches.get(0));
+        assertEquals(0, propagator.getPendingCommandsSize());
+    }
+
+    @Test
+    public void fullQueueBlocksEvenWhenInterrupted() throws Exception {
+        rcm.setCommandBatchSize(2);
+        rcm.setCommandBatchDelay(0);
+        rcm.setMaxPendingCommands(2);
+        propagator.release = new CountDownLatch(1);
+        List<Command> commands = new ArrayList<>();
+        for (int index = 0; index < 4; index++) {
+            commands.add(command());
+        }
+        propagator.propagateCommand(commands.get(0));
+        // The worker holds the first batch, the queue fills up behind it.
+        assertTrue(propagator.sending.await(10, TimeUnit.SECONDS));
+        propagator.propagateCommand(commands.get(1));
+        propagator.propagateCommand(commands.get(2));
+        assertEquals(2, propagator.getPendingCommandsSize());
+
+        AtomicReference<Thread> blocked = new AtomicReference<>();
+        CompletableFuture<Boolean> waiting = CompletableFuture.supplyAsync(() -> {
+            blocked.set(Thread.currentThread());
+            propagator.propagateCommand(commands.get(3));
+            return Thread.interrupted();
+        });
+        Thread.sleep(200);
+        assertFalse(waiting.isDone());
+        blocked.get().interrupt();
+        Thread.sleep(200);
+        assertFalse(waiting.isDone());
+        assertEquals(2, propagator.getPendingCommandsSize());
+
+        propagator.release.countDown();
+        assertTrue("interrupt status is kept", waiting.get(10, TimeUnit.SECONDS));
+        awaitSent(propagator, 4);
+        assertEquals(commands, propagator.sent());
+    }
+
+    @Test
+    public void directUpdatesAreCoalescedIntoCopies() {
+        MergeChangeSetCommand first = update(1, "a");
+        MergeChangeSetCommand second = update(1, "b");
+        MergeChangeSetCommand other = update(2, "c");
+        ObjectChangeSet firstChangeSet = single(first);
+        ObjectChangeSet secondChangeSet = single(second);
+
+        List<Command> commands = propagator.coalesce(List.of(first, second, other));
+
+        assertEquals(1, commands.size());
+        UnitOfWorkChangeSet combined = ((MergeChangeSetCommand)commands.get(0)).getChangeSet(null);
+        assertEquals(2, combined.getAllChangeSets().size());
+        for (ObjectChangeSet objectChangeSet : combined.getAllChangeSets().keySet()) {
+            if (objectChangeSet.getId().equals(firstChangeSet.getId())) {
+                assertNotSame(firstChangeSet, objectChangeSet);
+                assertEquals("b", name(objectChangeSet));
+            } else {
+                assertEquals("c", name(objectChangeSet));
+            }
+        }
+        // The queued change sets are not changed.
+        assertEquals("a", name(firstChangeSet));
+        assertSame(firstChangeSet, firstChangeSet.getChangesForAttributeNamed("name").getOwner());
+        assertSame(secondChangeSet, secondChangeSet.getChangesForAttributeNamed("name").getOwner());
+        assertSame(first.getChangeSet(null), firstChangeSet.getUOWChangeSet());
+    }
+
+    @Test
+    public void otherCommandsSplitTheMerges() {
+        Command connect = command();
+        MergeChangeSetCommand first = update(1, "a");
+        MergeChangeSetCommand second = update(2, "b");
+        List<Command> commands = propagator.coalesce(List.of(first, connect, second));
+        assertEquals(List.of(first, connect, second), commands);
+    }
+}
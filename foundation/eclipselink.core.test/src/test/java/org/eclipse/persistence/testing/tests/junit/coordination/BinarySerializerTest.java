@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.coordination;
+
+import static org.junit.Assert.*;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.identitymaps.CacheId;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.DirectToFieldChangeRecord;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.internal.sessions.coordination.ConnectToHostCommand;
+import org.eclipse.persistence.mappings.DirectToFieldMapping;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.ServiceId;
+import org.eclipse.persistence.sessions.serializers.BinarySerializer;
+import org.eclipse.persistence.sessions.serializers.JavaSerializer;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BinarySerializerTest {
+
+    public static class Item {
+        public Long id;
+        public String name;
+        public BigDecimal price;
+        public Timestamp updated;
+    }
+
+    private AbstractSession session;
+    private RelationalDescriptor descriptor;
+
+    @Before
+    public void setup() {
+        descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Item.class);
+        descriptor.addTableName("ITEM");
+        descriptor.addPrimaryKeyFieldName("ITEM.ID");
+        descriptor.addDirectMapping("id", "ITEM.ID");
+        descriptor.addDirectMapping("name", "ITEM.NAME");
+        descriptor.addDirectMapping("price", "ITEM.PRICE");
+        descriptor.addDirectMapping("updated", "ITEM.UPDATED");
+        Project project = new Project(new DatabaseLogin());
+        project.addDescriptor(descriptor);
+        session = (AbstractSession)project.createDatabaseSession();
+    }
+
+    private MergeChangeSetCommand buildCommand() {
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet();
+        ObjectChangeSet objectChangeSet = new ObjectChangeSet(new CacheId(new Object[] {7L}), descriptor, null, changeSet, false);
+        objectChangeSet.setWriteLockValue(3L);
+        objectChangeSet.setInitialWriteLockValue(2L);
+        addChange(objectChangeSet, "name", "café");
+        addChange(objectChangeSet, "price", new BigDecimal("12.50"));
+        Timestamp updated = new Timestamp(1000L);
+        updated.setNanos(123456789);
+        addChange(objectChangeSet, "updated", updated);
+        changeSet.getAllChangeSets().put(objectChangeSet, objectChangeSet);
+        ObjectChangeSet deleted = new ObjectChangeSet(new CacheId(new Object[] {8L}), descriptor, null, changeSet, false);
+        deleted.setShouldBeDeleted(true);
+        changeSet.getDeletedObjects().put(deleted, deleted);
+
+        MergeChangeSetCommand command = new MergeChangeSetCommand();
+        command.setChangeSet(changeSet);
+        command.setServiceId(new ServiceId("channel", "node1", "rmi://host:1099"));
+        return command;
+    }
+
+    private static void addChange(ObjectChangeSet objectChangeSet, String attribute, Object value) {
+        DirectToFieldChangeRecord record = new DirectToFieldChangeRecord(objectChangeSet);
+        record.setAttribute(attribute);
+        record.setNewValue(value);
+        objectChangeSet.addChange(record);
+    }
+
+    @Test
+    public void mergeChangeSetRoundTrip() {
+        BinarySerializer serializer = new BinarySerializer();
+        MergeChangeSetCommand command = buildCommand();
+        byte[] bytes = (byte[])serializer.serialize(command, session);
+        MergeChangeSetCommand result = (MergeChangeSetCommand)serializer.deserialize(bytes, session);
+
+        assertEquals("node1", result.getServiceId().getId());
+        assertEquals("rmi://host:1099", result.getServiceId().getURL());
+        UnitOfWorkChangeSet changeSet = result.getChangeSet(session);
+        assertEquals(1, changeSet.getAllChangeSets().size());
+        ObjectChangeSet objectChangeSet = changeSet.getAllChangeSets().keySet().iterator().next();
+        assertEquals(Item.class.getName(), objectChangeSet.getClassName());
+        assertEquals(new CacheId(new Object[] {7L}), objectChangeSet.getId());
+        assertEquals(3L, objectChangeSet.getWriteLockValue());
+        assertEquals(2L, objectChangeSet.getInitialWriteLockValue());
+        assertEquals("café", ((DirectToFieldChangeRecord)objectChangeSet.getChangesForAttributeNamed("name")).getNewValue());
+        assertEquals(new BigDecimal("12.50"), ((DirectToFieldChangeRecord)objectChangeSet.getChangesForAttributeNamed("price")).getNewValue());
+        assertEquals(123456789, ((Timestamp)((DirectToFieldChangeRecord)objectChangeSet.getChangesForAttributeNamed("updated")).getNewValue()).getNanos());
+        assertEquals(1, changeSet.getDeletedObjects().size());
+        assertTrue(changeSet.getDeletedObjects().keySet().iterator().next().shouldBeDeleted());
+    }
+
+    @Test
+    public void smallerThanJavaSerialization() {
+        MergeChangeSetCommand command = buildCommand();
+        byte[] binary = (byte[])new BinarySerializer().serialize(command, session);
+        byte[] java = (byte[])JavaSerializer.instance.serialize(command, session);
+        assertTrue(binary.length * 4 < java.length);
+    }
+
+    @Test
+    public void otherCommandsRoundTrip() {
+        BinarySerializer serializer = new BinarySerializer();
+        ConnectToHostCommand command = new ConnectToHostCommand();
+        command.setServiceId(new ServiceId("channel", "node2", null));
+        ConnectToHostCommand result = (ConnectToHostCommand)serializer.deserialize(serializer.serialize(command, session), session);
+        assertEquals("node2", result.getServiceId().getId());
+        assertNull(result.getServiceId().getURL());
+    }
+
+    @Test
+    public void mappingIndexesAreClearedOnLogout() {
+        BinarySerializer serializer = new BinarySerializer();
+        serializer.initialize(UnitOfWorkChangeSet.class, null, session);
+        serializer.initialize(UnitOfWorkChangeSet.class, null, session);
+        BinarySerializer.MappingIndexes indexes = (BinarySerializer.MappingIndexes)session.getProperty(BinarySerializer.MAPPING_INDEXES);
+        assertNotNull(indexes);
+        assertEquals(1, session.getEventManager().getListeners().stream().filter(listener -> listener == indexes).count());
+
+        MergeChangeSetCommand command = buildCommand();
+        serializer.deserialize(serializer.serialize(command, session), session);
+        assertFalse(indexes.isEmpty());
+
+        session.getEventManager().postLogout(session);
+        assertTrue(indexes.isEmpty());
+    }
+}
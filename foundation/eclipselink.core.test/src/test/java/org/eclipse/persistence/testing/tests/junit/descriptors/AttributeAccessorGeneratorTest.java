@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.descriptors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.persistence.internal.descriptors.AttributeAccessorGenerator;
+import org.eclipse.persistence.internal.descriptors.GeneratedAttributeAccessor;
+import org.junit.Test;
+
+/**
+ * Test the attribute accessors generated for fields and get and set methods.
+ */
+public class AttributeAccessorGeneratorTest {
+
+    public static class Person {
+        private String name;
+        public String getName() { return name; }
+    }
+
+    public static class Employee extends Person {
+        private int salary;
+        private Long bonus;
+        private final int version = 1;
+        private String city;
+
+        private String getCity() { return city; }
+        private Employee setCity(String city) { this.city = city; return this; }
+        public int getSalary() { return salary; }
+        public Long getBonus() { return bonus; }
+        public int getVersion() { return version; }
+    }
+
+    @Test
+    public void testFieldAccessor() throws Exception {
+        GeneratedAttributeAccessor accessor = AttributeAccessorGenerator.generateAttributeAccessor(Employee.class.getDeclaredField("salary"));
+        assertNotNull(accessor);
+        assertTrue(accessor.getClass().isHidden());
+        assertSame(Employee.class.getNestHost(), accessor.getClass().getNestHost());
+        Employee employee = new Employee();
+        accessor.setAttributeValueInObject(employee, 100);
+        assertEquals(100, employee.getSalary());
+        assertEquals(100, accessor.getAttributeValueFromObject(employee));
+    }
+
+    @Test
+    public void testInheritedFieldAccessor() throws Exception {
+        GeneratedAttributeAccessor accessor = AttributeAccessorGenerator.generateAttributeAccessor(Person.class.getDeclaredField("name"));
+        Employee employee = new Employee();
+        assertTrue(accessor.canSet(employee, "Bob"));
+        accessor.setAttributeValueInObject(employee, "Bob");
+        assertEquals("Bob", employee.getName());
+        assertEquals("Bob", accessor.getAttributeValueFromObject(employee));
+    }
+
+    @Test
+    public void testMethodAccessor() throws Exception {
+        GeneratedAttributeAccessor accessor = AttributeAccessorGenerator.generateAttributeAccessor(
+                Employee.class.getDeclaredMethod("getCity"), Employee.class.getDeclaredMethod("setCity", String.class));
+        assertNotNull(accessor);
+        Employee employee = new Employee();
+        accessor.setAttributeValueInObject(employee, "Ottawa");
+        assertEquals("Ottawa", accessor.getAttributeValueFromObject(employee));
+    }
+
+    @Test
+    public void testFinalField() throws Exception {
+        assertNull(AttributeAccessorGenerator.generateAttributeAccessor(Employee.class.getDeclaredField("version")));
+    }
+
+    @Test
+    public void testUnexpectedValuesAreNotSet() throws Exception {
+        GeneratedAttributeAccessor salary = AttributeAccessorGenerator.generateAttributeAccessor(Employee.class.getDeclaredField("salary"));
+        GeneratedAttributeAccessor bonus = AttributeAccessorGenerator.generateAttributeAccessor(Employee.class.getDeclaredField("bonus"));
+        Employee employee = new Employee();
+        // Left to reflection, which converts or ignores these values.
+        assertFalse(salary.canSet(employee, null));
+        assertFalse(salary.canSet(employee, "100"));
+        assertFalse(salary.canSet(employee, 100L));
+        assertFalse(salary.canGet(new Person()));
+        assertFalse(salary.canGet(null));
+        assertTrue(bonus.canSet(employee, null));
+        assertTrue(bonus.canSet(employee, 100L));
+    }
+}
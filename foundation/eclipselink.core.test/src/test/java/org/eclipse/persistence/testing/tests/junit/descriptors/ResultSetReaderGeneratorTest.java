@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.descriptors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Vector;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.databaseaccess.DatabaseAccessor;
+import org.eclipse.persistence.internal.databaseaccess.DatabasePlatform;
+import org.eclipse.persistence.internal.descriptors.ResultSetReader;
+import org.eclipse.persistence.internal.descriptors.ResultSetReaderGenerator;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedDriver;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedResultSet;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test that the generated result set reader reads the objects as their mappings.
+ */
+public class ResultSetReaderGeneratorTest {
+
+    public static class Employee {
+        private long id;
+        private String name;
+        private int salary;
+        private Long bonus;
+        private Integer rank;
+        private BigDecimal rate;
+        private String code;
+    }
+
+    /**
+     * Result set tracking the null columns, which are read as 0 by the number getters as by the JDBC drivers.
+     */
+    static class NullTrackingResultSet extends EmulatedResultSet {
+        private boolean wasNull;
+
+        NullTrackingResultSet(Vector<DatabaseRecord> rows) {
+            super(rows);
+        }
+
+        @Override
+        public Object getObject(int columnIndex) {
+            Object value = super.getObject(columnIndex);
+            this.wasNull = value == null;
+            return value;
+        }
+
+        @Override
+        public int getInt(int columnIndex) {
+            Number value = (Number)getObject(columnIndex);
+            return (value == null) ? 0 : value.intValue();
+        }
+
+        @Override
+        public boolean wasNull() {
+            return this.wasNull;
+        }
+    }
+
+    private static final String[] ATTRIBUTES = {"id", "name", "salary", "bonus", "rank", "rate", "code"};
+
+    private DatabaseSessionImpl session;
+    private RelationalDescriptor descriptor;
+
+    @Before
+    public void setUp() {
+        DatabaseLogin login = new DatabaseLogin();
+        login.useDirectDriverConnect();
+        login.setDriverClass(EmulatedDriver.class);
+        login.setConnectionString("jdbc:emulateddriver");
+        descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Employee.class);
+        descriptor.addTableName("EMPLOYEE");
+        descriptor.addPrimaryKeyFieldName("EMPLOYEE.ID");
+        for (String attribute : ATTRIBUTES) {
+            descriptor.addDirectMapping(attribute, "EMPLOYEE." + attribute.toUpperCase());
+        }
+        Project project = new Project(login);
+        project.addDescriptor(descriptor);
+        session = (DatabaseSessionImpl)project.createDatabaseSession();
+        session.setLogLevel(SessionLog.OFF);
+        session.login();
+    }
+
+    @After
+    public void tearDown() {
+        if (session != null && session.isConnected()) {
+            session.logout();
+        }
+    }
+
+    @Test
+    public void readerIsHiddenNestmate() {
+        ResultSetReader reader = ResultSetReaderGenerator.generateResultSetReader(descriptor, 1, (DatabasePlatform)session.getPlatform(), session);
+        assertNotNull(reader);
+        assertTrue(reader.getClass().isHidden());
+        assertSame(Employee.class.getNestHost(), reader.getClass().getNestHost());
+    }
+
+    @Test
+    public void readerReadsAsMappings() throws Exception {
+        DatabasePlatform platform = (DatabasePlatform)session.getPlatform();
+        DatabaseAccessor accessor = (DatabaseAccessor)session.getAccessor();
+        ResultSetReader reader = ResultSetReaderGenerator.generateResultSetReader(descriptor, 1, platform, session);
+        List<DatabaseMapping> mappings = descriptor.getMappings();
+        Vector<DatabaseRecord> rows = new Vector<>();
+        rows.add(buildRow(1L, "Bob", 1000, 5L, 3, new BigDecimal("1.5"), "A"));
+        // The emulated result set does not track wasNull, so only the strings and the fallback mapping are null.
+        rows.add(buildRow(2L, null, 0, 0L, 7, null, null));
+        ResultSet resultSet = new EmulatedResultSet(rows);
+        while (resultSet.next()) {
+            Employee expected = new Employee();
+            for (int index = 1; index < mappings.size(); index++) {
+                mappings.get(index).readFromResultSetIntoObject(resultSet, expected, null, session, accessor, resultSet.getMetaData(), index + 1, platform);
+            }
+            Employee employee = new Employee();
+            reader.readFromResultSetIntoObject(resultSet, employee, null, session, accessor, resultSet.getMetaData(), 1, platform);
+            for (DatabaseMapping mapping : mappings) {
+                assertEquals(mapping.getAttributeName(), mapping.getAttributeValueFromObject(expected), mapping.getAttributeValueFromObject(employee));
+            }
+        }
+    }
+
+    @Test
+    public void nullWrappersAreReadAsNull() throws Exception {
+        Vector<DatabaseRecord> rows = new Vector<>();
+        rows.add(buildRow(1L, "Bob", null, null, null, null, null));
+        Employee employee = read(new NullTrackingResultSet(rows));
+        assertEquals(0, employee.salary);
+        assertNull(employee.bonus);
+        assertNull(employee.rank);
+    }
+
+    @Test
+    public void charColumnsAreReadAsAccessor() throws Exception {
+        descriptor.getMappingForAttributeName("name").getField().setSqlType(Types.VARCHAR);
+        descriptor.getMappingForAttributeName("code").getField().setSqlType(Types.CHAR);
+        Vector<DatabaseRecord> rows = new Vector<>();
+        rows.add(buildRow(1L, "Bob  ", 1000, 5L, 3, null, "AB  "));
+        Employee employee = read(new NullTrackingResultSet(rows));
+        assertEquals("Bob  ", employee.name);
+        assertEquals("AB", employee.code);
+    }
+
+    private Employee read(ResultSet resultSet) throws Exception {
+        DatabasePlatform platform = (DatabasePlatform)session.getPlatform();
+        ResultSetReader reader = ResultSetReaderGenerator.generateResultSetReader(descriptor, 1, platform, session);
+        assertTrue(resultSet.next());
+        Employee employee = new Employee();
+        reader.readFromResultSetIntoObject(resultSet, employee, null, session, (DatabaseAccessor)session.getAccessor(), resultSet.getMetaData(), 1, platform);
+        return employee;
+    }
+
+    private DatabaseRecord buildRow(Object... values) {
+        Vector<DatabaseField> fields = new Vector<>();
+        for (DatabaseMapping mapping : descriptor.getMappings()) {
+            fields.add(mapping.getField());
+        }
+        return new DatabaseRecord(fields, new Vector<>(Arrays.asList(values)));
+    }
+}
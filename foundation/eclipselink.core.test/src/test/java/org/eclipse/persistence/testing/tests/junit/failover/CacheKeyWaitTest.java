@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.failover;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.server.ClientSession;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests that a unit of work waiting for an object being built in the shared cache
+ * does not deadlock with the building thread when it holds a deferred lock.
+ */
+public class CacheKeyWaitTest extends FailoverBase<ServerSession> {
+
+    private static final BigDecimal BUILDING_ID = new BigDecimal(1000);
+    private static final BigDecimal HELD_ID = new BigDecimal(1001);
+
+    @Override
+    protected ServerSession createSession(Project p) {
+        return (ServerSession) p.createServerSession();
+    }
+
+    /**
+     * The building thread has put the object in its cache key, but does not release the key
+     * before it gets the lock the waiting thread holds as a deferred lock.
+     * The waiting thread must see the object without waiting for the release of the key.
+     */
+    @Test(timeout = 60000)
+    public void waiterHoldingDeferredLockSeesBuiltObject() throws Exception {
+        ServerSession server = getEmulatedSession();
+        ClassDescriptor descriptor = server.getDescriptor(Address.class);
+        CacheKey building = server.getIdentityMapAccessorInstance().acquireLock(BUILDING_ID, Address.class, descriptor, true);
+        CacheKey held = new CacheKey(HELD_ID);
+        CountDownLatch deferredLockHeld = new CountDownLatch(1);
+        CompletableFuture<Object> waiting = CompletableFuture.supplyAsync(() -> {
+            held.acquireDeferredLock();
+            try {
+                deferredLockHeld.countDown();
+                ClientSession client = server.acquireClientSession();
+                try {
+                    UnitOfWorkImpl uow = (UnitOfWorkImpl) client.acquireUnitOfWork();
+                    // Read-only, so the original is returned without a read lock on its cache key.
+                    uow.addReadOnlyClass(Address.class);
+                    return uow.getIdentityMapAccessorInstance().getFromIdentityMap(BUILDING_ID, null, Address.class, false, descriptor);
+                } finally {
+                    client.release();
+                }
+            } finally {
+                held.releaseDeferredLock();
+            }
+        });
+        Assert.assertTrue(deferredLockHeld.await(10, TimeUnit.SECONDS));
+        Address address = new Address();
+        address.id = BUILDING_ID;
+        try {
+            building.setObject(address);
+            // Waits until the waiting thread releases its deferred lock.
+            held.acquire();
+            held.release();
+        } finally {
+            building.release();
+        }
+        Assert.assertSame(address, waiting.get(10, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.failover;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.persistence.exceptions.ConcurrencyException;
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.sessions.Login;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.server.ConcurrentConnectionPool;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the lock-free acquisition, hand-off and wait timeout of the {@link ConcurrentConnectionPool}.
+ */
+public class ConcurrentConnectionPoolTest extends FailoverBase<ServerSession> {
+
+    private static final String POOL = "concurrent";
+    private static final String FAILOVER = "failover";
+
+    /**
+     * Fails to build the next connection when asked to, as a database that went down.
+     */
+    static class FailingPool extends ConcurrentConnectionPool {
+        volatile boolean failNextBuild;
+
+        FailingPool(String name, Login login, int minNumberOfConnections, int maxNumberOfConnections, ServerSession owner) {
+            super(name, login, minNumberOfConnections, maxNumberOfConnections, owner);
+        }
+
+        @Override
+        protected Accessor buildConnection() {
+            if (this.failNextBuild) {
+                this.failNextBuild = false;
+                throw new IllegalStateException("The database is down.");
+            }
+            return super.buildConnection();
+        }
+
+        void setDeadCheckTime(long deadCheckTime) {
+            this.deadCheckTime = deadCheckTime;
+        }
+
+        List<Accessor> used() {
+            return getConnectionsUsed();
+        }
+    }
+
+    @Override
+    protected ServerSession createSession(Project p) {
+        ServerSession session = (ServerSession) p.createServerSession();
+        ConcurrentConnectionPool pool = new FailingPool(POOL, p.getDatasourceLogin(), 2, 2, session);
+        pool.setWaitTimeout(200);
+        session.addConnectionPool(pool);
+        session.addConnectionPool(new ConcurrentConnectionPool(FAILOVER, p.getDatasourceLogin(), 1, 1, session));
+        return session;
+    }
+
+    private FailingPool getPool() {
+        return (FailingPool) getEmulatedSession().getConnectionPool(POOL);
+    }
+
+    /**
+     * Exhaust the pool, then drop one of its connections while a thread waits,
+     * so that the waiter builds a new connection, which fails.
+     * @return the connection acquired by the waiter.
+     */
+    private Accessor acquireAfterFailedBuild(FailingPool pool, Accessor first) throws Exception {
+        pool.setWaitTimeout(0);
+        pool.addFailoverConnectionPool(FAILOVER);
+        pool.failNextBuild = true;
+        CompletableFuture<Accessor> waiting = CompletableFuture.supplyAsync(pool::acquireConnection);
+        while (pool.getNumberOfWaiters() == 0 && !waiting.isDone()) {
+            Thread.sleep(10);
+        }
+        first.setIsValid(false);
+        pool.releaseConnection(first);
+        return waiting.get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void failoverConnectionIsNotAllocated() throws Exception {
+        FailingPool pool = getPool();
+        Accessor first = pool.acquireConnection();
+        Accessor second = pool.acquireConnection();
+        Accessor connection = acquireAfterFailedBuild(pool, first);
+        Assert.assertTrue(pool.isDead());
+        Assert.assertFalse(pool.used().contains(connection));
+        Assert.assertEquals(List.of(second), pool.used());
+        Assert.assertEquals(0, pool.getNumberOfWaiters());
+        getEmulatedSession().getConnectionPool(FAILOVER).releaseConnection(connection);
+        pool.releaseConnection(second);
+    }
+
+    @Test
+    public void retryAfterDeadCheckDoesNotWaitBehindItself() throws Exception {
+        FailingPool pool = getPool();
+        // Retry the database at once.
+        pool.setDeadCheckTime(-1);
+        Accessor first = pool.acquireConnection();
+        Accessor second = pool.acquireConnection();
+        Accessor connection = acquireAfterFailedBuild(pool, first);
+        Assert.assertFalse(pool.isDead());
+        Assert.assertTrue(pool.used().contains(connection));
+        Assert.assertEquals(0, pool.getNumberOfWaiters());
+        pool.releaseConnection(connection);
+        pool.releaseConnection(second);
+    }
+
+    @Test
+    public void reusesReleasedConnection() {
+        ConcurrentConnectionPool pool = getPool();
+        Accessor first = pool.acquireConnection();
+        pool.releaseConnection(first);
+        Accessor second = pool.acquireConnection();
+        Assert.assertSame(first, second);
+        Assert.assertEquals(1, pool.getTotalNumberOfConnections());
+        pool.releaseConnection(second);
+    }
+
+    @Test
+    public void waitTimesOutWhenExhausted() {
+        ConcurrentConnectionPool pool = getPool();
+        Accessor first = pool.acquireConnection();
+        Accessor second = pool.acquireConnection();
+        try {
+            pool.acquireConnection();
+            Assert.fail("Should have timed out waiting for a connection.");
+        } catch (ConcurrencyException expected) {
+            Assert.assertEquals(ConcurrencyException.WAIT_TIMEOUT_ON_CONNECTION_POOL, expected.getErrorCode());
+        } finally {
+            pool.releaseConnection(first);
+            pool.releaseConnection(second);
+        }
+        Assert.assertEquals(0, pool.getNumberOfWaiters());
+        Assert.assertEquals(2, pool.getTotalNumberOfConnections());
+    }
+
+    @Test
+    public void releaseHandsOffToWaiter() throws Exception {
+        ConcurrentConnectionPool pool = getPool();
+        pool.setWaitTimeout(0);
+        Accessor first = pool.acquireConnection();
+        Accessor second = pool.acquireConnection();
+        CompletableFuture<Accessor> waiting = CompletableFuture.supplyAsync(pool::acquireConnection);
+        while (pool.getNumberOfWaiters() == 0 && !waiting.isDone()) {
+            Thread.sleep(10);
+        }
+        pool.releaseConnection(first);
+        Accessor handedOff = waiting.get(10, TimeUnit.SECONDS);
+        Assert.assertSame(first, handedOff);
+        Assert.assertFalse(pool.hasConnectionAvailable());
+        pool.releaseConnection(handedOff);
+        pool.releaseConnection(second);
+        Assert.assertEquals(2, pool.getConnectionsAvailable().size());
+    }
+
+    @Test
+    public void waitersAreServedInArrivalOrder() throws Exception {
+        ConcurrentConnectionPool pool = getPool();
+        pool.setWaitTimeout(0);
+        Accessor first = pool.acquireConnection();
+        Accessor second = pool.acquireConnection();
+        CompletableFuture<Accessor> firstWaiting = CompletableFuture.supplyAsync(pool::acquireConnection);
+        while (pool.getNumberOfWaiters() < 1) {
+            Thread.sleep(10);
+        }
+        CompletableFuture<Accessor> secondWaiting = CompletableFuture.supplyAsync(pool::acquireConnection);
+        while (pool.getNumberOfWaiters() < 2) {
+            Thread.sleep(10);
+        }
+        pool.releaseConnection(second);
+        Assert.assertSame(second, firstWaiting.get(10, TimeUnit.SECONDS));
+        Assert.assertFalse(secondWaiting.isDone());
+        pool.releaseConnection(first);
+        Assert.assertSame(first, secondWaiting.get(10, TimeUnit.SECONDS));
+        pool.releaseConnection(first);
+        pool.releaseConnection(second);
+        Assert.assertEquals(0, pool.getNumberOfWaiters());
+    }
+}
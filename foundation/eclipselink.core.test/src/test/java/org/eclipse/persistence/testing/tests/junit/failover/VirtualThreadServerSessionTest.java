@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.failover;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.sessions.server.ClientSession;
+import org.eclipse.persistence.sessions.server.ConcurrentConnectionPool;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * Runs many concurrent units of work on virtual threads against one shared {@link ServerSession}.
+ * The cache key waits and connection pool waits must not pin the carrier threads,
+ * otherwise the small carrier pool stalls and the units of work never complete.
+ */
+public class VirtualThreadServerSessionTest extends FailoverBase<ServerSession> {
+
+    private static final int UNITS_OF_WORK = 10000;
+
+    @Override
+    protected ServerSession createSession(Project p) {
+        ServerSession session = (ServerSession) p.createServerSession();
+        session.addConnectionPool(new ConcurrentConnectionPool(ServerSession.DEFAULT_POOL, p.getDatasourceLogin(), 1, 8, session));
+        return session;
+    }
+
+    @Test
+    public void unitsOfWorkOnVirtualThreads() throws Exception {
+        ExecutorService executor = newVirtualThreadPerTaskExecutor();
+        Assume.assumeNotNull(executor);
+        ServerSession server = getEmulatedSession();
+        List<Future<Integer>> results = new ArrayList<>(UNITS_OF_WORK);
+        try {
+            for (int index = 0; index < UNITS_OF_WORK; index++) {
+                final boolean initializeCache = (index % 100) == 0;
+                results.add(executor.submit(() -> {
+                    if (initializeCache) {
+                        // Force the objects to be rebuilt while other units of work are cloning them.
+                        server.getIdentityMapAccessor().initializeIdentityMap(Address.class);
+                    }
+                    ClientSession client = server.acquireClientSession();
+                    try {
+                        UnitOfWork uow = client.acquireUnitOfWork();
+                        List<?> addresses = uow.readAllObjects(Address.class);
+                        for (Object address : addresses) {
+                            Assert.assertNotNull(((Address)address).id);
+                        }
+                        uow.commit();
+                        return addresses.size();
+                    } finally {
+                        client.release();
+                    }
+                }));
+            }
+            for (Future<Integer> result : results) {
+                Assert.assertEquals(3, result.get(2, TimeUnit.MINUTES).intValue());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Virtual threads are only available from Java 21, this module is still compiled for Java 17.
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException notAvailable) {
+            return null;
+        }
+    }
+}
@@ -31,12 +31,14 @@
 import java.sql.SQLException;
 import java.sql.SQLWarning;
 import java.sql.SQLXML;
+import java.util.Arrays;
 import java.util.Calendar;
 
 public class EmulatedStatement implements PreparedStatement {
 
     protected EmulatedConnection connection;
     protected String sql;
+    protected int batchSize;
 
     public EmulatedStatement(EmulatedConnection connection) {
         this.connection = connection;
@@ -237,6 +239,7 @@ public void setObject(int parameterIndex, Object x) {
 
     @Override
     public void addBatch() {
+        this.batchSize++;
     }
 
 
@@ -397,15 +400,21 @@ public int getResultSetType() {
 
     @Override
     public void addBatch(String sql) {
+        this.batchSize++;
     }
 
     @Override
     public void clearBatch() {
+        this.batchSize = 0;
     }
 
     @Override
     public int[] executeBatch(){
-        return null;
+        // Each batched statement modifies one row.
+        int[] rowCounts = new int[this.batchSize];
+        Arrays.fill(rowCounts, 1);
+        this.batchSize = 0;
+        return rowCounts;
     }
     @Override
     public Connection getConnection() {
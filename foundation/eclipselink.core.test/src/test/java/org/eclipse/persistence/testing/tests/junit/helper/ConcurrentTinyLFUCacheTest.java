@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.persistence.internal.helper.ConcurrentFixedCache;
+import org.eclipse.persistence.internal.helper.ConcurrentTinyLFUCache;
+import org.junit.Test;
+
+/**
+ * Test the frequency based eviction and the counters of {@link ConcurrentTinyLFUCache}.
+ */
+public class ConcurrentTinyLFUCacheTest {
+
+    @Test
+    public void testCounters() {
+        ConcurrentFixedCache<String, String> cache = new ConcurrentTinyLFUCache<>(10);
+        assertNull(cache.get("a"));
+        cache.put("a", "A");
+        assertEquals("A", cache.get("a"));
+        assertEquals("A", cache.get("a"));
+        assertEquals(2, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(0, cache.getEvictions());
+    }
+
+    @Test
+    public void testSizeIsBounded() {
+        ConcurrentFixedCache<String, String> cache = new ConcurrentTinyLFUCache<>(50);
+        for (int index = 0; index < 1000; index++) {
+            String key = "key" + index;
+            if (cache.get(key) == null) {
+                cache.put(key, key);
+            }
+            assertTrue(cache.getCache().size() <= 50);
+        }
+        assertEquals(950, cache.getEvictions());
+    }
+
+    @Test
+    public void testFrequentKeysAreKept() {
+        ConcurrentFixedCache<String, String> cache = new ConcurrentTinyLFUCache<>(200);
+        for (int index = 0; index < 100000; index++) {
+            // Every other lookup is one of 50 frequent keys, the others are never repeated.
+            String key = ((index % 2) == 0) ? "frequent" + ((index / 2) % 50) : "once" + index;
+            if (cache.get(key) == null) {
+                cache.put(key, key);
+            }
+        }
+        int frequentKeys = 0;
+        for (int index = 0; index < 50; index++) {
+            if (cache.getCache().containsKey("frequent" + index)) {
+                frequentKeys++;
+            }
+        }
+        assertTrue("Frequent keys evicted: " + (50 - frequentKeys), frequentKeys >= 45);
+        assertTrue(cache.getHits() > 45000);
+    }
+
+    @Test
+    public void testZeroSize() {
+        ConcurrentFixedCache<String, String> cache = new ConcurrentTinyLFUCache<>(0);
+        cache.put("a", "A");
+        assertNull(cache.get("a"));
+    }
+
+    @Test
+    public void testClear() {
+        ConcurrentFixedCache<String, String> cache = new ConcurrentTinyLFUCache<>(5);
+        for (int index = 0; index < 5; index++) {
+            cache.put("key" + index, "value");
+        }
+        cache.clear();
+        for (int index = 0; index < 5; index++) {
+            cache.put("new" + index, "value");
+        }
+        assertEquals(5, cache.getCache().size());
+        assertEquals(0, cache.getEvictions());
+    }
+}
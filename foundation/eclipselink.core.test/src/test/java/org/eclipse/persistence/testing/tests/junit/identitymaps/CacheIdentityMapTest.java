@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.identitymaps;
+
+import static org.junit.Assert.*;
+
+import org.eclipse.persistence.internal.identitymaps.CacheIdentityMap;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.junit.Test;
+
+public class CacheIdentityMapTest {
+
+    @Test
+    public void getAllCacheKeysKeepsOrder() {
+        CacheIdentityMap map = new CacheIdentityMap(10, null, null, false);
+        map.put(1, "one", null, 0);
+        map.put(3, "three", null, 0);
+
+        CacheKey[] cacheKeys = map.getAllCacheKeys(new Object[] {3, 2, 1}, false);
+        assertEquals(3, cacheKeys.length);
+        assertEquals("three", cacheKeys[0].getObject());
+        assertNull(cacheKeys[1]);
+        assertEquals("one", cacheKeys[2].getObject());
+    }
+
+    @Test
+    public void getAllCacheKeysRecordsAccess() {
+        CacheIdentityMap map = new CacheIdentityMap(3, null, null, false);
+        map.put(1, "one", null, 0);
+        map.put(2, "two", null, 0);
+        map.put(3, "three", null, 0);
+        map.getAllCacheKeys(new Object[] {1, 2}, false);
+        map.put(4, "four", null, 0);
+
+        assertNull(map.get(3));
+        assertEquals("one", map.get(1));
+        assertEquals("two", map.get(2));
+        assertEquals("four", map.get(4));
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.identitymaps;
+
+import static org.junit.Assert.*;
+
+import java.util.Enumeration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.identitymaps.ConcurrentCacheIdentityMap;
+import org.junit.Test;
+
+public class ConcurrentCacheIdentityMapTest {
+
+    @Test
+    public void evictsLeastRecentlyUsed() {
+        ConcurrentCacheIdentityMap map = new ConcurrentCacheIdentityMap(2, null, null, false);
+        map.put(1, "one", null, 0);
+        map.put(2, "two", null, 0);
+        assertNotNull(map.getCacheKey(1, false));
+        map.put(3, "three", null, 0);
+
+        assertEquals(2, map.getSize());
+        assertEquals("one", map.get(1));
+        assertNull(map.get(2));
+        assertEquals("three", map.get(3));
+    }
+
+    @Test
+    public void accessOrderReflectsBufferedHits() {
+        ConcurrentCacheIdentityMap map = new ConcurrentCacheIdentityMap(10, null, null, false);
+        for (int index = 0; index < 5; index++) {
+            map.put(index, "value" + index, null, 0);
+        }
+        map.getCacheKey(0, false);
+        map.getCacheKey(2, false);
+
+        Enumeration<CacheKey> keys = map.keysInAccessOrder();
+        assertEquals(2, keys.nextElement().getKey());
+        assertEquals(0, keys.nextElement().getKey());
+        assertEquals(4, keys.nextElement().getKey());
+    }
+
+    @Test
+    public void removedKeysAreNotRelinked() {
+        ConcurrentCacheIdentityMap map = new ConcurrentCacheIdentityMap(10, null, null, false);
+        map.put(1, "one", null, 0);
+        CacheKey key = map.getCacheKey(1, false);
+        map.remove(key);
+
+        assertEquals(0, map.getSize());
+        assertFalse(map.keysInAccessOrder().hasMoreElements());
+    }
+
+    @Test
+    public void updateMaxSizeEvicts() {
+        ConcurrentCacheIdentityMap map = new ConcurrentCacheIdentityMap(10, null, null, false);
+        for (int index = 0; index < 10; index++) {
+            map.put(index, "value" + index, null, 0);
+        }
+        map.updateMaxSize(4);
+
+        assertEquals(4, map.getSize());
+        for (int index = 6; index < 10; index++) {
+            assertNotNull(map.get(index));
+        }
+    }
+
+    @Test
+    public void lockedKeysAreNotEvicted() throws Exception {
+        final ConcurrentCacheIdentityMap map = new ConcurrentCacheIdentityMap(2, null, null, false);
+        map.put(1, "one", null, 0);
+        map.put(2, "two", null, 0);
+        final CacheKey locked = map.getCacheKey(1, false);
+        final CountDownLatch acquired = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        Thread owner = new Thread(() -> {
+            locked.acquire();
+            acquired.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            } finally {
+                locked.release();
+            }
+        });
+        owner.start();
+        try {
+            assertTrue(acquired.await(10, TimeUnit.SECONDS));
+            // Must not wait for the owner of key 1, the next least recently used key is evicted instead.
+            map.put(3, "three", null, 0);
+            map.updateMaxSize(2);
+
+            assertEquals(2, map.getSize());
+            assertNotNull(map.getCacheKey(1, false));
+            assertNull(map.get(2));
+            assertEquals("three", map.get(3));
+        } finally {
+            release.countDown();
+            owner.join();
+        }
+    }
+
+    @Test
+    public void concurrentAccessStaysBounded() throws Exception {
+        final ConcurrentCacheIdentityMap map = new ConcurrentCacheIdentityMap(100, null, null, false);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch done = new CountDownLatch(threads);
+        for (int thread = 0; thread < threads; thread++) {
+            final int offset = thread * 1000;
+            executor.execute(() -> {
+                for (int index = 0; index < 1000; index++) {
+                    map.put(offset + index, "value", null, 0);
+                    map.getCacheKey(offset + (index / 2), false);
+                }
+                done.countDown();
+            });
+        }
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        executor.shutdown();
+        // Pending buffers may briefly overshoot the size, a resize drains them.
+        map.updateMaxSize(100);
+        assertEquals(100, map.getSize());
+    }
+}
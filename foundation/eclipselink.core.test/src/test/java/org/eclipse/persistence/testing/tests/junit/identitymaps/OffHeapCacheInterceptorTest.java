@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.identitymaps;
+
+import static org.junit.Assert.*;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.exceptions.ValidationException;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.identitymaps.FullIdentityMap;
+import org.eclipse.persistence.internal.identitymaps.IdentityMap;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.interceptors.OffHeapCacheInterceptor;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OffHeapCacheInterceptorTest {
+
+    private static final Integer ID = 1;
+
+    private AbstractSession session;
+    private IdentityMap heap;
+    private OffHeapCacheInterceptor interceptor;
+    private IdentityMap noteHeap;
+    private OffHeapCacheInterceptor noteInterceptor;
+
+    public static class Item implements Serializable {
+        private static final long serialVersionUID = 1L;
+        public Integer id;
+        public long counter;
+    }
+
+    public static class Note implements Serializable {
+        private static final long serialVersionUID = 1L;
+        public Integer id;
+        public String text;
+    }
+
+    @Before
+    public void setUp() {
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Item.class);
+        descriptor.addTableName("ITEM");
+        descriptor.addPrimaryKeyFieldName("ITEM.ID");
+        descriptor.addDirectMapping("id", "ITEM.ID");
+        descriptor.addDirectMapping("counter", "ITEM.COUNTER");
+        descriptor.useVersionLocking("ITEM.VERSION");
+        RelationalDescriptor noteDescriptor = new RelationalDescriptor();
+        noteDescriptor.setJavaClass(Note.class);
+        noteDescriptor.addTableName("NOTE");
+        noteDescriptor.addPrimaryKeyFieldName("NOTE.ID");
+        noteDescriptor.addDirectMapping("id", "NOTE.ID");
+        noteDescriptor.addDirectMapping("text", "NOTE.TEXT");
+        Project project = new Project(new DatabaseLogin());
+        project.addDescriptor(descriptor);
+        project.addDescriptor(noteDescriptor);
+        session = (AbstractSession)project.createDatabaseSession();
+        session.setProperty(PersistenceUnitProperties.CACHE_OFF_HEAP_SIZE, "65536");
+        heap = new FullIdentityMap(100, descriptor, session, false);
+        interceptor = new OffHeapCacheInterceptor(heap, session);
+        noteHeap = new FullIdentityMap(100, noteDescriptor, session, false);
+        noteInterceptor = new OffHeapCacheInterceptor(noteHeap, session);
+    }
+
+    /**
+     * Put the object under a lock, as a query or a merge does, so it is stored off-heap on release.
+     */
+    private void cache(Item item, long version) {
+        CacheKey cacheKey = interceptor.acquireLock(item.id, false, false);
+        cacheKey.setObject(item);
+        cacheKey.setWriteLockValue(version);
+        cacheKey.setReadTime(1000 + version);
+        cacheKey.release();
+    }
+
+    /**
+     * Evict the object from the on-heap identity map only, as a garbage collected soft reference would.
+     */
+    private void evict(Object primaryKey) {
+        heap.remove(heap.getCacheKey(primaryKey, false));
+    }
+
+    private static Item item(long counter) {
+        Item item = new Item();
+        item.id = ID;
+        item.counter = counter;
+        return item;
+    }
+
+    @Test
+    public void evictedObjectIsRehydrated() {
+        cache(item(5), 2L);
+        assertEquals(1, interceptor.getStore().getSize());
+        evict(ID);
+        assertNull(heap.get(ID));
+
+        CacheKey cacheKey = interceptor.getCacheKey(ID, false);
+        Item rehydrated = (Item)cacheKey.getObject();
+        assertEquals(5, rehydrated.counter);
+        assertEquals(2L, cacheKey.getWriteLockValue());
+        assertEquals(1002, cacheKey.getReadTime());
+        assertSame(rehydrated, heap.get(ID));
+    }
+
+    /**
+     * The read time of an unversioned object is not updated by a merge,
+     * the changed object must still replace the stored one.
+     */
+    @Test
+    public void unversionedChangeIsStoredAgain() {
+        Note note = new Note();
+        note.id = ID;
+        note.text = "old";
+        CacheKey cacheKey = noteInterceptor.acquireLock(ID, false, false);
+        cacheKey.setObject(note);
+        cacheKey.setReadTime(1000);
+        cacheKey.release();
+
+        cacheKey = noteInterceptor.acquireLock(ID, true, false);
+        ((Note)cacheKey.getObject()).text = "new";
+        cacheKey.release();
+        noteHeap.remove(noteHeap.getCacheKey(ID, false));
+
+        Note rehydrated = (Note)noteInterceptor.getCacheKey(ID, false).getObject();
+        assertEquals("new", rehydrated.text);
+        assertEquals(1000, noteInterceptor.getCacheKey(ID, false).getReadTime());
+    }
+
+    @Test
+    public void invalidatedObjectIsNotRehydrated() {
+        cache(item(5), 2L);
+        // As IdentityMapAccessor.invalidateObject and cache coordination invalidation do.
+        interceptor.getCacheKeyForLock(ID).setInvalidationState(CacheKey.CACHE_KEY_INVALID);
+        assertEquals(0, interceptor.getStore().getSize());
+        evict(ID);
+        assertNull(interceptor.get(ID));
+    }
+
+    @Test
+    public void invalidatingEvictedObjectRemovesIt() {
+        cache(item(5), 2L);
+        evict(ID);
+        assertNull(interceptor.getCacheKeyForLock(ID));
+        assertEquals(0, interceptor.getStore().getSize());
+        assertNull(interceptor.get(ID));
+    }
+
+    @Test
+    public void invalidSizeIsReportedAndDefaultUsed() {
+        List<RuntimeException> reported = new ArrayList<>();
+        session.setExceptionHandler(exception -> reported.add(exception));
+        session.setProperty(PersistenceUnitProperties.CACHE_OFF_HEAP_SIZE, "64MB");
+        OffHeapCacheInterceptor defaultInterceptor = new OffHeapCacheInterceptor(new FullIdentityMap(100, heap.getDescriptor(), session, false), session);
+        assertEquals(1, reported.size());
+        assertTrue(reported.get(0) instanceof ValidationException);
+        assertEquals(OffHeapCacheInterceptor.DEFAULT_SIZE, defaultInterceptor.getStore().getMaxSize());
+    }
+
+    /**
+     * Concurrent merges change the object and its version under the lock,
+     * the stored copy must always match the version it is stored with.
+     */
+    @Test
+    public void concurrentMergesStoreConsistentCopies() throws Exception {
+        cache(item(0), 0L);
+        int threads = 4;
+        int merges = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++) {
+                results.add(executor.submit(() -> {
+                    for (int merge = 0; merge < merges; merge++) {
+                        CacheKey cacheKey = interceptor.acquireLock(ID, true, false);
+                        Item item = (Item)cacheKey.getObject();
+                        item.counter++;
+                        cacheKey.setWriteLockValue(item.counter);
+                        cacheKey.release();
+                        Item stored = (Item)interceptor.getCacheKey(ID, false).getObject();
+                        assertNotNull(stored);
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        evict(ID);
+        CacheKey cacheKey = interceptor.getCacheKey(ID, false);
+        Item rehydrated = (Item)cacheKey.getObject();
+        assertEquals((long)threads * merges, rehydrated.counter);
+        assertEquals(rehydrated.counter, cacheKey.getWriteLockValue());
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.identitymaps;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+
+import org.eclipse.persistence.internal.identitymaps.OffHeapCacheStore;
+import org.junit.Test;
+
+public class OffHeapCacheStoreTest {
+
+    private static byte[] bytes(int length, int seed) {
+        byte[] bytes = new byte[length];
+        for (int index = 0; index < length; index++) {
+            bytes[index] = (byte)(index + seed);
+        }
+        return bytes;
+    }
+
+    @Test
+    public void storesAcrossBlocks() {
+        OffHeapCacheStore store = new OffHeapCacheStore(1024, 64);
+        byte[] value = bytes(150, 7);
+        assertTrue(store.put(1, value, 3L, 100));
+
+        OffHeapCacheStore.Entry entry = store.get(1);
+        assertArrayEquals(value, entry.getBytes());
+        assertEquals(3L, entry.getWriteLockValue());
+        assertEquals(100, entry.getReadTime());
+        assertEquals(192, store.getUsedSize());
+        assertTrue(store.isCurrent(1, 3L, 100));
+        assertFalse(store.isCurrent(1, 4L, 100));
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsed() {
+        OffHeapCacheStore store = new OffHeapCacheStore(256, 64);
+        store.put(1, bytes(128, 1), null, 0);
+        store.put(2, bytes(128, 2), null, 0);
+        assertNotNull(store.get(1));
+        store.put(3, bytes(100, 3), null, 0);
+
+        assertNull(store.get(2));
+        assertTrue(Arrays.equals(bytes(128, 1), store.get(1).getBytes()));
+        assertTrue(Arrays.equals(bytes(100, 3), store.get(3).getBytes()));
+        assertEquals(1, store.getEvictions());
+        assertEquals(256, store.getUsedSize());
+    }
+
+    @Test
+    public void isCurrentDoesNotCountAsUse() {
+        OffHeapCacheStore store = new OffHeapCacheStore(256, 64);
+        store.put(1, bytes(128, 1), 1L, 0);
+        store.put(2, bytes(128, 2), 1L, 0);
+        assertTrue(store.isCurrent(1, 1L, 0));
+        store.put(3, bytes(100, 3), null, 0);
+
+        assertNull(store.get(1));
+        assertNotNull(store.get(2));
+    }
+
+    @Test
+    public void removeAndReplaceFreeBlocks() {
+        OffHeapCacheStore store = new OffHeapCacheStore(256, 64);
+        store.put(1, bytes(200, 1), null, 0);
+        store.put(1, bytes(10, 2), null, 0);
+        assertEquals(64, store.getUsedSize());
+        store.remove(1);
+        assertEquals(0, store.getUsedSize());
+        assertFalse(store.put(2, bytes(300, 1), null, 0));
+        assertEquals(0, store.getSize());
+    }
+}
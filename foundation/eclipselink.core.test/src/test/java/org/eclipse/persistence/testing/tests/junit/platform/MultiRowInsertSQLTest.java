@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.platform;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.eclipse.persistence.internal.databaseaccess.DatabasePlatform;
+import org.eclipse.persistence.platform.database.MySQLPlatform;
+import org.eclipse.persistence.platform.database.OraclePlatform;
+import org.eclipse.persistence.platform.database.SQLServerPlatform;
+import org.junit.Test;
+
+/**
+ * Test the multi-row insert statements built for multi-row insert batch writing.
+ */
+public class MultiRowInsertSQLTest {
+
+    private static final String INSERT = "INSERT INTO EMPLOYEE (ID, NAME) VALUES (?, ?)";
+
+    @Test
+    public void testValuesRows() {
+        assertEquals(INSERT, new MySQLPlatform().buildMultiRowInsertSQLString(INSERT, 1));
+        assertEquals("INSERT INTO EMPLOYEE (ID, NAME) VALUES (?, ?), (?, ?), (?, ?)",
+                new MySQLPlatform().buildMultiRowInsertSQLString(INSERT, 3));
+    }
+
+    @Test
+    public void testOracleInsertAll() {
+        assertEquals("INSERT ALL INTO EMPLOYEE (ID, NAME) VALUES (?, ?) INTO EMPLOYEE (ID, NAME) VALUES (?, ?) SELECT 1 FROM DUAL",
+                new OraclePlatform().buildMultiRowInsertSQLString(INSERT, 2));
+    }
+
+    @Test
+    public void testUnsupportedStatements() {
+        assertNull(new MySQLPlatform().buildMultiRowInsertSQLString("INSERT INTO EMPLOYEE (ID, NAME) SELECT ID, NAME FROM PERSON", 2));
+        assertNull(new MySQLPlatform().buildMultiRowInsertSQLString("UPDATE EMPLOYEE SET NAME = ? WHERE (ID = ?)", 2));
+    }
+
+    @Test
+    public void testMaxRows() {
+        assertEquals(0, new DatabasePlatform().getMaxMultiRowInsertSize(2));
+        assertEquals(32767, new MySQLPlatform().getMaxMultiRowInsertSize(2));
+        assertEquals(1000, new SQLServerPlatform().getMaxMultiRowInsertSize(1));
+        assertEquals(500, new SQLServerPlatform().getMaxMultiRowInsertSize(4));
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.platform;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.exceptions.DatabaseException;
+import org.eclipse.persistence.internal.databaseaccess.DatabaseAccessor;
+import org.eclipse.persistence.internal.databaseaccess.DatasourceAccessor;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.logging.AbstractSessionLog;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.logging.SessionLogEntry;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedDriver;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Test the execution of the batches by the pipelined batch writer thread of an accessor.
+ */
+public class PipelinedBatchWritingTest {
+
+    public static class Item {
+        public Long id;
+        public String name;
+    }
+
+    private DatabaseSession session;
+
+    /** The threads executing the batches of the session. */
+    private final List<Thread> batchThreads = Collections.synchronizedList(new ArrayList<>());
+
+    @After
+    public void logout() {
+        if ((session != null) && session.isConnected()) {
+            session.logout();
+        }
+    }
+
+    private void login(boolean usesPipelinedBatchWriting) {
+        DatabaseLogin login = new DatabaseLogin();
+        login.useDirectDriverConnect();
+        login.setDriverClass(EmulatedDriver.class);
+        login.setConnectionString("jdbc:emulateddriver");
+        login.useBatchWriting();
+        login.bindAllParameters();
+        login.setMaxBatchWritingSize(2);
+        login.getPlatform().setUsesPipelinedBatchWriting(usesPipelinedBatchWriting);
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Item.class);
+        descriptor.addTableName("ITEM");
+        descriptor.addPrimaryKeyFieldName("ITEM.ID");
+        descriptor.addDirectMapping("id", "ITEM.ID");
+        descriptor.addDirectMapping("name", "ITEM.NAME");
+        Project project = new Project(login);
+        project.addDescriptor(descriptor);
+        session = project.createDatabaseSession();
+        AbstractSessionLog log = new AbstractSessionLog() {
+            @Override
+            public void log(SessionLogEntry entry) {
+                if ("begin_batch_statements".equals(entry.getMessage())) {
+                    batchThreads.add(entry.getThread());
+                }
+            }
+        };
+        log.setLevel(SessionLog.FINEST);
+        session.setSessionLog(log);
+        session.login();
+    }
+
+    /**
+     * Insert five new objects, in batches of two statements.
+     * Return the number of statements or batches executed by the commit.
+     */
+    private int commit() {
+        UnitOfWork uow = session.acquireUnitOfWork();
+        for (long id = 1; id <= 5; id++) {
+            Item item = new Item();
+            item.id = id;
+            item.name = "item" + id;
+            uow.registerNewObject(item);
+        }
+        DatasourceAccessor accessor = (DatasourceAccessor)((DatabaseSessionImpl)session).getAccessor();
+        int before = accessor.getWriteStatementsCount();
+        uow.commit();
+        return accessor.getWriteStatementsCount() - before;
+    }
+
+    @Test
+    public void testCommitPipelinesFullBatches() {
+        login(false);
+        int expected = commit();
+        assertEquals(List.of(Thread.currentThread(), Thread.currentThread()), batchThreads);
+        logout();
+        batchThreads.clear();
+
+        login(true);
+        assertEquals(expected, commit());
+        // The two full batches are executed by the writer thread of the accessor.
+        assertEquals(2, batchThreads.size());
+        assertNotSame(Thread.currentThread(), batchThreads.get(0));
+        assertSame(batchThreads.get(0), batchThreads.get(1));
+    }
+
+    @Test
+    public void testBatchesAreExecutedInOrder() throws Exception {
+        DatabaseAccessor accessor = new DatabaseAccessor();
+        List<Integer> executed = new ArrayList<>();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread[] writer = new Thread[1];
+        accessor.executePipelinedBatch(() -> {
+            writer[0] = Thread.currentThread();
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException exception) {
+                throw new RuntimeException(exception);
+            }
+            executed.add(1);
+        });
+        started.await();
+        assertNotSame(Thread.currentThread(), writer[0]);
+        release.countDown();
+        // The second batch waits for the first one.
+        accessor.executePipelinedBatch(() -> executed.add(2));
+        accessor.waitForPipelinedBatch();
+        assertEquals(List.of(1, 2), executed);
+    }
+
+    @Test
+    public void testWriterThreadIsReused() {
+        DatabaseAccessor accessor = new DatabaseAccessor();
+        List<Thread> writers = new ArrayList<>();
+        for (int batch = 0; batch < 3; batch++) {
+            accessor.executePipelinedBatch(() -> writers.add(Thread.currentThread()));
+            accessor.waitForPipelinedBatch();
+        }
+        assertEquals(3, writers.size());
+        assertTrue(writers.get(0).isDaemon());
+        assertSame(writers.get(0), writers.get(1));
+        assertSame(writers.get(0), writers.get(2));
+    }
+
+    @Test
+    public void testFailureIsThrownOnWait() {
+        DatabaseAccessor accessor = new DatabaseAccessor();
+        DatabaseException failure = DatabaseException.databaseAccessorNotConnected();
+        accessor.executePipelinedBatch(() -> {
+            throw failure;
+        });
+        try {
+            accessor.waitForPipelinedBatch();
+            fail("The failure of the batch should be thrown.");
+        } catch (DatabaseException exception) {
+            assertSame(failure, exception);
+        }
+        // The failure is only thrown once.
+        accessor.waitForPipelinedBatch();
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.platform;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.sql.PreparedStatement;
+
+import org.eclipse.persistence.internal.databaseaccess.DatabaseAccessor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.platform.database.DatabasePlatform;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedConnection;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedDriver;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test the least recently used eviction and the counters of the statement cache of an accessor.
+ */
+public class StatementCacheTest {
+
+    private DatabasePlatform platform;
+    private DatabaseAccessor accessor;
+    private AbstractSession session;
+
+    @Before
+    public void setUp() {
+        platform = new DatabasePlatform();
+        platform.setShouldCacheAllStatements(true);
+        platform.setStatementCacheSize(2);
+        accessor = new DatabaseAccessor(new EmulatedConnection(new EmulatedDriver()));
+        accessor.setDatasourcePlatform(platform);
+        session = (AbstractSession)new Project(new DatabaseLogin(platform)).createDatabaseSession();
+    }
+
+    private PreparedStatement prepare(String sql) throws Exception {
+        return accessor.prepareStatement(sql, session, false);
+    }
+
+    private void release(PreparedStatement statement, String sql) throws Exception {
+        accessor.releaseStatement(statement, sql, null, session);
+    }
+
+    @Test
+    public void testLeastRecentlyReleasedIsEvicted() throws Exception {
+        PreparedStatement a = prepare("A");
+        PreparedStatement b = prepare("B");
+        release(a, "A");
+        release(b, "B");
+        // Using A again makes B the least recently used statement.
+        assertSame(a, prepare("A"));
+        release(a, "A");
+        PreparedStatement c = prepare("C");
+        release(c, "C");
+        assertEquals(1, accessor.getStatementCacheEvictions());
+        assertSame(a, prepare("A"));
+        assertSame(c, prepare("C"));
+        assertNotSame(b, prepare("B"));
+    }
+
+    @Test
+    public void testHitsAndMissesAreCounted() throws Exception {
+        PreparedStatement a = prepare("A");
+        release(a, "A");
+        release(prepare("A"), "A");
+        release(prepare("A"), "A");
+        release(prepare("B"), "B");
+        assertEquals(2, accessor.getStatementCacheHits());
+        assertEquals(2, accessor.getStatementCacheMisses());
+        assertEquals(0, accessor.getStatementCacheEvictions());
+    }
+
+    @Test
+    public void testEmptyCacheOfSizeZero() throws Exception {
+        platform.setStatementCacheSize(0);
+        PreparedStatement a = prepare("A");
+        release(a, "A");
+        assertNotSame(a, prepare("A"));
+        assertEquals(0, accessor.getStatementCacheHits());
+        assertEquals(2, accessor.getStatementCacheMisses());
+        assertEquals(0, accessor.getStatementCacheEvictions());
+    }
+}
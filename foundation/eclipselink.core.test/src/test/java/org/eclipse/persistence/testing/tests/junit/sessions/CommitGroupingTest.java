@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.sessions;
+
+import static org.junit.Assert.assertEquals;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.databaseaccess.DatasourceAccessor;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedDriver;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests that grouping the writes of independent classes on commit reduces the number of batches.
+ */
+public class CommitGroupingTest {
+
+    public static class Book {
+        public Long id;
+        public String name;
+    }
+
+    public static class Magazine {
+        public Long id;
+        public String name;
+    }
+
+    private DatabaseSession session;
+
+    @After
+    public void logout() {
+        if ((session != null) && session.isConnected()) {
+            session.logout();
+        }
+    }
+
+    private static RelationalDescriptor descriptor(Class<?> javaClass) {
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(javaClass);
+        descriptor.addTableName("ITEM");
+        descriptor.addPrimaryKeyFieldName("ITEM.ID");
+        descriptor.addDirectMapping("id", "ITEM.ID");
+        descriptor.addDirectMapping("name", "ITEM.NAME");
+        return descriptor;
+    }
+
+    private void login(boolean allowCommitGrouping) {
+        DatabaseLogin login = new DatabaseLogin();
+        login.useDirectDriverConnect();
+        login.setDriverClass(EmulatedDriver.class);
+        login.setConnectionString("jdbc:emulateddriver");
+        login.useBatchWriting();
+        login.bindAllParameters();
+        Project project = new Project(login);
+        project.addDescriptor(descriptor(Book.class));
+        project.addDescriptor(descriptor(Magazine.class));
+        project.setAllowCommitGrouping(allowCommitGrouping);
+        session = project.createDatabaseSession();
+        session.dontLogMessages();
+        session.login();
+    }
+
+    /**
+     * Update two existing and insert two new objects of each class, both classes write the same statements.
+     * Return the number of statements or batches executed by the commit.
+     */
+    private int commit() {
+        UnitOfWork uow = session.acquireUnitOfWork();
+        long id = 1;
+        for (Class<?> javaClass : new Class<?>[] {Book.class, Magazine.class}) {
+            for (int index = 0; index < 2; index++) {
+                Object existing = newObject(javaClass, id++, "old");
+                Object clone = uow.registerExistingObject(existing);
+                setName(clone, "new");
+                uow.registerNewObject(newObject(javaClass, id++, "new"));
+            }
+        }
+        DatasourceAccessor accessor = (DatasourceAccessor)((DatabaseSessionImpl)session).getAccessor();
+        int before = accessor.getWriteStatementsCount();
+        uow.commit();
+        return accessor.getWriteStatementsCount() - before;
+    }
+
+    private static Object newObject(Class<?> javaClass, long id, String name) {
+        if (javaClass == Book.class) {
+            Book book = new Book();
+            book.id = id;
+            book.name = name;
+            return book;
+        }
+        Magazine magazine = new Magazine();
+        magazine.id = id;
+        magazine.name = name;
+        return magazine;
+    }
+
+    private static void setName(Object object, String name) {
+        if (object instanceof Book) {
+            ((Book)object).name = name;
+        } else {
+            ((Magazine)object).name = name;
+        }
+    }
+
+    @Test
+    public void classesWrittenOneByOne() {
+        login(false);
+        // Updates and inserts of Book, then updates and inserts of Magazine.
+        assertEquals(4, commit());
+    }
+
+    @Test
+    public void groupedClassesShareBatches() {
+        login(true);
+        // All updates, then all inserts.
+        assertEquals(2, commit());
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.sessions;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.Vector;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.CommitOrderCalculator;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.junit.Test;
+
+public class CommitOrderCalculatorTest {
+
+    public static class Department {}
+    public static class Employee {}
+    public static class Location {}
+
+    private static RelationalDescriptor descriptor(Class<?> javaClass, String table) {
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(javaClass);
+        descriptor.addTableName(table);
+        return descriptor;
+    }
+
+    @Test
+    public void groupsIndependentClassesByTable() {
+        RelationalDescriptor department = descriptor(Department.class, "DEPT");
+        RelationalDescriptor employee = descriptor(Employee.class, "EMP");
+        employee.addConstraintDependency(Department.class);
+        RelationalDescriptor location = descriptor(Location.class, "ADDRESS");
+        Vector<RelationalDescriptor> descriptors = new Vector<>();
+        descriptors.add(department);
+        descriptors.add(employee);
+        descriptors.add(location);
+        Project project = new Project(new DatabaseLogin());
+        AbstractSession session = (AbstractSession)project.createDatabaseSession();
+
+        CommitOrderCalculator calculator = new CommitOrderCalculator(session);
+        calculator.addNodes(descriptors);
+        calculator.calculateSpecifiedDependencies();
+        calculator.orderCommits();
+        assertEquals(List.of(Department.class, Employee.class, Location.class), calculator.getOrderedClasses());
+
+        List<List<Class<?>>> groups = calculator.getOrderedClassGroups();
+        assertEquals(2, groups.size());
+        assertEquals(List.of(Department.class), groups.get(0));
+        // Location does not depend on Employee, so it is written first as its table sorts first.
+        assertEquals(List.of(Location.class, Employee.class), groups.get(1));
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.sessions;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.descriptors.changetracking.DeferredChangeDetectionPolicy;
+import org.eclipse.persistence.descriptors.changetracking.ObjectChangeTrackingPolicy;
+import org.eclipse.persistence.indirection.IndirectList;
+import org.eclipse.persistence.indirection.ValueHolder;
+import org.eclipse.persistence.indirection.ValueHolderInterface;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.DirectToFieldMapping;
+import org.eclipse.persistence.mappings.OneToManyMapping;
+import org.eclipse.persistence.mappings.OneToOneMapping;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.changesets.ChangeRecord;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedDriver;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ParallelChangeDetectionTest {
+
+    public static class Employee {
+        public long id;
+        public String name;
+
+        public Employee() {
+        }
+
+        Employee(long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    public static class Manager {
+        public long id;
+        public String name;
+        public ValueHolderInterface<Manager> manager = new ValueHolder<>();
+        public List<Phone> phones = new IndirectList<>();
+
+        public Manager() {
+        }
+
+        Manager(long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    public static class Phone {
+        public long id;
+        public String number;
+        public ValueHolderInterface<Manager> owner = new ValueHolder<>();
+
+        public Phone() {
+        }
+
+        Phone(long id, String number, Manager owner) {
+            this.id = id;
+            this.number = number;
+            this.owner.setValue(owner);
+        }
+    }
+
+    private static final int MANAGERS = 20;
+    private static final int PHONES = 2;
+
+    private RelationalDescriptor descriptor;
+    private UnitOfWorkImpl unitOfWork;
+    private DatabaseSession session;
+
+    @Before
+    public void setUp() {
+        descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Employee.class);
+        descriptor.addTableName("EMPLOYEE");
+        descriptor.addPrimaryKeyFieldName("EMPLOYEE.ID");
+        descriptor.addDirectMapping("id", "EMPLOYEE.ID");
+        descriptor.addDirectMapping("name", "EMPLOYEE.NAME");
+        for (DatabaseMapping mapping : descriptor.getMappings()) {
+            mapping.getAttributeAccessor().initializeAttributes(Employee.class);
+        }
+        ((DirectToFieldMapping)descriptor.getMappingForAttributeName("id")).getField().setType(Long.class);
+        ((DirectToFieldMapping)descriptor.getMappingForAttributeName("name")).getField().setType(String.class);
+        Project project = new Project(new DatabaseLogin());
+        project.addDescriptor(descriptor);
+        AbstractSession session = (AbstractSession)project.createDatabaseSession();
+        unitOfWork = (UnitOfWorkImpl)session.acquireUnitOfWork();
+    }
+
+    @After
+    public void logout() {
+        if ((session != null) && session.isConnected()) {
+            session.logout();
+        }
+    }
+
+    private void login(int parallelChangeDetectionThreshold) {
+        RelationalDescriptor manager = new RelationalDescriptor();
+        manager.setJavaClass(Manager.class);
+        manager.addTableName("MANAGER");
+        manager.addPrimaryKeyFieldName("MANAGER.ID");
+        manager.addDirectMapping("id", "MANAGER.ID");
+        manager.addDirectMapping("name", "MANAGER.NAME");
+        OneToOneMapping managerMapping = new OneToOneMapping();
+        managerMapping.setAttributeName("manager");
+        managerMapping.setReferenceClass(Manager.class);
+        managerMapping.addForeignKeyFieldName("MANAGER.MANAGER_ID", "MANAGER.ID");
+        manager.addMapping(managerMapping);
+        OneToManyMapping phonesMapping = new OneToManyMapping();
+        phonesMapping.setAttributeName("phones");
+        phonesMapping.setReferenceClass(Phone.class);
+        phonesMapping.useTransparentList();
+        phonesMapping.addTargetForeignKeyFieldName("PHONE.OWNER_ID", "MANAGER.ID");
+        manager.addMapping(phonesMapping);
+
+        RelationalDescriptor phone = new RelationalDescriptor();
+        phone.setJavaClass(Phone.class);
+        phone.addTableName("PHONE");
+        phone.addPrimaryKeyFieldName("PHONE.ID");
+        phone.addDirectMapping("id", "PHONE.ID");
+        phone.addDirectMapping("number", "PHONE.NUMBER");
+        OneToOneMapping ownerMapping = new OneToOneMapping();
+        ownerMapping.setAttributeName("owner");
+        ownerMapping.setReferenceClass(Manager.class);
+        ownerMapping.addForeignKeyFieldName("PHONE.OWNER_ID", "MANAGER.ID");
+        phone.addMapping(ownerMapping);
+
+        DatabaseLogin login = new DatabaseLogin();
+        login.useDirectDriverConnect();
+        login.setDriverClass(EmulatedDriver.class);
+        login.setConnectionString("jdbc:emulateddriver");
+        Project project = new Project(login);
+        project.addDescriptor(manager);
+        project.addDescriptor(phone);
+        project.setParallelChangeDetectionThreshold(parallelChangeDetectionThreshold);
+        session = project.createDatabaseSession();
+        session.dontLogMessages();
+        session.login();
+    }
+
+    /**
+     * Register existing managers, each with a manager and phones, change a few of them through
+     * their direct, reference and collection mappings, and calculate the changes of the unit of work.
+     * Return the changed attributes of each changed object.
+     */
+    private Map<String, Set<String>> calculateChanges(int parallelChangeDetectionThreshold) {
+        login(parallelChangeDetectionThreshold);
+        UnitOfWorkImpl uow = (UnitOfWorkImpl)session.acquireUnitOfWork();
+        List<Manager> originals = new ArrayList<>();
+        List<Phone> phoneOriginals = new ArrayList<>();
+        for (int index = 0; index < MANAGERS; index++) {
+            Manager original = new Manager(index, "Manager " + index);
+            if (index > 0) {
+                original.manager.setValue(originals.get(0));
+            }
+            for (int phoneIndex = 0; phoneIndex < PHONES; phoneIndex++) {
+                Phone phone = new Phone(index * PHONES + phoneIndex, "555-" + index + phoneIndex, original);
+                original.phones.add(phone);
+                phoneOriginals.add(phone);
+            }
+            originals.add(original);
+        }
+        List<Manager> clones = new ArrayList<>();
+        for (Manager original : originals) {
+            clones.add((Manager)uow.registerExistingObject(original));
+        }
+        List<Phone> phones = new ArrayList<>();
+        for (Phone phone : phoneOriginals) {
+            phones.add((Phone)uow.registerExistingObject(phone));
+        }
+
+        // Direct change.
+        clones.get(3).name = "Changed";
+        // Reference changed, reference only read.
+        clones.get(5).manager.setValue(clones.get(1));
+        assertSame(clones.get(0), clones.get(6).manager.getValue());
+        // Collection element added, removed, only read.
+        Phone added = new Phone(1000, "555-1000", clones.get(7));
+        uow.registerNewObject(added);
+        clones.get(7).phones.add(added);
+        clones.get(9).phones.remove(0);
+        assertEquals(PHONES, clones.get(10).phones.size());
+        // Direct change of a collection element.
+        phones.get(11 * PHONES).number = "555-changed";
+
+        UnitOfWorkChangeSet changeSet = uow.calculateChanges(uow.getCloneMapping(), new UnitOfWorkChangeSet(uow), false, true);
+        Map<String, Set<String>> changes = new TreeMap<>();
+        for (ObjectChangeSet objectChangeSet : changeSet.getAllChangeSets().keySet()) {
+            if (objectChangeSet.hasChanges()) {
+                Object clone = objectChangeSet.getUnitOfWorkClone();
+                String key = (clone instanceof Manager) ? "Manager " + ((Manager)clone).id : "Phone " + ((Phone)clone).id;
+                Set<String> attributes = new TreeSet<>();
+                for (ChangeRecord record : objectChangeSet.getChanges()) {
+                    attributes.add(record.getAttribute());
+                }
+                changes.put(key, attributes);
+            }
+        }
+        uow.release();
+        session.logout();
+        return changes;
+    }
+
+    @Test
+    public void parallelScreenFindsSameChanges() {
+        Map<String, Set<String>> serial = calculateChanges(0);
+        Map<String, Set<String>> parallel = calculateChanges(MANAGERS);
+
+        assertEquals(Set.of("name"), parallel.get("Manager 3"));
+        assertEquals(Set.of("manager"), parallel.get("Manager 5"));
+        assertEquals(Set.of("phones"), parallel.get("Manager 7"));
+        assertEquals(Set.of("phones"), parallel.get("Manager 9"));
+        assertEquals(Set.of("number"), parallel.get("Phone " + (11 * PHONES)));
+        assertTrue(parallel.containsKey("Phone 1000"));
+        assertFalse(parallel.containsKey("Manager 6"));
+        assertFalse(parallel.containsKey("Manager 10"));
+        assertEquals(serial, parallel);
+    }
+
+    @Test
+    public void unchangedObjectIsScreened() {
+        DeferredChangeDetectionPolicy policy = new DeferredChangeDetectionPolicy();
+        assertTrue(policy.isUnchanged(new Employee(1, "Bob"), new Employee(1, "Bob"), unitOfWork, descriptor));
+    }
+
+    @Test
+    public void changedObjectIsCompared() {
+        DeferredChangeDetectionPolicy policy = new DeferredChangeDetectionPolicy();
+        assertFalse(policy.isUnchanged(new Employee(1, "Robert"), new Employee(1, "Bob"), unitOfWork, descriptor));
+        assertFalse(policy.isUnchanged(new Employee(1, "Bob"), null, unitOfWork, descriptor));
+    }
+
+    @Test
+    public void changeTrackedObjectIsNotScreened() {
+        ObjectChangeTrackingPolicy policy = new ObjectChangeTrackingPolicy();
+        assertFalse(policy.isUnchanged(new Employee(1, "Bob"), new Employee(1, "Bob"), unitOfWork, descriptor));
+    }
+
+    @Test
+    public void thresholdIsDisabledByDefault() {
+        assertEquals(0, new Project().getParallelChangeDetectionThreshold());
+    }
+}
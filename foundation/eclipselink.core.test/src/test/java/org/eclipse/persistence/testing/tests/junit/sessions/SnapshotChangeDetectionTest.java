@@ -0,0 +1,357 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.sessions;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.eclipse.persistence.descriptors.FetchGroupManager;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.descriptors.changetracking.SnapshotChangeDetectionPolicy;
+import org.eclipse.persistence.indirection.IndirectList;
+import org.eclipse.persistence.indirection.ValueHolder;
+import org.eclipse.persistence.indirection.ValueHolderInterface;
+import org.eclipse.persistence.internal.databaseaccess.DatasourceAccessor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.DirectToFieldMapping;
+import org.eclipse.persistence.mappings.OneToManyMapping;
+import org.eclipse.persistence.mappings.OneToOneMapping;
+import org.eclipse.persistence.queries.FetchGroup;
+import org.eclipse.persistence.queries.FetchGroupTracker;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.Session;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedDriver;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SnapshotChangeDetectionTest {
+
+    public static class Employee {
+        public long id;
+        public String name;
+        public Date hireDate;
+
+        public Employee() {
+        }
+
+        Employee(long id, String name, Date hireDate) {
+            this.id = id;
+            this.name = name;
+            this.hireDate = hireDate;
+        }
+    }
+
+    public static class Manager {
+        public long id;
+        public String name;
+        public Date hireDate;
+        public ValueHolderInterface<Manager> manager = new ValueHolder<>();
+        public List<Phone> phones = new IndirectList<>();
+    }
+
+    public static class Phone implements FetchGroupTracker {
+        public long id;
+        public String number;
+        public ValueHolderInterface<Manager> owner = new ValueHolder<>();
+        private FetchGroup fetchGroup;
+        private boolean shouldRefreshFetchGroup;
+        private Session session;
+
+        @Override
+        public FetchGroup _persistence_getFetchGroup() {
+            return fetchGroup;
+        }
+
+        @Override
+        public void _persistence_setFetchGroup(FetchGroup group) {
+            fetchGroup = group;
+        }
+
+        @Override
+        public boolean _persistence_isAttributeFetched(String attribute) {
+            return (fetchGroup == null) || fetchGroup.containsAttributeInternal(attribute);
+        }
+
+        @Override
+        public void _persistence_resetFetchGroup() {
+            fetchGroup = null;
+        }
+
+        @Override
+        public boolean _persistence_shouldRefreshFetchGroup() {
+            return shouldRefreshFetchGroup;
+        }
+
+        @Override
+        public void _persistence_setShouldRefreshFetchGroup(boolean shouldRefreshFetchGroup) {
+            this.shouldRefreshFetchGroup = shouldRefreshFetchGroup;
+        }
+
+        @Override
+        public Session _persistence_getSession() {
+            return session;
+        }
+
+        @Override
+        public void _persistence_setSession(Session session) {
+            this.session = session;
+        }
+    }
+
+    private static final int MANAGERS = 10;
+
+    private RelationalDescriptor descriptor;
+    private SnapshotChangeDetectionPolicy policy;
+    private UnitOfWorkImpl unitOfWork;
+    private DatabaseSession session;
+
+    @Before
+    public void setUp() {
+        descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Employee.class);
+        descriptor.addTableName("EMPLOYEE");
+        descriptor.addPrimaryKeyFieldName("EMPLOYEE.ID");
+        descriptor.addDirectMapping("id", "EMPLOYEE.ID");
+        descriptor.addDirectMapping("name", "EMPLOYEE.NAME");
+        descriptor.addDirectMapping("hireDate", "EMPLOYEE.HIRE_DATE");
+        ((DirectToFieldMapping)descriptor.getMappingForAttributeName("hireDate")).setIsMutable(true);
+        for (DatabaseMapping mapping : descriptor.getMappings()) {
+            mapping.getAttributeAccessor().initializeAttributes(Employee.class);
+        }
+        // The cloning mappings are set by the initialization of the descriptor.
+        descriptor.getObjectBuilder().getCloningMappings().addAll(descriptor.getMappings());
+        policy = new SnapshotChangeDetectionPolicy();
+        descriptor.setObjectChangePolicy(policy);
+        Project project = new Project(new DatabaseLogin());
+        project.addDescriptor(descriptor);
+        AbstractSession session = (AbstractSession)project.createDatabaseSession();
+        unitOfWork = (UnitOfWorkImpl)session.acquireUnitOfWork();
+    }
+
+    @After
+    public void logout() {
+        if ((session != null) && session.isConnected()) {
+            session.logout();
+        }
+    }
+
+    /**
+     * Login managers, with a reference and a collection mapping, and their phones, with a fetch group manager.
+     * Neither descriptor configures a change policy, the project makes them snapshot their objects.
+     */
+    private void login() {
+        RelationalDescriptor manager = new RelationalDescriptor();
+        manager.setJavaClass(Manager.class);
+        manager.addTableName("MANAGER");
+        manager.addPrimaryKeyFieldName("MANAGER.ID");
+        manager.addDirectMapping("id", "MANAGER.ID");
+        manager.addDirectMapping("name", "MANAGER.NAME");
+        manager.addDirectMapping("hireDate", "MANAGER.HIRE_DATE");
+        ((DirectToFieldMapping)manager.getMappingForAttributeName("hireDate")).setIsMutable(true);
+        OneToOneMapping managerMapping = new OneToOneMapping();
+        managerMapping.setAttributeName("manager");
+        managerMapping.setReferenceClass(Manager.class);
+        managerMapping.addForeignKeyFieldName("MANAGER.MANAGER_ID", "MANAGER.ID");
+        manager.addMapping(managerMapping);
+        OneToManyMapping phonesMapping = new OneToManyMapping();
+        phonesMapping.setAttributeName("phones");
+        phonesMapping.setReferenceClass(Phone.class);
+        phonesMapping.useTransparentList();
+        phonesMapping.addTargetForeignKeyFieldName("PHONE.OWNER_ID", "MANAGER.ID");
+        manager.addMapping(phonesMapping);
+
+        RelationalDescriptor phone = new RelationalDescriptor();
+        phone.setJavaClass(Phone.class);
+        phone.addTableName("PHONE");
+        phone.addPrimaryKeyFieldName("PHONE.ID");
+        phone.addDirectMapping("id", "PHONE.ID");
+        phone.addDirectMapping("number", "PHONE.NUMBER");
+        OneToOneMapping ownerMapping = new OneToOneMapping();
+        ownerMapping.setAttributeName("owner");
+        ownerMapping.setReferenceClass(Manager.class);
+        ownerMapping.addForeignKeyFieldName("PHONE.OWNER_ID", "MANAGER.ID");
+        phone.addMapping(ownerMapping);
+        phone.setFetchGroupManager(new FetchGroupManager());
+
+        DatabaseLogin login = new DatabaseLogin();
+        login.useDirectDriverConnect();
+        login.setDriverClass(EmulatedDriver.class);
+        login.setConnectionString("jdbc:emulateddriver");
+        Project project = new Project(login);
+        project.addDescriptor(manager);
+        project.addDescriptor(phone);
+        project.setShouldUseSnapshotChangeDetection(true);
+        session = project.createDatabaseSession();
+        session.dontLogMessages();
+        session.login();
+    }
+
+    /**
+     * Register existing managers, each managed by the first one and with one phone.
+     * Return the manager clones followed by the phone clones.
+     */
+    private static List<Object> register(UnitOfWorkImpl uow) {
+        List<Object> originals = new ArrayList<>();
+        List<Object> phoneOriginals = new ArrayList<>();
+        for (int index = 0; index < MANAGERS; index++) {
+            Manager original = new Manager();
+            original.id = index;
+            original.name = "Manager " + index;
+            original.hireDate = new Date(0);
+            if (index > 0) {
+                original.manager.setValue((Manager)originals.get(0));
+            }
+            Phone phone = new Phone();
+            phone.id = index;
+            phone.number = "555-" + index;
+            phone.owner.setValue(original);
+            original.phones.add(phone);
+            originals.add(original);
+            phoneOriginals.add(phone);
+        }
+        originals.addAll(phoneOriginals);
+        List<Object> clones = new ArrayList<>();
+        for (Object original : originals) {
+            clones.add(uow.registerExistingObject(original));
+        }
+        return clones;
+    }
+
+    /**
+     * Commit the unit of work and resume it, return the number of statements executed.
+     */
+    private int commit(UnitOfWorkImpl uow) {
+        DatasourceAccessor accessor = (DatasourceAccessor)((DatabaseSessionImpl)session).getAccessor();
+        int before = accessor.getWriteStatementsCount();
+        uow.commitAndResume();
+        return accessor.getWriteStatementsCount() - before;
+    }
+
+    @Test
+    public void commitWritesChangedObjectsOnly() {
+        login();
+        assertTrue(session.getDescriptor(Manager.class).getObjectChangePolicy() instanceof SnapshotChangeDetectionPolicy);
+        assertTrue(session.getDescriptor(Phone.class).getObjectChangePolicy() instanceof SnapshotChangeDetectionPolicy);
+        UnitOfWorkImpl uow = (UnitOfWorkImpl)session.acquireUnitOfWork();
+        List<Object> clones = register(uow);
+        for (Object clone : clones) {
+            assertTrue("objects with relationships and fetch groups are snapshot", uow.getCloneMapping().get(clone) instanceof Object[]);
+        }
+        assertEquals(0, commit(uow));
+
+        ((Manager)clones.get(2)).name = "Changed";
+        ((Manager)clones.get(4)).hireDate.setTime(1000);
+        ((Manager)clones.get(6)).manager.setValue((Manager)clones.get(1));
+        ((Phone)clones.get(MANAGERS + 8)).number = "555-changed";
+        assertEquals(4, commit(uow));
+        assertTrue("committed objects are snapshot again", uow.getCloneMapping().get(clones.get(2)) instanceof Object[]);
+
+        assertEquals(0, commit(uow));
+        ((Manager)clones.get(2)).name = "Changed again";
+        assertEquals(1, commit(uow));
+    }
+
+    @Test
+    public void backupCloneReplacesSnapshotUntilCommit() {
+        login();
+        UnitOfWorkImpl uow = (UnitOfWorkImpl)session.acquireUnitOfWork();
+        Manager clone = (Manager)register(uow).get(3);
+        Manager backup = (Manager)uow.getBackupClone(clone);
+        assertNotSame(clone, backup);
+        assertEquals("Manager 3", backup.name);
+        assertSame(backup, uow.getBackupClone(clone));
+        assertSame(backup, uow.getCloneMapping().get(clone));
+
+        clone.name = "Changed";
+        assertEquals(1, commit(uow));
+        assertTrue(uow.getCloneMapping().get(clone) instanceof Object[]);
+    }
+
+    @Test
+    public void partialObjectIsSnapshot() {
+        login();
+        UnitOfWorkImpl uow = (UnitOfWorkImpl)session.acquireUnitOfWork();
+        FetchGroup fetchGroup = new FetchGroup();
+        fetchGroup.addAttribute("id");
+        fetchGroup.addAttribute("number");
+        Phone original = new Phone();
+        original.id = 100;
+        original.number = "555-100";
+        FetchGroupManager fetchGroupManager = session.getDescriptor(Phone.class).getFetchGroupManager();
+        fetchGroupManager.setObjectFetchGroup(original, fetchGroup, (AbstractSession)session);
+        Phone clone = (Phone)uow.registerExistingObject(original);
+        assertTrue(fetchGroupManager.isPartialObject(clone));
+        assertTrue(uow.getCloneMapping().get(clone) instanceof Object[]);
+        assertEquals(0, commit(uow));
+
+        clone.number = "555-changed";
+        assertEquals(1, commit(uow));
+    }
+
+    @Test
+    public void snapshotHoldsAttributeValues() {
+        Date hireDate = new Date(0);
+        Object snapshot = policy.buildBackupClone(new Employee(1, "Bob", hireDate), descriptor.getObjectBuilder(), unitOfWork);
+        assertTrue(snapshot instanceof Object[]);
+        Object[] values = (Object[])snapshot;
+        assertEquals(3, values.length);
+        assertEquals(1L, values[0]);
+        assertEquals("Bob", values[1]);
+        assertEquals(hireDate, values[2]);
+        assertNotSame("mutable values must be copied", hireDate, values[2]);
+    }
+
+    @Test
+    public void unchangedObjectIsDetected() {
+        Employee employee = new Employee(1, "Bob", new Date(0));
+        Object snapshot = policy.buildBackupClone(employee, descriptor.getObjectBuilder(), unitOfWork);
+        assertTrue(policy.isUnchanged(employee, snapshot, unitOfWork, descriptor));
+
+        employee.name = "Robert";
+        assertFalse(policy.isUnchanged(employee, snapshot, unitOfWork, descriptor));
+
+        employee.name = "Bob";
+        employee.hireDate.setTime(1000);
+        assertFalse("mutable values must be compared by value", policy.isUnchanged(employee, snapshot, unitOfWork, descriptor));
+    }
+
+    @Test
+    public void backupCloneIsBuiltFromSnapshot() {
+        Employee employee = new Employee(1, "Bob", new Date(0));
+        Object[] snapshot = (Object[])policy.buildBackupClone(employee, descriptor.getObjectBuilder(), unitOfWork);
+        employee.name = "Robert";
+        Employee backup = (Employee)policy.buildBackupCloneFromSnapshot(employee, snapshot, descriptor, unitOfWork);
+        assertNotSame(employee, backup);
+        assertEquals(1, backup.id);
+        assertEquals("Bob", backup.name);
+        assertEquals(new Date(0), backup.hireDate);
+    }
+
+    @Test
+    public void otherDescriptorIsBackedUpByClone() {
+        RelationalDescriptor other = new RelationalDescriptor();
+        other.setJavaClass(Employee.class);
+        policy.buildBackupClone(new Employee(1, "Bob", null), descriptor.getObjectBuilder(), unitOfWork);
+        Object backup = policy.buildBackupClone(new Employee(1, "Bob", null), other.getObjectBuilder(), unitOfWork);
+        assertTrue(backup instanceof Employee);
+    }
+}
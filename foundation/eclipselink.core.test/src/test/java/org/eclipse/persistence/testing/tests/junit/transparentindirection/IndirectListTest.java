@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -36,6 +36,7 @@
 import org.eclipse.persistence.descriptors.changetracking.CollectionChangeEvent;
 import org.eclipse.persistence.indirection.IndirectCollectionsFactory;
 import org.eclipse.persistence.indirection.IndirectList;
+import org.eclipse.persistence.indirection.UnsynchronizedIndirectList;
 import org.eclipse.persistence.indirection.ValueHolderInterface;
 import org.eclipse.persistence.internal.indirection.QueryBasedValueHolder;
 import org.eclipse.persistence.queries.ReadAllQuery;
@@ -65,7 +66,8 @@ public class IndirectListTest {
     @Parameters(name = "{0}, {1}")
     public static Collection<Object[]> data() {
         return Arrays.asList(new Object[][] {
-                 { IndirectList.class, true }, { IndirectList.class, false }, { L.class, true }, { L.class, false }
+                 { IndirectList.class, true }, { IndirectList.class, false }, { L.class, true }, { L.class, false },
+                 { UnsynchronizedIndirectList.class, true }, { UnsynchronizedIndirectList.class, false }
            });
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1998, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 1998, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -41,6 +41,7 @@
 import org.eclipse.persistence.descriptors.changetracking.MapChangeEvent;
 import org.eclipse.persistence.indirection.IndirectCollectionsFactory;
 import org.eclipse.persistence.indirection.IndirectMap;
+import org.eclipse.persistence.indirection.UnsynchronizedIndirectMap;
 import org.eclipse.persistence.indirection.ValueHolderInterface;
 import org.eclipse.persistence.internal.indirection.QueryBasedValueHolder;
 import org.eclipse.persistence.queries.ReadAllQuery;
@@ -71,7 +72,8 @@ public class IndirectMapTest {
     @Parameters(name = "{0}, {1}")
     public static Collection<Object[]> data() {
         return Arrays.asList(new Object[][] {
-                 { IndirectMap.class, true }, { IndirectMap.class, false }, { M.class, true }, { M.class, false }
+                 { IndirectMap.class, true }, { IndirectMap.class, false }, { M.class, true }, { M.class, false },
+                 { UnsynchronizedIndirectMap.class, true }, { UnsynchronizedIndirectMap.class, false }
            });
     }
 
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.transparentindirection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+
+import org.eclipse.persistence.indirection.IndirectCollectionsFactory;
+import org.eclipse.persistence.indirection.IndirectList;
+import org.eclipse.persistence.indirection.IndirectMap;
+import org.eclipse.persistence.indirection.UnsynchronizedIndirectCollectionsProvider;
+import org.eclipse.persistence.indirection.UnsynchronizedIndirectList;
+import org.eclipse.persistence.indirection.UnsynchronizedIndirectMap;
+import org.junit.Test;
+
+/**
+ * Test the collections created by {@link UnsynchronizedIndirectCollectionsProvider}
+ * when their contents are not provided by a value holder.
+ */
+public class UnsynchronizedIndirectCollectionsProviderTest {
+
+    private final IndirectCollectionsFactory.IndirectCollectionsProvider provider = new UnsynchronizedIndirectCollectionsProvider();
+
+    @Test
+    public void testProviderClasses() {
+        assertEquals(UnsynchronizedIndirectList.class, provider.getListClass());
+        assertEquals(UnsynchronizedIndirectMap.class, provider.getMapClass());
+        assertTrue(provider.createIndirectList(10, 0) instanceof UnsynchronizedIndirectList);
+        assertTrue(provider.createIndirectMap(11, 0.75f) instanceof UnsynchronizedIndirectMap);
+    }
+
+    @Test
+    public void testListGrowth() {
+        IndirectList<Integer> list = provider.createIndirectList(1, 0);
+        for (int index = 0; index < 100; index++) {
+            list.add(index);
+        }
+        assertEquals(100, list.size());
+        assertEquals(Integer.valueOf(42), list.get(42));
+        assertTrue(list.contains(99));
+        assertFalse(list.contains(100));
+        assertEquals(99, list.indexOf(99));
+        assertEquals(Integer.valueOf(42), list.set(42, -1));
+        assertEquals(Integer.valueOf(-1), list.get(42));
+        try {
+            list.get(100);
+            fail("IndexOutOfBoundsException expected");
+        } catch (IndexOutOfBoundsException expected) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testListIteration() {
+        IndirectList<String> list = provider.createIndirectList(Arrays.asList("a", "b", "c", "d"));
+        List<String> iterated = new ArrayList<>();
+        list.forEach(iterated::add);
+        assertEquals(Arrays.asList("a", "b", "c", "d"), iterated);
+
+        Iterator<String> iterator = list.iterator();
+        while (iterator.hasNext()) {
+            if ("b".equals(iterator.next())) {
+                iterator.remove();
+            }
+        }
+        assertEquals(Arrays.asList("a", "c", "d"), list);
+
+        ListIterator<String> listIterator = list.listIterator(list.size());
+        assertEquals("d", listIterator.previous());
+        listIterator.set("e");
+        assertEquals(Arrays.asList("a", "c", "e"), list);
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void testListConcurrentModification() {
+        IndirectList<String> list = provider.createIndirectList(Arrays.asList("a", "b"));
+        for (String element : list) {
+            list.add(element);
+        }
+    }
+
+    @Test
+    public void testMap() {
+        IndirectMap<String, Integer> map = provider.createIndirectMap(Map.of("one", 1));
+        assertNull(map.put("two", 2));
+        assertEquals(Integer.valueOf(2), map.get("two"));
+        assertTrue(map.containsKey("one"));
+        assertEquals(Integer.valueOf(3), map.getOrDefault("three", 3));
+        assertEquals(Integer.valueOf(1), map.remove("one"));
+        assertEquals(1, map.size());
+    }
+}
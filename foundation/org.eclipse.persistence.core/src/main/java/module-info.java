@@ -216,5 +216,6 @@
             org.eclipse.persistence.pgsql,
             org.eclipse.persistence.oracle;
 
+    uses org.eclipse.persistence.indirection.IndirectCollectionsFactory.IndirectCollectionsProvider;
     uses org.eclipse.persistence.internal.databaseaccess.spi.JsonPlatformProvider;
 }
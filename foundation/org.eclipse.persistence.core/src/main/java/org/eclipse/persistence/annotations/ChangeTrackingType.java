@@ -49,6 +49,15 @@ public enum ChangeTrackingType {
      */
     DEFERRED,
 
+    /**
+     * Defers all change detection to the {@linkplain org.eclipse.persistence.sessions.UnitOfWork}'s change detection process
+     * as {@linkplain #DEFERRED}, but keeps a snapshot of the attribute values of each object instead of a backup clone.
+     *
+     * @see org.eclipse.persistence.descriptors.changetracking.SnapshotChangeDetectionPolicy
+     * @since 5.0
+     */
+    SNAPSHOT,
+
     /**
      * Will not set any change tracking policy, and the change tracking will be
      * determined at runtime.
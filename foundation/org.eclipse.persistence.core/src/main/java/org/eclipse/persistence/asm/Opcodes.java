@@ -60,6 +60,7 @@ public class Opcodes {
     public static final int GETFIELD = valueInt("GETFIELD");
     public static final int GETSTATIC = valueInt("GETSTATIC");
     public static final int GOTO = valueInt("GOTO");
+    public static final int IADD = valueInt("IADD");
     public static final int ICONST_0 = valueInt("ICONST_0");
     public static final int ICONST_1 = valueInt("ICONST_1");
     public static final int ICONST_2 = valueInt("ICONST_2");
@@ -89,6 +90,7 @@ public class Opcodes {
     public static final int ISTORE = valueInt("ISTORE");
     public static final int DLOAD = valueInt("DLOAD");
     public static final int LLOAD = valueInt("LLOAD");
+    public static final int LSTORE = valueInt("LSTORE");
     public static final int ASM5 = valueInt("ASM5");
 
     // Should be changed in case of ASM upgrade
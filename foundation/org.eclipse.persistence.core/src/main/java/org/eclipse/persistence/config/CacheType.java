@@ -83,6 +83,16 @@ public final class CacheType {
      */
     public static final String  Full = "Full";
 
+    /**
+     * A ConcurrentCache holds a fixed size number of MRU objects using normal (hard) references,
+     * objects are removed from the cache on a least-recently-used basis.
+     * Unlike a HardWeak or SoftWeak cache the MRU order is maintained from buffered cache hits,
+     * so concurrent cache hits never block on a shared monitor.
+     * <p>WARNING: This cache type does not guarantee object identity for objects evicted while still in use,
+     * it should be sized to hold the working set of the application.
+     */
+    public static final String  ConcurrentCache = "ConcurrentCache";
+
     /**
      * NONE does not cache any objects.
      * It allows any un-referenced objects to be free to garbage collection.
@@ -379,6 +379,26 @@ public final class PersistenceUnitProperties {
      */
     public static final String CONNECTION_POOL_SHARED = "shared";
 
+    /**
+     * The {@code concurrent} property.<br>
+     * This can be appended to any exclusive connection pool property,
+     * i.e. {@code eclipselink.connection-pool.default.concurrent}.<br>
+     * Configures whether the pool should use a {@link org.eclipse.persistence.sessions.server.ConcurrentConnectionPool},
+     * which acquires and releases connections without synchronizing on the pool
+     * and reports connection waits to the session profiler.
+     * <p>
+     * This property is ignored in case external connection pools are used.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>{@code false} (DEFAULT) - indicates the pool synchronizes connection acquisition and release
+     * <li>{@code true} - indicates the pool uses lock-free connection acquisition and release
+     * </ul>
+     *
+     * @see #CONNECTION_POOL
+     */
+    public static final String CONNECTION_POOL_CONCURRENT = "concurrent";
+
     /**
      * The {@code url} property.<br>
      * This can be appended to a connection pool property,
@@ -1316,6 +1336,21 @@ public final class PersistenceUnitProperties {
      */
     public static final String CACHE_EXTENDED_LOGGING = "eclipselink.cache.extended.logging";
 
+    /**
+     * The {@code eclipselink.cache.off-heap.size} property configures the maximum number of bytes
+     * the off-heap second cache tier of each class hierarchy uses.
+     * The tier is enabled by setting {@link org.eclipse.persistence.sessions.interceptors.OffHeapCacheInterceptor}
+     * as the cache interceptor class of the descriptor.
+     * Once the size is reached the least recently used objects are evicted from the tier.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>the size in bytes, i.e. "1073741824"
+     * <li>"67108864" (DEFAULT)
+     * </ul>
+     */
+    public static final String CACHE_OFF_HEAP_SIZE = "eclipselink.cache.off-heap.size";
+
     /**
      * The {@code eclipselink.thread.extended.logging} property control (enable/disable)
      * some additional logging messages like print error message if cached Entity is picked by different thread,
@@ -2544,6 +2579,8 @@ public final class PersistenceUnitProperties {
      * batch writing.
      * <li>{@code Oracle-JDBC} - use Oracle's native batch writing. This requires the
      * use of an Oracle JDBC driver.
+     * <li>{@code Multi-Row-Insert} - use JDBC batch writing, and execute batched inserts
+     * into the same table as multi-row insert statements on platforms that support them.
      * <li>{@code None} (DEFAULT): do not use batch writing (turn it off).
      * <li>the fully qualified name for a class that extends {@link org.eclipse.persistence.internal.databaseaccess.BatchWritingMechanism} abstract class
      * </ul>
@@ -2564,6 +2601,78 @@ public final class PersistenceUnitProperties {
      */
     public static final String BATCH_WRITING_SIZE = "eclipselink.jdbc.batch-writing.size";
 
+    /**
+     * The {@code eclipselink.jdbc.batch-writing.group-commits} property
+     * configures if the writes of entity classes that have no dependencies between
+     * each other are grouped on commit. All updates of a group of independent classes
+     * are written before their inserts, and classes mapped to the same table are written
+     * next to each other, so their statements are executed in fewer and larger batches.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>{@code false} (DEFAULT) - write the classes one by one in commit order
+     * <li>{@code true} - group the writes of independent classes
+     * </ul>
+     *
+     * @see #BATCH_WRITING
+     */
+    public static final String BATCH_WRITING_GROUP_COMMITS = "eclipselink.jdbc.batch-writing.group-commits";
+
+    /**
+     * The {@code eclipselink.jdbc.batch-writing.pipelined} property
+     * configures if the full batches of parameterized statements are executed by a writer thread
+     * on the same connection and transaction, while the commit continues to build and batch
+     * the statements of the next objects. Only one batch is executed at a time, a failure of the
+     * batch is thrown by the next write or by the commit, and rolls back the transaction.
+     * Each connection has its own writer thread, which ends when it is idle.
+     * The batches are not pipelined with an external (JTA) transaction controller,
+     * as the transaction is associated with the committing thread.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>{@code false} (DEFAULT) - execute the batches in the committing thread
+     * <li>{@code true} - execute the full batches in a writer thread
+     * </ul>
+     *
+     * @see #BATCH_WRITING
+     */
+    public static final String BATCH_WRITING_PIPELINED = "eclipselink.jdbc.batch-writing.pipelined";
+
+    /**
+     * The {@code eclipselink.change-detection.parallel-threshold} property
+     * configures the number of registered objects from which the existing objects
+     * of a unit of work are compared to their backup clones in parallel on commit or flush.
+     * Objects found unchanged are skipped, the change sets of the other objects are
+     * calculated as usual, in registration order.
+     * Only objects using deferred change detection are compared in parallel.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>{@code 0} (DEFAULT) - changes are never detected in parallel
+     * <li>a positive integer - minimum number of registered objects
+     * </ul>
+     *
+     * @see org.eclipse.persistence.annotations.ChangeTrackingType#DEFERRED
+     */
+    public static final String CHANGE_DETECTION_PARALLEL_THRESHOLD = "eclipselink.change-detection.parallel-threshold";
+
+    /**
+     * The {@code eclipselink.change-detection.snapshot} property configures
+     * the entities without a configured change tracking policy, which are not weaved
+     * for change tracking, to keep a snapshot of their attribute values instead of
+     * a backup clone when registered in a unit of work.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>{@code false} (DEFAULT) - keep backup clones
+     * <li>{@code true} - keep snapshots
+     * </ul>
+     *
+     * @see org.eclipse.persistence.annotations.ChangeTrackingType#SNAPSHOT
+     * @see org.eclipse.persistence.descriptors.changetracking.SnapshotChangeDetectionPolicy
+     */
+    public static final String CHANGE_DETECTION_SNAPSHOT = "eclipselink.change-detection.snapshot";
+
     /**
      * The {@code jakarta.persistence.bean.manager} property is used to set
      * CDI BeanManager when available
@@ -3751,6 +3860,45 @@ public final class PersistenceUnitProperties {
      */
     public static final String COORDINATION_SERIALIZER = "eclipselink.cache.coordination.serializer";
 
+    /**
+     * The {@code eclipselink.cache.coordination.batch.size} property
+     * configures batching of asynchronous cache coordination messages.
+     * <p>
+     * When greater than 1, change notifications are queued and sent by a single thread,
+     * up to this many at a time, and the changes of a batch are coalesced into one message where possible.
+     * <p>
+     * By default, batching is disabled and each change notification is sent on its own thread.
+     *
+     * @see #COORDINATION_BATCH_DELAY
+     * @see #COORDINATION_MAX_PENDING
+     * @see org.eclipse.persistence.sessions.coordination.RemoteCommandManager#setCommandBatchSize(int)
+     */
+    public static final String COORDINATION_BATCH_SIZE = "eclipselink.cache.coordination.batch.size";
+
+    /**
+     * The {@code eclipselink.cache.coordination.batch.delay} property
+     * configures the maximum time in milliseconds to wait for a batch to fill
+     * before sending the queued cache coordination messages.
+     * <p>
+     * The default is 10 milliseconds.
+     *
+     * @see #COORDINATION_BATCH_SIZE
+     * @see org.eclipse.persistence.sessions.coordination.RemoteCommandManager#setCommandBatchDelay(long)
+     */
+    public static final String COORDINATION_BATCH_DELAY = "eclipselink.cache.coordination.batch.delay";
+
+    /**
+     * The {@code eclipselink.cache.coordination.batch.max-pending} property
+     * configures the maximum number of queued cache coordination messages.
+     * <p>
+     * When reached, committing threads block until queued messages have been sent.
+     * The default is 1000.
+     *
+     * @see #COORDINATION_BATCH_SIZE
+     * @see org.eclipse.persistence.sessions.coordination.RemoteCommandManager#setMaxPendingCommands(int)
+     */
+    public static final String COORDINATION_MAX_PENDING = "eclipselink.cache.coordination.batch.max-pending";
+
     /**
      * The {@code eclipselink.cache.coordination.channel} property
      * configures cache coordination for a clustered environment.
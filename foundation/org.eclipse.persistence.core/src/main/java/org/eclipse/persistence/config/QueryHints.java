@@ -648,6 +648,21 @@ public final class QueryHints {
      */
     public static final String RESULT_SET_CONCURRENCY = "eclipselink.cursor.scrollable.result-set-concurrency";
 
+    /**
+     * "eclipselink.result-stream.detach"
+     * <p>Configures the Stream returned from getResultStream() to detach each entity from the persistence context
+     * once the stream advances to the next result.
+     * getResultStream() reads the results through a forward only ScrollableCursor, so only the current result is built,
+     * detaching the results that have been processed keeps the memory used bounded for very large results.
+     * Entities that were already managed when the stream was created are not detached.
+     * Only entity queries are read through a cursor, other queries are not affected.
+     * Valid values are:  HintValues.FALSE, HintValues.TRUE,
+     * "" could be used instead of default value HintValues.FALSE
+     * @see "jakarta.persistence.TypedQuery#getResultStream()"
+     * @see #JDBC_FETCH_SIZE
+     */
+    public static final String RESULT_STREAM_DETACH = "eclipselink.result-stream.detach";
+
     /**
      * "eclipselink.fetch-group"
      * <p>Configures the query to use the fetch group object.
@@ -271,6 +271,63 @@ public final class SystemProperties {
      */
     public static final String ASM_SERVICE = "eclipselink.asm.service";
 
+    /**
+     * <p>
+     * This property sets the fully qualified name of the
+     * {@link org.eclipse.persistence.indirection.IndirectCollectionsFactory.IndirectCollectionsProvider}
+     * used to create the indirect collections of transparent collection mappings.
+     * The provider class must be public and have a public default constructor.
+     * </p>
+     * <p>
+     * If not set, the first provider registered through the {@link java.util.ServiceLoader} is used,
+     * or the default provider creating synchronized collections.
+     * {@link org.eclipse.persistence.indirection.UnsynchronizedIndirectCollectionsProvider} can be used
+     * when the collections of an entity are never shared between threads.
+     * </p>
+     */
+    public static final String INDIRECT_COLLECTIONS_PROVIDER = "eclipselink.indirection.collections-provider";
+
+    /**
+     * <p>
+     * This property enables the generation of a result set reader class for each simple descriptor
+     * (without relationship mappings) the first time its objects are built directly from a result set.
+     * The generated class reads the {@code String}, {@code int} and {@code long} direct mappings
+     * without converter from the result set columns directly into the fields of the object,
+     * other mappings are read through the mapping.
+     * </p>
+     * <p>
+     * The class is defined as a hidden nestmate of the entity class, so the package of the entity
+     * must be open to EclipseLink, otherwise the mappings are used.
+     * </p>
+     * <p>
+     * <b>Allowed Values</b> (case sensitive String)<b>:</b>
+     * <ul>
+     * <li>"{@code false}" (DEFAULT) - objects are built through their mappings.</li>
+     * <li>"{@code true}" - generate the result set readers.</li>
+     * </ul>
+     */
+    public static final String GENERATE_RESULT_SET_READERS = "eclipselink.descriptor.generate-result-set-readers";
+
+    /**
+     * <p>
+     * This property enables the generation of an accessor class for each attribute accessed through
+     * an instance variable or through get and set methods, when the attribute is initialized.
+     * The generated class reads and writes the field, or calls the methods, directly instead of through
+     * reflection. It is used for the entities that are not woven and for the MOXy mappings.
+     * </p>
+     * <p>
+     * The class is defined as a hidden nestmate of the class declaring the attribute, so its package
+     * must be open to EclipseLink, otherwise reflection is used.
+     * </p>
+     * <p>
+     * <b>Allowed Values</b> (case sensitive String)<b>:</b>
+     * <ul>
+     * <li>"{@code false}" (DEFAULT) - attributes are accessed through reflection.</li>
+     * <li>"{@code true}" - generate the attribute accessors.</li>
+     * </ul>
+     */
+    public static final String GENERATE_ATTRIBUTE_ACCESSORS = "eclipselink.descriptor.generate-attribute-accessors";
+
     private SystemProperties() {
         // no instance please
     }
@@ -50,6 +50,7 @@
 import org.eclipse.persistence.descriptors.changetracking.ChangeTracker;
 import org.eclipse.persistence.descriptors.changetracking.DeferredChangeDetectionPolicy;
 import org.eclipse.persistence.descriptors.changetracking.ObjectChangePolicy;
+import org.eclipse.persistence.descriptors.changetracking.SnapshotChangeDetectionPolicy;
 import org.eclipse.persistence.descriptors.copying.CloneCopyPolicy;
 import org.eclipse.persistence.descriptors.copying.CopyPolicy;
 import org.eclipse.persistence.descriptors.copying.InstantiationCopyPolicy;
@@ -3275,6 +3276,10 @@ public void initialize(AbstractSession session) throws DescriptorException {
                 }
             }
         }
+        // Otherwise keep snapshots instead of backup clones if configured.
+        if ((getObjectChangePolicyInternal() == null) && session.getProject().shouldUseSnapshotChangeDetection()) {
+            setObjectChangePolicy(new SnapshotChangeDetectionPolicy());
+        }
         // 3934266 move validation to the policy allowing for this to be done in the sub policies.
         getObjectChangePolicy().initialize(session, this);
 
@@ -5516,6 +5521,14 @@ public boolean shouldUseCacheIdentityMap() {
         return ClassConstants.CacheIdentityMap_Class.equals(getIdentityMapClass());
     }
 
+    /**
+     * PUBLIC:
+     * Return true if this descriptor is using ConcurrentCacheIdentityMap
+     */
+    public boolean shouldUseConcurrentCacheIdentityMap() {
+        return ClassConstants.ConcurrentCacheIdentityMap_Class.equals(getIdentityMapClass());
+    }
+
     /**
      * PUBLIC:
      * Return true if this descriptor is using FullIdentityMap
@@ -5692,6 +5705,18 @@ public void useCacheIdentityMap() {
         setIdentityMapClass(ClassConstants.CacheIdentityMap_Class);
     }
 
+    /**
+     * PUBLIC:
+     * Set the class of identity map to be the concurrent cache identity map.
+     * This map caches the LRU instances read from the database,
+     * recording cache hits in buffers so that concurrent hits never block.
+     * Note: This map does not guarantee object identity.
+     * The default is the "SoftCacheWeakIdentityMap".
+     */
+    public void useConcurrentCacheIdentityMap() {
+        getCachePolicy().useConcurrentCacheIdentityMap();
+    }
+
     /**
      * PUBLIC:
      * Set the locking policy a changed fields locking policy.
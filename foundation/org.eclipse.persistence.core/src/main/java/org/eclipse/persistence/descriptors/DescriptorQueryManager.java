@@ -41,6 +41,7 @@
 import org.eclipse.persistence.internal.expressions.ParameterExpression;
 import org.eclipse.persistence.internal.expressions.SubSelectExpression;
 import org.eclipse.persistence.internal.helper.ConcurrentFixedCache;
+import org.eclipse.persistence.internal.helper.ConcurrentTinyLFUCache;
 import org.eclipse.persistence.internal.helper.DatabaseField;
 import org.eclipse.persistence.internal.helper.DatabaseTable;
 import org.eclipse.persistence.internal.helper.Helper;
@@ -111,7 +112,7 @@ public class DescriptorQueryManager implements Cloneable, Serializable {
     protected transient Map<DatabaseTable, Expression> tablesJoinExpressions;
     /** PERF: Update call cache for avoiding regenerated update SQL. */
     protected transient ConcurrentFixedCache<List<DatabaseField>, List<DatasourceCall>> cachedUpdateCalls;
-    /** PERF: Expression query call cache for avoiding regenerated dynamic query SQL. */
+    /** PERF: Expression query call cache for avoiding regenerated dynamic query SQL, keeps the most frequently used queries. */
     protected transient ConcurrentFixedCache<DatabaseQuery, DatabaseQuery> cachedExpressionQueries;
 
     /**
@@ -150,7 +151,7 @@ public DescriptorQueryManager() {
      * Set the max size of the expression query cache for avoiding regenerated dynamic query SQL.
      */
     public void setExpressionQueryCacheMaxSize(int maxSize) {
-        this.cachedExpressionQueries = new ConcurrentFixedCache<>(maxSize);
+        this.cachedExpressionQueries = new ConcurrentTinyLFUCache<>(maxSize);
     }
 
     /**
@@ -1733,7 +1734,7 @@ private ConcurrentFixedCache<List<DatabaseField>, List<DatasourceCall>> getCache
      */
     private ConcurrentFixedCache<DatabaseQuery, DatabaseQuery> getCachedExpressionQueries() {
         if (cachedExpressionQueries == null) {
-            this.cachedExpressionQueries = new ConcurrentFixedCache<>(20);
+            this.cachedExpressionQueries = new ConcurrentTinyLFUCache<>(20);
         }
         return this.cachedExpressionQueries;
     }
@@ -140,6 +140,35 @@ public ObjectChangeSet calculateChanges(Object clone, Object backUp, boolean isN
         return null;
     }
 
+    /**
+     * INTERNAL:
+     * Return if the existing clone is known to be unchanged from its backup clone, without creating a change set.
+     * The mappings are only compared if this does not modify any state, so this can be called concurrently
+     * for the objects of a unit of work. If false the changes must be calculated through calculateChanges.
+     */
+    @Override
+    public boolean isUnchanged(Object clone, Object backUp, UnitOfWorkImpl unitOfWork, ClassDescriptor descriptor) {
+        // Events, derived ids and forced updates must be processed by calculateChanges.
+        if ((backUp == null) || descriptor.getEventManager().hasAnyEventListeners() || descriptor.hasDerivedId()
+                || ((descriptor.getCMPPolicy() != null) && descriptor.getCMPPolicy().getForceUpdate())) {
+            return false;
+        }
+        FetchGroup fetchGroup = null;
+        if (descriptor.hasFetchGroupManager()) {
+            fetchGroup = descriptor.getFetchGroupManager().getObjectFetchGroup(clone);
+        }
+        List<DatabaseMapping> mappings = descriptor.getMappings();
+        int mappingsSize = mappings.size();
+        for (int index = 0; index < mappingsSize; index++) {
+            DatabaseMapping mapping = mappings.get(index);
+            if (((fetchGroup == null) || fetchGroup.containsAttributeInternal(mapping.getAttributeName()))
+                    && !mapping.isAttributeUnchanged(clone, backUp, unitOfWork)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * INTERNAL:
      * This is a place holder for reseting the listener on one of the subclasses
@@ -139,6 +139,20 @@ public interface ObjectChangePolicy extends Serializable {
      */
     boolean shouldCompareExistingObjectForChange(Object object, UnitOfWorkImpl unitOfWork, ClassDescriptor descriptor);
 
+    /**
+     * INTERNAL:
+     * Return if the existing object is known to be unchanged from its backup clone, without creating a change set.
+     * This is called concurrently for the objects of a unit of work when change detection is parallel,
+     * so it must not modify any state. By default the changes are always calculated.
+     * @param clone the object that will be compared
+     * @param backUp the backup clone of the object
+     * @param unitOfWork the active unitOfWork
+     * @param descriptor the descriptor for the current object
+     */
+    default boolean isUnchanged(Object clone, Object backUp, UnitOfWorkImpl unitOfWork, ClassDescriptor descriptor) {
+        return false;
+    }
+
     /**
      * INTERNAL:
      * Assign Changelistener to an aggregate object
@@ -63,6 +63,15 @@ public void enableEventProcessing(Object changeTracker) {
         }
     }
 
+    /**
+     * INTERNAL:
+     * The change listener already tracks if the object changed, so the object is not screened.
+     */
+    @Override
+    public boolean isUnchanged(Object clone, Object backUp, UnitOfWorkImpl unitOfWork, ClassDescriptor descriptor) {
+        return false;
+    }
+
     /**
      * INTERNAL:
      * Return true if the Object should be compared, false otherwise.  In ObjectChangeTrackingPolicy or
@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.descriptors.changetracking;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.FetchGroupManager;
+import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+
+/**
+ * PUBLIC:
+ * A SnapshotChangeDetectionPolicy defers change detection to the UnitOfWork's
+ * change detection process as the {@link DeferredChangeDetectionPolicy}, but instead of
+ * a full backup clone of each registered object it only keeps an {@code Object[]} snapshot
+ * of the values the backup clone would hold, which layout is computed for the descriptor on first registration.
+ * <p>
+ * Basic attributes and aggregates are copied as in the backup clone, references to other objects
+ * are kept as is and compared by identity, collections are copied once instantiated.
+ * Unchanged objects are detected by comparing the snapshot with the clone, the backup clone
+ * is only built when the object may have changed.
+ * When the backup clone is requested by a query, an event, a mapping or a fetch group,
+ * it replaces the snapshot of the object until the object is committed.
+ * <p>
+ * Descriptors with direct, relationship, aggregate object and transformation mappings can be snapshot,
+ * others use backup clones as the {@link DeferredChangeDetectionPolicy}.
+ * A policy instance must not be shared between several descriptors.
+ * <p>
+ * The policy is set through {@link org.eclipse.persistence.annotations.ChangeTrackingType#SNAPSHOT},
+ * or for all descriptors without change tracking through the
+ * {@link org.eclipse.persistence.config.PersistenceUnitProperties#CHANGE_DETECTION_SNAPSHOT} property.
+ *
+ * @see ClassDescriptor#setObjectChangePolicy(ObjectChangePolicy)
+ * @since 5.0
+ */
+public class SnapshotChangeDetectionPolicy extends DeferredChangeDetectionPolicy {
+
+    /** The descriptor the snapshot layout was computed for. */
+    protected transient volatile ClassDescriptor snapshotDescriptor;
+
+    /** The mappings which values are stored in the snapshot, in snapshot order, null if the descriptor cannot be snapshot. */
+    protected transient volatile DatabaseMapping[] snapshotMappings;
+
+    public SnapshotChangeDetectionPolicy() {
+    }
+
+    /**
+     * INTERNAL:
+     * Return the mappings stored in the snapshots of the descriptor,
+     * or null if its objects must be backed up through backup clones.
+     */
+    protected DatabaseMapping[] getSnapshotMappings(ClassDescriptor descriptor) {
+        if (this.snapshotDescriptor == null) {
+            initializeSnapshotMappings(descriptor);
+        }
+        if (this.snapshotDescriptor != descriptor) {
+            return null;
+        }
+        return this.snapshotMappings;
+    }
+
+    /**
+     * INTERNAL:
+     * Compute the snapshot layout from the cloning mappings of the descriptor.
+     * This is done lazily as the mappings are only initialized after the policy.
+     * Write only mappings have no value to snapshot.
+     */
+    protected synchronized void initializeSnapshotMappings(ClassDescriptor descriptor) {
+        if (this.snapshotDescriptor != null) {
+            return;
+        }
+        List<DatabaseMapping> mappings = null;
+        if (!descriptor.isDescriptorTypeAggregate()) {
+            List<DatabaseMapping> cloningMappings = descriptor.getObjectBuilder().getCloningMappings();
+            mappings = new ArrayList<>(cloningMappings.size());
+            for (DatabaseMapping mapping : cloningMappings) {
+                if (!isSnapshotMapping(mapping)) {
+                    mappings = null;
+                    break;
+                }
+                if (!mapping.isWriteOnly()) {
+                    mappings.add(mapping);
+                }
+            }
+        }
+        this.snapshotMappings = (mappings == null) ? null : mappings.toArray(new DatabaseMapping[mappings.size()]);
+        this.snapshotDescriptor = descriptor;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the mapping can build the value of its attribute in the backup clone without a backup object.
+     * @see DatabaseMapping#buildBackupCloneValue(Object, UnitOfWorkImpl)
+     */
+    protected boolean isSnapshotMapping(DatabaseMapping mapping) {
+        return mapping.isAbstractDirectMapping() || mapping.isForeignReferenceMapping()
+                || mapping.isAggregateObjectMapping() || mapping.isTransformationMapping();
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the attribute of the mapping is held by the clone.
+     * Attributes which are not fetched are not snapshot, as they are not backed up.
+     */
+    protected boolean isFetched(Object clone, DatabaseMapping mapping, FetchGroupManager fetchGroupManager) {
+        return (fetchGroupManager == null) || fetchGroupManager.isAttributeFetched(clone, mapping.getAttributeName());
+    }
+
+    /**
+     * INTERNAL:
+     * Return the fetch group manager if the clone is a partial object, null otherwise.
+     */
+    protected FetchGroupManager getPartialFetchGroupManager(Object clone, ClassDescriptor descriptor) {
+        if (descriptor.hasFetchGroupManager() && descriptor.getFetchGroupManager().isPartialObject(clone)) {
+            return descriptor.getFetchGroupManager();
+        }
+        return null;
+    }
+
+    /**
+     * INTERNAL:
+     * Build the snapshot of the clone, or a backup clone if the descriptor cannot be snapshot.
+     */
+    @Override
+    public Object buildBackupClone(Object clone, ObjectBuilder builder, UnitOfWorkImpl uow) {
+        ClassDescriptor descriptor = builder.getDescriptor();
+        DatabaseMapping[] mappings = getSnapshotMappings(descriptor);
+        if (mappings == null) {
+            return super.buildBackupClone(clone, builder, uow);
+        }
+        FetchGroupManager fetchGroupManager = getPartialFetchGroupManager(clone, descriptor);
+        Object[] snapshot = new Object[mappings.length];
+        for (int index = 0; index < mappings.length; index++) {
+            DatabaseMapping mapping = mappings[index];
+            if (isFetched(clone, mapping, fetchGroupManager)) {
+                snapshot[index] = mapping.buildBackupCloneValue(clone, uow);
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * INTERNAL:
+     * Build a backup clone of the clone from its snapshot.
+     */
+    public Object buildBackupCloneFromSnapshot(Object clone, Object[] snapshot, ClassDescriptor descriptor, UnitOfWorkImpl uow) {
+        DatabaseMapping[] mappings = getSnapshotMappings(descriptor);
+        FetchGroupManager fetchGroupManager = getPartialFetchGroupManager(clone, descriptor);
+        Object backup = descriptor.getCopyPolicy().buildClone(clone, uow);
+        for (int index = 0; index < mappings.length; index++) {
+            DatabaseMapping mapping = mappings[index];
+            if (isFetched(clone, mapping, fetchGroupManager)) {
+                mapping.setAttributeValueInObject(backup, snapshot[index]);
+            }
+        }
+        return backup;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the clone has the same attribute values as its snapshot.
+     */
+    protected boolean isSnapshotUnchanged(Object clone, Object[] snapshot, UnitOfWorkImpl unitOfWork, ClassDescriptor descriptor) {
+        DatabaseMapping[] mappings = getSnapshotMappings(descriptor);
+        FetchGroupManager fetchGroupManager = getPartialFetchGroupManager(clone, descriptor);
+        for (int index = 0; index < mappings.length; index++) {
+            DatabaseMapping mapping = mappings[index];
+            if (isFetched(clone, mapping, fetchGroupManager) && !mapping.isAttributeValueUnchanged(clone, snapshot[index], unitOfWork)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if changes must be calculated even if the clone is unchanged,
+     * to raise events or force the update of the object.
+     */
+    protected boolean shouldCalculateUnchangedObject(Object clone, UnitOfWorkChangeSet changeSet, UnitOfWorkImpl unitOfWork, ClassDescriptor descriptor, boolean shouldRaiseEvent) {
+        return (shouldRaiseEvent && descriptor.getEventManager().hasAnyEventListeners()) || descriptor.hasDerivedId()
+                || ((descriptor.getCMPPolicy() != null) && descriptor.getCMPPolicy().getForceUpdate())
+                || (unitOfWork.hasOptimisticReadLockObjects() && unitOfWork.getOptimisticReadLockObjects().containsKey(clone))
+                || (changeSet.getObjectChangeSetForClone(clone) != null);
+    }
+
+    /**
+     * INTERNAL:
+     * PERF: Compare the clone with its snapshot, the backup clone is only built if the clone has changed.
+     */
+    @Override
+    public ObjectChangeSet calculateChangesForExistingObject(Object clone, UnitOfWorkChangeSet changeSet, UnitOfWorkImpl unitOfWork, ClassDescriptor descriptor, boolean shouldRaiseEvent) {
+        Object backUp = unitOfWork.getCloneMapping().get(clone);
+        if (!(backUp instanceof Object[])) {
+            return super.calculateChangesForExistingObject(clone, changeSet, unitOfWork, descriptor, shouldRaiseEvent);
+        }
+        Object[] snapshot = (Object[])backUp;
+        if (!shouldCalculateUnchangedObject(clone, changeSet, unitOfWork, descriptor, shouldRaiseEvent)
+                && isSnapshotUnchanged(clone, snapshot, unitOfWork, descriptor)) {
+            return null;
+        }
+        return calculateChanges(clone, buildBackupCloneFromSnapshot(clone, snapshot, descriptor, unitOfWork), false, changeSet, unitOfWork, descriptor, shouldRaiseEvent);
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the existing clone is known to be unchanged from its snapshot or backup clone.
+     */
+    @Override
+    public boolean isUnchanged(Object clone, Object backUp, UnitOfWorkImpl unitOfWork, ClassDescriptor descriptor) {
+        if (!(backUp instanceof Object[])) {
+            return super.isUnchanged(clone, backUp, unitOfWork, descriptor);
+        }
+        if (descriptor.getEventManager().hasAnyEventListeners() || descriptor.hasDerivedId()
+                || ((descriptor.getCMPPolicy() != null) && descriptor.getCMPPolicy().getForceUpdate())) {
+            return false;
+        }
+        return isSnapshotUnchanged(clone, (Object[])backUp, unitOfWork, descriptor);
+    }
+
+    /**
+     * INTERNAL:
+     * Snapshot the committed state of the clone, also if its backup clone was requested since the last snapshot.
+     */
+    @Override
+    public void updateWithChanges(Object clone, ObjectChangeSet objectChangeSet, UnitOfWorkImpl uow, ClassDescriptor descriptor) {
+        if (objectChangeSet == null) {
+            return;
+        }
+        Map cloneMapping = uow.getCloneMapping();
+        Object backupClone = cloneMapping.get(clone);
+        if ((backupClone == null) || (getSnapshotMappings(descriptor) == null)) {
+            super.updateWithChanges(clone, objectChangeSet, uow, descriptor);
+            return;
+        }
+        cloneMapping.put(clone, buildBackupClone(clone, descriptor.getObjectBuilder(), uow));
+        clearChanges(clone, uow, descriptor, false);
+    }
+}
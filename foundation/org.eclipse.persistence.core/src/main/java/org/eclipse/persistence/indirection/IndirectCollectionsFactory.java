@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -14,8 +14,15 @@
 //     Oracle - initial API and implementation
 package org.eclipse.persistence.indirection;
 
+import org.eclipse.persistence.config.SystemProperties;
+import org.eclipse.persistence.internal.security.PrivilegedAccessHelper;
+import org.eclipse.persistence.logging.AbstractSessionLog;
+import org.eclipse.persistence.logging.SessionLog;
+
 import java.util.Collection;
 import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
 
 /**
  * Provides factory methods to create JDK specific implementation
@@ -173,13 +180,29 @@ public static <K, V> IndirectMap<K, V> createIndirectMap(Map<? extends K, ? exte
     }
 
     /**
-     * As of EclipseLink 2.6.0 this returns Java SE 7- compatible provider by default
-     * on Java SE 7 and Java SE 8+ compatible provider if Java SE 8+ is detected.
+     * Return the provider set through the {@link SystemProperties#INDIRECT_COLLECTIONS_PROVIDER}
+     * system property, or the first provider found by the {@link ServiceLoader}.
+     * If none is configured the default provider creating synchronized collections is used.
      *
-     * @return default provider responsible for creating Java SE specific implementations
-     * of {@link IndirectCollection}s
+     * @return provider responsible for creating implementations of {@link IndirectCollection}s
      */
     private static IndirectCollectionsProvider getProvider() {
+        String providerClassName = PrivilegedAccessHelper.getSystemProperty(SystemProperties.INDIRECT_COLLECTIONS_PROVIDER);
+        if (providerClassName != null && !providerClassName.isBlank()) {
+            try {
+                Class<IndirectCollectionsProvider> providerClass = PrivilegedAccessHelper.getClassForName(providerClassName.trim());
+                return PrivilegedAccessHelper.newInstanceFromClass(providerClass);
+            } catch (ReflectiveOperationException | RuntimeException exception) {
+                AbstractSessionLog.getLog().logThrowable(SessionLog.WARNING, SessionLog.MISC, exception);
+            }
+        }
+        try {
+            for (IndirectCollectionsProvider serviceProvider : ServiceLoader.load(IndirectCollectionsProvider.class)) {
+                return serviceProvider;
+            }
+        } catch (ServiceConfigurationError error) {
+            AbstractSessionLog.getLog().logThrowable(SessionLog.WARNING, SessionLog.MISC, error);
+        }
         return new DefaultProvider();
     }
 
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.indirection;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.eclipse.persistence.config.SystemProperties;
+
+/**
+ * Provider of {@link IndirectCollection}s which contents are not synchronized.
+ * <p>
+ * Use it when the collections of managed entities are only accessed by the thread owning
+ * the entity manager, which is the common case, to avoid acquiring a monitor on each access.
+ * {@link IndirectSet} is not synchronized and is used as is.
+ * <p>
+ * Enable it by setting the {@link SystemProperties#INDIRECT_COLLECTIONS_PROVIDER} system property
+ * to the name of this class, or by registering it as a {@link java.util.ServiceLoader} provider of
+ * {@link IndirectCollectionsFactory.IndirectCollectionsProvider}.
+ *
+ * @see UnsynchronizedIndirectList
+ * @see UnsynchronizedIndirectMap
+ * @since 5.0
+ */
+public class UnsynchronizedIndirectCollectionsProvider implements IndirectCollectionsFactory.IndirectCollectionsProvider {
+
+    public UnsynchronizedIndirectCollectionsProvider() {
+    }
+
+    @Override
+    public Class<?> getListClass() {
+        return UnsynchronizedIndirectList.class;
+    }
+
+    @Override
+    public <E> IndirectList<E> createIndirectList(int initialCapacity, int capacityIncrement) {
+        return new UnsynchronizedIndirectList<>(initialCapacity, capacityIncrement);
+    }
+
+    @Override
+    public <E> IndirectList<E> createIndirectList(Collection<? extends E> collection) {
+        return new UnsynchronizedIndirectList<>(collection);
+    }
+
+    @Override
+    public Class<?> getSetClass() {
+        return IndirectSet.class;
+    }
+
+    @Override
+    public <E> IndirectSet<E> createIndirectSet(int initialCapacity, float loadFactor) {
+        return new IndirectSet<>(initialCapacity, loadFactor);
+    }
+
+    @Override
+    public <E> IndirectSet<E> createIndirectSet(Collection<? extends E> collection) {
+        return new IndirectSet<>(collection);
+    }
+
+    @Override
+    public Class<?> getMapClass() {
+        return UnsynchronizedIndirectMap.class;
+    }
+
+    @Override
+    public <K, V> IndirectMap<K, V> createIndirectMap(int initialCapacity, float loadFactor) {
+        return new UnsynchronizedIndirectMap<>(initialCapacity, loadFactor);
+    }
+
+    @Override
+    public <K, V> IndirectMap<K, V> createIndirectMap(Map<? extends K, ? extends V> map) {
+        return new UnsynchronizedIndirectMap<>(map);
+    }
+}
@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.indirection;
+
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Vector;
+import java.util.function.Consumer;
+
+/**
+ * IndirectList which contents are not synchronized.
+ * <p>
+ * The contents are held by a {@link Vector} which read, add and iteration methods do not lock,
+ * so accessing the list of a managed entity does not acquire a monitor per call.
+ * Change tracking events are raised as for {@link IndirectList}.
+ * The list must not be accessed concurrently by several threads.
+ *
+ * @param <E> the type of elements maintained by this list
+ * @see UnsynchronizedIndirectCollectionsProvider
+ * @since 5.0
+ */
+public class UnsynchronizedIndirectList<E> extends IndirectList<E> {
+
+    /**
+     * PUBLIC:
+     * Construct an empty UnsynchronizedIndirectList with an initial capacity of <code>10</code>.
+     */
+    public UnsynchronizedIndirectList() {
+        this(10, 0);
+    }
+
+    /**
+     * PUBLIC:
+     * Construct an empty UnsynchronizedIndirectList with the specified initial capacity.
+     *
+     * @param initialCapacity the initial capacity of the list
+     */
+    public UnsynchronizedIndirectList(int initialCapacity) {
+        this(initialCapacity, 0);
+    }
+
+    /**
+     * PUBLIC:
+     * Construct an empty UnsynchronizedIndirectList with the specified initial capacity and
+     * capacity increment.
+     *
+     * @param initialCapacity the initial capacity of the list
+     * @param capacityIncrement the amount by which the capacity is
+     *                          increased when the list overflows
+     */
+    public UnsynchronizedIndirectList(int initialCapacity, int capacityIncrement) {
+        super(initialCapacity, capacityIncrement);
+    }
+
+    /**
+     * PUBLIC:
+     * Construct an UnsynchronizedIndirectList containing the elements of the specified
+     * collection, in the order they are returned by the collection's iterator.
+     *
+     * @param collection a collection containing the elements to construct this list with.
+     */
+    public UnsynchronizedIndirectList(Collection<? extends E> collection) {
+        super(0, 0);
+        UnsynchronizedVector<E> contents = new UnsynchronizedVector<>(Math.max(collection.size(), 1), 0);
+        contents.addAll(collection);
+        this.valueHolder = new ValueHolder<>(contents);
+    }
+
+    /**
+     * INTERNAL:
+     * Return the valueHolder, lazily initialized with an unsynchronized vector.
+     */
+    @Override
+    public ValueHolderInterface<List<E>> getValueHolder() {
+        if (this.valueHolder == null) {
+            synchronized (this) {
+                if (this.valueHolder == null) {
+                    this.valueHolder = new ValueHolder<>(new UnsynchronizedVector<>(this.initialCapacity, this.capacityIncrement));
+                }
+            }
+        }
+        return this.valueHolder;
+    }
+
+    /**
+     * {@link Vector} which hot methods do not lock.
+     * Methods that are not overridden keep their synchronized implementation.
+     */
+    protected static class UnsynchronizedVector<E> extends Vector<E> {
+
+        private static final long serialVersionUID = 1L;
+
+        public UnsynchronizedVector(int initialCapacity, int capacityIncrement) {
+            super(initialCapacity, capacityIncrement);
+        }
+
+        @Override
+        public int size() {
+            return this.elementCount;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return this.elementCount == 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E get(int index) {
+            Objects.checkIndex(index, this.elementCount);
+            return (E) this.elementData[index];
+        }
+
+        @Override
+        public E elementAt(int index) {
+            return get(index);
+        }
+
+        @Override
+        public E set(int index, E element) {
+            E oldValue = get(index);
+            this.elementData[index] = element;
+            return oldValue;
+        }
+
+        @Override
+        public boolean add(E element) {
+            if (this.elementCount == this.elementData.length) {
+                // Grows and increments the modification count.
+                ensureCapacity(this.elementCount + 1);
+            } else {
+                this.modCount++;
+            }
+            this.elementData[this.elementCount++] = element;
+            return true;
+        }
+
+        @Override
+        public void addElement(E element) {
+            add(element);
+        }
+
+        @Override
+        public boolean contains(Object element) {
+            return indexOf(element) >= 0;
+        }
+
+        @Override
+        public int indexOf(Object element) {
+            Object[] data = this.elementData;
+            int count = this.elementCount;
+            if (element == null) {
+                for (int index = 0; index < count; index++) {
+                    if (data[index] == null) {
+                        return index;
+                    }
+                }
+            } else {
+                for (int index = 0; index < count; index++) {
+                    if (element.equals(data[index])) {
+                        return index;
+                    }
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEach(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            int expectedModCount = this.modCount;
+            Object[] data = this.elementData;
+            int count = this.elementCount;
+            for (int index = 0; index < count && this.modCount == expectedModCount; index++) {
+                action.accept((E) data[index]);
+            }
+            if (this.modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return listIterator(0);
+        }
+
+        @Override
+        public ListIterator<E> listIterator() {
+            return listIterator(0);
+        }
+
+        @Override
+        public ListIterator<E> listIterator(int index) {
+            if (index < 0 || index > this.elementCount) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+            return new ListIterator<>() {
+                int cursor = index;
+                int lastReturned = -1;
+                int expectedModCount = modCount;
+
+                @Override
+                public boolean hasNext() {
+                    return this.cursor != elementCount;
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public E next() {
+                    checkForComodification();
+                    int next = this.cursor;
+                    if (next >= elementCount) {
+                        throw new NoSuchElementException();
+                    }
+                    this.cursor = next + 1;
+                    this.lastReturned = next;
+                    return (E) elementData[next];
+                }
+
+                @Override
+                public boolean hasPrevious() {
+                    return this.cursor != 0;
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public E previous() {
+                    checkForComodification();
+                    int previous = this.cursor - 1;
+                    if (previous < 0) {
+                        throw new NoSuchElementException();
+                    }
+                    this.cursor = previous;
+                    this.lastReturned = previous;
+                    return (E) elementData[previous];
+                }
+
+                @Override
+                public int nextIndex() {
+                    return this.cursor;
+                }
+
+                @Override
+                public int previousIndex() {
+                    return this.cursor - 1;
+                }
+
+                @Override
+                public void remove() {
+                    if (this.lastReturned == -1) {
+                        throw new IllegalStateException();
+                    }
+                    checkForComodification();
+                    UnsynchronizedVector.this.remove(this.lastReturned);
+                    this.cursor = this.lastReturned;
+                    this.lastReturned = -1;
+                    this.expectedModCount = modCount;
+                }
+
+                @Override
+                public void set(E element) {
+                    if (this.lastReturned == -1) {
+                        throw new IllegalStateException();
+                    }
+                    checkForComodification();
+                    UnsynchronizedVector.this.set(this.lastReturned, element);
+                }
+
+                @Override
+                public void add(E element) {
+                    checkForComodification();
+                    UnsynchronizedVector.this.add(this.cursor++, element);
+                    this.lastReturned = -1;
+                    this.expectedModCount = modCount;
+                }
+
+                private void checkForComodification() {
+                    if (modCount != this.expectedModCount) {
+                        throw new ConcurrentModificationException();
+                    }
+                }
+            };
+        }
+    }
+}
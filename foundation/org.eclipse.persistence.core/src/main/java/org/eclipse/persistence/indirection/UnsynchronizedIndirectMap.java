@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.indirection;
+
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * IndirectMap which read, put and remove methods do not lock the map itself.
+ * <p>
+ * {@link IndirectMap} synchronizes these methods on top of its {@link java.util.Hashtable} delegate,
+ * this map only relies on the delegate, so each access acquires one monitor instead of two.
+ * Change tracking events are raised as for {@link IndirectMap}.
+ * The map must not be accessed concurrently by several threads.
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ * @see UnsynchronizedIndirectCollectionsProvider
+ * @since 5.0
+ */
+public class UnsynchronizedIndirectMap<K, V> extends IndirectMap<K, V> {
+
+    /**
+     * PUBLIC:
+     * Construct a new, empty UnsynchronizedIndirectMap with a default
+     * capacity and load factor.
+     */
+    public UnsynchronizedIndirectMap() {
+        this(11);
+    }
+
+    /**
+     * PUBLIC:
+     * Construct a new, empty UnsynchronizedIndirectMap with the specified initial capacity
+     * and default load factor.
+     *
+     * @param initialCapacity the initial capacity of the map
+     */
+    public UnsynchronizedIndirectMap(int initialCapacity) {
+        this(initialCapacity, 0.75f);
+    }
+
+    /**
+     * PUBLIC:
+     * Construct a new, empty UnsynchronizedIndirectMap with the specified initial
+     * capacity and load factor.
+     *
+     * @param initialCapacity the initial capacity of the map
+     * @param loadFactor a number between 0.0 and 1.0
+     */
+    public UnsynchronizedIndirectMap(int initialCapacity, float loadFactor) {
+        super(initialCapacity, loadFactor);
+    }
+
+    /**
+     * PUBLIC:
+     * Construct a new UnsynchronizedIndirectMap with the same mappings as the given Map.
+     *
+     * @param m a map containing the mappings to use
+     */
+    public UnsynchronizedIndirectMap(Map<? extends K, ? extends V> m) {
+        super(m);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return getDelegate().containsKey(key);
+    }
+
+    @Override
+    public V get(Object key) {
+        return getDelegate().get(key);
+    }
+
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        return getDelegate().getOrDefault(key, defaultValue);
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        getDelegate().forEach(action);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        V oldValue = getDelegate().put(key, value);
+        if (oldValue != null) {
+            raiseRemoveChangeEvent(key, oldValue);
+        }
+        raiseAddChangeEvent(key, value);
+        return oldValue;
+    }
+
+    @Override
+    public V remove(Object key) {
+        V value = getDelegate().remove(key);
+        if (value != null) {
+            raiseRemoveChangeEvent(key, value);
+        }
+        return value;
+    }
+}
@@ -32,6 +32,7 @@
 
 // javase imports
 
+import org.eclipse.persistence.exceptions.ConcurrencyException;
 import org.eclipse.persistence.exceptions.DatabaseException;
 import org.eclipse.persistence.exceptions.QueryException;
 import org.eclipse.persistence.internal.helper.ClassConstants;
@@ -69,12 +70,17 @@
 import java.sql.SQLWarning;
 import java.sql.Statement;
 import java.sql.Types;
-import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Vector;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import static org.eclipse.persistence.internal.helper.DatabaseField.NULL_SQL_TYPE;
 
@@ -105,9 +111,18 @@ public class DatabaseAccessor extends DatasourceAccessor {
     /** PERF: Backdoor to disabling dynamic statements. Reverts to old prepared statement usage if set. */
     public static boolean shouldUseDynamicStatements = true;
 
-    /** Stores statement handles for common used prepared statements. */
+    /** Stores statement handles for common used prepared statements, in least recently used order. */
     protected Map<String, Statement> statementCache;
 
+    /** Number of statements found in the statement cache. */
+    protected long statementCacheHits;
+
+    /** Number of cacheable statements that had to be prepared as they were not in the statement cache. */
+    protected long statementCacheMisses;
+
+    /** Number of statements closed to keep the statement cache within its size. */
+    protected long statementCacheEvictions;
+
     /** Cache of the connection's java.sql.DatabaseMetaData */
     protected DatabaseMetaData metaData;
 
@@ -122,6 +137,12 @@ public class DatabaseAccessor extends DatasourceAccessor {
     protected DynamicSQLBatchWritingMechanism dynamicSQLMechanism;
     protected ParameterizedSQLBatchWritingMechanism parameterizedMechanism;
 
+    /** The batch being executed by a writer thread when the platform uses pipelined batch writing. */
+    protected volatile FutureTask<Void> pipelinedBatch;
+
+    /** The writer thread of the pipelined batches of this accessor, started on first use and ended when idle. */
+    protected ThreadPoolExecutor pipelinedBatchWriter;
+
     // Bug 2804663 - Each DatabaseAccessor holds on to its own LOBValueWriter instance
     protected LOBValueWriter lobWriter;
 
@@ -158,7 +179,11 @@ protected DynamicSQLBatchWritingMechanism getDynamicSQLMechanism() {
      */
     protected ParameterizedSQLBatchWritingMechanism getParameterizedMechanism() {
         if (this.parameterizedMechanism == null) {
-            this.parameterizedMechanism = new ParameterizedSQLBatchWritingMechanism(this);
+            if (getPlatform().usesMultiRowInsertBatchWriting()) {
+                this.parameterizedMechanism = new MultiRowInsertBatchWritingMechanism(this);
+            } else {
+                this.parameterizedMechanism = new ParameterizedSQLBatchWritingMechanism(this);
+            }
         }
         return this.parameterizedMechanism;
     }
@@ -385,7 +410,12 @@ public Object clone() {
             accessor.activeBatchWritingMechanism = this.activeBatchWritingMechanism.clone();
         }
         accessor.parameterizedMechanism = null;
+        accessor.pipelinedBatch = null;
+        accessor.pipelinedBatchWriter = null;
         accessor.statementCache = null;
+        accessor.statementCacheHits = 0;
+        accessor.statementCacheMisses = 0;
+        accessor.statementCacheEvictions = 0;
         return accessor;
     }
 
@@ -443,6 +473,7 @@ public void commitTransaction(AbstractSession session) throws DatabaseException
      */
     @Override
     public void basicCommitTransaction(AbstractSession session) throws DatabaseException {
+        waitForPipelinedBatch();
         try {
             if (getPlatform().supportsAutoCommit()) {
                 getConnection().commit();
@@ -463,8 +494,21 @@ public void basicCommitTransaction(AbstractSession session) throws DatabaseExcep
      * for cursored stream support.
      */
     public AbstractRecord cursorRetrieveNextRow(Vector<DatabaseField> fields, ResultSet resultSet, AbstractSession session) throws DatabaseException {
+        return cursorRetrieveNextRow(fields, null, resultSet, session);
+    }
+
+    /**
+     * Advance the result set and return a Record populated
+     * with values from the next valid row in the result set. Intended solely
+     * for cursored stream support.
+     * PERF: If the fields array is given, the row shares it and only allocates its values array.
+     */
+    public AbstractRecord cursorRetrieveNextRow(Vector<DatabaseField> fields, DatabaseField[] fieldsArray, ResultSet resultSet, AbstractSession session) throws DatabaseException {
         try {
             if (resultSet.next()) {
+                if (fieldsArray != null) {
+                    return fetchRow(fields, fieldsArray, resultSet, resultSet.getMetaData(), session);
+                }
                 return fetchRow(fields, resultSet, resultSet.getMetaData(), session);
             } else {
                 return null;
@@ -482,8 +526,21 @@ public AbstractRecord cursorRetrieveNextRow(Vector<DatabaseField> fields, Result
      * for scrollable cursor support.
      */
     public AbstractRecord cursorRetrievePreviousRow(Vector<DatabaseField> fields, ResultSet resultSet, AbstractSession session) throws DatabaseException {
+        return cursorRetrievePreviousRow(fields, null, resultSet, session);
+    }
+
+    /**
+     * Advance the result set and return a DatabaseRow populated
+     * with values from the next valid row in the result set. Intended solely
+     * for scrollable cursor support.
+     * PERF: If the fields array is given, the row shares it and only allocates its values array.
+     */
+    public AbstractRecord cursorRetrievePreviousRow(Vector<DatabaseField> fields, DatabaseField[] fieldsArray, ResultSet resultSet, AbstractSession session) throws DatabaseException {
         try {
             if (resultSet.previous()) {
+                if (fieldsArray != null) {
+                    return fetchRow(fields, fieldsArray, resultSet, resultSet.getMetaData(), session);
+                }
                 return fetchRow(fields, resultSet, resultSet.getMetaData(), session);
             } else {
                 return null;
@@ -514,6 +571,10 @@ public void closeDatasourceConnection() throws DatabaseException {
     @Override
     public void disconnect(AbstractSession session) throws DatabaseException {
         clearStatementCache(session);
+        if (this.pipelinedBatchWriter != null) {
+            this.pipelinedBatchWriter.shutdown();
+            this.pipelinedBatchWriter = null;
+        }
         super.disconnect(session);
     }
 
@@ -619,6 +680,10 @@ public Object basicExecuteCall(Call call, AbstractRecord translationRow, Abstrac
                 getActiveBatchWritingMechanism(session).executeBatchedStatements(session);
             }
         }
+        if (batch) {
+            // The batch mechanisms execute their calls without batch, possibly from the pipelined batch writer thread.
+            waitForPipelinedBatch();
+        }
 
         try {
             incrementCallCount(session);
@@ -1130,6 +1195,57 @@ public BatchWritingMechanism getActiveBatchWritingMechanism(AbstractSession sess
         return this.activeBatchWritingMechanism;
     }
 
+    /**
+     * INTERNAL:
+     * Execute the batch in a writer thread, on this accessor's connection, when the platform uses pipelined batch writing.
+     * Only one batch is executed at a time, so this first waits for the previous batch.
+     * The batch must not be executed on any other connection, or outside of the transaction.
+     * The accessor has a single writer thread, which is kept while batches are executed, and ends after a minute idle.
+     */
+    public void executePipelinedBatch(Runnable batch) {
+        waitForPipelinedBatch();
+        if (this.pipelinedBatchWriter == null) {
+            ThreadPoolExecutor writer = new ThreadPoolExecutor(1, 1, 1, TimeUnit.MINUTES, new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "EclipseLink pipelined batch writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            writer.allowCoreThreadTimeOut(true);
+            this.pipelinedBatchWriter = writer;
+        }
+        FutureTask<Void> task = new FutureTask<>(batch, null);
+        this.pipelinedBatch = task;
+        this.pipelinedBatchWriter.execute(task);
+    }
+
+    /**
+     * INTERNAL:
+     * Wait for the batch executed by the pipelined batch writer thread, if any, and throw its failure.
+     * This must be called before the connection is used by any other thread.
+     */
+    public void waitForPipelinedBatch() {
+        FutureTask<Void> task = this.pipelinedBatch;
+        if (task == null) {
+            return;
+        }
+        try {
+            task.get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw ConcurrencyException.waitWasInterrupted(exception.getMessage());
+        } catch (ExecutionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof Error) {
+                throw (Error)cause;
+            }
+            throw (RuntimeException)cause;
+        } finally {
+            if (task.isDone()) {
+                this.pipelinedBatch = null;
+            }
+        }
+    }
+
     /**
      * Get a description of table columns available in a catalog.
      *
@@ -1562,14 +1678,54 @@ protected boolean hasStatementCache() {
 
     /**
      * The statement cache stores a fixed sized number of prepared statements.
+     * Statements are removed while in use and put back on release,
+     * so the insertion order of the map is the least recently used order.
      */
     protected synchronized Map<String, Statement> getStatementCache() {
         if (statementCache == null) {
-            statementCache = new HashMap<>(50);
+            statementCache = new LinkedHashMap<>(50);
         }
         return statementCache;
     }
 
+    /**
+     * PUBLIC:
+     * Return the number of statements found in the statement cache.
+     */
+    public long getStatementCacheHits() {
+        return statementCacheHits;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of cacheable statements that were not in the statement cache.
+     */
+    public long getStatementCacheMisses() {
+        return statementCacheMisses;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of statements evicted from the statement cache as it was full.
+     */
+    public long getStatementCacheEvictions() {
+        return statementCacheEvictions;
+    }
+
+    /**
+     * Record a statement cache hit or miss, and profile it if the session is profiled.
+     */
+    protected void recordStatementCacheAccess(boolean hit, AbstractSession session) {
+        if (hit) {
+            this.statementCacheHits++;
+        } else {
+            this.statementCacheMisses++;
+        }
+        if (session != null) {
+            session.incrementProfile(hit ? SessionProfiler.StatementCacheHits : SessionProfiler.StatementCacheMisses);
+        }
+    }
+
     /**
      * Get a description of tables available in a catalog.
      *
@@ -1710,11 +1866,9 @@ public Statement prepareStatement(DatabaseCall call, AbstractSession session, bo
             // Check the cache by sql string, must synchronize check and removal.
             Map<String, Statement> statementCache = getStatementCache();
             synchronized (statementCache) {
-                statement = statementCache.get(call.getSQLString());
-                if (statement != null) {
-                    // Need to remove to allow concurrent statement execution.
-                    statementCache.remove(call.getSQLString());
-                }
+                // Need to remove to allow concurrent statement execution.
+                statement = statementCache.remove(call.getSQLString());
+                recordStatementCacheAccess(statement != null, session);
             }
         }
 
@@ -1765,11 +1919,9 @@ public PreparedStatement prepareStatement(String sql, AbstractSession session, b
         if (getPlatform().shouldCacheAllStatements()) {
             Map<String, Statement> statementCache = getStatementCache();
             synchronized (statementCache) {
-                statement = (PreparedStatement)statementCache.get(sql);
-                if (statement != null) {
-                    // Need to remove to allow concurrent statement execution.
-                    statementCache.remove(sql);
-                }
+                // Need to remove to allow concurrent statement execution.
+                statement = (PreparedStatement)statementCache.remove(sql);
+                recordStatementCacheAccess(statement != null, session);
             }
         }
 
@@ -1830,15 +1982,22 @@ public void releaseStatement(Statement statement, String sqlString, DatabaseCall
             Map<String, Statement> statementCache = getStatementCache();
             synchronized (statementCache) {
                 PreparedStatement preparedStatement = (PreparedStatement)statement;
-                if (!statementCache.containsKey(sqlString)) {// May already be there by other thread.
+                // May already be there by other thread, or the cache may be disabled by a size of 0.
+                if (!statementCache.containsKey(sqlString) && (getPlatform().getStatementCacheSize() > 0)) {
                     preparedStatement.clearParameters();
                     // Bug 5709179 - reset statement settings on cached statements (dminsky) - inclusion of reset
                     if (call != null) {
                         resetStatementFromCall(preparedStatement, call);
                     }
-                    if (statementCache.size() > getPlatform().getStatementCacheSize()) {
-                        // Currently one is removed at random...
-                        PreparedStatement removedStatement = (PreparedStatement)statementCache.remove(statementCache.keySet().iterator().next());
+                    if (statementCache.size() >= getPlatform().getStatementCacheSize()) {
+                        // The first statement is the least recently released one.
+                        Iterator<Statement> statements = statementCache.values().iterator();
+                        PreparedStatement removedStatement = (PreparedStatement)statements.next();
+                        statements.remove();
+                        this.statementCacheEvictions++;
+                        if (session != null) {
+                            session.incrementProfile(SessionProfiler.StatementCacheEvictions);
+                        }
                         closeStatement(removedStatement, session, call);
                     } else {
                         decrementCallCount();
@@ -1893,6 +2052,11 @@ public void rollbackTransaction(AbstractSession session) throws DatabaseExceptio
      */
     @Override
     public void basicRollbackTransaction(AbstractSession session) throws DatabaseException {
+        try {
+            // The connection must not be used by the writer thread, its failure is rolled back.
+            waitForPipelinedBatch();
+        } catch (RuntimeException ignore) {
+        }
         try {
             if (getPlatform().supportsAutoCommit()) {
                 getConnection().rollback();
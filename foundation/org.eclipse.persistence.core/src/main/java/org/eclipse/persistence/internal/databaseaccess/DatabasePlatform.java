@@ -183,6 +183,12 @@ public class DatabasePlatform extends DatasourcePlatform {
     /** bug 4241441: Allow custom batch writing to enable batching with optimistic locking. **/
     protected boolean usesNativeBatchWriting;
 
+    /** Allow the batched parameterized inserts to be written as multi-row insert statements. **/
+    protected boolean usesMultiRowInsertBatchWriting;
+
+    /** Allow the full parameterized batches to be executed by a writer thread, while the next statements are batched. **/
+    protected boolean usesPipelinedBatchWriting;
+
     /** Allow for a custom batch writing mechanism. **/
     protected BatchWritingMechanism batchWritingMechanism;
 
@@ -800,6 +806,8 @@ public void copyInto(Platform platform) {
         databasePlatform.setUsesBatchWriting(usesBatchWriting());
         databasePlatform.setUsesJDBCBatchWriting(usesJDBCBatchWriting());
         databasePlatform.setUsesNativeBatchWriting(usesNativeBatchWriting());
+        databasePlatform.setUsesMultiRowInsertBatchWriting(usesMultiRowInsertBatchWriting());
+        databasePlatform.setUsesPipelinedBatchWriting(usesPipelinedBatchWriting());
         databasePlatform.setUsesStreamsForBinding(usesStreamsForBinding());
         databasePlatform.shouldCreateIndicesOnForeignKeys = this.shouldCreateIndicesOnForeignKeys;
         databasePlatform.printOuterJoinInWhereClause = this.printOuterJoinInWhereClause;
@@ -1189,6 +1197,38 @@ public int getMaxBatchWritingSize() {
         return maxBatchWritingSize;
     }
 
+    /**
+     * INTERNAL:
+     * Return the maximum number of rows of a multi-row insert statement
+     * with the number of parameters per row, or 0 if multi-row inserts are not supported.
+     * Platforms supporting multi-row inserts return their bind parameter limit divided by the row size.
+     */
+    public int getMaxMultiRowInsertSize(int parameterCount) {
+        return 0;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the SQL inserting the rows in a single statement, given the parameterized
+     * SQL inserting one row, or null if the SQL cannot be extended.
+     * By default the row values are repeated in the values clause:
+     * {@code INSERT INTO T (A, B) VALUES (?, ?), (?, ?)}.
+     */
+    public String buildMultiRowInsertSQLString(String insertSQLString, int rows) {
+        int valuesIndex = insertSQLString.indexOf(") VALUES (");
+        if ((valuesIndex == -1) || !insertSQLString.startsWith("INSERT ") || !insertSQLString.endsWith(")")) {
+            return null;
+        }
+        String values = insertSQLString.substring(valuesIndex + 9);
+        StringBuilder sqlString = new StringBuilder(insertSQLString.length() + ((values.length() + 2) * (rows - 1)));
+        sqlString.append(insertSQLString);
+        for (int row = 1; row < rows; row++) {
+            sqlString.append(", ");
+            sqlString.append(values);
+        }
+        return sqlString.toString();
+    }
+
     /**
      * INTERNAL:
      * returns the maximum number of characters that can be used in a field
@@ -1920,6 +1960,33 @@ public void setUsesNativeBatchWriting(boolean usesNativeBatchWriting){
         this.usesNativeBatchWriting = usesNativeBatchWriting;
     }
 
+    /**
+     * Advanced:
+     * This is used to write the batched parameterized inserts of the same table as multi-row
+     * insert statements, instead of JDBC batches, on the platforms that support it.
+     * Requires JDBC batch writing.
+     *
+     * @see #getMaxMultiRowInsertSize(int)
+     * @see MultiRowInsertBatchWritingMechanism
+     */
+    public void setUsesMultiRowInsertBatchWriting(boolean usesMultiRowInsertBatchWriting) {
+        this.usesMultiRowInsertBatchWriting = usesMultiRowInsertBatchWriting;
+    }
+
+    /**
+     * Advanced:
+     * This is used to execute the full batches of parameterized statements in a writer thread,
+     * on the same connection and transaction, while the commit continues to build and batch the next statements.
+     * Only one batch is executed at a time, and any other use of the connection waits for it,
+     * so a failure of the batch is thrown by the next write, or by the commit, and rolls back the transaction.
+     * Requires JDBC batch writing, and is not used with an external transaction controller.
+     *
+     * @see DatabaseAccessor#executePipelinedBatch(Runnable)
+     */
+    public void setUsesPipelinedBatchWriting(boolean usesPipelinedBatchWriting) {
+        this.usesPipelinedBatchWriting = usesPipelinedBatchWriting;
+    }
+
     public void setUsesNativeSQL(boolean usesNativeSQL) {
         this.usesNativeSQL = usesNativeSQL;
     }
@@ -2879,6 +2946,14 @@ public boolean usesNativeBatchWriting(){
         return usesNativeBatchWriting;
     }
 
+    public boolean usesMultiRowInsertBatchWriting() {
+        return usesMultiRowInsertBatchWriting;
+    }
+
+    public boolean usesPipelinedBatchWriting() {
+        return usesPipelinedBatchWriting;
+    }
+
     public boolean usesNativeSQL() {
         return usesNativeSQL;
     }
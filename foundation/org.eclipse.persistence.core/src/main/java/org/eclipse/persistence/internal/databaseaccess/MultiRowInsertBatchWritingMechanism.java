@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.databaseaccess;
+
+import org.eclipse.persistence.descriptors.DescriptorQueryManager;
+import org.eclipse.persistence.exceptions.DatabaseException;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.sessions.SessionProfiler;
+
+import java.io.StringWriter;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * INTERNAL:
+ * <p>MultiRowInsertBatchWritingMechanism is a private class, used by the DatabaseAccessor when the platform
+ * uses multi-row insert batch writing. It batches the parameterized statements as the
+ * {@link ParameterizedSQLBatchWritingMechanism}, but executes a batch of inserts of the same table as
+ * multi-row insert statements, which are executed in a single round trip by every driver.
+ * The other batches are executed through the JDBC batch API.</p>
+ *
+ * @see DatabasePlatform#buildMultiRowInsertSQLString(String, int)
+ * @see DatabasePlatform#getMaxMultiRowInsertSize(int)
+ */
+public class MultiRowInsertBatchWritingMechanism extends ParameterizedSQLBatchWritingMechanism {
+
+    public MultiRowInsertBatchWritingMechanism() {
+        super();
+    }
+
+    public MultiRowInsertBatchWritingMechanism(DatabaseAccessor databaseAccessor) {
+        super(databaseAccessor);
+    }
+
+    /**
+     * INTERNAL:
+     * Execute and clear the batched statements on the cloned batch mechanism,
+     * as multi-row inserts if possible.
+     */
+    @Override
+    protected void executeBatch(AbstractSession session) {
+        if ((this.parameters.size() < 2) || !isMultiRowInsert(session)) {
+            super.executeBatch(session);
+            return;
+        }
+        executeMultiRowInserts(session);
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the batched calls are inserts that can be executed as multi-row inserts.
+     * Calls returning values, such as generated keys, must be executed one by one.
+     */
+    protected boolean isMultiRowInsert(AbstractSession session) {
+        DatabaseQuery query = this.previousCall.getQuery();
+        return (query != null) && query.isInsertObjectQuery()
+                && !this.previousCall.hasOptimisticLock() && !this.previousCall.shouldReturnGeneratedKeys()
+                && !this.previousCall.isCallableStatementRequired() && !this.previousCall.isResultSetScrollable()
+                && (this.databaseAccessor.getPlatform().getMaxMultiRowInsertSize(this.parameters.get(0).size()) > 1)
+                && (this.databaseAccessor.getPlatform().buildMultiRowInsertSQLString(this.previousCall.getSQLString(), 2) != null);
+    }
+
+    /**
+     * INTERNAL:
+     * Execute the batched inserts as multi-row inserts of at most the platform's maximum rows, and clear the batch.
+     */
+    protected void executeMultiRowInserts(AbstractSession session) {
+        try {
+            DatabasePlatform platform = this.databaseAccessor.getPlatform();
+            int size = this.parameters.size();
+            int maxRows = platform.getMaxMultiRowInsertSize(this.parameters.get(0).size());
+            for (int start = 0; start < size; start += maxRows) {
+                executeMultiRowInsert(this.parameters.subList(start, Math.min(start + maxRows, size)), session);
+            }
+        } finally {
+            // Reset the batched rows.
+            this.clear();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Execute the rows as a single multi-row insert statement.
+     */
+    protected void executeMultiRowInsert(List<List> rows, AbstractSession session) {
+        DatabasePlatform platform = this.databaseAccessor.getPlatform();
+        DatabaseCall call = (DatabaseCall) this.previousCall.clone();
+        call.setSQLStringInternal(platform.buildMultiRowInsertSQLString(this.previousCall.getSQLString(), rows.size()));
+
+        this.databaseAccessor.incrementCallCount(session);// Decrement occurs in release.
+        if (session.shouldLog(SessionLog.FINE, SessionLog.SQL)) {
+            session.log(SessionLog.FINER, SessionLog.SQL, "begin_batch_statements", null, this.databaseAccessor);
+            session.log(SessionLog.FINE, SessionLog.SQL, call.getSQLString(), null, this.databaseAccessor, false);
+            for (List row : rows) {
+                StringWriter writer = new StringWriter();
+                DatabaseCall.appendLogParameters(row, this.databaseAccessor, writer, session);
+                session.log(SessionLog.FINE, SessionLog.SQL, writer.toString(), null, this.databaseAccessor, false);
+            }
+            session.log(SessionLog.FINER, SessionLog.SQL, "end_batch_statements", null, this.databaseAccessor);
+        }
+
+        PreparedStatement statement = null;
+        try {
+            session.startOperationProfile(SessionProfiler.SqlPrepare, null, SessionProfiler.ALL);
+            try {
+                statement = (PreparedStatement) this.databaseAccessor.prepareStatement(call, session);
+                if (this.queryTimeoutCache > DescriptorQueryManager.NoTimeout) {
+                    statement.setQueryTimeout(this.queryTimeoutCache);
+                }
+                // Bind the rows one after the other.
+                int index = 1;
+                for (List row : rows) {
+                    for (Object parameter : row) {
+                        platform.setParameterValueInDatabaseCall(parameter, statement, index++, session);
+                    }
+                }
+            } finally {
+                session.endOperationProfile(SessionProfiler.SqlPrepare, null, SessionProfiler.ALL);
+            }
+            this.statementCount += rows.size();
+            this.executionCount += (Integer) this.databaseAccessor.executeDirectNoSelect(statement, call, session);
+            this.databaseAccessor.writeStatementsCount++;
+        } catch (SQLException exception) {
+            // If this is a connection from an external pool then closeStatement will close the connection.
+            // we must test the connection before that happens.
+            RuntimeException exceptionToThrow = this.databaseAccessor.processExceptionForCommError(session, exception, call);
+            try {
+                // Ensure that the statement is closed, but still ensure that the real exception is thrown.
+                this.databaseAccessor.closeStatement(statement, session, null);
+            } catch (SQLException closeException) {
+            }
+            if (exceptionToThrow == null) {
+                throw DatabaseException.sqlException(exception, this.databaseAccessor, session, false);
+            }
+            throw exceptionToThrow;
+        } catch (RuntimeException exception) {
+            try {
+                // Ensure that the statement is closed, but still ensure that the real exception is thrown.
+                this.databaseAccessor.closeStatement(statement, session, null);
+            } catch (SQLException closeException) {
+            }
+            throw exception;
+        }
+
+        // This is in a separate try block to ensure that the real exception is not masked by the close exception.
+        try {
+            this.databaseAccessor.releaseStatement(statement, call.getSQLString(), call, session);
+        } catch (SQLException exception) {
+            throw DatabaseException.sqlException(exception, this.databaseAccessor, session, false);
+        }
+    }
+}
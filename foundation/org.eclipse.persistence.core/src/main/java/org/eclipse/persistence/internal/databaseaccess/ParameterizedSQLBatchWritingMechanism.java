@@ -86,7 +86,7 @@ public void appendCall(AbstractSession session, DatabaseCall dbCall) {
                 if (this.previousCall.getSQLString().equals(dbCall.getSQLString()) && (this.parameters.size() < this.maxBatchSize)) {
                     this.parameters.add(dbCall.getParameters());
                 } else {
-                    executeBatchedStatements(session);
+                    executeCompletedBatch(session);
                     this.previousCall = dbCall;
                     this.parameters.add(dbCall.getParameters());
                 }
@@ -132,6 +132,7 @@ public void clear() {
      */
     @Override
     public void executeBatchedStatements(AbstractSession session) {
+        this.databaseAccessor.waitForPipelinedBatch();
         if (this.parameters.isEmpty()) {
             return;
         }
@@ -143,6 +144,23 @@ public void executeBatchedStatements(AbstractSession session) {
         currentBatch.executeBatch(session);
     }
 
+    /**
+     * INTERNAL:
+     * Execute the batched statements, as the next statement cannot be added to the batch.
+     * If the platform uses pipelined batch writing, the batch is executed by a writer thread on the same connection,
+     * while the next statements are batched.
+     * An external (JTA) transaction is associated with the committing thread, so its batches are not pipelined.
+     */
+    protected void executeCompletedBatch(AbstractSession session) {
+        if (!this.databaseAccessor.getPlatform().usesPipelinedBatchWriting() || this.databaseAccessor.usesExternalTransactionController()) {
+            executeBatchedStatements(session);
+            return;
+        }
+        ParameterizedSQLBatchWritingMechanism currentBatch = (ParameterizedSQLBatchWritingMechanism) this.clone();
+        this.clear();
+        this.databaseAccessor.executePipelinedBatch(() -> currentBatch.executeBatch(session));
+    }
+
     /**
      * INTERNAL:
      * This method is added to execute and clear the batched statements on the cloned batch mechanism which
@@ -150,7 +168,7 @@ public void executeBatchedStatements(AbstractSession session) {
      * <p>
      * Introduced in fix for bug#419326.
      */
-    private void executeBatch(AbstractSession session) {
+    protected void executeBatch(AbstractSession session) {
 
         if (this.parameters.size() == 1) {
             // If only one call, just execute normally.
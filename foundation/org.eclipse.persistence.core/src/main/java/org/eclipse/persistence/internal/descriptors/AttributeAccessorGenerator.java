@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.descriptors;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.eclipse.persistence.asm.ClassWriter;
+import org.eclipse.persistence.asm.EclipseLinkASMClassWriter;
+import org.eclipse.persistence.asm.MethodVisitor;
+import org.eclipse.persistence.asm.Opcodes;
+import org.eclipse.persistence.asm.Type;
+import org.eclipse.persistence.config.SystemProperties;
+import org.eclipse.persistence.internal.helper.ClassConstants;
+import org.eclipse.persistence.internal.helper.Helper;
+import org.eclipse.persistence.internal.security.PrivilegedAccessHelper;
+import org.eclipse.persistence.logging.AbstractSessionLog;
+import org.eclipse.persistence.logging.SessionLog;
+
+/**
+ * INTERNAL:
+ * Generate the {@link GeneratedAttributeAccessor} of a field or of a pair of get and set methods.
+ * <p>
+ * The generated accessor is defined as a hidden nestmate of the class declaring the field or methods,
+ * so it can access them even if they are private. The accessor of
+ * <pre>
+ * class Employee { private int salary; }
+ * </pre>
+ * is equivalent to
+ * <pre>
+ * Object getAttributeValueFromObject(Object object) {
+ *     return Integer.valueOf(((Employee)object).salary);
+ * }
+ * void setAttributeValueInObject(Object object, Object value) {
+ *     ((Employee)object).salary = ((Integer)value).intValue();
+ * }
+ * </pre>
+ */
+public class AttributeAccessorGenerator {
+
+    /** If the attribute accessors are generated, see {@link SystemProperties#GENERATE_ATTRIBUTE_ACCESSORS}. */
+    public static final boolean shouldGenerateAttributeAccessors = PrivilegedAccessHelper.getSystemPropertyBoolean(SystemProperties.GENERATE_ATTRIBUTE_ACCESSORS, false);
+
+    protected static final String ACCESSOR_SUFFIX = "$AttributeAccessor";
+    protected static final String INIT = "<init>";
+    protected static final String INIT_DESCRIPTOR = "(Ljava/lang/Class;Ljava/lang/Class;)V";
+    protected static final String ACCESSOR = Type.getInternalName(GeneratedAttributeAccessor.class);
+
+    private AttributeAccessorGenerator() {
+    }
+
+    /**
+     * Return a new accessor of the field, or null if the field cannot be accessed by a generated accessor.
+     */
+    public static GeneratedAttributeAccessor generateAttributeAccessor(Field field) {
+        Class<?> declaringClass = field.getDeclaringClass();
+        if (!canGenerateAttributeAccessor(declaringClass) || Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+            return null;
+        }
+        String declaringClassName = Type.getInternalName(declaringClass);
+        Class<?> type = field.getType();
+        String fieldDescriptor = Type.getDescriptor(type);
+        ClassWriter cw = startClass(declaringClassName + '$' + field.getName() + ACCESSOR_SUFFIX);
+
+        // return ((DeclaringClass)object).field;
+        MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "getAttributeValueFromObject", "(Ljava/lang/Object;)Ljava/lang/Object;", null, null);
+        mv.visitVarInsn(Opcodes.ALOAD, 1);
+        mv.visitTypeInsn(Opcodes.CHECKCAST, declaringClassName);
+        mv.visitFieldInsn(Opcodes.GETFIELD, declaringClassName, field.getName(), fieldDescriptor);
+        box(mv, type);
+        mv.visitInsn(Opcodes.ARETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        // ((DeclaringClass)object).field = (Type)value;
+        mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "setAttributeValueInObject", "(Ljava/lang/Object;Ljava/lang/Object;)V", null, null);
+        mv.visitVarInsn(Opcodes.ALOAD, 1);
+        mv.visitTypeInsn(Opcodes.CHECKCAST, declaringClassName);
+        mv.visitVarInsn(Opcodes.ALOAD, 2);
+        unbox(mv, type);
+        mv.visitFieldInsn(Opcodes.PUTFIELD, declaringClassName, field.getName(), fieldDescriptor);
+        mv.visitInsn(Opcodes.RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        cw.visitEnd();
+        return defineAttributeAccessor(declaringClass, type, cw.toByteArray());
+    }
+
+    /**
+     * Return a new accessor calling the get and set methods, or null if they cannot be called by a generated accessor.
+     * Both methods must be instance methods of the same class, without get parameter.
+     */
+    public static GeneratedAttributeAccessor generateAttributeAccessor(Method getMethod, Method setMethod) {
+        Class<?> declaringClass = getMethod.getDeclaringClass();
+        if (!canGenerateAttributeAccessor(declaringClass) || (setMethod.getDeclaringClass() != declaringClass)
+                || Modifier.isStatic(getMethod.getModifiers()) || Modifier.isStatic(setMethod.getModifiers())
+                || (getMethod.getParameterCount() != 0) || (setMethod.getParameterCount() != 1)
+                || (getMethod.getReturnType() == ClassConstants.Void_Class)
+                || (setMethod.getReturnType() == ClassConstants.PLONG) || (setMethod.getReturnType() == ClassConstants.PDOUBLE)) {
+            return null;
+        }
+        String declaringClassName = Type.getInternalName(declaringClass);
+        Class<?> type = setMethod.getParameterTypes()[0];
+        ClassWriter cw = startClass(declaringClassName + '$' + getMethod.getName() + ACCESSOR_SUFFIX);
+
+        // return ((DeclaringClass)object).getMethod();
+        MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "getAttributeValueFromObject", "(Ljava/lang/Object;)Ljava/lang/Object;", null, null);
+        mv.visitVarInsn(Opcodes.ALOAD, 1);
+        mv.visitTypeInsn(Opcodes.CHECKCAST, declaringClassName);
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, declaringClassName, getMethod.getName(), Type.getMethodDescriptor(getMethod), false);
+        box(mv, getMethod.getReturnType());
+        mv.visitInsn(Opcodes.ARETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        // ((DeclaringClass)object).setMethod((Type)value);
+        mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "setAttributeValueInObject", "(Ljava/lang/Object;Ljava/lang/Object;)V", null, null);
+        mv.visitVarInsn(Opcodes.ALOAD, 1);
+        mv.visitTypeInsn(Opcodes.CHECKCAST, declaringClassName);
+        mv.visitVarInsn(Opcodes.ALOAD, 2);
+        unbox(mv, type);
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, declaringClassName, setMethod.getName(), Type.getMethodDescriptor(setMethod), false);
+        if (setMethod.getReturnType() != ClassConstants.Void_Class) {
+            mv.visitInsn(Opcodes.POP);
+        }
+        mv.visitInsn(Opcodes.RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        cw.visitEnd();
+        return defineAttributeAccessor(declaringClass, type, cw.toByteArray());
+    }
+
+    /**
+     * Return if an accessor can be defined as nestmate of the class, its module must read EclipseLink.
+     */
+    protected static boolean canGenerateAttributeAccessor(Class<?> declaringClass) {
+        if (declaringClass.isInterface() || declaringClass.isArray() || declaringClass.isPrimitive() || declaringClass.isHidden()) {
+            return false;
+        }
+        Module module = declaringClass.getModule();
+        return !module.isNamed() || module.canRead(GeneratedAttributeAccessor.class.getModule());
+    }
+
+    /**
+     * Start the accessor class and write its constructor.
+     */
+    protected static ClassWriter startClass(String className) {
+        ClassWriter cw = new EclipseLinkASMClassWriter();
+        cw.visit(Opcodes.ACC_PUBLIC + Opcodes.ACC_FINAL + Opcodes.ACC_SUPER, className, null, ACCESSOR, null);
+
+        MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, INIT, INIT_DESCRIPTOR, null, null);
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitVarInsn(Opcodes.ALOAD, 1);
+        mv.visitVarInsn(Opcodes.ALOAD, 2);
+        mv.visitMethodInsn(Opcodes.INVOKESPECIAL, ACCESSOR, INIT, INIT_DESCRIPTOR, false);
+        mv.visitInsn(Opcodes.RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+        return cw;
+    }
+
+    /**
+     * Define the accessor class as hidden nestmate of the declaring class and return its instance,
+     * or null if the package of the declaring class is not open to EclipseLink.
+     */
+    protected static GeneratedAttributeAccessor defineAttributeAccessor(Class<?> declaringClass, Class<?> attributeClass, byte[] bytes) {
+        try {
+            GeneratedAttributeAccessor.class.getModule().addReads(declaringClass.getModule());
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+            lookup = lookup.defineHiddenClass(bytes, true, MethodHandles.Lookup.ClassOption.NESTMATE);
+            MethodHandle constructor = lookup.findConstructor(lookup.lookupClass(), MethodType.methodType(void.class, Class.class, Class.class));
+            return (GeneratedAttributeAccessor)constructor.invoke(declaringClass, attributeClass);
+        } catch (Throwable exception) {
+            // The attribute is accessed through reflection.
+            AbstractSessionLog.getLog().log(SessionLog.FINEST, SessionLog.MISC, "Attribute accessor not generated for " + declaringClass.getName() + ": " + exception, null, false);
+            return null;
+        }
+    }
+
+    /**
+     * Box the primitive value on the stack.
+     */
+    protected static void box(MethodVisitor mv, Class<?> type) {
+        if (type.isPrimitive()) {
+            String wrapperClassName = Type.getInternalName(Helper.getObjectClass(type));
+            mv.visitMethodInsn(Opcodes.INVOKESTATIC, wrapperClassName, "valueOf", "(" + Type.getDescriptor(type) + ")L" + wrapperClassName + ";", false);
+        }
+    }
+
+    /**
+     * Cast the object on the stack to the type, or unbox it for a primitive type.
+     */
+    protected static void unbox(MethodVisitor mv, Class<?> type) {
+        if (type.isPrimitive()) {
+            String wrapperClassName = Type.getInternalName(Helper.getObjectClass(type));
+            mv.visitTypeInsn(Opcodes.CHECKCAST, wrapperClassName);
+            mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, wrapperClassName, type.getName() + "Value", "()" + Type.getDescriptor(type), false);
+        } else if (type != ClassConstants.OBJECT) {
+            mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(type));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.descriptors;
+
+import org.eclipse.persistence.internal.helper.Helper;
+
+/**
+ * INTERNAL:
+ * Get and set an attribute of a class without reflection.
+ * <p>
+ * PERF: Subclasses are generated for each attribute by the {@link AttributeAccessorGenerator},
+ * they access the field or call the get and set methods of the attribute directly.
+ * The generated accessors are only used by the {@link InstanceVariableAttributeAccessor} and
+ * {@link MethodAttributeAccessor} for objects and values of the expected classes,
+ * the other cases go through reflection which handles the conversions and reports the errors.
+ */
+public abstract class GeneratedAttributeAccessor {
+
+    /** The class declaring the field or methods of the attribute. */
+    protected final Class<?> declaringClass;
+
+    /** The attribute class, or its wrapper class for a primitive attribute. */
+    protected final Class<?> valueClass;
+
+    /** If null can be set in the attribute. */
+    protected final boolean isNullable;
+
+    protected GeneratedAttributeAccessor(Class<?> declaringClass, Class<?> attributeClass) {
+        this.declaringClass = declaringClass;
+        this.valueClass = Helper.getObjectClass(attributeClass);
+        this.isNullable = !attributeClass.isPrimitive();
+    }
+
+    /**
+     * Return if the attribute of the object can be read through the generated accessor.
+     */
+    public boolean canGet(Object object) {
+        return this.declaringClass.isInstance(object);
+    }
+
+    /**
+     * Return if the value can be set in the attribute of the object through the generated accessor.
+     */
+    public boolean canSet(Object object, Object value) {
+        return this.declaringClass.isInstance(object) && ((value == null) ? this.isNullable : this.valueClass.isInstance(value));
+    }
+
+    /**
+     * Return the value of the attribute of the object, primitives are boxed.
+     */
+    public abstract Object getAttributeValueFromObject(Object object);
+
+    /**
+     * Set the value in the attribute of the object, primitives are unboxed.
+     */
+    public abstract void setAttributeValueInObject(Object object, Object value);
+}
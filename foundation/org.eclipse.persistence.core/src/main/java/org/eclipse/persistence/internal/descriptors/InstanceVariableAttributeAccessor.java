@@ -34,6 +34,9 @@ public class InstanceVariableAttributeAccessor extends AttributeAccessor {
     /** The attribute name of an object is converted to Field type to access it reflectively */
     protected transient Field attributeField;
 
+    /** PERF: The generated accessor of the field, used instead of reflection when not null. */
+    protected transient GeneratedAttributeAccessor generatedAccessor;
+
     /**
      * Returns the class type of the attribute.
      */
@@ -66,6 +69,10 @@ public Class<?> getAttributeType() {
      */
     @Override
     public Object getAttributeValueFromObject(Object anObject) throws DescriptorException {
+        GeneratedAttributeAccessor generatedAccessor = this.generatedAccessor;
+        if ((generatedAccessor != null) && generatedAccessor.canGet(anObject)) {
+            return generatedAccessor.getAttributeValueFromObject(anObject);
+        }
         return PrivilegedAccessHelper.callDoPrivilegedWithException(
                 () -> attributeField.get(anObject),
                 (ex) -> {
@@ -94,6 +101,10 @@ public void initializeAttributes(Class<?> theJavaClass) throws DescriptorExcepti
         }
         try {
             setAttributeField(Helper.getField(theJavaClass, getAttributeName()));
+            // PERF: Avoid reflection, subclasses may access the attribute differently.
+            if (AttributeAccessorGenerator.shouldGenerateAttributeAccessors && (getClass() == InstanceVariableAttributeAccessor.class)) {
+                this.generatedAccessor = AttributeAccessorGenerator.generateAttributeAccessor(this.attributeField);
+            }
         } catch (NoSuchFieldException exception) {
             throw DescriptorException.noSuchFieldWhileInitializingAttributesInInstanceVariableAccessor(getAttributeName(), theJavaClass.getName(), exception);
         } catch (SecurityException exception) {
@@ -127,6 +138,11 @@ protected void setAttributeField(Field field) {
      */
     @Override
     public void setAttributeValueInObject(final Object anObject, final Object value) throws DescriptorException {
+        GeneratedAttributeAccessor generatedAccessor = this.generatedAccessor;
+        if ((generatedAccessor != null) && generatedAccessor.canSet(anObject, value)) {
+            generatedAccessor.setAttributeValueInObject(anObject, value);
+            return;
+        }
         try {
             // PERF: Direct variable access.
             PrivilegedAccessHelper.callDoPrivilegedWithException(
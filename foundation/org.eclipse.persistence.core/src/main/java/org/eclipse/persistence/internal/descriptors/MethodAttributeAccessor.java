@@ -45,6 +45,9 @@ public class MethodAttributeAccessor extends AttributeAccessor {
     protected transient Method setMethod;
     protected transient Method getMethod;
 
+    /** PERF: The generated accessor calling the methods, used instead of reflection when not null. */
+    protected transient GeneratedAttributeAccessor generatedAccessor;
+
     /**
      * Return the return type of the method accessor.
      */
@@ -62,6 +65,14 @@ public Class<?> getAttributeClass() {
      */
     @Override
     public Object getAttributeValueFromObject(Object anObject) throws DescriptorException {
+        GeneratedAttributeAccessor generatedAccessor = this.generatedAccessor;
+        if ((generatedAccessor != null) && generatedAccessor.canGet(anObject)) {
+            try {
+                return generatedAccessor.getAttributeValueFromObject(anObject);
+            } catch (Exception exception) {
+                throw DescriptorException.targetInvocationWhileGettingValueThruMethodAccessor(getGetMethodName(), anObject.getClass().getName(), new InvocationTargetException(exception));
+            }
+        }
         return getAttributeValueFromObject(anObject, null);
     }
 
@@ -162,6 +173,11 @@ protected Class<?>[] getSetMethodParameterTypes() {
     @Override
     public void initializeAttributes(Class<?> theJavaClass) throws DescriptorException {
         initializeAttributes(theJavaClass, null);
+        // PERF: Avoid reflection, subclasses may call the methods differently.
+        if (AttributeAccessorGenerator.shouldGenerateAttributeAccessors && (getClass() == MethodAttributeAccessor.class)
+                && (this.getMethod != null) && (this.setMethod != null)) {
+            this.generatedAccessor = AttributeAccessorGenerator.generateAttributeAccessor(this.getMethod, this.setMethod);
+        }
     }
 
     /**
@@ -209,6 +225,15 @@ public boolean isMethodAttributeAccessor() {
      */
     @Override
     public void setAttributeValueInObject(Object domainObject, Object attributeValue) throws DescriptorException {
+        GeneratedAttributeAccessor generatedAccessor = this.generatedAccessor;
+        if ((generatedAccessor != null) && generatedAccessor.canSet(domainObject, attributeValue)) {
+            try {
+                generatedAccessor.setAttributeValueInObject(domainObject, attributeValue);
+            } catch (Exception exception) {
+                throw DescriptorException.targetInvocationWhileSettingValueThruMethodAccessor(getSetMethodName(), attributeValue, new InvocationTargetException(exception));
+            }
+            return;
+        }
         setAttributeValueInObject(domainObject, attributeValue, new Object[] {attributeValue});
     }
 
@@ -188,6 +188,10 @@ public class ObjectBuilder extends CoreObjectBuilder<AbstractRecord, AbstractSes
     protected boolean shouldKeepRow = false;
     /** PERF: is there an cache index field that's would not be selected by SOP query. Ignored unless descriptor uses SOP and CachePolicy has cache indexes. */
     protected boolean hasCacheIndexesInSopObject = false;
+    /** PERF: Generated reader of the simple objects from the result set, null if not generated or if it cannot be generated. */
+    protected transient volatile ResultSetReader resultSetReader;
+    /** PERF: Set once the generation of the result set reader has been attempted. */
+    protected transient volatile boolean isResultSetReaderInitialized;
     /** Semaphore related properties. Transient to avoid serialization in clustered/replicated environments see CORBA tests*/
     private static final ThreadLocal<Boolean> SEMAPHORE_THREAD_LOCAL_VAR = new ThreadLocal<>();
     private static final int SEMAPHORE_MAX_NUMBER_THREADS = ConcurrencyUtil.SINGLETON.getNoOfThreadsAllowedToObjectBuildInParallel();
@@ -2547,9 +2551,14 @@ private Object buildObjectFromResultSetInternal(ObjectBuildingQuery query, Joine
                         }
                     }
                     // set the rest using mappings directly
-                    for (int index = pkFieldsSize; index < size; index++) {
-                        DatabaseMapping mapping = mappings.get(index);
-                        mapping.readFromResultSetIntoObject(resultSet, object, query, session, accessor, metaData, index + shift, platform);
+                    ResultSetReader reader = getResultSetReader(pkFieldsSize, platform, session);
+                    if (reader != null) {
+                        reader.readFromResultSetIntoObject(resultSet, object, query, session, accessor, metaData, shift, platform);
+                    } else {
+                        for (int index = pkFieldsSize; index < size; index++) {
+                            DatabaseMapping mapping = mappings.get(index);
+                            mapping.readFromResultSetIntoObject(resultSet, object, query, session, accessor, metaData, index + shift, platform);
+                        }
                     }
                 } else {
                     boolean isTargetProtected = session.isProtectedSession();
@@ -2590,6 +2599,31 @@ private Object buildObjectFromResultSetInternal(ObjectBuildingQuery query, Joine
         return object;
     }
 
+    /**
+     * INTERNAL:
+     * Return the generated reader of the non primary key mappings of the simple descriptor,
+     * or null if the mappings must be used.
+     * PERF: The reader is generated on first use if enabled by the
+     * {@link org.eclipse.persistence.config.SystemProperties#GENERATE_RESULT_SET_READERS} system property.
+     */
+    protected ResultSetReader getResultSetReader(int primaryKeySize, DatabasePlatform platform, AbstractSession session) {
+        if (!ResultSetReaderGenerator.shouldGenerateResultSetReaders) {
+            return null;
+        }
+        if (!this.isResultSetReaderInitialized) {
+            this.instanceLock.lock();
+            try {
+                if (!this.isResultSetReaderInitialized) {
+                    this.resultSetReader = ResultSetReaderGenerator.generateResultSetReader(this.descriptor, primaryKeySize, platform, session);
+                    this.isResultSetReaderInitialized = true;
+                }
+            } finally {
+                this.instanceLock.unlock();
+            }
+        }
+        return this.resultSetReader;
+    }
+
     /**
      * Returns a clone of itself.
      */
@@ -2613,6 +2647,8 @@ public Object clone() {
         objectBuilder.cloningMappings = new ArrayList(this.cloningMappings);
         objectBuilder.eagerMappings = new ArrayList(this.eagerMappings);
         objectBuilder.relationshipMappings = new ArrayList(this.relationshipMappings);
+        objectBuilder.resultSetReader = null;
+        objectBuilder.isResultSetReaderInitialized = false;
 
         return objectBuilder;
     }
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.descriptors;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import org.eclipse.persistence.internal.databaseaccess.DatabaseAccessor;
+import org.eclipse.persistence.internal.databaseaccess.DatabasePlatform;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.foundation.AbstractDirectMapping;
+import org.eclipse.persistence.queries.ObjectBuildingQuery;
+
+/**
+ * INTERNAL:
+ * Read the non primary key attributes of a simple descriptor from the result set into a new object.
+ * <p>
+ * PERF: Subclasses are generated for each descriptor by the {@link ResultSetReaderGenerator},
+ * they read the basic direct mappings from the result set directly into the fields of the object,
+ * without going through the mappings and their attribute accessors, and only use the mappings
+ * for the other attributes.
+ *
+ * @see ObjectBuilder#buildObjectFromResultSet
+ */
+public abstract class ResultSetReader {
+
+    /** The mappings of the descriptor, the mapping at index is read from the column index + shift. */
+    protected final DatabaseMapping[] mappings;
+
+    protected ResultSetReader(DatabaseMapping[] mappings) {
+        this.mappings = mappings;
+    }
+
+    /**
+     * Read the values of the non primary key mappings from the result set into the object.
+     * The mapping at index is read from the column index + shift.
+     */
+    public abstract void readFromResultSetIntoObject(ResultSet resultSet, Object object, ObjectBuildingQuery query, AbstractSession session, DatabaseAccessor accessor, ResultSetMetaData metaData, int shift, DatabasePlatform platform) throws SQLException;
+
+    /**
+     * Read the value of the mapping at index through the mapping.
+     * Used by the generated readers for the mappings they do not read directly.
+     */
+    protected void readMappingFromResultSetIntoObject(int index, ResultSet resultSet, Object object, ObjectBuildingQuery query, AbstractSession session, DatabaseAccessor accessor, ResultSetMetaData metaData, int shift, DatabasePlatform platform) throws SQLException {
+        this.mappings[index].readFromResultSetIntoObject(resultSet, object, query, session, accessor, metaData, index + shift, platform);
+    }
+
+    /**
+     * Return if the column of the direct mapping at index is a VARCHAR, its strings are read directly.
+     * PERF: The JDBC type is cached in the field, as the accessor does.
+     */
+    protected boolean isVarcharColumn(int index, ResultSetMetaData metaData, int shift) throws SQLException {
+        DatabaseField field = this.mappings[index].getField();
+        int type = field.sqlType;
+        if (type == DatabaseField.NULL_SQL_TYPE) {
+            type = metaData.getColumnType(index + shift);
+            field.setSqlType(type);
+        }
+        return type == Types.VARCHAR;
+    }
+
+    /**
+     * Read the value of the direct mapping at index through the accessor, as the JDBC type of the column
+     * decides how it is read, CHAR columns may be trimmed and national columns read through getNString.
+     * Used by the generated readers for the string columns that are not VARCHAR.
+     */
+    protected void readFieldFromResultSetIntoObject(int index, ResultSet resultSet, Object object, AbstractSession session, DatabaseAccessor accessor, ResultSetMetaData metaData, int shift, DatabasePlatform platform) {
+        AbstractDirectMapping mapping = (AbstractDirectMapping)this.mappings[index];
+        Object value = accessor.getObject(resultSet, mapping.getField(), metaData, index + shift, platform, true, session);
+        mapping.setAttributeValueInObject(object, mapping.getObjectValue(value, session));
+    }
+
+    /**
+     * Set the value of the direct mapping at index for a null column in the object.
+     * Used by the generated readers, as the null value can be translated by the mapping.
+     */
+    protected void readNullIntoObject(int index, Object object, AbstractSession session) {
+        AbstractDirectMapping mapping = (AbstractDirectMapping)this.mappings[index];
+        mapping.setAttributeValueInObject(object, mapping.getObjectValueWithoutClassCheck(null, session));
+    }
+}
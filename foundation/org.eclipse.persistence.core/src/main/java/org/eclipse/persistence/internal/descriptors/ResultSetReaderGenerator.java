@@ -0,0 +1,313 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.descriptors;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.sql.ResultSet;
+import java.util.List;
+
+import org.eclipse.persistence.asm.ClassWriter;
+import org.eclipse.persistence.asm.EclipseLinkASMClassWriter;
+import org.eclipse.persistence.asm.Label;
+import org.eclipse.persistence.asm.ASMFactory;
+import org.eclipse.persistence.asm.MethodVisitor;
+import org.eclipse.persistence.asm.Opcodes;
+import org.eclipse.persistence.asm.Type;
+import org.eclipse.persistence.config.SystemProperties;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.databaseaccess.DatabaseAccessor;
+import org.eclipse.persistence.internal.databaseaccess.DatabasePlatform;
+import org.eclipse.persistence.internal.helper.ClassConstants;
+import org.eclipse.persistence.internal.security.PrivilegedAccessHelper;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.DirectToFieldMapping;
+import org.eclipse.persistence.queries.ObjectBuildingQuery;
+
+/**
+ * INTERNAL:
+ * Generate the {@link ResultSetReader} of a simple descriptor.
+ * <p>
+ * The generated reader is defined as a hidden nestmate of the descriptor's class, so it can set
+ * its private fields. For each non primary key mapping in column order it either reads the
+ * column with the typed result set getter and sets the field, or calls the mapping. The columns
+ * are only read directly for direct to field mappings without converter nor null value, of
+ * {@code String}, {@code long} or {@code int} type, set through the field of the descriptor's class.
+ * Null columns of object types are set as the mapping sets them. Only VARCHAR columns are read directly
+ * as strings, the other string columns are read through the accessor which trims CHAR columns and reads
+ * national columns depending on the platform.
+ * <p>
+ * The reader of
+ * <pre>
+ * class Employee { private long id; private String name; private int salary; private Long bonus; private Date hireDate; }
+ * </pre>
+ * is equivalent to
+ * <pre>
+ * void readFromResultSetIntoObject(ResultSet resultSet, Object object, ..., int shift, ...) {
+ *     Employee employee = (Employee)object;
+ *     if (isVarcharColumn(1, metaData, shift)) {
+ *         String name = resultSet.getString(1 + shift);
+ *         if (name != null) { employee.name = name; } else { readNullIntoObject(1, object, session); }
+ *     } else {
+ *         readFieldFromResultSetIntoObject(1, resultSet, object, session, accessor, metaData, shift, platform);
+ *     }
+ *     employee.salary = resultSet.getInt(2 + shift);
+ *     long bonus = resultSet.getLong(3 + shift);
+ *     if (!resultSet.wasNull()) { employee.bonus = Long.valueOf(bonus); } else { readNullIntoObject(3, object, session); }
+ *     readMappingFromResultSetIntoObject(4, resultSet, object, ..., shift, ...);
+ * }
+ * </pre>
+ */
+public class ResultSetReaderGenerator {
+
+    /** If the result set readers are generated, see {@link SystemProperties#GENERATE_RESULT_SET_READERS}. */
+    public static final boolean shouldGenerateResultSetReaders = PrivilegedAccessHelper.getSystemPropertyBoolean(SystemProperties.GENERATE_RESULT_SET_READERS, false);
+
+    protected static final String READER_SUFFIX = "$ResultSetReader";
+    protected static final String INIT = "<init>";
+    protected static final String READER = Type.getInternalName(ResultSetReader.class);
+    protected static final String RESULT_SET = Type.getInternalName(ResultSet.class);
+    protected static final String READ_DESCRIPTOR = "(Ljava/sql/ResultSet;Ljava/lang/Object;" + Type.getDescriptor(ObjectBuildingQuery.class)
+            + Type.getDescriptor(AbstractSession.class) + Type.getDescriptor(DatabaseAccessor.class)
+            + "Ljava/sql/ResultSetMetaData;I" + Type.getDescriptor(DatabasePlatform.class) + ")V";
+
+    // Local variables of the generated readFromResultSetIntoObject.
+    protected static final int THIS = 0;
+    protected static final int RESULT_SET_VARIABLE = 1;
+    protected static final int OBJECT = 2;
+    protected static final int SESSION = 4;
+    protected static final int ACCESSOR = 5;
+    protected static final int META_DATA = 6;
+    protected static final int SHIFT = 7;
+    protected static final int PLATFORM = 8;
+    protected static final int TYPED_OBJECT = 9;
+    protected static final int STRING_VALUE = 10;
+    protected static final int NUMBER_VALUE = 11;
+
+    private ResultSetReaderGenerator() {
+    }
+
+    /**
+     * Return a new reader of the non primary key mappings of the simple descriptor,
+     * or null if no mapping can be read directly or if the reader cannot be defined.
+     */
+    public static ResultSetReader generateResultSetReader(ClassDescriptor descriptor, int primaryKeySize, DatabasePlatform platform, AbstractSession session) {
+        Class<?> javaClass = descriptor.getJavaClass();
+        List<DatabaseMapping> mappings = descriptor.getMappings();
+        Field[] fields = new Field[mappings.size()];
+        boolean hasDirectField = false;
+        for (int index = primaryKeySize; index < fields.length; index++) {
+            fields[index] = getDirectlyReadField(mappings.get(index), javaClass);
+            hasDirectField |= fields[index] != null;
+        }
+        Module module = javaClass.getModule();
+        if (!hasDirectField || (module.isNamed() && !(module.canRead(ResultSet.class.getModule()) && module.canRead(ResultSetReader.class.getModule())))) {
+            return null;
+        }
+        byte[] bytes = writeClass(javaClass, fields, primaryKeySize);
+        try {
+            ResultSetReader.class.getModule().addReads(module);
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(javaClass, MethodHandles.lookup());
+            lookup = lookup.defineHiddenClass(bytes, true, MethodHandles.Lookup.ClassOption.NESTMATE);
+            MethodHandle constructor = lookup.findConstructor(lookup.lookupClass(), MethodType.methodType(void.class, DatabaseMapping[].class));
+            return (ResultSetReader)constructor.invoke(mappings.toArray(new DatabaseMapping[fields.length]));
+        } catch (Throwable exception) {
+            // The package of the class is not open to EclipseLink, the mappings are used.
+            session.log(SessionLog.FINEST, SessionLog.QUERY, "Result set reader not generated for " + javaClass.getName() + ": " + exception, null, null, false);
+            return null;
+        }
+    }
+
+    /**
+     * Return the field the mapping value can be read into directly from the result set, or null.
+     */
+    protected static Field getDirectlyReadField(DatabaseMapping mapping, Class<?> javaClass) {
+        if ((mapping.getClass() != DirectToFieldMapping.class) || !mapping.getAttributeAccessor().isInstanceVariableAttributeAccessor()) {
+            return null;
+        }
+        DirectToFieldMapping directMapping = (DirectToFieldMapping)mapping;
+        if ((directMapping.getConverter() != null) || (directMapping.getNullValue() != null)) {
+            return null;
+        }
+        Field field = ((InstanceVariableAttributeAccessor)mapping.getAttributeAccessor()).getAttributeField();
+        if ((field == null) || (field.getDeclaringClass() != javaClass) || Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+            return null;
+        }
+        Class<?> type = field.getType();
+        Class<?> objectClassification = directMapping.getAttributeObjectClassification();
+        if ((type == ClassConstants.STRING) && (objectClassification == ClassConstants.STRING)) {
+            return field;
+        }
+        if (((type == ClassConstants.PLONG) || (type == ClassConstants.LONG)) && (objectClassification == ClassConstants.LONG)) {
+            return field;
+        }
+        if (((type == ClassConstants.PINT) || (type == ClassConstants.INTEGER)) && (objectClassification == ClassConstants.INTEGER)) {
+            return field;
+        }
+        return null;
+    }
+
+    /**
+     * Return the bytes of the reader class reading the fields, the mappings without field are read through the mapping.
+     */
+    protected static byte[] writeClass(Class<?> javaClass, Field[] fields, int primaryKeySize) {
+        String javaClassName = Type.getInternalName(javaClass);
+        String className = javaClassName + READER_SUFFIX;
+        ClassWriter cw = new EclipseLinkASMClassWriter();
+        cw.visit(Opcodes.ACC_PUBLIC + Opcodes.ACC_FINAL + Opcodes.ACC_SUPER, className, null, READER, null);
+
+        MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, INIT, "([" + Type.getDescriptor(DatabaseMapping.class) + ")V", null, null);
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitVarInsn(Opcodes.ALOAD, 1);
+        mv.visitMethodInsn(Opcodes.INVOKESPECIAL, READER, INIT, "([" + Type.getDescriptor(DatabaseMapping.class) + ")V", false);
+        mv.visitInsn(Opcodes.RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "readFromResultSetIntoObject", READ_DESCRIPTOR, null, new String[] {"java/sql/SQLException"});
+        mv.visitVarInsn(Opcodes.ALOAD, OBJECT);
+        mv.visitTypeInsn(Opcodes.CHECKCAST, javaClassName);
+        mv.visitVarInsn(Opcodes.ASTORE, TYPED_OBJECT);
+        for (int index = primaryKeySize; index < fields.length; index++) {
+            Field field = fields[index];
+            if (field == null) {
+                // this.readMappingFromResultSetIntoObject(index, resultSet, object, query, session, accessor, metaData, shift, platform)
+                mv.visitVarInsn(Opcodes.ALOAD, THIS);
+                pushInt(mv, index);
+                for (int variable = RESULT_SET_VARIABLE; variable < SHIFT; variable++) {
+                    mv.visitVarInsn(Opcodes.ALOAD, variable);
+                }
+                mv.visitVarInsn(Opcodes.ILOAD, SHIFT);
+                mv.visitVarInsn(Opcodes.ALOAD, PLATFORM);
+                mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, READER, "readMappingFromResultSetIntoObject", "(I" + READ_DESCRIPTOR.substring(1), false);
+                continue;
+            }
+            Class<?> type = field.getType();
+            String fieldDescriptor = Type.getDescriptor(type);
+            if (type == ClassConstants.STRING) {
+                // if (this.isVarcharColumn(index, metaData, shift)) {
+                //     String value = resultSet.getString(index + shift);
+                //     if (value != null) typedObject.field = value; else this.readNullIntoObject(index, object, session);
+                // } else this.readFieldFromResultSetIntoObject(index, resultSet, object, session, accessor, metaData, shift, platform);
+                Label otherColumn = ASMFactory.createLabel();
+                Label nullValue = ASMFactory.createLabel();
+                Label end = ASMFactory.createLabel();
+                mv.visitVarInsn(Opcodes.ALOAD, THIS);
+                pushInt(mv, index);
+                mv.visitVarInsn(Opcodes.ALOAD, META_DATA);
+                mv.visitVarInsn(Opcodes.ILOAD, SHIFT);
+                mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, READER, "isVarcharColumn", "(ILjava/sql/ResultSetMetaData;I)Z", false);
+                mv.visitJumpInsn(Opcodes.IFEQ, otherColumn);
+                readColumn(mv, index, "getString", "(I)Ljava/lang/String;");
+                mv.visitVarInsn(Opcodes.ASTORE, STRING_VALUE);
+                mv.visitVarInsn(Opcodes.ALOAD, STRING_VALUE);
+                mv.visitJumpInsn(Opcodes.IFNULL, nullValue);
+                mv.visitVarInsn(Opcodes.ALOAD, TYPED_OBJECT);
+                mv.visitVarInsn(Opcodes.ALOAD, STRING_VALUE);
+                mv.visitFieldInsn(Opcodes.PUTFIELD, javaClassName, field.getName(), fieldDescriptor);
+                mv.visitJumpInsn(Opcodes.GOTO, end);
+                mv.visitLabel(nullValue);
+                readNull(mv, index);
+                mv.visitJumpInsn(Opcodes.GOTO, end);
+                mv.visitLabel(otherColumn);
+                mv.visitVarInsn(Opcodes.ALOAD, THIS);
+                pushInt(mv, index);
+                mv.visitVarInsn(Opcodes.ALOAD, RESULT_SET_VARIABLE);
+                mv.visitVarInsn(Opcodes.ALOAD, OBJECT);
+                mv.visitVarInsn(Opcodes.ALOAD, SESSION);
+                mv.visitVarInsn(Opcodes.ALOAD, ACCESSOR);
+                mv.visitVarInsn(Opcodes.ALOAD, META_DATA);
+                mv.visitVarInsn(Opcodes.ILOAD, SHIFT);
+                mv.visitVarInsn(Opcodes.ALOAD, PLATFORM);
+                mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, READER, "readFieldFromResultSetIntoObject", "(ILjava/sql/ResultSet;Ljava/lang/Object;"
+                        + Type.getDescriptor(AbstractSession.class) + Type.getDescriptor(DatabaseAccessor.class)
+                        + "Ljava/sql/ResultSetMetaData;I" + Type.getDescriptor(DatabasePlatform.class) + ")V", false);
+                mv.visitLabel(end);
+            } else if (type.isPrimitive()) {
+                // typedObject.field = resultSet.getLong(index + shift), as the mapping null columns are read as 0.
+                boolean isLong = type == ClassConstants.PLONG;
+                mv.visitVarInsn(Opcodes.ALOAD, TYPED_OBJECT);
+                readColumn(mv, index, isLong ? "getLong" : "getInt", isLong ? "(I)J" : "(I)I");
+                mv.visitFieldInsn(Opcodes.PUTFIELD, javaClassName, field.getName(), fieldDescriptor);
+            } else {
+                // long value = resultSet.getLong(index + shift);
+                // if (!resultSet.wasNull()) typedObject.field = Long.valueOf(value); else this.readNullIntoObject(index, object, session);
+                boolean isLong = type == ClassConstants.LONG;
+                Label nullValue = ASMFactory.createLabel();
+                Label end = ASMFactory.createLabel();
+                readColumn(mv, index, isLong ? "getLong" : "getInt", isLong ? "(I)J" : "(I)I");
+                mv.visitVarInsn(isLong ? Opcodes.LSTORE : Opcodes.ISTORE, NUMBER_VALUE);
+                mv.visitVarInsn(Opcodes.ALOAD, RESULT_SET_VARIABLE);
+                mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, RESULT_SET, "wasNull", "()Z", true);
+                mv.visitJumpInsn(Opcodes.IFNE, nullValue);
+                mv.visitVarInsn(Opcodes.ALOAD, TYPED_OBJECT);
+                mv.visitVarInsn(isLong ? Opcodes.LLOAD : Opcodes.ILOAD, NUMBER_VALUE);
+                if (isLong) {
+                    mv.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/Long", "valueOf", "(J)Ljava/lang/Long;", false);
+                } else {
+                    mv.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/Integer", "valueOf", "(I)Ljava/lang/Integer;", false);
+                }
+                mv.visitFieldInsn(Opcodes.PUTFIELD, javaClassName, field.getName(), fieldDescriptor);
+                mv.visitJumpInsn(Opcodes.GOTO, end);
+                mv.visitLabel(nullValue);
+                readNull(mv, index);
+                mv.visitLabel(end);
+            }
+        }
+        mv.visitInsn(Opcodes.RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    /**
+     * Call readNullIntoObject for the mapping at index.
+     */
+    protected static void readNull(MethodVisitor mv, int index) {
+        mv.visitVarInsn(Opcodes.ALOAD, THIS);
+        pushInt(mv, index);
+        mv.visitVarInsn(Opcodes.ALOAD, OBJECT);
+        mv.visitVarInsn(Opcodes.ALOAD, SESSION);
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, READER, "readNullIntoObject", "(ILjava/lang/Object;" + Type.getDescriptor(AbstractSession.class) + ")V", false);
+    }
+
+    /**
+     * Call the result set getter on the column of the mapping at index.
+     */
+    protected static void readColumn(MethodVisitor mv, int index, String getter, String getterDescriptor) {
+        mv.visitVarInsn(Opcodes.ALOAD, RESULT_SET_VARIABLE);
+        pushInt(mv, index);
+        mv.visitVarInsn(Opcodes.ILOAD, SHIFT);
+        mv.visitInsn(Opcodes.IADD);
+        mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, RESULT_SET, getter, getterDescriptor, true);
+    }
+
+    protected static void pushInt(MethodVisitor mv, int value) {
+        if (value <= 5) {
+            mv.visitInsn(Opcodes.ICONST_0 + value);
+        } else if (value <= Byte.MAX_VALUE) {
+            mv.visitIntInsn(Opcodes.BIPUSH, value);
+        } else {
+            mv.visitIntInsn(Opcodes.SIPUSH, value);
+        }
+    }
+}
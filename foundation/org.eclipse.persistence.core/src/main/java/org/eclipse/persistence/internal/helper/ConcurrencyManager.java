@@ -474,6 +474,34 @@ public boolean isAcquired() {
         return depth.get() > 0;
     }
 
+    /**
+     * Wait until another thread releases this manager, or the timeout elapses.
+     * The wait is on the instance lock condition that is signaled on release, so unlike waiting on the
+     * object's monitor it does not pin the carrier thread of a virtual thread.
+     * Return immediately if the manager is not acquired or is acquired by the current thread.
+     * @param timeout the maximum time to wait in milliseconds, 0 waits until released.
+     * @return true if the manager is no longer acquired by another thread.
+     */
+    public boolean awaitRelease(long timeout) throws InterruptedException {
+        Thread currentThread = Thread.currentThread();
+        instanceLock.lock();
+        try {
+            long remaining = TimeUnit.MILLISECONDS.toNanos(timeout);
+            while (isAcquired() && (this.activeThread != currentThread)) {
+                if (timeout == 0) {
+                    instanceLockCondition.await();
+                } else if (remaining > 0) {
+                    remaining = instanceLockCondition.awaitNanos(remaining);
+                } else {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            instanceLock.unlock();
+        }
+    }
+
     /**
      * INTERNAL:
      * Used byt the refresh process to determine if this concurrency manager is locked by
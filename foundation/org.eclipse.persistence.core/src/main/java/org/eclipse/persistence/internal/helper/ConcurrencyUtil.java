@@ -40,6 +40,8 @@
 import java.util.Set;
 import java.util.Vector;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 public class ConcurrencyUtil {
 
@@ -92,7 +94,7 @@ public class ConcurrencyUtil {
      */
     private final AtomicLong currentMassiveDumpMessageLogDumpNumber = new AtomicLong(0);
 
-    private final Object dateWhenLastConcurrencyManagerStateFullDumpWasPerformedLock = new Object();
+    private final Lock dateWhenLastConcurrencyManagerStateFullDumpWasPerformedLock = new ReentrantLock();
 
     /**
      * Whenever we decide to log  a massive dump of the state of the concurrency manager we need to make this date move forward.
@@ -441,7 +443,7 @@ public boolean tooMuchTimeHasElapsed(final long whileStartTimeMillis, final long
      * This log message will potentially create a massive dump in the server log file. So we need to check when was the
      * last time that the masive dump was produced and decide if we can log again the state of the concurrency manager.
      * <p>
-     * The access to dateWhenLastConcurrencyManagerStateFullDumpWasPerformedLock is synchronized, because we do not want
+     * The access to dateWhenLastConcurrencyManagerStateFullDumpWasPerformedLock is guarded by a lock, because we do not want
      * two threads in parallel to star deciding to dump the complete state of the concurrency manager at the same time.
      * Only one thread should succeed in producing the massive dump in a given time window.
      *
@@ -451,7 +453,8 @@ public void dumpConcurrencyManagerInformationIfAppropriate() {
         // but we want to make sure accessing the dateWhenLastConcurrencyManagerStateFullDumpWasPerformedLock is only
         // done
         // by cone thread at a time
-        synchronized (dateWhenLastConcurrencyManagerStateFullDumpWasPerformedLock) {
+        dateWhenLastConcurrencyManagerStateFullDumpWasPerformedLock.lock();
+        try {
             final long maxAllowedFrequencyToProduceMassiveDumpLogMessage = getMaxAllowedFrequencyToProduceMassiveDumpLogMessage();
             boolean tooMuchTimeHasElapsedSinceLastLoggingOfMassiveMessage = tooMuchTimeHasElapsed(
                     dateWhenLastConcurrencyManagerStateFullDumpWasPerformed,
@@ -466,6 +469,8 @@ public void dumpConcurrencyManagerInformationIfAppropriate() {
 
             // we should proceed with making the big log dump - update the date of when the big dump was last done
             dateWhenLastConcurrencyManagerStateFullDumpWasPerformed = System.currentTimeMillis();
+        } finally {
+            dateWhenLastConcurrencyManagerStateFullDumpWasPerformedLock.unlock();
         }
 
         // do the "MassiveDump" logging if enough time has passed since the previous massive dump logging
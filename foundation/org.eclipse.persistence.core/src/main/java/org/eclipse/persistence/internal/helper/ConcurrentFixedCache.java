@@ -18,16 +18,21 @@
 import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Provide a concurrent fixed size caching mechanism.
  * This is used for caching EJBQL parsed queries, Update calls,
  * and other places a fixed size cache is needed.
  * The default fixed size is 100.
+ * The hits, misses and evictions of the cache are counted.
  */
 public class ConcurrentFixedCache<K, V> implements Serializable {
     protected int maxSize;
     protected Map<K, V> cache;
+    protected final LongAdder hits = new LongAdder();
+    protected final LongAdder misses = new LongAdder();
+    protected final LongAdder evictions = new LongAdder();
 
     /**
      * Create a new concurrent cache, with a fixed size of 100.
@@ -66,7 +71,13 @@ public void setMaxSize(int maxSize) {
      * If the EJBQL has not been cached, null is returned.
      */
     public V get(Object key) {
-        return this.cache.get(key);
+        V value = this.cache.get(key);
+        if (value == null) {
+            this.misses.increment();
+        } else {
+            this.hits.increment();
+        }
+        return value;
     }
 
     public void clear(){
@@ -90,8 +101,8 @@ public void put(K key, V value) {
                 while ((this.cache.size() > this.maxSize) && iterator.hasNext()) {
                     K next = iterator.next();
                     // Do not remove what was just put in.
-                    if (next != key) {
-                        this.cache.remove(next);
+                    if ((next != key) && (this.cache.remove(next) != null)) {
+                        this.evictions.increment();
                     }
                 }
             } catch (Exception alreadyGone) {
@@ -107,6 +118,27 @@ public void remove(Object key) {
         this.cache.remove(key);
     }
 
+    /**
+     * Return the number of lookups that found a value.
+     */
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Return the number of lookups that did not find a value.
+     */
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Return the number of values removed from the cache as it was full.
+     */
+    public long getEvictions() {
+        return this.evictions.sum();
+    }
+
     /**
      * Return the cache.
      */
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.helper;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Provide a concurrent fixed size cache which keeps the most frequently used values.
+ * This is used for caching JPQL parsed queries.
+ * <p>
+ * Gets are not synchronized, they only record the frequency of the key in a compact
+ * count-min sketch which counters are halved periodically, so old frequencies fade.
+ * New values are put in a small FIFO window, so recently used keys have a chance to build
+ * their frequency. The key leaving the full window is only admitted in the main part of the
+ * cache if it is used more often than the least frequently used of a sample of the main keys,
+ * otherwise it is evicted itself. This keeps keys used once from evicting frequently used keys.
+ */
+public class ConcurrentTinyLFUCache<K, V> extends ConcurrentFixedCache<K, V> {
+    /** Number of main keys compared to select the key to evict. */
+    protected static final int SAMPLE_SIZE = 8;
+
+    protected FrequencySketch sketch;
+    protected Object[] window;
+    protected int windowIndex;
+    protected Object[] main;
+    protected int mainIndex;
+
+    /**
+     * Create a new concurrent cache, with a fixed size of 100.
+     */
+    public ConcurrentTinyLFUCache() {
+        this(100);
+    }
+
+    /**
+     * Create a new concurrent cache, with the max size.
+     */
+    public ConcurrentTinyLFUCache(int maxSize) {
+        super(maxSize);
+        initialize(maxSize);
+    }
+
+    /**
+     * Size the window, the main part and the frequency sketch for the max size.
+     * The window holds 1% of the keys.
+     */
+    protected void initialize(int maxSize) {
+        int windowSize = Math.max(1, maxSize / 100);
+        this.window = new Object[windowSize];
+        this.main = new Object[Math.max(0, maxSize - windowSize)];
+        this.windowIndex = 0;
+        this.mainIndex = 0;
+        this.sketch = new FrequencySketch(maxSize);
+    }
+
+    /**
+     * Set the fixed size of the cache.
+     * The cache is cleared.
+     */
+    @Override
+    public synchronized void setMaxSize(int maxSize) {
+        super.setMaxSize(maxSize);
+        this.cache.clear();
+        initialize(maxSize);
+    }
+
+    /**
+     * Return the value cached for the key, or null, and record the use of the key.
+     */
+    @Override
+    public V get(Object key) {
+        V value = super.get(key);
+        this.sketch.increment(key);
+        return value;
+    }
+
+    @Override
+    public synchronized void clear() {
+        super.clear();
+        Arrays.fill(this.window, null);
+        Arrays.fill(this.main, null);
+    }
+
+    /**
+     * Add the value to the cache.
+     * The value is put in the window, which may evict the key leaving the window or a main key.
+     */
+    @Override
+    public synchronized void put(K key, V value) {
+        if (this.maxSize == 0) {
+            return;
+        }
+        if (this.cache.put(key, value) != null) {
+            return;
+        }
+        Object candidate = this.window[this.windowIndex];
+        this.window[this.windowIndex] = key;
+        this.windowIndex = (this.windowIndex + 1) % this.window.length;
+        if ((candidate == null) || !this.cache.containsKey(candidate)) {
+            return;
+        }
+        if (this.cache.size() <= this.maxSize) {
+            // The main part is not full, removed keys leave free slots.
+            for (int index = 0; index < this.main.length; index++) {
+                if (isFree(this.main[index])) {
+                    this.main[index] = candidate;
+                    return;
+                }
+            }
+        }
+        int victimIndex = -1;
+        int victimFrequency = Integer.MAX_VALUE;
+        int sampleSize = Math.min(SAMPLE_SIZE, this.main.length);
+        for (int sample = 0; sample < sampleSize; sample++) {
+            int index = (this.mainIndex + sample) % this.main.length;
+            Object resident = this.main[index];
+            if (isFree(resident)) {
+                victimIndex = index;
+                victimFrequency = -1;
+                break;
+            }
+            int frequency = this.sketch.frequency(resident);
+            if (frequency < victimFrequency) {
+                victimIndex = index;
+                victimFrequency = frequency;
+            }
+        }
+        if (victimIndex < 0) {
+            this.cache.remove(candidate);
+            this.evictions.increment();
+            return;
+        }
+        this.mainIndex = (victimIndex + 1) % this.main.length;
+        if (victimFrequency < 0) {
+            this.main[victimIndex] = candidate;
+        } else if (this.sketch.frequency(candidate) > victimFrequency) {
+            this.cache.remove(this.main[victimIndex]);
+            this.main[victimIndex] = candidate;
+            this.evictions.increment();
+        } else {
+            this.cache.remove(candidate);
+            this.evictions.increment();
+        }
+    }
+
+    /**
+     * Return if the slot of the window or main part does not hold a cached key,
+     * keys can be removed directly from the cache.
+     */
+    protected boolean isFree(Object key) {
+        return (key == null) || !this.cache.containsKey(key);
+    }
+
+    /**
+     * Count-min sketch of the frequency of the keys, with 4 rows of 4 bit counters.
+     * Counters are updated without synchronization, so concurrent updates can be lost,
+     * which only makes the frequencies approximate.
+     */
+    protected static class FrequencySketch implements Serializable {
+        private static final int[] SEEDS = {0x97cb3127, 0xab7b3bcb, 0x91b2d123, 0xc4ceb9fe};
+        private static final int MAX_FREQUENCY = 15;
+
+        protected final byte[] table;
+        protected final int width;
+        protected final int sampleSize;
+        protected int additions;
+
+        public FrequencySketch(int maxSize) {
+            this.width = Integer.highestOneBit(Math.max(16, maxSize - 1) << 1);
+            this.table = new byte[this.width * SEEDS.length];
+            this.sampleSize = this.width * 10;
+        }
+
+        /**
+         * Return the estimated number of uses of the key.
+         */
+        public int frequency(Object key) {
+            int hash = spread(key.hashCode());
+            int frequency = MAX_FREQUENCY;
+            for (int row = 0; row < SEEDS.length; row++) {
+                frequency = Math.min(frequency, this.table[indexOf(hash, row)]);
+            }
+            return frequency;
+        }
+
+        /**
+         * Record a use of the key, halve all counters once enough uses are recorded.
+         */
+        public void increment(Object key) {
+            int hash = spread(key.hashCode());
+            boolean added = false;
+            for (int row = 0; row < SEEDS.length; row++) {
+                int index = indexOf(hash, row);
+                if (this.table[index] < MAX_FREQUENCY) {
+                    this.table[index]++;
+                    added = true;
+                }
+            }
+            if (added && (++this.additions >= this.sampleSize)) {
+                reset();
+            }
+        }
+
+        protected void reset() {
+            for (int index = 0; index < this.table.length; index++) {
+                this.table[index] = (byte)(this.table[index] >>> 1);
+            }
+            this.additions = this.additions / 2;
+        }
+
+        protected int indexOf(int hash, int row) {
+            int rowHash = hash * SEEDS[row];
+            rowHash += rowHash >>> 16;
+            return (row * this.width) + (rowHash & (this.width - 1));
+        }
+
+        protected static int spread(int hash) {
+            hash ^= hash >>> 17;
+            hash *= 0xed5ad4bb;
+            hash ^= hash >>> 11;
+            return hash;
+        }
+    }
+}
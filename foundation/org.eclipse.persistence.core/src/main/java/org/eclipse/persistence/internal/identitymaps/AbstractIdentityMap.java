@@ -15,6 +15,7 @@
 package org.eclipse.persistence.internal.identitymaps;
 
 import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.invalidation.CacheInvalidationPolicy;
 import org.eclipse.persistence.internal.helper.ClassConstants;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 
@@ -285,12 +286,13 @@ public Object get(Object primaryKey) {
     @Override
     public Map<Object, Object> getAllFromIdentityMapWithEntityPK(Object[] pkList, ClassDescriptor descriptor, AbstractSession session){
         HashMap<Object, Object> map = new HashMap<>();
-        CacheKey cachedObject = null;
+        CacheKey[] cacheKeys = getAllCacheKeys(pkList, false);
+        CacheInvalidationPolicy invalidationPolicy = descriptor.getCacheInvalidationPolicy();
         long currentTime = System.currentTimeMillis();
-        for (Object pk : pkList){
-            cachedObject = getCacheKey(pk, false);
-            if ((cachedObject != null && cachedObject.getObject() != null && !descriptor.getCacheInvalidationPolicy().isInvalidated(cachedObject, currentTime))){
-                map.put(pk, cachedObject.getObject());
+        for (int index = 0; index < pkList.length; index++) {
+            CacheKey cachedObject = cacheKeys[index];
+            if ((cachedObject != null && cachedObject.getObject() != null && !invalidationPolicy.isInvalidated(cachedObject, currentTime))){
+                map.put(pkList[index], cachedObject.getObject());
             }
         }
         return map;
@@ -307,12 +309,13 @@ public Map<Object, Object> getAllFromIdentityMapWithEntityPK(Object[] pkList, Cl
     @Override
     public Map<Object, CacheKey> getAllCacheKeysFromIdentityMapWithEntityPK(Object[] pkList, ClassDescriptor descriptor, AbstractSession session){
         HashMap<Object, CacheKey> map = new HashMap<>();
-        CacheKey cachedObject = null;
+        CacheKey[] cacheKeys = getAllCacheKeys(pkList, false);
+        CacheInvalidationPolicy invalidationPolicy = descriptor.getCacheInvalidationPolicy();
         long currentTime = System.currentTimeMillis();
-        for (Object pk : pkList){
-            cachedObject = getCacheKey(pk, false);
-            if ((cachedObject != null && cachedObject.getObject() != null && !descriptor.getCacheInvalidationPolicy().isInvalidated(cachedObject, currentTime))){
-                map.put(pk, cachedObject);
+        for (int index = 0; index < pkList.length; index++) {
+            CacheKey cachedObject = cacheKeys[index];
+            if ((cachedObject != null && cachedObject.getObject() != null && !invalidationPolicy.isInvalidated(cachedObject, currentTime))){
+                map.put(pkList[index], cachedObject);
             }
         }
         return map;
@@ -81,6 +81,32 @@ public CacheKey getCacheKey(Object primaryKeys, boolean forMerge) {
         return cacheKey;
     }
 
+    /**
+     * Access the objects within the table for the given primaryKeys.
+     * Move all the accessed keys to the top of the order keys linked list under a single lock.
+     */
+    @Override
+    public CacheKey[] getAllCacheKeys(Object[] primaryKeys, boolean forMerge) {
+        CacheKey[] cacheKeys = new CacheKey[primaryKeys.length];
+        boolean found = false;
+        for (int index = 0; index < primaryKeys.length; index++) {
+            CacheKey cacheKey = super.getCacheKey(primaryKeys[index], forMerge);
+            cacheKeys[index] = cacheKey;
+            found = found || (cacheKey != null);
+        }
+        if (found) {
+            synchronized (this.first) {
+                for (CacheKey cacheKey : cacheKeys) {
+                    if (cacheKey != null) {
+                        removeLink((LinkedCacheKey)cacheKey);
+                        insertLink((LinkedCacheKey)cacheKey);
+                    }
+                }
+            }
+        }
+        return cacheKeys;
+    }
+
     /**
      * Insert a new element into the linked list of LinkedCacheKeys.
      * New elements (Recently Used) are added at the end (last).
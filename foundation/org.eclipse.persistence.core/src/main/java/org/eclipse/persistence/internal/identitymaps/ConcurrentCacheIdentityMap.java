@@ -0,0 +1,348 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.identitymaps;
+
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+
+/**
+ * <p><b>Purpose</b>: A fixed size LRU cache that does not serialize cache hits.<p>
+ * Like the {@link CacheIdentityMap} the LRU order is kept in a linked list of {@link LinkedCacheKey}s,
+ * but the list is never updated by the thread performing the lookup.
+ * Each hit is recorded into a lossy, striped read buffer and new or removed keys are queued into a write buffer.
+ * The buffers are drained in batches by whichever thread obtains the eviction lock through a non-blocking try lock,
+ * so concurrent cache hits never wait on a shared monitor.
+ * When the read buffer of a stripe is full older hits are overwritten,
+ * which only makes the recency order approximate under extreme contention.
+ * <p><b>Responsibilities</b>:<ul>
+ *    <li> Guarantees identity through primary key values
+ *    <li> Keeps the LRU linked list updated from the read and write buffers.
+ *    <li> Evicts the least recently used keys once the max size is exceeded.
+ * </ul>
+ * @see CacheIdentityMap
+ * @since 5.0
+ */
+public class ConcurrentCacheIdentityMap extends FullIdentityMap {
+
+    /** Number of hits each read buffer stripe can hold before it is drained, must be a power of two. */
+    protected static final int READ_BUFFER_SIZE = 32;
+
+    /** Mask used to compute the slot of a hit within its stripe. */
+    protected static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+
+    /** Number of read buffer stripes, the next power of two of the available processors. */
+    protected static final int READ_BUFFER_STRIPES = stripesFor(Runtime.getRuntime().availableProcessors());
+
+    /** Provide handles on the linked list, only accessed while holding the eviction lock. */
+    protected LinkedCacheKey first;
+
+    /** Provide handles on the linked list, only accessed while holding the eviction lock. */
+    protected LinkedCacheKey last;
+
+    /** Number of keys linked into the LRU list, only accessed while holding the eviction lock. */
+    protected int linkedSize;
+
+    /** Recorded cache hits, READ_BUFFER_SIZE slots for each stripe. */
+    protected AtomicReferenceArray<LinkedCacheKey> readBuffer;
+
+    /** Number of hits recorded into each stripe. */
+    protected AtomicLongArray readBufferCounts;
+
+    /** Keys put into the map that still need to be linked. */
+    protected Queue<LinkedCacheKey> pendingInserts;
+
+    /** Keys removed from the map that still need to be unlinked. */
+    protected Queue<LinkedCacheKey> pendingRemovals;
+
+    /** Guards the LRU list, readers only ever try to obtain it. */
+    protected ReentrantLock evictionLock;
+
+    public ConcurrentCacheIdentityMap(int size, ClassDescriptor descriptor, AbstractSession session, boolean isolated) {
+        super(size, descriptor, session, isolated);
+        initializeBuffers();
+    }
+
+    /**
+     * Return the smallest power of two greater or equal to the number of processors.
+     */
+    private static int stripesFor(int processors) {
+        int stripes = 1;
+        while (stripes < processors) {
+            stripes <<= 1;
+        }
+        return stripes;
+    }
+
+    /**
+     * Build the empty LRU list and buffers.
+     */
+    protected void initializeBuffers() {
+        this.first = new LinkedCacheKey(CacheId.EMPTY, null, null, 0, isIsolated);
+        this.last = new LinkedCacheKey(CacheId.EMPTY, null, null, 0, isIsolated);
+        this.first.setNext(this.last);
+        this.last.setPrevious(this.first);
+        this.linkedSize = 0;
+        this.readBuffer = new AtomicReferenceArray<>(READ_BUFFER_STRIPES * READ_BUFFER_SIZE);
+        this.readBufferCounts = new AtomicLongArray(READ_BUFFER_STRIPES);
+        this.pendingInserts = new ConcurrentLinkedQueue<>();
+        this.pendingRemovals = new ConcurrentLinkedQueue<>();
+        this.evictionLock = new ReentrantLock();
+    }
+
+    /**
+     * INTERNAL:
+     * Clones itself, the clone gets its own LRU list containing the cloned keys.
+     */
+    @Override
+    public IdentityMap clone() {
+        ConcurrentCacheIdentityMap clone = (ConcurrentCacheIdentityMap)super.clone();
+        clone.initializeBuffers();
+        for (Iterator<CacheKey> iterator = clone.getCacheKeys().values().iterator(); iterator.hasNext();) {
+            LinkedCacheKey key = (LinkedCacheKey)iterator.next();
+            key.setNext(null);
+            key.setPrevious(null);
+            clone.insertLink(key);
+        }
+        return clone;
+    }
+
+    @Override
+    public CacheKey createCacheKey(Object primaryKey, Object object, Object writeLockValue, long readTime) {
+        return new LinkedCacheKey(primaryKey, object, writeLockValue, readTime, isIsolated);
+    }
+
+    /**
+     * Access the object within the table for the given primaryKey.
+     * The hit is recorded in the read buffer, the LRU list is only updated when the buffer is drained.
+     * @param primaryKey is the primary key for the object to search for.
+     * @return the LinkedCacheKey or null if none found for primaryKey
+     */
+    @Override
+    public CacheKey getCacheKey(Object primaryKey, boolean forMerge) {
+        CacheKey cacheKey = this.cacheKeys.get(primaryKey);
+        if (cacheKey != null) {
+            recordRead((LinkedCacheKey)cacheKey);
+        }
+        return cacheKey;
+    }
+
+    /**
+     * Record the hit into the stripe of the current thread.
+     * A full stripe triggers a drain attempt, which is skipped if another thread is already draining.
+     */
+    protected void recordRead(LinkedCacheKey key) {
+        int stripe = (int)(Thread.currentThread().getId() * 0x9E3779B9L) & (READ_BUFFER_STRIPES - 1);
+        long count = this.readBufferCounts.getAndIncrement(stripe);
+        int slot = (int)(count & READ_BUFFER_MASK);
+        this.readBuffer.lazySet((stripe * READ_BUFFER_SIZE) + slot, key);
+        if (slot == READ_BUFFER_MASK) {
+            tryDrainBuffers();
+        }
+    }
+
+    /**
+     * Also queue the link if the cacheKey is put.
+     */
+    @Override
+    protected CacheKey putCacheKeyIfAbsent(CacheKey searchKey) {
+        CacheKey cacheKey = super.putCacheKeyIfAbsent(searchKey);
+        if (cacheKey == null) {
+            this.pendingInserts.add((LinkedCacheKey)searchKey);
+            tryDrainBuffers();
+        }
+        return cacheKey;
+    }
+
+    /**
+     * Remove the LinkedCacheKey from the cache and queue its removal from the linked list.
+     * @return the object held within the removed LinkedCacheKey.
+     */
+    @Override
+    public Object remove(CacheKey key) {
+        Object object = super.remove(key);
+        // The key may be null if was missing, just null should be returned in this case.
+        if (key != null) {
+            this.pendingRemovals.add((LinkedCacheKey)key);
+            tryDrainBuffers();
+        }
+        return object;
+    }
+
+    /**
+     * Drain the buffers if no other thread is currently draining them.
+     * This never blocks, any hits missed here will be picked up by the next drain.
+     */
+    protected void tryDrainBuffers() {
+        if (this.evictionLock.tryLock()) {
+            try {
+                drainBuffers();
+            } finally {
+                this.evictionLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Apply the buffered inserts, removals and hits to the LRU list, then evict down to the max size.
+     * Callers of this method must hold the eviction lock.
+     */
+    protected void drainBuffers() {
+        LinkedCacheKey key = this.pendingInserts.poll();
+        while (key != null) {
+            // The key may have been removed before its insert was drained.
+            if (key.getOwningMap() == this) {
+                insertLink(key);
+            }
+            key = this.pendingInserts.poll();
+        }
+        key = this.pendingRemovals.poll();
+        while (key != null) {
+            removeLink(key);
+            key = this.pendingRemovals.poll();
+        }
+        int length = this.readBuffer.length();
+        for (int index = 0; index < length; index++) {
+            if (this.readBuffer.get(index) != null) {
+                key = this.readBuffer.getAndSet(index, null);
+                // Only keys still linked are moved, removed keys must not be re-linked.
+                if ((key != null) && (key.getPrevious() != null)) {
+                    removeLink(key);
+                    insertLink(key);
+                }
+            }
+        }
+        ensureFixedSize();
+    }
+
+    /**
+     * Reduces the size of the receiver down to the maxSize removing objects from the
+     * end of the linked list.
+     * Callers of this method must hold the eviction lock.
+     */
+    protected void ensureFixedSize() {
+        // Each linked key is tried at most once, keys that are locked are moved to the start of the list
+        // and are evicted by a later drain.
+        int attempts = this.linkedSize;
+        // protect the case where someone attempts to break the cache by
+        // setting max size to 0.
+        while (getMaxSize() > 0 && this.linkedSize > getMaxSize() && attempts-- > 0) {
+            LinkedCacheKey key = removeLink(this.last.getPrevious());
+            if (!evict(key)) {
+                insertLink(key);
+            }
+        }
+    }
+
+    /**
+     * Remove the least recently used key from the map, unless it is locked.
+     * The drain can be triggered by a cache hit, so it must not wait on another thread's lock.
+     * Only the exact key is removed, as the primary key may have been put again under a new key.
+     * @return false if the key is locked and was not evicted.
+     */
+    protected boolean evict(LinkedCacheKey key) {
+        if (!key.acquireIfUnownedNoWait()) {
+            return false;
+        }
+        try {
+            if (this.cacheKeys.remove(key.getKey(), key)) {
+                key.setOwningMap(null);
+                key.setInvalidationState(CacheKey.CACHE_KEY_INVALID);
+            }
+        } finally {
+            key.release();
+        }
+        return true;
+    }
+
+    /**
+     * Insert a new element into the linked list of LinkedCacheKeys.
+     * New elements (Recently Used) are added at the start (first).
+     * Callers of this method must hold the eviction lock.
+     * @return the added LinkedCacheKey
+     */
+    protected LinkedCacheKey insertLink(LinkedCacheKey key) {
+        this.first.getNext().setPrevious(key);
+        key.setNext(this.first.getNext());
+        key.setPrevious(this.first);
+        this.first.setNext(key);
+        this.linkedSize++;
+        return key;
+    }
+
+    /**
+     * Remove the LinkedCacheKey from the linked list.
+     * Callers of this method must hold the eviction lock.
+     * @return the removed LinkedCacheKey.
+     */
+    protected LinkedCacheKey removeLink(LinkedCacheKey key) {
+        if (key.getPrevious() == null || key.getNext() == null) {
+            // Already unlinked, or its insert was never drained.
+            return key;
+        }
+        key.getPrevious().setNext(key.getNext());
+        key.getNext().setPrevious(key.getPrevious());
+        key.setNext(null);
+        key.setPrevious(null);
+        this.linkedSize--;
+        return key;
+    }
+
+    /**
+     * Allow for the cache keys to be iterated on in LRU order, most recently used first.
+     * Pending hits are applied first, so the order reflects all hits recorded so far.
+     * This is mainly intended for testing and monitoring.
+     */
+    public Enumeration<CacheKey> keysInAccessOrder() {
+        List<CacheKey> keys = new ArrayList<>(getSize());
+        this.evictionLock.lock();
+        try {
+            drainBuffers();
+            LinkedCacheKey key = this.first.getNext();
+            while (key != this.last) {
+                keys.add(key);
+                key = key.getNext();
+            }
+        } finally {
+            this.evictionLock.unlock();
+        }
+        return new IdentityMapKeyEnumeration(keys, false);
+    }
+
+    /**
+     * INTERNAL:
+     * This method will be used to update the max cache size, any objects exceeding the max cache size will
+     * be removed from the cache.
+     */
+    @Override
+    public void updateMaxSize(int maxSize) {
+        this.evictionLock.lock();
+        try {
+            setMaxSize(maxSize);
+            drainBuffers();
+        } finally {
+            this.evictionLock.unlock();
+        }
+    }
+}
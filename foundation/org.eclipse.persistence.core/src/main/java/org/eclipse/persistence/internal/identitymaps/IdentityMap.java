@@ -134,6 +134,19 @@ public interface IdentityMap extends Cloneable{
      */
     CacheKey getCacheKey(Object primaryKey, boolean forMerge);
 
+    /**
+     * Get the cache keys (with objects) for the primary keys, in the same order.
+     * The entry is null for the primary keys that are not in the cache.
+     * Maps that lock on access override this to resolve all the keys with a single lock.
+     */
+    default CacheKey[] getAllCacheKeys(Object[] primaryKeys, boolean forMerge) {
+        CacheKey[] cacheKeys = new CacheKey[primaryKeys.length];
+        for (int index = 0; index < primaryKeys.length; index++) {
+            cacheKeys[index] = getCacheKey(primaryKeys[index], forMerge);
+        }
+        return cacheKeys;
+    }
+
     /**
      * Get the cache key (with object) for the primary key in order to acquire a lock.
      */
@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.identitymaps;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <p><b>Purpose</b>: A bounded store of serialized objects kept outside of the Java heap.<p>
+ * The store owns one direct {@link ByteBuffer} that is split into fixed size blocks.
+ * Each entry is written into as many free blocks as it requires, only the block indexes and the
+ * entry's version and read time are kept on the heap.
+ * When there are not enough free blocks the least recently used entries are evicted.
+ * <p><b>Responsibilities</b>:<ul>
+ *    <li> Stores and returns the serialized bytes by primary key ({@link CacheId}).
+ *    <li> Keeps the memory used within a fixed size, evicting in LRU order.
+ *    <li> Counts hits, misses and evictions.
+ * </ul>
+ * @since 5.0
+ */
+public class OffHeapCacheStore {
+
+    /** Default size of the blocks the memory is split into. */
+    public static final int DEFAULT_BLOCK_SIZE = 256;
+
+    /** The off-heap memory, only accessed while holding the lock. */
+    protected final ByteBuffer memory;
+
+    /** Size of each block in bytes. */
+    protected final int blockSize;
+
+    /** Stack of the free block indexes. */
+    protected final int[] freeBlocks;
+
+    /** Number of free block indexes on the stack. */
+    protected int numberOfFreeBlocks;
+
+    /** The stored entries by primary key, in least recently used order. */
+    protected final LinkedHashMap<Object, Entry> entries;
+
+    /** Guards the memory, the free blocks and the entries. */
+    protected final ReentrantLock lock;
+
+    protected long hits;
+    protected long misses;
+    protected long evictions;
+
+    /**
+     * Allocate the off-heap memory for the store.
+     * @param size the maximum number of bytes used off-heap, rounded down to the block size.
+     * @param blockSize the size of the blocks the memory is split into.
+     */
+    public OffHeapCacheStore(long size, int blockSize) {
+        int numberOfBlocks = (int)Math.min(size / blockSize, Integer.MAX_VALUE / blockSize);
+        if (numberOfBlocks <= 0) {
+            throw new IllegalArgumentException("size: " + size);
+        }
+        this.blockSize = blockSize;
+        this.memory = ByteBuffer.allocateDirect(numberOfBlocks * blockSize);
+        this.freeBlocks = new int[numberOfBlocks];
+        for (int index = 0; index < numberOfBlocks; index++) {
+            this.freeBlocks[index] = numberOfBlocks - index - 1;
+        }
+        this.numberOfFreeBlocks = numberOfBlocks;
+        this.entries = new LinkedHashMap<>(64);
+        this.lock = new ReentrantLock();
+    }
+
+    /**
+     * Store the bytes for the primary key, replacing any previous entry.
+     * Least recently used entries are evicted to make room.
+     * @return false if the bytes are larger than the whole store and were not stored.
+     */
+    public boolean put(Object primaryKey, byte[] bytes, Object writeLockValue, long readTime) {
+        int required = (bytes.length + this.blockSize - 1) / this.blockSize;
+        if (required > this.freeBlocks.length) {
+            remove(primaryKey);
+            return false;
+        }
+        this.lock.lock();
+        try {
+            Entry previous = this.entries.remove(primaryKey);
+            if (previous != null) {
+                free(previous);
+            }
+            Iterator<Entry> leastRecentlyUsed = this.entries.values().iterator();
+            while (this.numberOfFreeBlocks < required) {
+                free(leastRecentlyUsed.next());
+                leastRecentlyUsed.remove();
+                this.evictions++;
+            }
+            int[] blocks = new int[required];
+            for (int index = 0; index < required; index++) {
+                int block = this.freeBlocks[--this.numberOfFreeBlocks];
+                blocks[index] = block;
+                int offset = index * this.blockSize;
+                this.memory.put(block * this.blockSize, bytes, offset, Math.min(this.blockSize, bytes.length - offset));
+            }
+            this.entries.put(primaryKey, new Entry(blocks, bytes.length, writeLockValue, readTime));
+            return true;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Return the entry stored for the primary key, with its bytes copied back on-heap, or null if none.
+     */
+    public Entry get(Object primaryKey) {
+        this.lock.lock();
+        try {
+            // Remove and put back to move the entry to the most recently used position.
+            Entry entry = this.entries.remove(primaryKey);
+            if (entry == null) {
+                this.misses++;
+                return null;
+            }
+            this.entries.put(primaryKey, entry);
+            this.hits++;
+            byte[] bytes = new byte[entry.length];
+            int[] blocks = entry.blocks;
+            for (int index = 0; index < blocks.length; index++) {
+                int offset = index * this.blockSize;
+                this.memory.get(blocks[index] * this.blockSize, bytes, offset, Math.min(this.blockSize, bytes.length - offset));
+            }
+            return new Entry(bytes, entry);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Return if an entry with the same version and read time is already stored,
+     * this avoids serializing objects that have not changed since they were stored.
+     * The check does not count as a use of the entry for the least recently used eviction.
+     */
+    public boolean isCurrent(Object primaryKey, Object writeLockValue, long readTime) {
+        this.lock.lock();
+        try {
+            Entry entry = this.entries.get(primaryKey);
+            return (entry != null) && (entry.readTime == readTime)
+                && ((entry.writeLockValue == writeLockValue) || ((writeLockValue != null) && writeLockValue.equals(entry.writeLockValue)));
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Return if the entry returned by {@link #get(Object)} is still the one stored for the primary key,
+     * it was neither replaced nor removed since.
+     */
+    public boolean isStored(Object primaryKey, Entry entry) {
+        this.lock.lock();
+        try {
+            Entry stored = this.entries.get(primaryKey);
+            return (stored != null) && (stored == entry.stored);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Remove the entry for the primary key, if any.
+     */
+    public void remove(Object primaryKey) {
+        this.lock.lock();
+        try {
+            Entry entry = this.entries.remove(primaryKey);
+            if (entry != null) {
+                free(entry);
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Remove all entries, the off-heap memory is kept for reuse.
+     */
+    public void clear() {
+        this.lock.lock();
+        try {
+            for (Entry entry : this.entries.values()) {
+                free(entry);
+            }
+            this.entries.clear();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Return the entry's blocks to the free stack.
+     * Callers of this method must hold the lock.
+     */
+    protected void free(Entry entry) {
+        for (int block : entry.blocks) {
+            this.freeBlocks[this.numberOfFreeBlocks++] = block;
+        }
+    }
+
+    /**
+     * Return the number of stored entries.
+     */
+    public int getSize() {
+        this.lock.lock();
+        try {
+            return this.entries.size();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Return the number of off-heap bytes currently used by entries.
+     */
+    public long getUsedSize() {
+        this.lock.lock();
+        try {
+            return (long)(this.freeBlocks.length - this.numberOfFreeBlocks) * this.blockSize;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Return the maximum number of off-heap bytes.
+     */
+    public long getMaxSize() {
+        return (long)this.freeBlocks.length * this.blockSize;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * An entry of the store, the blocks are set for stored entries and the bytes for returned entries.
+     */
+    public static class Entry {
+        protected int[] blocks;
+        protected byte[] bytes;
+        protected final int length;
+        protected final Object writeLockValue;
+        protected final long readTime;
+        /** The stored entry a returned entry was copied from. */
+        protected Entry stored;
+
+        protected Entry(int[] blocks, int length, Object writeLockValue, long readTime) {
+            this.blocks = blocks;
+            this.length = length;
+            this.writeLockValue = writeLockValue;
+            this.readTime = readTime;
+        }
+
+        protected Entry(byte[] bytes, Entry entry) {
+            this(null, entry.length, entry.writeLockValue, entry.readTime);
+            this.bytes = bytes;
+            this.stored = entry;
+        }
+
+        public byte[] getBytes() {
+            return bytes;
+        }
+
+        public Object getWriteLockValue() {
+            return writeLockValue;
+        }
+
+        public long getReadTime() {
+            return readTime;
+        }
+    }
+}
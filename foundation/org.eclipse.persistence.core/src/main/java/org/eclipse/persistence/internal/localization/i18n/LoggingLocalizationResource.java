@@ -448,6 +448,8 @@ Current thread (id: {3} name: {4}) stack trace:
         { "jaxb_metadata_warning_invalid_package_level_xml_java_type_adapter", "An invalid XmlJavaTypeAdapter [{0}] was specified for package [{1}], and will be ignored."},
         { "jaxb_metadata_warning_invalid_type_level_xml_java_type_adapter", "An invalid XmlJavaTypeAdapter [{0}] was specified for class [{1}], and will be ignored."},
         { "jaxb_metadata_warning_invalid_property_level_xml_java_type_adapter", "An invalid XmlJavaTypeAdapter [{0}] was specified for field/property [{1}] on class [{2}], and will be ignored."},
+        { "jaxb_context_snapshot_not_read", "The JAXBContext snapshot [{0}] could not be read, and the JAXBContext is created from its classes: {1}"},
+        { "jaxb_context_snapshot_not_matching", "The JAXBContext snapshot [{0}] was written for other classes or properties, and the JAXBContext is created from its classes."},
         // 316513: JMX implementation for JBoss, WebSphere and Glassfish as well as WebLogic
         { "jmx_mbean_runtime_services_registration_encountered_multiple_mbeanserver_instances", "Multiple JMX MBeanServer instances [{0}] exist, we will use the server at index [{1}] : [{2}]." },
         { "jmx_mbean_runtime_services_registration_mbeanserver_print", "JMX MBeanServer instance found: [{0}], # of beans: [{1}], domain: [{2}] at index: [{3}]." },
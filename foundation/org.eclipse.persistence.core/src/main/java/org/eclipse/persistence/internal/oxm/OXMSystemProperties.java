@@ -52,6 +52,13 @@ public final class OXMSystemProperties {
      */
     public static final String JSON_DISABLE_NESTED_ARRAY_NAME = "org.eclipse.persistence.json.disable-nested-array-name";
 
+    /**
+     * Unmarshal JSON documents with the native UTF-8 reader, which tokenizes the bytes of the document directly,
+     * instead of the JSON-P based reader.
+     * @since 5.0
+     */
+    public static final String JSON_NATIVE_READER = "org.eclipse.persistence.json.native-reader";
+
     public static final String DISABLE_SECURE_PROCESSING = "eclipselink.disableXmlSecurity";
 
     /**
@@ -76,6 +83,8 @@ public final class OXMSystemProperties {
 
     public static final Boolean jsonDisableNestedArrayName = PrivilegedAccessHelper.getSystemPropertyBoolean(JSON_DISABLE_NESTED_ARRAY_NAME, false);
 
+    public static final Boolean jsonNativeReader = PrivilegedAccessHelper.getSystemPropertyBoolean(JSON_NATIVE_READER, false);
+
     public static final String xmlConversionTimeSuffix = PrivilegedAccessHelper.getSystemProperty(XML_CONVERSION_TIME_SUFFIX, DEFAULT_XML_CONVERSION_TIME_SUFFIX);
 
     private OXMSystemProperties() {}
@@ -56,6 +56,7 @@
     private byte[] prefixBytes;
     private String localName;
     private byte[] localNameBytes;
+    private byte[] quotedLocalNameBytes;
     private String namespaceURI;
     protected boolean nameIsText = false;
     protected boolean isSelfFragment = false;
@@ -228,6 +229,52 @@ public byte[] getLocalNameBytes() {
         return localNameBytes;
     }
 
+    /**
+     * INTERNAL:
+     * Return the bytes of the local name escaped and in double quotes, as written for a JSON key.
+     * The names of variable nodes are taken from the marshalled objects, so the name is escaped
+     * as the JSON output stream escapes string values.
+     */
+    public byte[] getQuotedLocalNameBytes() {
+        if(null == quotedLocalNameBytes && null != localName) {
+            StringBuilder quotedLocalName = new StringBuilder(localName.length() + 2);
+            quotedLocalName.append('"');
+            for (int x = 0, length = localName.length(); x < length; x++) {
+                char character = localName.charAt(x);
+                switch (character) {
+                    case '"':
+                    case '\\':
+                        quotedLocalName.append('\\').append(character);
+                        break;
+                    case '\b':
+                        quotedLocalName.append("\\b");
+                        break;
+                    case '\f':
+                        quotedLocalName.append("\\f");
+                        break;
+                    case '\n':
+                        quotedLocalName.append("\\n");
+                        break;
+                    case '\r':
+                        quotedLocalName.append("\\r");
+                        break;
+                    case '\t':
+                        quotedLocalName.append("\\t");
+                        break;
+                    default:
+                        if (Character.isISOControl(character) || Character.isSurrogate(character)) {
+                            quotedLocalName.append(String.format("\\u%04X", (int) character));
+                        } else {
+                            quotedLocalName.append(character);
+                        }
+                }
+            }
+            quotedLocalName.append('"');
+            quotedLocalNameBytes = quotedLocalName.toString().getBytes(CHARSET);
+        }
+        return quotedLocalNameBytes;
+    }
+
     public void setLocalName(String localName) {
         this.localName = localName;
         resetShortName();
@@ -424,6 +471,7 @@ private void resetShortName(){
         shortName = null;
     prefixBytes = null;
     localNameBytes = null;
+    quotedLocalNameBytes = null;
     }
 
     /**
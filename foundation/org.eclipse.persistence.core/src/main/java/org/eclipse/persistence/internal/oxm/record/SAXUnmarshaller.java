@@ -23,11 +23,13 @@
 import org.eclipse.persistence.internal.oxm.Context;
 import org.eclipse.persistence.internal.oxm.ConversionManager;
 import org.eclipse.persistence.internal.oxm.MediaType;
+import org.eclipse.persistence.internal.oxm.OXMSystemProperties;
 import org.eclipse.persistence.internal.oxm.Root;
 import org.eclipse.persistence.internal.oxm.Unmarshaller;
 import org.eclipse.persistence.internal.oxm.UnmarshallerHandler;
 import org.eclipse.persistence.internal.oxm.mappings.Descriptor;
 import org.eclipse.persistence.internal.oxm.mappings.UnmarshalKeepAsElementPolicy;
+import org.eclipse.persistence.internal.oxm.record.json.JsonByteReader;
 import org.eclipse.persistence.internal.oxm.record.json.JsonStructureReader;
 import org.eclipse.persistence.platform.xml.DefaultErrorHandler;
 import org.eclipse.persistence.platform.xml.SAXDocumentBuilder;
@@ -207,6 +209,9 @@ private XMLReader getNewXMLReader(MediaType mediaType) {
     private XMLReader getNewXMLReader(Class<?> clazz, MediaType mediaType) {
 
         if (null != mediaType && mediaType.isApplicationJSON()) {
+            if (OXMSystemProperties.jsonNativeReader) {
+                return new JsonByteReader(xmlUnmarshaller, clazz);
+            }
             return new JsonStructureReader(xmlUnmarshaller, clazz);
         }
         try {
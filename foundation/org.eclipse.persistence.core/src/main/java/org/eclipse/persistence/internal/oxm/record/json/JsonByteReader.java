@@ -0,0 +1,1134 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.oxm.record.json;
+
+import org.eclipse.persistence.exceptions.XMLMarshalException;
+import org.eclipse.persistence.internal.oxm.CollectionGroupingElementNodeValue;
+import org.eclipse.persistence.internal.oxm.Constants;
+import org.eclipse.persistence.internal.oxm.ContainerValue;
+import org.eclipse.persistence.internal.oxm.ConversionManager;
+import org.eclipse.persistence.internal.oxm.MediaType;
+import org.eclipse.persistence.internal.oxm.NamespaceResolver;
+import org.eclipse.persistence.internal.oxm.NodeValue;
+import org.eclipse.persistence.internal.oxm.OXMSystemProperties;
+import org.eclipse.persistence.internal.oxm.Root;
+import org.eclipse.persistence.internal.oxm.Unmarshaller;
+import org.eclipse.persistence.internal.oxm.XPathFragment;
+import org.eclipse.persistence.internal.oxm.XPathNode;
+import org.eclipse.persistence.internal.oxm.mappings.Field;
+import org.eclipse.persistence.internal.oxm.record.AbstractUnmarshalRecord;
+import org.eclipse.persistence.internal.oxm.record.SAXUnmarshallerHandler;
+import org.eclipse.persistence.internal.oxm.record.UnmarshalRecord;
+import org.eclipse.persistence.internal.oxm.record.XMLReaderAdapter;
+import org.eclipse.persistence.internal.oxm.record.deferred.DeferredContentHandler;
+import org.eclipse.persistence.oxm.mappings.nullpolicy.AbstractNullPolicy;
+import org.eclipse.persistence.oxm.record.XMLRootRecord;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+import org.xml.sax.helpers.AttributesImpl;
+
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Reader of JSON documents, which tokenizes the UTF-8 bytes of the document directly into the content handler events.
+ * <p>
+ * The events are the same as the events of {@link JsonStructureReader}, but no JSON-P parser or {@code JsonValue}
+ * tree is used. The document is read into a byte array, and each value is referred to by its offset in the array.
+ * The attributes of an object are only scanned when the content handler requests them,
+ * and names and values are only decoded to strings when they are reported.
+ * <p>
+ * As with JSON-P, the encoding of a byte stream without encoding is detected from its first bytes,
+ * UTF-16 and UTF-32 documents are re-encoded to UTF-8 before they are read,
+ * and numbers are reported with the text of the JSON-P numbers, for example {@code 1E+2} for {@code 1e2}.
+ * Unlike JSON-P, the content of the objects and arrays skipped as attributes is not validated,
+ * and duplicate keys are all reported, where JSON-P keeps the last value of the key.
+ * <p>
+ * It is used instead of {@link JsonStructureReader} to unmarshal JSON sources if the
+ * {@link OXMSystemProperties#JSON_NATIVE_READER} system property is set.
+ */
+public class JsonByteReader extends XMLReaderAdapter {
+
+    private static final String TRUE = "true";
+    private static final String FALSE = "false";
+    private static final String NULL = "null";
+    private static final String ITEM = "item";
+    private static final String UTF_32BE = "UTF-32BE";
+    private static final String UTF_32LE = "UTF-32LE";
+
+    private String attributePrefix = null;
+    private NamespaceResolver namespaces = null;
+    private boolean includeRoot;
+    private String textWrapper;
+    private Class<?> unmarshalClass;
+    private boolean isInCollection;
+    private JsonAttributes attributes = new JsonAttributes();
+
+    /**
+     * If we should treat unqualified type property in JSON as MOXy type discriminator.
+     */
+    private boolean jsonTypeCompatibility;
+
+    /** The UTF-8 bytes of the document. */
+    private byte[] bytes;
+
+    /** The number of bytes of the document. */
+    private int length;
+
+    /** The position after the last string read, or after the end of the last object or array iterated. */
+    private int position;
+
+    public JsonByteReader(Unmarshaller u) {
+        this(u, null);
+    }
+
+    public JsonByteReader(Unmarshaller u, Class<?> clazz) {
+        this.attributePrefix = u.getAttributePrefix();
+        if (Constants.EMPTY_STRING.equals(attributePrefix)) {
+            attributePrefix = null;
+        }
+        namespaces = u.getNamespaceResolver();
+
+        setNamespaceAware(u.getNamespaceResolver() != null);
+        setNamespaceSeparator(u.getNamespaceSeparator());
+        this.includeRoot = u.isIncludeRoot();
+        this.setErrorHandler(u.getErrorHandler());
+        this.textWrapper = u.getValueWrapper();
+        this.unmarshalClass = clazz;
+        this.jsonTypeCompatibility = u.getJsonTypeConfiguration().useJsonTypeCompatibility();
+    }
+
+    @Override
+    public void parse(InputSource input) throws IOException, SAXException {
+        if (input == null) {
+            return;
+        }
+
+        InputStream inputStream = null;
+        try {
+            if (null != input.getByteStream()) {
+                inputStream = input.getByteStream();
+                String encoding = input.getEncoding();
+                if (encoding == null) {
+                    setDetectedDocument(inputStream.readAllBytes());
+                } else if (!StandardCharsets.UTF_8.equals(Charset.forName(encoding))) {
+                    setDocument(new InputStreamReader(inputStream, encoding));
+                } else {
+                    setDocument(inputStream.readAllBytes());
+                }
+            } else if (null != input.getCharacterStream()) {
+                setDocument(input.getCharacterStream());
+            } else {
+                try {
+                    URL url = new URL(input.getSystemId());
+                    inputStream = url.openStream();
+                } catch (MalformedURLException malformedURLException) {
+                    try {
+                        inputStream = new FileInputStream(input.getSystemId());
+                    } catch (FileNotFoundException fileNotFoundException) {
+                        throw malformedURLException;
+                    }
+                }
+                setDetectedDocument(inputStream.readAllBytes());
+            }
+            int start = skipWhitespace(startOfDocument());
+            if (start == length) {
+                throw syntaxError(start, "Unexpected end of document");
+            }
+            int end = skipWhitespace(parseRoot(start));
+            if (end != length) {
+                throw syntaxError(end, "Unexpected content after the document");
+            }
+        } finally {
+            this.bytes = null;
+            if (null != inputStream) {
+                inputStream.close();
+            }
+        }
+    }
+
+    @Override
+    public void parse(String systemId) {
+        try {
+            parse(new InputSource(systemId));
+        } catch (IOException | SAXException e) {
+            throw XMLMarshalException.unmarshalException(e);
+        }
+    }
+
+    /**
+     * Set the UTF-8 bytes of the document to parse.
+     */
+    private void setDocument(byte[] document) {
+        this.bytes = document;
+        this.length = document.length;
+    }
+
+    /**
+     * Set the document to parse from its bytes, in the encoding detected from the first bytes as JSON-P does:
+     * from the byte order mark, or else from the zero bytes of the first ASCII characters.
+     */
+    private void setDetectedDocument(byte[] document) {
+        Charset encoding = detectEncoding(document);
+        if (encoding == StandardCharsets.UTF_8) {
+            setDocument(document);
+        } else {
+            // The byte order mark is encoded to the UTF-8 one, which is skipped.
+            setDocument(new String(document, encoding).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Return the encoding of the document detected from its first bytes.
+     */
+    private static Charset detectEncoding(byte[] document) {
+        if (document.length < 2) {
+            return StandardCharsets.UTF_8;
+        }
+        int b0 = document[0] & 0xFF;
+        int b1 = document[1] & 0xFF;
+        int b2 = document.length > 2 ? document[2] & 0xFF : -1;
+        int b3 = document.length > 3 ? document[3] & 0xFF : -1;
+        if (b0 == 0xFE && b1 == 0xFF) {
+            return StandardCharsets.UTF_16BE;
+        }
+        if (b0 == 0xFF && b1 == 0xFE) {
+            return (b2 == 0 && b3 == 0) ? Charset.forName(UTF_32LE) : StandardCharsets.UTF_16LE;
+        }
+        if (b0 == 0 && b1 == 0 && (b2 == 0 || (b2 == 0xFE && b3 == 0xFF))) {
+            return Charset.forName(UTF_32BE);
+        }
+        if (b0 == 0) {
+            return StandardCharsets.UTF_16BE;
+        }
+        if (b1 == 0) {
+            return (b2 == 0 && b3 == 0) ? Charset.forName(UTF_32LE) : StandardCharsets.UTF_16LE;
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    /**
+     * Set the document to parse from the characters of the reader, encoded to UTF-8.
+     */
+    private void setDocument(Reader reader) throws IOException {
+        StringBuilder document = new StringBuilder();
+        char[] buffer = new char[8192];
+        int read;
+        while ((read = reader.read(buffer)) != -1) {
+            document.append(buffer, 0, read);
+        }
+        setDocument(document.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Return the position of the document after its byte order mark, if any.
+     */
+    private int startOfDocument() {
+        if (length >= 3 && bytes[0] == (byte) 0xEF && bytes[1] == (byte) 0xBB && bytes[2] == (byte) 0xBF) {
+            return 3;
+        }
+        return 0;
+    }
+
+    /**
+     * Report the events of the root value at the position, and return the position after it.
+     */
+    private int parseRoot(int valuePosition) throws SAXException {
+        if (namespaces != null) {
+            Map<String, String> namespacePairs = namespaces.getPrefixesToNamespaces();
+            for (Entry<String, String> namespacePair : namespacePairs.entrySet()) {
+                contentHandler.startPrefixMapping(namespacePair.getKey(), namespacePair.getValue());
+            }
+        }
+
+        byte type = bytes[valuePosition];
+        if (type == '{') {
+            contentHandler.startDocument();
+            int entry = firstEntry(valuePosition);
+            if (entry == -1 && unmarshalClass == null) {
+                return this.position;
+            }
+
+            int end;
+            if (includeRoot) {
+                if (entry == -1) {
+                    end = this.position;
+                } else {
+                    String name = readString(entry);
+                    int valueEnd = parsePair(name, valueOfEntry(this.position));
+                    // Only the first pair is the root.
+                    entry = nextEntry(valueEnd);
+                    while (entry != -1) {
+                        readString(entry);
+                        entry = nextEntry(skipValue(valueOfEntry(this.position)));
+                    }
+                    end = this.position;
+                }
+            } else {
+                contentHandler.startElement(Constants.EMPTY_STRING, Constants.EMPTY_STRING, null, attributes.setValue(valuePosition));
+                while (entry != -1) {
+                    String name = readString(entry);
+                    entry = nextEntry(parsePair(name, valueOfEntry(this.position)));
+                }
+                end = this.position;
+                contentHandler.endElement(Constants.EMPTY_STRING, Constants.EMPTY_STRING, null);
+            }
+            contentHandler.endDocument();
+            return end;
+        } else if (type == '[') {
+
+            SAXUnmarshallerHandler rootContentHandler = null;
+            if (getContentHandler() instanceof SAXUnmarshallerHandler) {
+                rootContentHandler = (SAXUnmarshallerHandler) getContentHandler();
+            }
+
+            List<Object> list = new ArrayList<>();
+            int element = firstElement(valuePosition);
+            while (element != -1) {
+                int elementEnd = parseRoot(element);
+                if (getContentHandler() instanceof SAXUnmarshallerHandler) {
+                    SAXUnmarshallerHandler saxUnmarshallerHandler = (SAXUnmarshallerHandler) contentHandler;
+                    list.add(saxUnmarshallerHandler.getObject());
+                    saxUnmarshallerHandler.setObject(null);
+                } else if (getContentHandler() instanceof UnmarshalRecord) {
+                    UnmarshalRecord unmarshalRecord = (UnmarshalRecord) contentHandler;
+                    Object unmarshalledObject = unmarshalRecord.getCurrentObject();
+                    if (includeRoot && unmarshalClass != null) {
+                        if (!(unmarshalledObject instanceof Root)) {
+                            Root xmlRoot = unmarshalRecord.createRoot();
+                            xmlRoot.setNamespaceURI(unmarshalRecord.getRootElementNamespaceUri());
+                            xmlRoot.setLocalName(unmarshalRecord.getLocalName());
+                            xmlRoot.setObject(unmarshalledObject);
+                            unmarshalledObject = xmlRoot;
+                        }
+                    }
+                    list.add(unmarshalledObject);
+                    unmarshalRecord.setCurrentObject(null);
+                    unmarshalRecord.setRootElementName(null);
+                    unmarshalRecord.setLocalName(null);
+                }
+                element = nextElement(elementEnd);
+            }
+            int end = this.position;
+            if (getContentHandler() instanceof SAXUnmarshallerHandler) {
+                ((SAXUnmarshallerHandler) getContentHandler()).setObject(list);
+            } else if (getContentHandler() instanceof UnmarshalRecord) {
+                ((UnmarshalRecord) getContentHandler()).setCurrentObject(list);
+                ((UnmarshalRecord) getContentHandler()).setRootElementName(Constants.EMPTY_STRING);
+                ((UnmarshalRecord) getContentHandler()).setLocalName(Constants.EMPTY_STRING);
+                if (rootContentHandler != null) {
+                    rootContentHandler.setObject(list);
+                }
+            }
+            return end;
+        } else {
+            getContentHandler().startDocument();
+            return parseValue(valuePosition);
+        }
+    }
+
+    /**
+     * Report the events of the value at the position, and return the position after it.
+     */
+    private int parseValue(int valuePosition) throws SAXException {
+        switch (bytes[valuePosition]) {
+            case '"': {
+                String string = readString(valuePosition);
+                int end = this.position;
+                contentHandler.characters(string);
+                return end;
+            }
+            case 'f': {
+                contentHandler.characters(FALSE);
+                return skipLiteral(valuePosition, FALSE);
+            }
+            case 't': {
+                contentHandler.characters(TRUE);
+                return skipLiteral(valuePosition, TRUE);
+            }
+            case '{': {
+                return parseEntries(firstEntry(valuePosition));
+            }
+            case '[': {
+                int element = firstElement(valuePosition);
+                while (element != -1) {
+                    element = nextElement(parseValue(element));
+                }
+                return this.position;
+            }
+            case 'n': {
+                contentHandler.setNil(true);
+                return skipLiteral(valuePosition, NULL);
+            }
+            default: {
+                int end = skipNumber(valuePosition);
+                contentHandler.characters(readNumber(valuePosition, end));
+                return end;
+            }
+        }
+    }
+
+    /**
+     * Report the events of the pairs of an object, from its first entry, and return the position after the object.
+     */
+    private int parseEntries(int entry) throws SAXException {
+        String xmlValueName = null;
+        int xmlValuePosition = -1;
+        while (entry != -1) {
+            String name = readString(entry);
+            int valuePosition = valueOfEntry(this.position);
+            int valueEnd;
+            if (textWrapper != null && textWrapper.equals(name)) {
+                xmlValueName = name;
+                xmlValuePosition = valuePosition;
+                valueEnd = skipValue(valuePosition);
+            } else {
+                valueEnd = parsePair(name, valuePosition);
+            }
+            entry = nextEntry(valueEnd);
+        }
+        int end = this.position;
+        //Proceed JSON value mapped to @XmlValue property as a last
+        if (xmlValueName != null) {
+            parsePair(xmlValueName, xmlValuePosition);
+        }
+        return end;
+    }
+
+    /**
+     * Report the events of the pair, and return the position after its value.
+     */
+    private int parsePair(String name, int valuePosition) throws SAXException {
+        byte type = bytes[valuePosition];
+
+        if (type == '[') {
+            String parentLocalName = name;
+
+            if (attributePrefix != null && parentLocalName.startsWith(attributePrefix)) {
+                // do nothing;
+                return skipValue(valuePosition);
+            }
+            String uri = Constants.EMPTY_STRING;
+            if (isNamespaceAware() && namespaces != null) {
+                if (parentLocalName.length() > 2) {
+                    int nsIndex = parentLocalName.indexOf(getNamespaceSeparator(), 1);
+                    if (nsIndex > -1) {
+                        String prefix = parentLocalName.substring(0, nsIndex);
+                        uri = namespaces.resolveNamespacePrefix(prefix);
+                    }
+                    if (uri == null || uri == Constants.EMPTY_STRING) {
+                        uri = namespaces.getDefaultNamespaceURI();
+                    } else {
+                        parentLocalName = parentLocalName.substring(nsIndex + 1);
+                    }
+                } else {
+                    uri = namespaces.getDefaultNamespaceURI();
+                }
+            }
+
+            boolean isTextValue;
+            int element = firstElement(valuePosition);
+            int end = this.position;
+            if (element == -1) {
+                if (contentHandler instanceof UnmarshalRecord || isUnmarshalRecordWithinAdapter()) {
+                    final UnmarshalRecord ur = this.contentHandler instanceof UnmarshalRecord ? (UnmarshalRecord) this.contentHandler : getUnmarshalRecordFromAdapter();
+                    XPathNode node = ur.getNonAttributeXPathNode(uri, parentLocalName, parentLocalName, null);
+                    if (node != null) {
+                        NodeValue nv = node.getNodeValue();
+                        if (nv == null && node.getTextNode() != null) {
+                            nv = node.getTextNode().getUnmarshalNodeValue();
+                        }
+                        if (nv != null && nv.isContainerValue()) {
+                            ur.getContainerInstance(((ContainerValue) nv));
+                        }
+                    }
+                }
+            }
+            startCollection();
+
+            XPathFragment groupingXPathFragment = null;
+            XPathFragment itemXPathFragment = null;
+            if (contentHandler instanceof UnmarshalRecord || isUnmarshalRecordWithinAdapter()) {
+                final UnmarshalRecord contentHandler_ = contentHandler instanceof UnmarshalRecord ? (UnmarshalRecord) contentHandler : getUnmarshalRecordFromAdapter();
+                isTextValue = isTextValue(parentLocalName, contentHandler_);
+                UnmarshalRecord unmarshalRecord = contentHandler_;
+                if (unmarshalRecord.getUnmarshaller().isWrapperAsCollectionName()) {
+                    XPathNode unmarshalRecordXPathNode = unmarshalRecord.getXPathNode();
+                    if (null != unmarshalRecordXPathNode) {
+                        XPathFragment currentFragment = new XPathFragment();
+                        currentFragment.setLocalName(parentLocalName);
+                        currentFragment.setNamespaceURI(uri);
+                        currentFragment.setNamespaceAware(isNamespaceAware());
+                        XPathNode groupingXPathNode = unmarshalRecordXPathNode.getNonAttributeChildrenMap().get(currentFragment);
+                        if (groupingXPathNode != null) {
+                            if (groupingXPathNode.getUnmarshalNodeValue() instanceof CollectionGroupingElementNodeValue) {
+                                groupingXPathFragment = groupingXPathNode.getXPathFragment();
+                                contentHandler_.startElement(uri, parentLocalName, parentLocalName, new AttributesImpl());
+                                XPathNode itemXPathNode = groupingXPathNode.getNonAttributeChildren().get(0);
+                                itemXPathFragment = itemXPathNode.getXPathFragment();
+                            } else if (groupingXPathNode.getUnmarshalNodeValue() == null) {
+                                XPathNode itemXPathNode = groupingXPathNode.getNonAttributeChildren().get(0);
+                                if (itemXPathNode != null) {
+                                    if ((itemXPathNode.getUnmarshalNodeValue()).isContainerValue()) {
+                                        groupingXPathFragment = groupingXPathNode.getXPathFragment();
+                                        contentHandler_.startElement(uri, parentLocalName, parentLocalName, new AttributesImpl());
+                                        itemXPathFragment = itemXPathNode.getXPathFragment();
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+
+                while (element != -1) {
+                    byte elementType = bytes[element];
+                    if (elementType == 'n') {
+                        contentHandler.setNil(true);
+                    }
+
+                    if (!isTextValue) {
+                        if (null != itemXPathFragment) {
+                            contentHandler.startElement(itemXPathFragment.getNamespaceURI(), itemXPathFragment.getLocalName(), itemXPathFragment.getLocalName(), attributes.setValue(element));
+                        } else {
+                            contentHandler.startElement(uri, parentLocalName, parentLocalName, attributes.setValue(element));
+                        }
+
+                    }
+                    int elementEnd;
+                    //Internally handle each nested array as the value of an object with name: "item"
+                    if (elementType == '[') {
+                        elementEnd = parsePair(ITEM, element);
+                    } else {
+                        elementEnd = parseValue(element);
+                    }
+                    if (!isTextValue) {
+                        if (null != itemXPathFragment) {
+                            contentHandler.endElement(itemXPathFragment.getNamespaceURI(), itemXPathFragment.getLocalName(), itemXPathFragment.getLocalName());
+                        } else {
+                            contentHandler.endElement(uri, parentLocalName, parentLocalName);
+                        }
+                    }
+                    element = nextElement(elementEnd);
+                }
+                end = this.position;
+            } else if (element != -1) {
+                end = skipValue(valuePosition);
+            }
+            if (null != groupingXPathFragment) {
+                contentHandler.endElement(uri, groupingXPathFragment.getLocalName(), groupingXPathFragment.getLocalName());
+            }
+            endCollection();
+            return end;
+        } else {
+            if (attributePrefix != null && name.startsWith(attributePrefix)) {
+                return skipValue(valuePosition);
+            }
+            String localName = name;
+            String uri = Constants.EMPTY_STRING;
+            if (isNamespaceAware() && namespaces != null) {
+                if (localName.length() > 2) {
+                    int nsIndex = localName.indexOf(getNamespaceSeparator(), 1);
+                    String prefix = Constants.EMPTY_STRING;
+                    if (nsIndex > -1) {
+                        prefix = localName.substring(0, nsIndex);
+                    }
+                    uri = namespaces.resolveNamespacePrefix(prefix);
+                    if (uri == null || uri == Constants.EMPTY_STRING) {
+                        uri = namespaces.getDefaultNamespaceURI();
+                    } else {
+                        localName = localName.substring(nsIndex + 1);
+                    }
+
+                    if (localName.equals(Constants.SCHEMA_TYPE_ATTRIBUTE) && uri != null && uri.equals(javax.xml.XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI)) {
+                        return skipValue(valuePosition);
+                    }
+                } else {
+                    uri = namespaces.getDefaultNamespaceURI();
+                }
+            }
+            if (contentHandler instanceof XMLRootRecord || contentHandler instanceof DeferredContentHandler) {
+                if (jsonTypeCompatibility) {
+                    // if its not namespaceAware don't report the "type" child as it
+                    // is will be read by the xsi:type lookup
+                    if (!isNamespaceAware() && localName.equals(Constants.SCHEMA_TYPE_ATTRIBUTE)) {
+                        return skipValue(valuePosition);
+                    }
+                }
+                if (textWrapper != null && textWrapper.equals(localName)) {
+                    return parseValue(valuePosition);
+                }
+            } else if (contentHandler instanceof UnmarshalRecord && ((UnmarshalRecord) contentHandler).getXPathNode() != null) {
+                if (jsonTypeCompatibility) {
+                    if (!isNamespaceAware() && localName.equals(Constants.SCHEMA_TYPE_ATTRIBUTE) && !((UnmarshalRecord) contentHandler).getXPathNode().hasTypeChild()) {
+                        return skipValue(valuePosition);
+                    }
+                }
+                boolean isTextValue = isTextValue(localName, (UnmarshalRecord) contentHandler);
+                if (isTextValue) {
+                    return parseValue(valuePosition);
+                }
+                NodeValue nv = ((UnmarshalRecord) contentHandler).getAttributeChildNodeValue(uri, localName);
+                if (attributePrefix == null && nv != null) {
+                    return skipValue(valuePosition);
+                }
+            } else if (isUnmarshalRecordWithinAdapter()) {
+                @SuppressWarnings("rawtypes") final UnmarshalRecord contentHandler_ = getUnmarshalRecordFromAdapter();
+                if (jsonTypeCompatibility) {
+                    if (!isNamespaceAware() && localName.equals(Constants.SCHEMA_TYPE_ATTRIBUTE) && !contentHandler_.getXPathNode().hasTypeChild()) {
+                        return skipValue(valuePosition);
+                    }
+                }
+                boolean isTextValue = isTextValue(localName, contentHandler_);
+                if (isTextValue) {
+                    return parseValue(valuePosition);
+                }
+                NodeValue nv = contentHandler_.getAttributeChildNodeValue(uri, localName);
+                if (attributePrefix == null && nv != null) {
+                    return skipValue(valuePosition);
+                }
+            }
+
+            if (type == 'n') {
+                contentHandler.setNil(true);
+            }
+
+            contentHandler.startElement(uri, localName, localName, attributes.setValue(valuePosition));
+            int end = parseValue(valuePosition);
+            contentHandler.endElement(uri, localName, localName);
+            return end;
+        }
+    }
+
+    private UnmarshalRecord getUnmarshalRecordFromAdapter() {
+        return (UnmarshalRecord) ((ValidatingContentHandler) ((ExtendedContentHandlerAdapter) contentHandler)
+                .getContentHandler()).getContentHandler();
+    }
+
+    private boolean isUnmarshalRecordWithinAdapter() {
+        return contentHandler instanceof ExtendedContentHandlerAdapter
+                && ((ExtendedContentHandlerAdapter) contentHandler)
+                .getContentHandler() instanceof ValidatingContentHandler
+                && ((ValidatingContentHandler) ((ExtendedContentHandlerAdapter) contentHandler).getContentHandler())
+                .getContentHandler() instanceof UnmarshalRecord;
+    }
+
+    @Override
+    public boolean isNullRepresentedByXsiNil(AbstractNullPolicy nullPolicy) {
+        return true;
+    }
+
+    private void startCollection() {
+        isInCollection = true;
+    }
+
+    private void endCollection() {
+        isInCollection = false;
+    }
+
+    @Override
+    public boolean isInCollection() {
+        return isInCollection;
+    }
+
+    private boolean isTextValue(String localName, UnmarshalRecord contentHandler_) {
+        XPathNode currentNode = contentHandler_.getXPathNode();
+        if (currentNode == null) {
+            return textWrapper != null && textWrapper.equals(localName);
+        }
+
+        return ((currentNode.getNonAttributeChildrenMap() == null
+                || currentNode.getNonAttributeChildrenMap().isEmpty()
+                || (currentNode.getNonAttributeChildrenMap().size() == 1
+                && currentNode.getTextNode() != null)
+        ) && textWrapper != null && textWrapper.equals(localName)
+        );
+    }
+
+    @Override
+    public Object convertValueBasedOnSchemaType(Field xmlField, Object value, ConversionManager conversionManager, AbstractUnmarshalRecord record) {
+        return JsonStructureReader.convertValue(xmlField, value, conversionManager, record);
+    }
+
+    /**
+     * INTERNAL: The MediaType associated with this reader
+     */
+    @Override
+    public MediaType getMediaType() {
+        return Constants.APPLICATION_JSON;
+    }
+
+    // ******************************************** Tokenizer *********************************************
+
+    /**
+     * Return the position of the first byte that is not a whitespace from the position.
+     */
+    private int skipWhitespace(int position) {
+        while (position < length) {
+            byte b = bytes[position];
+            if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                return position;
+            }
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * Return the byte at the position, or 0 at the end of the document.
+     */
+    private byte peek(int position) {
+        return position < length ? bytes[position] : 0;
+    }
+
+    /**
+     * Return the position of the name of the first entry of the object at the position,
+     * or -1 if the object is empty, then the position is set after the object.
+     */
+    private int firstEntry(int objectPosition) {
+        int next = skipWhitespace(objectPosition + 1);
+        byte b = peek(next);
+        if (b == '}') {
+            this.position = next + 1;
+            return -1;
+        }
+        if (b != '"') {
+            throw syntaxError(next, "Expected a name or '}'");
+        }
+        return next;
+    }
+
+    /**
+     * Return the position of the name of the entry after the value ending at the position,
+     * or -1 if it is the last entry, then the position is set after the object.
+     */
+    private int nextEntry(int valueEnd) {
+        int next = skipWhitespace(valueEnd);
+        byte b = peek(next);
+        if (b == ',') {
+            next = skipWhitespace(next + 1);
+            if (peek(next) != '"') {
+                throw syntaxError(next, "Expected a name");
+            }
+            return next;
+        }
+        if (b == '}') {
+            this.position = next + 1;
+            return -1;
+        }
+        throw syntaxError(next, "Expected ',' or '}'");
+    }
+
+    /**
+     * Return the position of the value of the entry whose name ends at the position.
+     */
+    private int valueOfEntry(int nameEnd) {
+        int next = skipWhitespace(nameEnd);
+        if (peek(next) != ':') {
+            throw syntaxError(next, "Expected ':'");
+        }
+        next = skipWhitespace(next + 1);
+        if (next == length) {
+            throw syntaxError(next, "Expected a value");
+        }
+        return next;
+    }
+
+    /**
+     * Return the position of the first element of the array at the position,
+     * or -1 if the array is empty, then the position is set after the array.
+     */
+    private int firstElement(int arrayPosition) {
+        int next = skipWhitespace(arrayPosition + 1);
+        if (next == length) {
+            throw syntaxError(next, "Expected a value or ']'");
+        }
+        if (bytes[next] == ']') {
+            this.position = next + 1;
+            return -1;
+        }
+        return next;
+    }
+
+    /**
+     * Return the position of the element after the element ending at the position,
+     * or -1 if it is the last element, then the position is set after the array.
+     */
+    private int nextElement(int elementEnd) {
+        int next = skipWhitespace(elementEnd);
+        byte b = peek(next);
+        if (b == ',') {
+            next = skipWhitespace(next + 1);
+            if (next == length || bytes[next] == ']') {
+                throw syntaxError(next, "Expected a value");
+            }
+            return next;
+        }
+        if (b == ']') {
+            this.position = next + 1;
+            return -1;
+        }
+        throw syntaxError(next, "Expected ',' or ']'");
+    }
+
+    /**
+     * Return the string at the position, the position is set after the string.
+     * ASCII strings without escapes are copied as is, other strings are decoded from UTF-8.
+     */
+    private String readString(int stringPosition) {
+        int start = stringPosition + 1;
+        boolean isAscii = true;
+        for (int index = start; index < length; index++) {
+            byte b = bytes[index];
+            if (b == '"') {
+                this.position = index + 1;
+                return new String(bytes, start, index - start, isAscii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+            } else if (b == '\\') {
+                return readEscapedString(start, index);
+            } else if (b < 0) {
+                isAscii = false;
+            } else if (b < 0x20) {
+                throw syntaxError(index, "Unescaped control character in string");
+            }
+        }
+        throw syntaxError(length, "Unterminated string");
+    }
+
+    /**
+     * Return the string starting at the position, with an escape at the index.
+     */
+    private String readEscapedString(int start, int escapeIndex) {
+        StringBuilder builder = new StringBuilder(escapeIndex - start + 16);
+        int runStart = start;
+        int index = escapeIndex;
+        while (index < length) {
+            byte b = bytes[index];
+            if (b == '"') {
+                builder.append(new String(bytes, runStart, index - runStart, StandardCharsets.UTF_8));
+                this.position = index + 1;
+                return builder.toString();
+            } else if (b == '\\') {
+                builder.append(new String(bytes, runStart, index - runStart, StandardCharsets.UTF_8));
+                byte escaped = peek(index + 1);
+                switch (escaped) {
+                    case '"': builder.append('"'); break;
+                    case '\\': builder.append('\\'); break;
+                    case '/': builder.append('/'); break;
+                    case 'b': builder.append('\b'); break;
+                    case 'f': builder.append('\f'); break;
+                    case 'n': builder.append('\n'); break;
+                    case 'r': builder.append('\r'); break;
+                    case 't': builder.append('\t'); break;
+                    case 'u': {
+                        if (index + 6 > length) {
+                            throw syntaxError(index, "Invalid unicode escape");
+                        }
+                        int value = 0;
+                        for (int digit = index + 2; digit < index + 6; digit++) {
+                            int hex = Character.digit(bytes[digit], 16);
+                            if (hex == -1) {
+                                throw syntaxError(digit, "Invalid unicode escape");
+                            }
+                            value = (value << 4) | hex;
+                        }
+                        builder.append((char) value);
+                        index += 4;
+                        break;
+                    }
+                    default:
+                        throw syntaxError(index, "Invalid escape");
+                }
+                index += 2;
+                runStart = index;
+            } else if (b >= 0 && b < 0x20) {
+                throw syntaxError(index, "Unescaped control character in string");
+            } else {
+                index++;
+            }
+        }
+        throw syntaxError(length, "Unterminated string");
+    }
+
+    /**
+     * Return the position after the string at the position.
+     */
+    private int skipString(int stringPosition) {
+        for (int index = stringPosition + 1; index < length; index++) {
+            byte b = bytes[index];
+            if (b == '"') {
+                return index + 1;
+            } else if (b == '\\') {
+                index++;
+            }
+        }
+        throw syntaxError(length, "Unterminated string");
+    }
+
+    /**
+     * Return the position after the number at the position.
+     */
+    private int skipNumber(int numberPosition) {
+        int index = numberPosition;
+        while (index < length) {
+            byte b = bytes[index];
+            if ((b >= '0' && b <= '9') || b == '-' || b == '+' || b == '.' || b == 'e' || b == 'E') {
+                index++;
+            } else {
+                break;
+            }
+        }
+        if (index == numberPosition) {
+            throw syntaxError(numberPosition, "Unexpected character");
+        }
+        return index;
+    }
+
+    /**
+     * Return the text of the number from the start to the end, as the text of the JSON-P number:
+     * integers as they are written, except -0, and other numbers as the text of their BigDecimal.
+     */
+    private String readNumber(int start, int end) {
+        String literal = new String(bytes, start, end - start, StandardCharsets.ISO_8859_1);
+        int digits = bytes[start] == '-' ? start + 1 : start;
+        // The integer part is 0 or starts with a non-zero digit, and a fraction starts with a digit.
+        if (digits == end || !isDigit(bytes[digits])
+                || (bytes[digits] == '0' && digits + 1 < end && isDigit(bytes[digits + 1]))) {
+            throw syntaxError(start, "Invalid number");
+        }
+        boolean isInteger = true;
+        for (int index = digits; index < end; index++) {
+            byte b = bytes[index];
+            if (b == '.') {
+                if (!isInteger || index + 1 == end || !isDigit(bytes[index + 1])) {
+                    throw syntaxError(index, "Invalid number");
+                }
+                isInteger = false;
+            } else if (b == 'e' || b == 'E') {
+                isInteger = false;
+            } else if ((b == '-' || b == '+') && isInteger) {
+                throw syntaxError(index, "Invalid number");
+            }
+        }
+        if (isInteger) {
+            return "-0".equals(literal) ? "0" : literal;
+        }
+        try {
+            return new BigDecimal(literal).toString();
+        } catch (NumberFormatException exception) {
+            throw syntaxError(start, "Invalid number");
+        }
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    /**
+     * Return the position after the literal at the position.
+     */
+    private int skipLiteral(int literalPosition, String literal) {
+        int end = literalPosition + literal.length();
+        if (end > length) {
+            throw syntaxError(literalPosition, "Unexpected character");
+        }
+        for (int index = 1; index < literal.length(); index++) {
+            if (bytes[literalPosition + index] != literal.charAt(index)) {
+                throw syntaxError(literalPosition + index, "Unexpected character");
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Return the position after the value at the position, without reporting it.
+     * The content of skipped objects and arrays is only checked for balanced brackets.
+     */
+    private int skipValue(int valuePosition) {
+        switch (bytes[valuePosition]) {
+            case '"':
+                return skipString(valuePosition);
+            case '{':
+            case '[': {
+                int depth = 0;
+                int index = valuePosition;
+                while (index < length) {
+                    byte b = bytes[index];
+                    if (b == '"') {
+                        index = skipString(index);
+                        continue;
+                    } else if (b == '{' || b == '[') {
+                        depth++;
+                    } else if (b == '}' || b == ']') {
+                        depth--;
+                        if (depth == 0) {
+                            return index + 1;
+                        }
+                    }
+                    index++;
+                }
+                throw syntaxError(length, "Unterminated structure");
+            }
+            case 't':
+                return skipLiteral(valuePosition, TRUE);
+            case 'f':
+                return skipLiteral(valuePosition, FALSE);
+            case 'n':
+                return skipLiteral(valuePosition, NULL);
+            default:
+                return skipNumber(valuePosition);
+        }
+    }
+
+    private XMLMarshalException syntaxError(int errorPosition, String message) {
+        return XMLMarshalException.unmarshalException(new SAXParseException(message + " at position " + errorPosition, null));
+    }
+
+    /**
+     * The attributes of an object of the document, scanned from its position when first requested.
+     */
+    private class JsonAttributes extends IndexedAttributeList {
+
+        private int valuePosition;
+
+        public JsonAttributes setValue(int valuePosition) {
+            reset();
+            this.valuePosition = valuePosition;
+            return this;
+        }
+
+        private void addSimpleAttribute(List<Attribute> attributes, String uri, String attributeLocalName, int childPosition) {
+            switch (bytes[childPosition]) {
+                case '"': {
+                    String stringValue = readString(childPosition);
+                    attributes.add(new Attribute(uri, attributeLocalName, attributeLocalName, stringValue));
+                    break;
+                }
+                case 'f': {
+                    attributes.add(new Attribute(uri, attributeLocalName, attributeLocalName, FALSE));
+                    break;
+                }
+                case 't': {
+                    attributes.add(new Attribute(uri, attributeLocalName, attributeLocalName, TRUE));
+                    break;
+                }
+                case '[':
+                case '{':
+                case 'n':
+                    break; // noop
+                default: {
+                    int end = skipNumber(childPosition);
+                    attributes.add(new Attribute(uri, attributeLocalName, attributeLocalName, readNumber(childPosition, end)));
+                }
+            }
+        }
+
+        @Override
+        public int getIndex(String uri, String localName) {
+            if (null == localName) {
+                return -1;
+            }
+            int index = 0;
+            for (Attribute attribute : attributes()) {
+                if (isNamespaceAware()) {
+                    if (localName.equals(attribute.getLocalName()) && uri.equals(attribute.getUri())) {
+                        return index;
+                    }
+                } else {
+                    if (attribute.getName().equals(localName)) {
+                        return index;
+                    }
+                }
+                index++;
+            }
+            return -1;
+        }
+
+        @Override
+        protected Attribute[] attributes() {
+            if (null == attributes) {
+                if (bytes[valuePosition] != '{') {
+                    attributes = NO_ATTRIBUTES;
+                    return attributes;
+                }
+                ArrayList<Attribute> attributesList = new ArrayList<>();
+                int entry = firstEntry(valuePosition);
+                while (entry != -1) {
+                    String attributeLocalName = readString(entry);
+                    int childPosition = valueOfEntry(position);
+                    entry = nextEntry(skipValue(childPosition));
+
+                    if (attributePrefix != null) {
+                        if (attributeLocalName.startsWith(attributePrefix)) {
+                            attributeLocalName = attributeLocalName.substring(attributePrefix.length());
+                        } else {
+                            continue;
+                        }
+                    }
+
+                    String uri = Constants.EMPTY_STRING;
+
+                    if (isNamespaceAware() && namespaces != null) {
+                        if (attributeLocalName.length() > 2) {
+                            String prefix = Constants.EMPTY_STRING;
+                            int nsIndex = attributeLocalName.indexOf(getNamespaceSeparator(), 1);
+                            if (nsIndex > -1) {
+                                prefix = attributeLocalName.substring(0, nsIndex);
+                            }
+                            uri = namespaces.resolveNamespacePrefix(prefix);
+                            if (uri == null) {
+                                uri = namespaces.getDefaultNamespaceURI();
+                            } else {
+                                attributeLocalName = attributeLocalName.substring(nsIndex + 1);
+                            }
+                        } else {
+                            uri = namespaces.getDefaultNamespaceURI();
+                        }
+                    }
+
+                    if (bytes[childPosition] == '[') {
+                        int element = firstElement(childPosition);
+                        if (element == -1) {
+                            attributesList.add(new Attribute(uri, attributeLocalName, attributeLocalName, ""));
+                        }
+                        while (element != -1) {
+                            addSimpleAttribute(attributesList, uri, attributeLocalName, element);
+                            element = nextElement(skipValue(element));
+                        }
+                    } else {
+                        addSimpleAttribute(attributesList, uri, attributeLocalName, childPosition);
+                    }
+                }
+
+                attributes = attributesList.toArray(new Attribute[0]);
+            }
+            return attributes;
+        }
+
+    }
+
+}
@@ -546,6 +546,13 @@ private boolean isTextValue(String localName, UnmarshalRecord contentHandler_) {
 
     @Override
     public Object convertValueBasedOnSchemaType(Field xmlField, Object value, ConversionManager conversionManager, AbstractUnmarshalRecord record) {
+        return convertValue(xmlField, value, conversionManager, record);
+    }
+
+    /**
+     * Convert the JSON value of the field based on its schema type, QNames are written as "{uri}localName" in JSON.
+     */
+    static Object convertValue(Field xmlField, Object value, ConversionManager conversionManager, AbstractUnmarshalRecord record) {
         if (xmlField.getSchemaType() != null) {
             if (Constants.QNAME_QNAME.equals(xmlField.getSchemaType())) {
                 String stringValue = (String) value;
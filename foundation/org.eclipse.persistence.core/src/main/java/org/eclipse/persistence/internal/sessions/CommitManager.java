@@ -51,6 +51,9 @@ public class CommitManager {
     /** Order based on mapping foreign key constraints on how to insert objects by class. */
     protected List<Class<?>> commitOrder;
 
+    /** The commit order split into groups of classes without dependencies between each other, used when commit grouping is allowed. */
+    protected List<List<Class<?>>> commitGroups;
+
     /**
      * This tracks the commit state for the objects, PENDING, PRE, POST, COMPLETE.
      * The key is the object and the value is the state.
@@ -151,6 +154,13 @@ public void commitAllObjectsWithChangeSet(UnitOfWorkChangeSet uowChangeSet) thro
                     Class<?> theClass = classes.next();
                     commitChangedObjectsForClassWithChangeSet(uowChangeSet, theClass);
                 }
+            } else if (this.session.getProject().allowCommitGrouping() && (this.commitGroups != null)) {
+                // Independent classes are written together, so the statements for the same table can be batched together.
+                List<List<Class<?>>> commitGroups = this.commitGroups;
+                int size = commitGroups.size();
+                for (int index = 0; index < size; index++) {
+                    commitAllObjectsForClassGroupWithChangeSet(uowChangeSet, commitGroups.get(index));
+                }
             } else {
                 // The commit order is all of the classes ordered by dependencies, this is done for deadlock avoidance.
                 List<Class<?>> commitOrder = getCommitOrder();
@@ -215,6 +225,25 @@ protected void commitAllObjectsForClassWithChangeSet(UnitOfWorkChangeSet uowChan
         commitNewObjectsForClassWithChangeSet(uowChangeSet, theClass);
     }
 
+    /**
+     * Commit all of the objects of the group of independent classes in the change set.
+     * The changed objects of all the classes are written before the new objects,
+     * so the inserts and updates of classes sharing a table are not interleaved.
+     */
+    protected void commitAllObjectsForClassGroupWithChangeSet(UnitOfWorkChangeSet uowChangeSet, List<Class<?>> classes) {
+        int size = classes.size();
+        if (size == 1) {
+            commitAllObjectsForClassWithChangeSet(uowChangeSet, classes.get(0));
+            return;
+        }
+        for (int index = 0; index < size; index++) {
+            commitChangedObjectsForClassWithChangeSet(uowChangeSet, classes.get(index));
+        }
+        for (int index = 0; index < size; index++) {
+            commitNewObjectsForClassWithChangeSet(uowChangeSet, classes.get(index));
+        }
+    }
+
     /**
      * Commit all of the objects of the class type in the change set.
      * This allows for the order of the classes to be processed optimally.
@@ -396,6 +425,14 @@ public List<Class<?>> getCommitOrder() {
         return this.commitOrder;
     }
 
+    /**
+     * Return the commit order split into groups of classes that have no dependencies between each other.
+     * The classes of a group can be written in any order, they are sorted by table to improve batching.
+     */
+    public List<List<Class<?>>> getCommitGroups() {
+        return this.commitGroups;
+    }
+
     /**
      * Return the map of states of the objects being committed.
      * The states are defined as static Integers (PENDING, PRE, POST, COMPLETE).
@@ -505,6 +542,10 @@ public void initializeCommitOrder() {
         calculator.orderCommits();
 
         setCommitOrder(calculator.getOrderedClasses());
+
+        // The groups must not split classes with mapping or specified dependencies.
+        calculator.calculateMappingDependencies();
+        setCommitGroups(calculator.getOrderedClassGroups());
     }
 
     /**
@@ -634,6 +675,15 @@ public void reinitialize() {
      */
     public void setCommitOrder(List<Class<?>> commitOrder) {
         this.commitOrder = commitOrder;
+        this.commitGroups = null;
+    }
+
+    /**
+     * Set the commit order split into groups of classes that have no dependencies between each other.
+     * This must be set after the commit order.
+     */
+    public void setCommitGroups(List<List<Class<?>>> commitGroups) {
+        this.commitGroups = commitGroups;
     }
 
     /**
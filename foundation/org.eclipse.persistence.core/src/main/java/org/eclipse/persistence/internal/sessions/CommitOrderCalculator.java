@@ -15,9 +15,11 @@
 package org.eclipse.persistence.internal.sessions;
 
 import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.helper.DatabaseTable;
 import org.eclipse.persistence.internal.helper.DescriptorCompare;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Vector;
@@ -155,6 +157,47 @@ public List<Class<?>> getOrderedClasses() {
         return orderedClasses;
     }
 
+    /**
+     * Return the constraint ordered classes split into groups of consecutive classes
+     * that have no dependencies between each other.
+     * The classes of a group are sorted by their first table, so classes writing the same table are adjacent.
+     * All dependencies must have been recorded, this can be done after the commits are ordered.
+     */
+    public List<List<Class<?>>> getOrderedClassGroups() {
+        List<List<Class<?>>> groups = new ArrayList<>();
+        List<CommitOrderDependencyNode> group = new ArrayList<>();
+        for (Iterator iterator = getOrderedDescriptors().iterator(); iterator.hasNext();) {
+            CommitOrderDependencyNode node = nodeFor((ClassDescriptor) iterator.next());
+            for (CommitOrderDependencyNode member : group) {
+                if (node.getRelatedNodes().contains(member) || member.getRelatedNodes().contains(node)) {
+                    groups.add(buildClassGroup(group));
+                    group = new ArrayList<>();
+                    break;
+                }
+            }
+            group.add(node);
+        }
+        if (!group.isEmpty()) {
+            groups.add(buildClassGroup(group));
+        }
+        return groups;
+    }
+
+    /**
+     * Return the classes of the independent nodes, sorted by their first table.
+     */
+    protected List<Class<?>> buildClassGroup(List<CommitOrderDependencyNode> group) {
+        group.sort(Comparator.comparing(node -> {
+            List<DatabaseTable> tables = node.getDescriptor().getTables();
+            return tables.isEmpty() ? "" : tables.get(0).getQualifiedName();
+        }));
+        List<Class<?>> classes = new ArrayList<>(group.size());
+        for (CommitOrderDependencyNode node : group) {
+            classes.add(node.getDescriptor().getJavaClass());
+        }
+        return classes;
+    }
+
     /**
      * Return the constraint ordered descriptors.
      */
@@ -536,16 +536,12 @@ protected Object getObjectForMerge(MergeManager mergeManager, AbstractSession se
                         session.getParent().log(SessionLog.SEVERE, SessionLog.CACHE, "entity_not_available_during_merge", new Object[]{descriptor.getJavaClassName(), cacheKey.getKey(), Thread.currentThread().getName(), cacheKey.getActiveThread()});
                         break;
                     }
-                    synchronized (cacheKey) {
-                        if (cacheKey.isAcquired()) {
-                            try {
-                                cacheKey.wait(10);
-                            } catch (InterruptedException e) {
-                                //ignore and return
-                            }
-                        }
-                        domainObject = cacheKey.getObject();
+                    try {
+                        cacheKey.awaitRelease(10);
+                    } catch (InterruptedException e) {
+                        //ignore and return
                     }
+                    domainObject = cacheKey.getObject();
                 }
                 cacheKey.releaseDeferredLock();
             }
@@ -736,6 +732,58 @@ public boolean isInvalid() {
         return isInvalid;
     }
 
+    /**
+     * INTERNAL:
+     * Return a copy of this change set in the unit of work change set.
+     * The direct change records are copied, so merging into the copy or merging the copy
+     * does not change this change set, other change records are shared.
+     * Used to coalesce change sets that still belong to their own unit of work change set.
+     */
+    public ObjectChangeSet copy(UnitOfWorkChangeSet unitOfWorkChangeSet) {
+        ObjectChangeSet copy = new ObjectChangeSet();
+        copy.shouldBeDeleted = this.shouldBeDeleted;
+        copy.id = this.id;
+        copy.classType = this.classType;
+        copy.className = this.className;
+        copy.isNew = this.isNew;
+        copy.isAggregate = this.isAggregate;
+        copy.oldKey = this.oldKey;
+        copy.newKey = this.newKey;
+        copy.protectedForeignKeys = this.protectedForeignKeys;
+        copy.unitOfWorkChangeSet = unitOfWorkChangeSet;
+        copy.optimisticLockingPolicy = this.optimisticLockingPolicy;
+        copy.initialWriteLockValue = this.initialWriteLockValue;
+        copy.writeLockValue = this.writeLockValue;
+        copy.isInvalid = this.isInvalid;
+        copy.cloneObject = this.cloneObject;
+        copy.hasVersionChange = this.hasVersionChange;
+        copy.shouldModifyVersionField = this.shouldModifyVersionField;
+        copy.hasCmpPolicyForcedUpdate = this.hasCmpPolicyForcedUpdate;
+        copy.hasChangesFromCascadeLocking = this.hasChangesFromCascadeLocking;
+        copy.deferredSet = this.deferredSet;
+        copy.cacheSynchronizationType = this.cacheSynchronizationType;
+        copy.descriptor = this.descriptor;
+        copy.shouldRecalculateAfterUpdateEvent = this.shouldRecalculateAfterUpdateEvent;
+        if (this.changes != null) {
+            copy.changes = new ArrayList<>(this.changes.size());
+            copy.attributesToChanges = new HashMap<>(this.changes.size());
+            for (org.eclipse.persistence.sessions.changesets.ChangeRecord change : this.changes) {
+                ChangeRecord record = (ChangeRecord)change;
+                if (record instanceof DirectToFieldChangeRecord) {
+                    DirectToFieldChangeRecord directRecord = new DirectToFieldChangeRecord(copy);
+                    directRecord.setAttribute(record.getAttribute());
+                    directRecord.setMapping(record.getMapping());
+                    directRecord.setNewValue(((DirectToFieldChangeRecord)record).getNewValue());
+                    directRecord.setOldValue(((DirectToFieldChangeRecord)record).getOldValue());
+                    record = directRecord;
+                }
+                copy.changes.add(record);
+                copy.attributesToChanges.put(record.getAttribute(), record);
+            }
+        }
+        return copy;
+    }
+
     /**
      * INTERNAL:
      * This method will be used to merge changes from a supplied ObjectChangeSet
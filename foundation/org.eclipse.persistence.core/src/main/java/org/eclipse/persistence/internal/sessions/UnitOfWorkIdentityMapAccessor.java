@@ -173,19 +173,19 @@ protected Object getAndCloneCacheKeyFromParent(Object primaryKey, Object objectT
         // in which GC could remove the object and we would end up with a null pointer
         // as well we must inspect the cacheKey without locking on it.
         if ((cacheKey != null) && (shouldReturnInvalidatedObjects || !descriptor.getCacheInvalidationPolicy().isInvalidated(cacheKey))) {
-            synchronized (cacheKey) {
-                //if the object in the cachekey is null but the key is acquired then
-                //someone must be rebuilding it or creating a new one.  Sleep until
-                // it's finished. A plain wait here would be more efficient but we may not
-                // get notified for quite some time (ie deadlock) if the other thread
-                //is building the object.  Must wait and not sleep in order for the monitor to be released
-                objectFromCache = cacheKey.getObject();
-                try {
-                    while (cacheKey.isAcquired() && (objectFromCache == null)) {
-                        cacheKey.wait(5);
-                    }
-                } catch (InterruptedException ex) {
+            //if the object in the cachekey is null but the key is acquired then
+            //someone must be rebuilding it or creating a new one.  Poll until
+            // it's finished. A plain wait for the release would be more efficient but the other thread
+            // may hold the key until it gets a deferred lock held by this thread, so the object must be checked again
+            // after each short wait. The wait is on the cache key's lock condition, waiting on the monitor
+            // would pin the carrier thread of a virtual thread.
+            objectFromCache = cacheKey.getObject();
+            try {
+                while ((objectFromCache == null) && cacheKey.isAcquired() && (cacheKey.getActiveThread() != Thread.currentThread())) {
+                    cacheKey.awaitRelease(5);
+                    objectFromCache = cacheKey.getObject();
                 }
+            } catch (InterruptedException ex) {
             }
 
             // check for inheritance.
@@ -45,6 +45,7 @@
 import org.eclipse.persistence.descriptors.DescriptorEvent;
 import org.eclipse.persistence.descriptors.DescriptorEventManager;
 import org.eclipse.persistence.descriptors.changetracking.ObjectChangePolicy;
+import org.eclipse.persistence.descriptors.changetracking.SnapshotChangeDetectionPolicy;
 import org.eclipse.persistence.exceptions.DatabaseException;
 import org.eclipse.persistence.exceptions.DescriptorException;
 import org.eclipse.persistence.exceptions.EclipseLinkException;
@@ -107,6 +108,7 @@
 import java.util.Set;
 import java.util.Vector;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Implementation of org.eclipse.persistence.sessions.UnitOfWork
@@ -712,11 +714,24 @@ public UnitOfWorkChangeSet calculateChanges(Map registeredObjects, UnitOfWorkCha
         int allObjectsSize = allObjects.size();
         Map changedObjects = new IdentityHashMap(allObjectsSize);
         Map visitedNodes = new IdentityHashMap(allObjectsSize);
+        // PERF: Screen the existing objects of large units of work for changes in parallel.
+        int parallelThreshold = this.project.getParallelChangeDetectionThreshold();
+        Map unchangedObjects = null;
+        if ((parallelThreshold > 0) && (allObjectsSize >= parallelThreshold)) {
+            unchangedObjects = findUnchangedObjects(allObjects.keySet());
+        }
         while (objects.hasNext()) {
             Object object = objects.next();
 
             // Block of code removed because it will never be touched see bug # 2903565
 
+            // An object with a change set was referenced or lock notified by a changed object, so must be compared.
+            if ((unchangedObjects != null) && unchangedObjects.containsKey(object) && (changeSet.getObjectChangeSetForClone(object) == null)) {
+                // Mark as visited so do not need to traverse.
+                visitedNodes.put(object, object);
+                continue;
+            }
+
             ClassDescriptor descriptor = getDescriptor(object);
 
             // Update any derived id's.
@@ -823,6 +838,43 @@ public UnitOfWorkChangeSet calculateChanges(Map registeredObjects, UnitOfWorkCha
         return changeSet;
     }
 
+    /**
+     * INTERNAL:
+     * Return the existing objects known to be unchanged from their backup clones.
+     * The objects are partitioned and compared on the common fork-join pool, without creating any change set,
+     * so the change sets of the other objects are still calculated and added to the change set in registration order.
+     * An object that cannot be compared without modifying state is considered changed.
+     */
+    protected Map findUnchangedObjects(Collection registeredObjects) {
+        Object[] objects = registeredObjects.toArray();
+        boolean[] unchanged = new boolean[objects.length];
+        // Lazy initialized maps must not be created concurrently.
+        Map cloneMapping = getCloneMapping();
+        Map optimisticReadLockObjects = hasOptimisticReadLockObjects() ? getOptimisticReadLockObjects() : null;
+        Map<Class<?>, ClassDescriptor> descriptors = getDescriptors();
+        IntStream.range(0, objects.length).parallel().forEach(index -> {
+            Object object = objects[index];
+            ClassDescriptor descriptor = descriptors.get(object.getClass());
+            if ((descriptor == null) || isCloneNewObject(object)
+                    || ((optimisticReadLockObjects != null) && optimisticReadLockObjects.containsKey(object))) {
+                return;
+            }
+            try {
+                unchanged[index] = descriptor.getObjectChangePolicy().isUnchanged(object, cloneMapping.get(object), this, descriptor);
+            } catch (RuntimeException exception) {
+                // Let the comparison report the error.
+                unchanged[index] = false;
+            }
+        });
+        Map unchangedObjects = new IdentityHashMap(objects.length);
+        for (int index = 0; index < objects.length; index++) {
+            if (unchanged[index]) {
+                unchangedObjects.put(objects[index], objects[index]);
+            }
+        }
+        return unchangedObjects;
+    }
+
     /**
      * INTERNAL:
      * Checks whether the receiver has been used. i.e. objects have been registered.
@@ -1970,7 +2022,9 @@ public CommitManager getCommitManager() {
         if (this.commitManager == null) {
             this.commitManager = new CommitManager(this);
             // Initialize the commit manager
-            this.commitManager.setCommitOrder(this.parent.getCommitManager().getCommitOrder());
+            CommitManager parentCommitManager = this.parent.getCommitManager();
+            this.commitManager.setCommitOrder(parentCommitManager.getCommitOrder());
+            this.commitManager.setCommitGroups(parentCommitManager.getCommitGroups());
         }
         return this.commitManager;
     }
@@ -2045,14 +2099,14 @@ public Object getBackupClone(Object clone) throws QueryException {
     public Object getBackupClone(Object clone, ClassDescriptor descriptor) throws QueryException {
         Object backupClone = getCloneMapping().get(clone);
         if (backupClone != null) {
-            return backupClone;
+            return buildBackupCloneFromSnapshot(clone, backupClone, descriptor);
         }
 
         /* CR3440: Steven Vo
          * Smart merge if necessary in isObjectRegistered()
          */
         if (isObjectRegistered(clone)) {
-            return getCloneMapping().get(clone);
+            return buildBackupCloneFromSnapshot(clone, getCloneMapping().get(clone), descriptor);
 
         } else {
             if(descriptor == null) {
@@ -2082,7 +2136,8 @@ else if (hasNewObjects() && getNewObjectsOriginalToClone().containsKey(clone)) {
                  * Check case that clone is original
                  */
                 if (isSmartMerge()) {
-                    backupClone = getCloneMapping().get(getNewObjectsOriginalToClone().get(clone));
+                    Object registeredClone = getNewObjectsOriginalToClone().get(clone);
+                    backupClone = buildBackupCloneFromSnapshot(registeredClone, getCloneMapping().get(registeredClone), descriptor);
 
                 } else {
                     throw QueryException.backupCloneIsOriginalFromSelf(clone);
@@ -2096,6 +2151,26 @@ else if (hasNewObjects() && getNewObjectsOriginalToClone().containsKey(clone)) {
         return backupClone;
     }
 
+    /**
+     * INTERNAL:
+     * Return the backup clone, built from the snapshot of the clone if its change policy
+     * keeps snapshots instead of backup clones.
+     * The backup clone replaces the snapshot, as the caller may update it,
+     * until the change policy snapshots the clone again on commit.
+     * @see SnapshotChangeDetectionPolicy
+     */
+    protected Object buildBackupCloneFromSnapshot(Object clone, Object backupClone, ClassDescriptor descriptor) {
+        if (!(backupClone instanceof Object[])) {
+            return backupClone;
+        }
+        if ((descriptor == null) || (descriptor.getJavaClass() != clone.getClass())) {
+            descriptor = getDescriptor(clone);
+        }
+        backupClone = ((SnapshotChangeDetectionPolicy)descriptor.getObjectChangePolicy()).buildBackupCloneFromSnapshot(clone, (Object[])backupClone, descriptor, this);
+        getCloneMapping().put(clone, backupClone);
+        return backupClone;
+    }
+
     /**
      * INTERNAL:
      * Return the backup clone for the working clone.
@@ -0,0 +1,362 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions.coordination;
+
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.DirectToFieldChangeRecord;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.sessions.changesets.ChangeRecord;
+import org.eclipse.persistence.sessions.coordination.Command;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+import org.eclipse.persistence.sessions.serializers.Serializer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Batched asynchronous propagation of remote commands
+ * </p>
+ * <p>
+ * <b>Description</b>: Commands are added to a bounded queue and control is returned to the caller.
+ * A single worker, launched through the server platform when the queue becomes non-empty,
+ * waits up to the batch delay for the batch size to be reached, then sends the batch on each of
+ * the connections in turn and exits once the queue is empty.
+ * Consecutive {@link MergeChangeSetCommand}s of a batch are coalesced into one command,
+ * changes to the same object are merged into a copy when they only contain direct changes,
+ * otherwise a new command is started so the changes are still merged in commit order.
+ * When the queue is full the caller is blocked until the worker has taken a batch.
+ * </p>
+ * <p>
+ * The change sets of the queued commands are not changed, they may still be referenced by the committing session.
+ * </p>
+ * @see RemoteCommandManager#setCommandBatchSize(int)
+ * @since 5.0
+ */
+public class BatchedCommandPropagator implements Runnable {
+
+    /** Reference to manager to get connections, batch size, etc. */
+    protected RemoteCommandManager rcm;
+
+    /** The commands waiting to be sent, in propagation order. */
+    protected final ArrayDeque<Command> pendingCommands;
+
+    /** Guards the pending commands and the worker state. */
+    protected final ReentrantLock lock;
+
+    /** Signalled when the batch size is reached. */
+    protected final Condition batchReady;
+
+    /** Signalled when the worker takes commands from a full queue. */
+    protected final Condition notFull;
+
+    /** Set while a worker is launched, only one worker sends at a time. */
+    protected boolean isWorkerRunning;
+
+    public BatchedCommandPropagator(RemoteCommandManager rcm) {
+        this.rcm = rcm;
+        this.pendingCommands = new ArrayDeque<>();
+        this.lock = new ReentrantLock();
+        this.batchReady = this.lock.newCondition();
+        this.notFull = this.lock.newCondition();
+    }
+
+    /**
+     * INTERNAL:
+     * Queue the command for propagation, blocking while the queue is full.
+     */
+    public void propagateCommand(Command command) {
+        boolean launchWorker = false;
+        this.lock.lock();
+        try {
+            while (this.pendingCommands.size() >= this.rcm.getMaxPendingCommands()) {
+                // The command must not be lost or exceed the bound, the interrupt status is kept for the caller.
+                this.notFull.awaitUninterruptibly();
+            }
+            this.pendingCommands.add(command);
+            if (!this.isWorkerRunning) {
+                this.isWorkerRunning = true;
+                launchWorker = true;
+            } else if (this.pendingCommands.size() >= this.rcm.getCommandBatchSize()) {
+                this.batchReady.signal();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+        if (launchWorker) {
+            this.rcm.logDebug("async_propagation", null);
+            this.rcm.getServerPlatform().launchContainerRunnable(this);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Send all pending commands in the calling thread.
+     * Used on shutdown, before the connections are discarded.
+     */
+    public void flush() {
+        List<Command> batch;
+        this.lock.lock();
+        try {
+            batch = new ArrayList<>(this.pendingCommands);
+            this.pendingCommands.clear();
+            this.notFull.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+        if (!batch.isEmpty()) {
+            sendBatch(batch);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of commands waiting to be sent.
+     */
+    public int getPendingCommandsSize() {
+        this.lock.lock();
+        try {
+            return this.pendingCommands.size();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * This is the execution method of the worker, it sends batches until the queue is empty.
+     */
+    @Override
+    public void run() {
+        boolean isDone = false;
+        try {
+            while (true) {
+                List<Command> batch = takeBatch();
+                if (batch == null) {
+                    isDone = true;
+                    return;
+                }
+                sendBatch(batch);
+            }
+        } finally {
+            if (!isDone) {
+                this.lock.lock();
+                try {
+                    this.isWorkerRunning = false;
+                } finally {
+                    this.lock.unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * Wait up to the batch delay for the batch size to be reached, and take the batch from the queue.
+     * Return null and mark the worker as stopped if the queue is empty.
+     */
+    protected List<Command> takeBatch() {
+        int batchSize = this.rcm.getCommandBatchSize();
+        this.lock.lock();
+        try {
+            if (this.pendingCommands.isEmpty()) {
+                this.isWorkerRunning = false;
+                return null;
+            }
+            long remaining = TimeUnit.MILLISECONDS.toNanos(this.rcm.getCommandBatchDelay());
+            while ((this.pendingCommands.size() < batchSize) && (remaining > 0)) {
+                try {
+                    remaining = this.batchReady.awaitNanos(remaining);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            int size = Math.min(batchSize, this.pendingCommands.size());
+            List<Command> batch = new ArrayList<>(size);
+            for (int index = 0; index < size; index++) {
+                batch.add(this.pendingCommands.poll());
+            }
+            this.notFull.signalAll();
+            return batch;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Coalesce the batch and send the resulting commands on each connection.
+     */
+    protected void sendBatch(List<Command> batch) {
+        this.rcm.getCommandProcessor().startOperationProfile(SessionProfiler.CacheCoordination);
+        try {
+            for (Command command : coalesce(batch)) {
+                byte[] commandBytes = null;
+                // PERF: Support plugable serialization.
+                Serializer serializer = this.rcm.getSerializer();
+                if (serializer != null) {
+                    this.rcm.getCommandProcessor().startOperationProfile(SessionProfiler.CacheCoordinationSerialize);
+                    try {
+                        commandBytes = (byte[])serializer.serialize(command, (AbstractSession)this.rcm.getCommandProcessor());
+                    } finally {
+                        this.rcm.getCommandProcessor().endOperationProfile(SessionProfiler.CacheCoordinationSerialize);
+                    }
+                }
+                for (RemoteConnection connection : this.rcm.getTransportManager().getConnectionsToExternalServicesForCommandPropagation().values()) {
+                    // Propagator with a connection handles errors as async propagation, they are not thrown.
+                    CommandPropagator propagator = new CommandPropagator(this.rcm, command, commandBytes, connection);
+                    propagator.propagateCommand(connection);
+                }
+            }
+        } finally {
+            this.rcm.getCommandProcessor().endOperationProfile(SessionProfiler.CacheCoordination);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Coalesce consecutive merge commands into as few commands as possible while keeping the commit order.
+     * Other commands are sent as is, in order.
+     */
+    public List<Command> coalesce(List<Command> batch) {
+        List<Command> commands = new ArrayList<>(batch.size());
+        List<MergeChangeSetCommand> group = new ArrayList<>();
+        UnitOfWorkChangeSet combined = null;
+        Map<String, Map<Object, ObjectChangeSet>> index = new HashMap<>();
+        for (Command command : batch) {
+            if (!(command instanceof MergeChangeSetCommand)) {
+                addGroup(commands, group, combined);
+                group = new ArrayList<>();
+                combined = null;
+                index.clear();
+                commands.add(command);
+                continue;
+            }
+            UnitOfWorkChangeSet changeSet = ((MergeChangeSetCommand)command).getChangeSet(null);
+            if ((combined != null) && !canCoalesce(changeSet, combined, index)) {
+                addGroup(commands, group, combined);
+                group = new ArrayList<>();
+                combined = null;
+                index.clear();
+            }
+            if (combined == null) {
+                combined = new UnitOfWorkChangeSet();
+            }
+            group.add((MergeChangeSetCommand)command);
+            for (ObjectChangeSet objectChangeSet : changeSet.getAllChangeSets().keySet()) {
+                ObjectChangeSet existing = lookup(index, objectChangeSet);
+                if (existing == null) {
+                    combined.getAllChangeSets().put(objectChangeSet, objectChangeSet);
+                    register(index, objectChangeSet);
+                } else {
+                    if (existing.getUOWChangeSet() != combined) {
+                        // Merge into a copy, the change set still belongs to its own command.
+                        ObjectChangeSet copy = existing.copy(combined);
+                        combined.getAllChangeSets().remove(existing);
+                        combined.getAllChangeSets().put(copy, copy);
+                        register(index, copy);
+                        existing = copy;
+                    }
+                    existing.mergeObjectChanges(objectChangeSet.copy(combined), combined, changeSet);
+                }
+            }
+            if (changeSet.hasDeletedObjects()) {
+                for (ObjectChangeSet objectChangeSet : changeSet.getDeletedObjects().keySet()) {
+                    combined.getDeletedObjects().put(objectChangeSet, objectChangeSet);
+                    register(index, objectChangeSet);
+                }
+            }
+        }
+        addGroup(commands, group, combined);
+        return commands;
+    }
+
+    /**
+     * Add the command for the group, the original command if the group has a single command.
+     */
+    protected void addGroup(List<Command> commands, List<MergeChangeSetCommand> group, UnitOfWorkChangeSet combined) {
+        if (group.isEmpty()) {
+            return;
+        }
+        if (group.size() == 1) {
+            commands.add(group.get(0));
+            return;
+        }
+        MergeChangeSetCommand command = new MergeChangeSetCommand();
+        command.setChangeSet(combined);
+        command.setServiceId(group.get(0).getServiceId());
+        commands.add(command);
+    }
+
+    /**
+     * Return if the change set can be coalesced into the current group,
+     * the objects it shares with the group must only have direct changes.
+     */
+    protected boolean canCoalesce(UnitOfWorkChangeSet changeSet, UnitOfWorkChangeSet combined, Map<String, Map<Object, ObjectChangeSet>> index) {
+        if (changeSet.hasDeletedObjects()) {
+            for (ObjectChangeSet objectChangeSet : changeSet.getDeletedObjects().keySet()) {
+                if (lookup(index, objectChangeSet) != null) {
+                    return false;
+                }
+            }
+        }
+        for (ObjectChangeSet objectChangeSet : changeSet.getAllChangeSets().keySet()) {
+            ObjectChangeSet existing = lookup(index, objectChangeSet);
+            if ((existing != null) && (combined.getDeletedObjects().containsKey(existing) || !isDirectUpdate(existing) || !isDirectUpdate(objectChangeSet)
+                    || (existing.getSynchronizationType() != objectChangeSet.getSynchronizationType()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Return if the change set is an update of an existing object with only direct changes,
+     * so merging it into another change set does not affect the references between change sets.
+     */
+    protected boolean isDirectUpdate(ObjectChangeSet objectChangeSet) {
+        if (objectChangeSet.isNew() || objectChangeSet.shouldBeDeleted() || objectChangeSet.isInvalid() || objectChangeSet.isAggregate()) {
+            return false;
+        }
+        for (ChangeRecord record : objectChangeSet.getChanges()) {
+            if (!(record instanceof DirectToFieldChangeRecord)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    protected ObjectChangeSet lookup(Map<String, Map<Object, ObjectChangeSet>> index, ObjectChangeSet objectChangeSet) {
+        if (objectChangeSet.getId() == null) {
+            return null;
+        }
+        Map<Object, ObjectChangeSet> changeSets = index.get(objectChangeSet.getClassName());
+        return (changeSets == null) ? null : changeSets.get(objectChangeSet.getId());
+    }
+
+    protected void register(Map<String, Map<Object, ObjectChangeSet>> index, ObjectChangeSet objectChangeSet) {
+        if (objectChangeSet.getId() != null) {
+            index.computeIfAbsent(objectChangeSet.getClassName(), className -> new HashMap<>()).put(objectChangeSet.getId(), objectChangeSet);
+        }
+    }
+}
@@ -704,6 +704,7 @@ public void reinitializeForSession(AbstractSession session, RemoteSessionControl
         setCommitManager(new CommitManager(this));
         setTransactionMutex(new ConcurrencyManager());
         getCommitManager().setCommitOrder(session.getCommitManager().getCommitOrder());
+        getCommitManager().setCommitGroups(session.getCommitManager().getCommitGroups());
 
         if (session.hasExternalTransactionController()) {
             session.getExternalTransactionController().registerSynchronizationListener(this, session);
@@ -2380,7 +2380,7 @@ public void postInitialize(AbstractSession session) throws DescriptorException {
         if (getReferenceDescriptor() != null) {
             // Changed as part of fix for bug#4410581 aggregate mapping can not be set to use change tracking if owning descriptor does not use it.
             // Basically the policies should be the same, but we also allow deferred with attribute for CMP2 (courser grained).
-            if (getDescriptor().getObjectChangePolicy().getClass().equals(DeferredChangeDetectionPolicy.class)) {
+            if (getDescriptor().getObjectChangePolicy().isDeferredChangeDetectionPolicy()) {
                 getReferenceDescriptor().setObjectChangePolicy(new DeferredChangeDetectionPolicy());
             } else if (getDescriptor().getObjectChangePolicy().getClass().equals(ObjectChangeTrackingPolicy.class)
                     && getReferenceDescriptor().getObjectChangePolicy().getClass().equals(AttributeChangeTrackingPolicy.class)) {
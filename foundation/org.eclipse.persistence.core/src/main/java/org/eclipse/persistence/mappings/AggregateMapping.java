@@ -150,6 +150,35 @@ public void buildBackupClone(Object clone, Object backup, UnitOfWorkImpl unitOfW
         setAttributeValueInObject(backup, buildBackupClonePart(attributeValue, unitOfWork));
     }
 
+    /**
+     * INTERNAL:
+     * Return the backup clone of the aggregate of the clone, as in buildBackupClone.
+     */
+    @Override
+    public Object buildBackupCloneValue(Object clone, UnitOfWorkImpl unitOfWork) {
+        return buildBackupClonePart(getAttributeValueFromObject(clone), unitOfWork);
+    }
+
+    /**
+     * INTERNAL:
+     * The aggregate is unchanged if both are null, or if its mappings are all direct
+     * and have the same values as the backup aggregate.
+     * Other mappings of the aggregate are compared through compareForChange.
+     */
+    @Override
+    public boolean isAttributeValueUnchanged(Object clone, Object backupValue, AbstractSession session) {
+        Object cloneValue = getAttributeValueFromObject(clone);
+        if ((cloneValue == null) || (backupValue == null) || (cloneValue.getClass() != backupValue.getClass())) {
+            return cloneValue == backupValue;
+        }
+        for (DatabaseMapping mapping : getObjectBuilder(cloneValue, session).getDescriptor().getMappings()) {
+            if (!mapping.isAbstractDirectMapping() || !mapping.compareObjects(backupValue, cloneValue, session)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * INTERNAL:
      * Build and return a backup clone of the attribute.
@@ -678,6 +678,26 @@ public ChangeRecord compareForChange(Object clone, Object backUp, ObjectChangeSe
         return null;
     }
 
+    /**
+     * INTERNAL:
+     * The collection is unchanged if the clone's collection was never instantiated,
+     * otherwise its elements must be compared through compareForChange.
+     */
+    @Override
+    public boolean isAttributeUnchanged(Object clone, Object backUp, AbstractSession session) {
+        return isAttributeValueUnchanged(clone, null, session);
+    }
+
+    /**
+     * INTERNAL:
+     * The collection is unchanged if the clone's collection was never instantiated.
+     */
+    @Override
+    public boolean isAttributeValueUnchanged(Object clone, Object backupValue, AbstractSession session) {
+        Object cloneAttribute = getAttributeValueFromObject(clone);
+        return (cloneAttribute != null) && (!this.indirectionPolicy.objectIsInstantiated(cloneAttribute));
+    }
+
     /**
      * INTERNAL:
      * Compare the attributes belonging to this mapping for the objects.
@@ -235,6 +235,16 @@ public Object buildBackupCloneForPartObject(Object attributeValue, Object clone,
         throw DescriptorException.invalidMappingOperation(this, "buildBackupCloneForPartObject");
     }
 
+    /**
+     * INTERNAL:
+     * Return the value buildBackupClone would assign to the backup for the attribute of the clone,
+     * without a backup object. Used to snapshot the clone.
+     * @see org.eclipse.persistence.descriptors.changetracking.SnapshotChangeDetectionPolicy
+     */
+    public Object buildBackupCloneValue(Object clone, UnitOfWorkImpl unitOfWork) {
+        throw DescriptorException.invalidMappingOperation(this, "buildBackupCloneValue");
+    }
+
     /**
      * INTERNAL:
      * Clone the attribute from the original and assign it to the clone.
@@ -428,6 +438,28 @@ public void postInitializeSourceAndTargetExpressions() {
      */
     abstract public ChangeRecord compareForChange(Object clone, Object backup, ObjectChangeSet owner, AbstractSession session);
 
+    /**
+     * INTERNAL:
+     * Return if the attribute of the clone is known to be unchanged from the backup clone,
+     * without building a change record.
+     * This must not modify any state or trigger indirection, as it is called concurrently
+     * for the objects of a unit of work by parallel change detection.
+     * By default the attribute may have changed, so its changes are calculated through compareForChange.
+     */
+    public boolean isAttributeUnchanged(Object clone, Object backup, AbstractSession session) {
+        return false;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the attribute of the clone is known to be unchanged from the value built
+     * by buildBackupCloneValue, with the same restrictions as isAttributeUnchanged.
+     * By default the attribute may have changed, so its changes are calculated through compareForChange.
+     */
+    public boolean isAttributeValueUnchanged(Object clone, Object backupValue, AbstractSession session) {
+        return false;
+    }
+
     /**
      * INTERNAL:
      * Compare the attributes belonging to this mapping for the objects.
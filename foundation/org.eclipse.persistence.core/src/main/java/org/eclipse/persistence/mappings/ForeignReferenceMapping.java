@@ -290,6 +290,16 @@ public void buildBackupClone(Object clone, Object backup, UnitOfWorkImpl unitOfW
         setAttributeValueInObject(backup, clonedAttributeValue);
     }
 
+    /**
+     * INTERNAL:
+     * Return the value the backup clone would hold for the attribute of the clone.
+     * Target objects are not copied, value holders are wrapped as in buildBackupClone.
+     */
+    @Override
+    public Object buildBackupCloneValue(Object clone, UnitOfWorkImpl unitOfWork) {
+        return this.indirectionPolicy.backupCloneAttribute(getAttributeValueFromObject(clone), clone, null, unitOfWork);
+    }
+
     /**
      * INTERNAL:
      * Used during building the backup shallow copy to copy the
@@ -578,6 +588,17 @@ public Object extractResultFromBatchQuery(ReadQuery batchQuery, CacheKey parentC
                 if (startIndex == -1) {
                     return null;
                 }
+                // Resolve the cache hits of the page with a single multi-get on the identity map.
+                AbstractRecord[] pageRows = new AbstractRecord[size];
+                Object[] pageKeys = new Object[size];
+                for (int pageIndex = 0; pageIndex < size; pageIndex++) {
+                    AbstractRecord row = parentRows.get((startIndex + pageIndex) % rowsSize);
+                    if (row != null) {
+                        pageRows[pageIndex] = row;
+                        pageKeys[pageIndex] = extractBatchKeyFromRow(row, session);
+                    }
+                }
+                Map<Object, Object> cachedObjects = getCachedBatchObjects(pageRows, pageKeys, batchQuery, session);
                 List foreignKeyValues = new ArrayList(size);
                 Set foreignKeys = new HashSet(size);
                 int index = 0;
@@ -594,12 +615,20 @@ public Object extractResultFromBatchQuery(ReadQuery batchQuery, CacheKey parentC
                     // Handle duplicate rows in the ComplexQueryResult being replaced with null, as a
                     // result of duplicate filtering being true for constructing the ComplexQueryResult
                     if (row != null) {
-                        Object foreignKey = extractBatchKeyFromRow(row, session);
+                        boolean inPage = index < size;
+                        Object foreignKey = inPage ? pageKeys[index] : extractBatchKeyFromRow(row, session);
                         if (foreignKey == null) {
                             // Ignore null foreign keys.
                             count--;
                         } else {
-                            cachedObject = checkCacheForBatchKey(row, foreignKey, batchedObjects, batchQuery, originalQuery, session);
+                            if ((cachedObjects == null) || !inPage) {
+                                cachedObject = checkCacheForBatchKey(row, foreignKey, batchedObjects, batchQuery, originalQuery, session);
+                            } else {
+                                cachedObject = cachedObjects.get(foreignKey);
+                                if (cachedObject != null) {
+                                    batchedObjects.put(foreignKey, cachedObject);
+                                }
+                            }
                             if (cachedObject != null) {
                                 // Avoid fetching things a cache hit occurs for.
                                 count--;
@@ -684,6 +713,17 @@ protected Object checkCacheForBatchKey(AbstractRecord sourceRow, Object foreignK
         return null;
     }
 
+    /**
+     * INTERNAL:
+     * Return the target objects of the source rows that are in the cache, by batch key,
+     * or null if the cache must be checked for each key with {@link #checkCacheForBatchKey}.
+     * The objects are returned as {@link #checkCacheForBatchKey} would, so they are not looked up again.
+     * The rows and keys may contain nulls.
+     */
+    protected Map<Object, Object> getCachedBatchObjects(AbstractRecord[] sourceRows, Object[] foreignKeys, ReadQuery batchQuery, AbstractSession session) {
+        return null;
+    }
+
     /**
      * INTERNAL:
      * Prepare and execute the batch query and store the
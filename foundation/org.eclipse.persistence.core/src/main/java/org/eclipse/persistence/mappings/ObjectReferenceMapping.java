@@ -236,6 +236,44 @@ public ChangeRecord compareForChange(Object clone, Object backUp, ObjectChangeSe
         return record;
     }
 
+    /**
+     * INTERNAL:
+     * The reference is unchanged if the clone's value holder was never triggered,
+     * or if both value holders are instantiated and reference the same object.
+     */
+    @Override
+    public boolean isAttributeUnchanged(Object clone, Object backUp, AbstractSession session) {
+        return isAttributeValueUnchanged(clone, getAttributeValueFromObject(backUp), session);
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the reference of the clone is the same object as the backup attribute value.
+     * @see #buildBackupCloneValue(Object, UnitOfWorkImpl)
+     */
+    @Override
+    public boolean isAttributeValueUnchanged(Object clone, Object backUpAttribute, AbstractSession session) {
+        Object cloneAttribute = getAttributeValueFromObject(clone);
+        if ((cloneAttribute == null) && (backUpAttribute == null)) {
+            return true;
+        }
+        if ((cloneAttribute != null) && (!this.indirectionPolicy.objectIsInstantiated(cloneAttribute))) {
+            return true;
+        }
+        if ((backUpAttribute != null) && (!this.indirectionPolicy.objectIsInstantiated(backUpAttribute))) {
+            return false;
+        }
+        Object cloneAttributeValue = null;
+        Object backUpAttributeValue = null;
+        if (cloneAttribute != null) {
+            cloneAttributeValue = getRealAttributeValueFromAttribute(cloneAttribute, clone, session);
+        }
+        if (backUpAttribute != null) {
+            backUpAttributeValue = getRealAttributeValueFromAttribute(backUpAttribute, clone, session);
+        }
+        return cloneAttributeValue == backUpAttributeValue;
+    }
+
     /**
      * INTERNAL:
      * Directly build a change record based on the newValue without comparison
@@ -53,6 +53,7 @@
 import org.eclipse.persistence.internal.sessions.ChangeRecord;
 import org.eclipse.persistence.internal.sessions.MergeManager;
 import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
 import org.eclipse.persistence.mappings.foundation.MapKeyMapping;
 import org.eclipse.persistence.mappings.querykeys.OneToOneQueryKey;
 import org.eclipse.persistence.mappings.querykeys.QueryKey;
@@ -69,6 +70,7 @@
 import org.eclipse.persistence.queries.ReportQuery;
 import org.eclipse.persistence.queries.WriteObjectQuery;
 import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.SessionProfiler;
 
 import java.util.AbstractMap;
 import java.util.ArrayList;
@@ -890,6 +892,98 @@ protected Object checkCacheForBatchKey(AbstractRecord sourceRow, Object foreignK
         return cachedObject;
     }
 
+    /**
+     * INTERNAL:
+     * Find the target objects of all the rows with one multi-get on each identity map
+     * the selection query would check, the unit of work's and its parent's.
+     * The keys found in none of them are cache misses, the objects of the others are returned
+     * by the selection query's cache check, as {@link #checkCacheForBatchKey} does, so that read locks,
+     * invalidation, isolation and the registration in the unit of work apply as for a single object.
+     * Return null if the batch key is not the target's primary key, or the selection query may find the object in other ways.
+     */
+    @Override
+    protected Map<Object, Object> getCachedBatchObjects(AbstractRecord[] sourceRows, Object[] foreignKeys, ReadQuery batchQuery, AbstractSession session) {
+        if (((ReadAllQuery)batchQuery).shouldRefreshIdentityMapResult() || (!batchQuery.shouldMaintainCache())) {
+            return new HashMap<>();
+        }
+        ClassDescriptor referenceDescriptor = getReferenceDescriptor();
+        if ((this.mechanism != null) || !isForeignKeyRelationship() || hasCustomSelectionQuery()
+                || !(this.selectionQuery instanceof ReadObjectQuery) || session.isRemoteSession()
+                || referenceDescriptor.shouldDisableCacheHits() || referenceDescriptor.isDescriptorForInterface()) {
+            return null;
+        }
+        ReadObjectQuery query = (ReadObjectQuery)this.selectionQuery;
+        if (!query.shouldCheckCache() || !query.shouldMaintainCache()) {
+            return new HashMap<>();
+        }
+        UnitOfWorkImpl unitOfWork = null;
+        if (session.isUnitOfWork()) {
+            unitOfWork = (UnitOfWorkImpl)session;
+            // The selection query conforms the objects or checks each session in turn.
+            if (unitOfWork.hasNewObjects() || unitOfWork.isNestedUnitOfWork()
+                    || query.shouldConformResultsInUnitOfWork() || referenceDescriptor.shouldAlwaysConformResultsInUnitOfWork()) {
+                return null;
+            }
+        }
+        List<Object> primaryKeys = new ArrayList<>(foreignKeys.length);
+        List<Integer> indexes = new ArrayList<>(foreignKeys.length);
+        for (int index = 0; index < foreignKeys.length; index++) {
+            if (foreignKeys[index] != null) {
+                Object primaryKey = extractPrimaryKeysForReferenceObjectFromRow(sourceRows[index]);
+                if (primaryKey == null) {
+                    return null;
+                }
+                primaryKeys.add(primaryKey);
+                indexes.add(index);
+            }
+        }
+        Map<Object, Object> cachedObjects = new HashMap<>();
+        if (primaryKeys.isEmpty()) {
+            return cachedObjects;
+        }
+        Object[] primaryKeysArray = primaryKeys.toArray();
+        boolean[] found = new boolean[primaryKeysArray.length];
+        AbstractSession identityMapSession = session;
+        if (unitOfWork != null) {
+            // PERF: Avoid uow check for read-only.
+            if (!referenceDescriptor.shouldBeReadOnly()) {
+                findCacheKeys(unitOfWork, primaryKeysArray, found);
+            }
+            identityMapSession = null;
+            if (!referenceDescriptor.getCachePolicy().shouldIsolateObjectsInUnitOfWork() && !unitOfWork.shouldForceReadFromDB(query, null)) {
+                identityMapSession = unitOfWork.getParentIdentityMapSession(query);
+            }
+        }
+        if (identityMapSession != null) {
+            findCacheKeys(identityMapSession, primaryKeysArray, found);
+        }
+        for (int index = 0; index < primaryKeysArray.length; index++) {
+            int rowIndex = indexes.get(index);
+            if (found[index]) {
+                // Use the single object cache check, the object may still be built by another thread.
+                Object cachedObject = query.checkEarlyReturn(session, sourceRows[rowIndex]);
+                if (cachedObject != null) {
+                    cachedObjects.put(foreignKeys[rowIndex], cachedObject);
+                }
+            } else if (unitOfWork == null) {
+                session.incrementProfile(SessionProfiler.CacheMisses, query);
+            }
+        }
+        return cachedObjects;
+    }
+
+    /**
+     * Mark the primary keys with a cache key in the identity map of the session.
+     */
+    private void findCacheKeys(AbstractSession session, Object[] primaryKeys, boolean[] found) {
+        Map<Object, CacheKey> cacheKeys = session.getIdentityMapAccessorInstance().getAllCacheKeysFromIdentityMapWithEntityPK(primaryKeys, getReferenceDescriptor());
+        for (int index = 0; index < primaryKeys.length; index++) {
+            if (!found[index] && cacheKeys.containsKey(primaryKeys[index])) {
+                found[index] = true;
+            }
+        }
+    }
+
     /**
      * INTERNAL:
      * Return the selection criteria necessary to select the target object when this mapping
@@ -427,6 +427,35 @@ public ChangeRecord compareForChange(Object clone, Object backUp, ObjectChangeSe
     public void deleteMapKey(Object objectDeleted, AbstractSession session){
     }
 
+    /**
+     * INTERNAL:
+     * The attribute is unchanged if its value is the same as the backup clone's.
+     */
+    @Override
+    public boolean isAttributeUnchanged(Object clone, Object backup, AbstractSession session) {
+        return compareObjects(backup, clone, session);
+    }
+
+    /**
+     * INTERNAL:
+     * Return the value the backup clone would hold for the attribute of the clone.
+     * Mutable values are copied, as in buildBackupClone.
+     */
+    @Override
+    public Object buildBackupCloneValue(Object clone, UnitOfWorkImpl unitOfWork) {
+        return buildCloneValue(getAttributeValueFromObject(clone), unitOfWork);
+    }
+
+    /**
+     * INTERNAL:
+     * The attribute is unchanged if its value is the same as the backup value.
+     * @see #buildBackupCloneValue(Object, UnitOfWorkImpl)
+     */
+    @Override
+    public boolean isAttributeValueUnchanged(Object clone, Object backupValue, AbstractSession session) {
+        return compareObjectValues(backupValue, getAttributeValueFromObject(clone), session);
+    }
+
     /**
      * INTERNAL:
      * Compare the attributes belonging to this mapping for the objects.
@@ -624,6 +653,14 @@ public Class<?> getAttributeClassification() {
         return attributeClassification;
     }
 
+    /**
+     * INTERNAL:
+     * Return the class of the attribute values, the wrapper class for a primitive attribute.
+     */
+    public Class<?> getAttributeObjectClassification() {
+        return attributeObjectClassification;
+    }
+
     /**
      * INTERNAL:
      * Return the class name of the attribute type.
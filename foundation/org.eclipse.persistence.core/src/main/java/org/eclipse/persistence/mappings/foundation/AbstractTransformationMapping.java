@@ -219,6 +219,16 @@ public void buildBackupClone(Object clone, Object backup, UnitOfWorkImpl unitOfW
         setAttributeValueInObject(backup, clonedAttributeValue);
     }
 
+    /**
+     * INTERNAL:
+     * Return the value the backup clone would hold for the attribute of the clone.
+     * The attribute transformer is given the clone, as there is no backup object.
+     */
+    @Override
+    public Object buildBackupCloneValue(Object clone, UnitOfWorkImpl unitOfWork) {
+        return this.indirectionPolicy.backupCloneAttribute(getAttributeValueFromObject(clone), clone, clone, unitOfWork);
+    }
+
     /**
      * INTERNAL
      * Build a phantom row that contains only the fields
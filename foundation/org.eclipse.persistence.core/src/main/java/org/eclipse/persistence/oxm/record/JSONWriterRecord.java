@@ -491,6 +491,9 @@ public void characters(QName schemaType, Object value, String mimeType, boolean
              }else{
                  characters((String)value);
              }
+        }else if(schemaType == null && (value.getClass() == CoreClassConstants.INTEGER || value.getClass() == CoreClassConstants.LONG || value.getClass() == CoreClassConstants.BOOLEAN)){
+            // Written as is, as the conversion manager would.
+            characters(value.toString(), false, isAttribute);
         }else{
             ConversionManager conversionManager = getConversionManager();
             String convertedValue = conversionManager.convertObject(value, CoreClassConstants.STRING, schemaType);
@@ -644,28 +647,35 @@ public XPathFragment getTextWrapperFragment() {
     protected void writeKey(XPathFragment xPathFragment) throws IOException {
         if (xPathFragment.getLocalName() != null && !xPathFragment.getLocalName().equals(Constants.EMPTY_STRING)) {
             super.openStartElement(xPathFragment, namespaceResolver);
-            writer.write('"');
-            if (xPathFragment.isAttribute() && attributePrefix != null) {
-                writer.writeAttributePrefix();
-            }
-
+            boolean isPrefixed = xPathFragment.isAttribute() && attributePrefix != null;
+            String prefix = null;
             if (isNamespaceAware()) {
                 if (xPathFragment.getNamespaceURI() != null) {
-                    String prefix = null;
                     if (getNamespaceResolver() != null) {
                         prefix = getNamespaceResolver().resolveNamespaceURI(xPathFragment.getNamespaceURI());
                     } else if (namespaceResolver != null) {
                         prefix = namespaceResolver.resolveNamespaceURI(xPathFragment.getNamespaceURI());
                     }
                     if (prefix != null && !prefix.equals(Constants.EMPTY_STRING)) {
-                        writer.write(prefix);
-                        writer.writeNamespaceSeparator();
+                        isPrefixed = true;
                     }
                 }
             }
 
-            writer.writeLocalName(xPathFragment);
-            writer.write('"');
+            if (isPrefixed) {
+                writer.write('"');
+                if (xPathFragment.isAttribute() && attributePrefix != null) {
+                    writer.writeAttributePrefix();
+                }
+                if (prefix != null && !prefix.equals(Constants.EMPTY_STRING)) {
+                    writer.write(prefix);
+                    writer.writeNamespaceSeparator();
+                }
+                writer.writeLocalName(xPathFragment, encoder);
+                writer.write('"');
+            } else {
+                writer.writeQuotedLocalName(xPathFragment, encoder);
+            }
 
             writeSeparator();
         }
@@ -681,52 +691,7 @@ protected void writeValue(String value, boolean isAttribute) {
                    return;
                }
 
-              char[] chars = value.toCharArray();
-              for (int x = 0, charsSize = chars.length; x < charsSize; x++) {
-                  char character = chars[x];
-                  switch (character){
-                      case '"' : {
-                          writer.write("\\\"");
-                          break;
-                      }
-                      case '\b': {
-                          writer.write("\\b");
-                          break;
-                      }
-                      case '\f': {
-                          writer.write("\\f");
-                          break;
-                      }
-                      case '\n': {
-                          writer.write("\\n");
-                          break;
-                      }
-                      case '\r': {
-                          writer.write("\\r");
-                          break;
-                      }
-                      case '\t': {
-                          writer.write("\\t");
-                          break;
-                      }
-                      case '\\': {
-                          writer.write("\\\\");
-                          break;
-                      }
-                      default: {
-                          if(Character.isISOControl(character) || !encoder.canEncode(character)){
-                              writer.write("\\u");
-                              String hex = Integer.toHexString(character).toUpperCase();
-                              for(int i=hex.length(); i<4; i++){
-                                  writer.write("0");
-                              }
-                              writer.write(hex);
-                          }else{
-                              writer.write(character);
-                          }
-                      }
-                  }
-              }
+               writer.writeValue(value, encoder);
         } catch (IOException e) {
             throw XMLMarshalException.marshalException(e);
         }
@@ -1008,21 +973,39 @@ protected interface Output {
 
         void writeCR() throws IOException;
 
-        void writeLocalName(XPathFragment xPathFragment) throws IOException;
+        /**
+         * Write the escaped local name of the fragment.
+         */
+        void writeLocalName(XPathFragment xPathFragment, CharsetEncoder encoder) throws IOException;
 
         void writeNamespaceSeparator() throws IOException;
 
+        /**
+         * Write the escaped local name of the fragment in double quotes.
+         */
+        void writeQuotedLocalName(XPathFragment xPathFragment, CharsetEncoder encoder) throws IOException;
+
         void writeResultFromCharEscapeHandler(String value, boolean isAttribute);
 
+        void writeValue(String value, CharsetEncoder encoder) throws IOException;
+
     }
 
     protected static class OutputStreamOutput implements Output {
 
-        private static final int BUFFER_SIZE = 512;
+        private static final int BUFFER_SIZE = 8192;
+
+        /**
+         * The buffer released by the last output of the thread, reused by the next output of the thread.
+         */
+        private static final ThreadLocal<byte[]> BUFFER_POOL = new ThreadLocal<>();
+
+        private static final byte[] HEX_DIGITS = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F'};
 
         private byte[] attributePrefix;
-        private byte[] buffer = new byte[BUFFER_SIZE];
+        private byte[] buffer;
         private int bufferIndex = 0;
+        private int bufferLength = 0;
         private CharacterEscapeHandler characterEscapeHandler;
         private byte[] cr = System.lineSeparator().getBytes(Constants.DEFAULT_CHARSET);
         private XMLMarshaller marshaller;
@@ -1033,13 +1016,45 @@ protected OutputStreamOutput(OutputStream writer) {
             this.outputStream = writer;
         }
 
+        /**
+         * Write the buffered bytes to the output stream, and release the buffer to the pool of the thread.
+         */
         @Override
         public void flush() throws IOException {
-            outputStream.write(buffer, 0, bufferIndex);
-            bufferIndex = 0;
+            if (null != buffer) {
+                outputStream.write(buffer, 0, bufferIndex);
+                BUFFER_POOL.set(buffer);
+                buffer = null;
+                bufferIndex = 0;
+                bufferLength = 0;
+            }
             outputStream.flush();
         }
 
+        /**
+         * Make room for the number of bytes in the buffer, taking the buffer from the pool of the thread if needed.
+         * The room is not ensured for more bytes than the size of the buffer.
+         */
+        private void ensureCapacity(int length) {
+            if (null == buffer) {
+                buffer = BUFFER_POOL.get();
+                if (null == buffer) {
+                    buffer = new byte[BUFFER_SIZE];
+                } else {
+                    // The buffer is owned by this output until flushed.
+                    BUFFER_POOL.set(null);
+                }
+                bufferLength = buffer.length;
+            } else if (bufferIndex + length > bufferLength) {
+                try {
+                    outputStream.write(buffer, 0, bufferIndex);
+                    bufferIndex = 0;
+                } catch(IOException e) {
+                    throw XMLMarshalException.marshalException(e);
+                }
+            }
+        }
+
         @Override
         public XMLMarshaller getMarshaller() {
             return marshaller;
@@ -1068,19 +1083,16 @@ public void setMarshaller(XMLMarshaller marshaller) {
 
         private void write(byte[] bytes) {
             int bytesLength = bytes.length;
-            if(bufferIndex + bytesLength >= BUFFER_SIZE) {
+            ensureCapacity(bytesLength);
+            if(bufferIndex + bytesLength > bufferLength) {
                 try {
-                    outputStream.write(buffer, 0, bufferIndex);
-                    bufferIndex = 0;
-                    if(bytesLength > BUFFER_SIZE) {
-                        outputStream.write(bytes);
-                        return;
-                    }
+                    outputStream.write(bytes);
+                    return;
                 } catch(IOException e) {
                     throw XMLMarshalException.marshalException(e);
                 }
             }
-            System.arraycopy(bytes, 0, buffer, bufferIndex, bytes.length);
+            System.arraycopy(bytes, 0, buffer, bufferIndex, bytesLength);
             bufferIndex += bytesLength;
         }
 
@@ -1116,20 +1128,32 @@ public void write(char character) throws IOException {
         }
 
         private void write(byte b) {
-            if(bufferIndex == BUFFER_SIZE) {
-                try {
-                    outputStream.write(buffer, 0, BUFFER_SIZE);
-                    bufferIndex = 0;
-                } catch(IOException e) {
-                    throw XMLMarshalException.marshalException(e);
-                }
+            if(bufferIndex == bufferLength) {
+                ensureCapacity(1);
             }
             buffer[bufferIndex++] = b;
         }
 
+        /**
+         * Write the text, ASCII characters are copied to the buffer without encoding.
+         */
         @Override
         public void write(String text) throws IOException {
-            write(text.getBytes(Constants.DEFAULT_CHARSET));
+            int length = text.length();
+            if (length > BUFFER_SIZE) {
+                write(text.getBytes(Constants.DEFAULT_CHARSET));
+                return;
+            }
+            ensureCapacity(length);
+            for (int x = 0; x < length; x++) {
+                char character = text.charAt(x);
+                if (character > 0x7F) {
+                    // Only the remaining characters are encoded.
+                    write(text.substring(x).getBytes(Constants.DEFAULT_CHARSET));
+                    return;
+                }
+                buffer[bufferIndex++] = (byte) character;
+            }
         }
 
         @Override
@@ -1143,8 +1167,16 @@ public void writeCR() throws IOException {
         }
 
         @Override
-        public void writeLocalName(XPathFragment xPathFragment) throws IOException {
-            write(xPathFragment.getLocalNameBytes());
+        public void writeLocalName(XPathFragment xPathFragment, CharsetEncoder encoder) throws IOException {
+            writeValue(xPathFragment.getLocalName(), encoder);
+        }
+
+        /**
+         * Write the quoted and escaped name cached by the fragment.
+         */
+        @Override
+        public void writeQuotedLocalName(XPathFragment xPathFragment, CharsetEncoder encoder) throws IOException {
+            write(xPathFragment.getQuotedLocalNameBytes());
         }
 
         @Override
@@ -1152,6 +1184,63 @@ public void writeNamespaceSeparator() throws IOException {
             write(namespaceSeparator);
         }
 
+        /**
+         * Write the escaped value in UTF-8. The output is always UTF-8, so only control characters
+         * and surrogates, which can not be encoded one by one, are written as unicode escapes.
+         */
+        @Override
+        public void writeValue(String value, CharsetEncoder encoder) throws IOException {
+            for (int x = 0, length = value.length(); x < length; x++) {
+                char character = value.charAt(x);
+                if (character >= 0x20 && character < 0x7F) {
+                    if (character == '"' || character == '\\') {
+                        write((byte) '\\');
+                    }
+                    write((byte) character);
+                    continue;
+                }
+                switch (character) {
+                    case '\b': {
+                        write((byte) '\\');
+                        write((byte) 'b');
+                        break;
+                    }
+                    case '\f': {
+                        write((byte) '\\');
+                        write((byte) 'f');
+                        break;
+                    }
+                    case '\n': {
+                        write((byte) '\\');
+                        write((byte) 'n');
+                        break;
+                    }
+                    case '\r': {
+                        write((byte) '\\');
+                        write((byte) 'r');
+                        break;
+                    }
+                    case '\t': {
+                        write((byte) '\\');
+                        write((byte) 't');
+                        break;
+                    }
+                    default: {
+                        if (Character.isISOControl(character) || Character.isSurrogate(character)) {
+                            write((byte) '\\');
+                            write((byte) 'u');
+                            write(HEX_DIGITS[(character >> 12) & 0xF]);
+                            write(HEX_DIGITS[(character >> 8) & 0xF]);
+                            write(HEX_DIGITS[(character >> 4) & 0xF]);
+                            write(HEX_DIGITS[character & 0xF]);
+                        } else {
+                            write(character);
+                        }
+                    }
+                }
+            }
+        }
+
         @Override
         public void writeResultFromCharEscapeHandler(String value, boolean isAttribute) {
             try {
@@ -1229,8 +1318,15 @@ public void writeCR() throws IOException {
         }
 
         @Override
-        public void writeLocalName(XPathFragment xPathFragment) throws IOException {
-            writer.write(xPathFragment.getLocalName());
+        public void writeLocalName(XPathFragment xPathFragment, CharsetEncoder encoder) throws IOException {
+            writeValue(xPathFragment.getLocalName(), encoder);
+        }
+
+        @Override
+        public void writeQuotedLocalName(XPathFragment xPathFragment, CharsetEncoder encoder) throws IOException {
+            writer.write('"');
+            writeValue(xPathFragment.getLocalName(), encoder);
+            writer.write('"');
         }
 
         @Override
@@ -1247,6 +1343,56 @@ public void writeResultFromCharEscapeHandler(String value, boolean isAttribute)
             }
         }
 
+        @Override
+        public void writeValue(String value, CharsetEncoder encoder) throws IOException {
+            char[] chars = value.toCharArray();
+            for (int x = 0, charsSize = chars.length; x < charsSize; x++) {
+                char character = chars[x];
+                switch (character){
+                    case '"' : {
+                        writer.write("\\\"");
+                        break;
+                    }
+                    case '\b': {
+                        writer.write("\\b");
+                        break;
+                    }
+                    case '\f': {
+                        writer.write("\\f");
+                        break;
+                    }
+                    case '\n': {
+                        writer.write("\\n");
+                        break;
+                    }
+                    case '\r': {
+                        writer.write("\\r");
+                        break;
+                    }
+                    case '\t': {
+                        writer.write("\\t");
+                        break;
+                    }
+                    case '\\': {
+                        writer.write("\\\\");
+                        break;
+                    }
+                    default: {
+                        if(Character.isISOControl(character) || !encoder.canEncode(character)){
+                            writer.write("\\u");
+                            String hex = Integer.toHexString(character).toUpperCase();
+                            for(int i=hex.length(); i<4; i++){
+                                writer.write("0");
+                            }
+                            writer.write(hex);
+                        }else{
+                            writer.write(character);
+                        }
+                    }
+                }
+            }
+        }
+
     }
 
 }
@@ -146,6 +146,15 @@ public boolean supportsIdentity() {
         return true;
     }
 
+    /**
+     * INTERNAL:
+     * H2 supports multi-row inserts.
+     */
+    @Override
+    public int getMaxMultiRowInsertSize(int parameterCount) {
+        return 65535 / parameterCount;
+    }
+
     @Override
     public boolean supportsSequenceObjects() {
         return true;
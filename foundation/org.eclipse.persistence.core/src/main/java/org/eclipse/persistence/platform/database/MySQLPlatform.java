@@ -686,6 +686,15 @@ public boolean supportsIdentity() {
         return true;
     }
 
+    /**
+     * INTERNAL:
+     * MySQL supports multi-row inserts, limited to 65535 bind parameters per statement.
+     */
+    @Override
+    public int getMaxMultiRowInsertSize(int parameterCount) {
+        return 65535 / parameterCount;
+    }
+
     /**
      * INTERNAL:
      * Indicates whether the platform supports the count distinct function with multiple fields.
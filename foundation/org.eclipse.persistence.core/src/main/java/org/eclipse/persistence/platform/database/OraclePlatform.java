@@ -410,6 +410,38 @@ public int getMaxFieldNameSize() {
         return 30;
     }
 
+    /**
+     * INTERNAL:
+     * Oracle supports multi-row inserts through INSERT ALL, limited to 65535 bind parameters per statement.
+     */
+    @Override
+    public int getMaxMultiRowInsertSize(int parameterCount) {
+        return 65535 / parameterCount;
+    }
+
+    /**
+     * INTERNAL:
+     * Oracle does not support multiple rows in the values clause, the rows are inserted through INSERT ALL:
+     * {@code INSERT ALL INTO T (A, B) VALUES (?, ?) INTO T (A, B) VALUES (?, ?) SELECT 1 FROM DUAL}.
+     */
+    @Override
+    public String buildMultiRowInsertSQLString(String insertSQLString, int rows) {
+        int intoIndex = insertSQLString.indexOf("INTO ");
+        if ((intoIndex == -1) || !insertSQLString.startsWith("INSERT ") || !insertSQLString.endsWith(")")) {
+            return null;
+        }
+        String into = insertSQLString.substring(intoIndex);
+        StringBuilder sqlString = new StringBuilder(intoIndex + ((into.length() + 1) * rows) + 24);
+        sqlString.append(insertSQLString, 0, intoIndex);
+        sqlString.append("ALL");
+        for (int row = 0; row < rows; row++) {
+            sqlString.append(' ');
+            sqlString.append(into);
+        }
+        sqlString.append(" SELECT 1 FROM DUAL");
+        return sqlString.toString();
+    }
+
     /**
      * Return the catalog information through using the native SQL catalog selects.
      * This is required because many JDBC driver do not support meta-data.
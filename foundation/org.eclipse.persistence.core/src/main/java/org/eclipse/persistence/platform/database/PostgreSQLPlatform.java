@@ -512,6 +512,15 @@ public int getMaxFieldNameSize() {
         return 63;
     }
 
+    /**
+     * INTERNAL:
+     * PostgreSQL supports multi-row inserts, limited to 32767 bind parameters per statement.
+     */
+    @Override
+    public int getMaxMultiRowInsertSize(int parameterCount) {
+        return 32767 / parameterCount;
+    }
+
     // http://www.postgresql.org/docs/8.1/interactive/plpgsql-declarations.html
     /**
      * INTERNAL: Used for sp calls.
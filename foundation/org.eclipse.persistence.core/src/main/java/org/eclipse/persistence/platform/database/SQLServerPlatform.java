@@ -357,6 +357,16 @@ public int getMaxFieldNameSize() {
         return 22;
     }
 
+    /**
+     * INTERNAL:
+     * SQL Server supports multi-row inserts of up to 1000 rows,
+     * limited to 2100 parameters per statement, including the driver's own parameters.
+     */
+    @Override
+    public int getMaxMultiRowInsertSize(int parameterCount) {
+        return Math.min(1000, 2000 / parameterCount);
+    }
+
     /**
      * Return the catalog information through using the native SQL catalog selects.
      * This is required because many JDBC driver do not support meta-data.
@@ -424,7 +424,7 @@ protected Object retrieveNextObject() throws DatabaseException {
                 if (isClosed()) {
                     return null;
                 }
-                row = getAccessor().cursorRetrieveNextRow(this.fields, this.resultSet, this.executionSession);
+                row = getAccessor().cursorRetrieveNextRow(this.fields, this.fieldsArray, this.resultSet, this.executionSession);
             } else {
                 row = this.nextRow;
                 this.nextRow = null;
@@ -63,6 +63,7 @@
 import org.eclipse.persistence.mappings.CollectionMapping;
 import org.eclipse.persistence.mappings.DatabaseMapping;
 import org.eclipse.persistence.mappings.ForeignReferenceMapping;
+import org.eclipse.persistence.sessions.SessionProfiler;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -2103,10 +2104,12 @@ protected boolean prepareFromCachedQuery() {
             return false;
         }
         if ((cachedQuery != null) && cachedQuery.isPrepared()) {
+            this.session.incrementProfile(SessionProfiler.ExpressionQueryCacheHits, this);
             prepareFromQuery(cachedQuery);
             setIsPrepared(true);
             return true;
         }
+        this.session.incrementProfile(SessionProfiler.ExpressionQueryCacheMisses, this);
         this.descriptor.getQueryManager().putCachedExpressionQuery(this);
         this.isCachedExpressionQuery = true;
         this.isExecutionClone = false;
@@ -47,6 +47,7 @@
 import org.eclipse.persistence.descriptors.MultitenantPolicy;
 import org.eclipse.persistence.descriptors.partitioning.PartitioningPolicy;
 import org.eclipse.persistence.internal.helper.ConcurrentFixedCache;
+import org.eclipse.persistence.internal.helper.ConcurrentTinyLFUCache;
 import org.eclipse.persistence.internal.identitymaps.AbstractIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.IdentityMap;
 import org.eclipse.persistence.internal.localization.ExceptionLocalization;
@@ -157,6 +158,15 @@ public class Project extends CoreProject<ClassDescriptor, Login, DatabaseSession
     /** Flag that allows call deferral to be disabled */
     protected boolean allowSQLDeferral = true;
 
+    /** Flag that allows the writes of independent classes to be grouped by table on commit */
+    protected boolean allowCommitGrouping = false;
+
+    /** Number of registered objects from which the changes of a unit of work are detected in parallel, 0 if never */
+    protected int parallelChangeDetectionThreshold = 0;
+
+    /** Flag that makes descriptors without a change policy keep snapshots instead of backup clones */
+    protected boolean useSnapshotChangeDetection = false;
+
     /** Flag that allows transform named stored procedure parameters into positional/index based */
     protected boolean namingIntoIndexed = false;
 
@@ -222,7 +232,7 @@ public Project() {
         this.hasIsolatedClasses = false;
         this.hasGenericHistorySupport = false;
         this.hasProxyIndirection = false;
-        this.jpqlParseCache = new ConcurrentFixedCache<>(200);
+        this.jpqlParseCache = new ConcurrentTinyLFUCache<>(200);
         this.queries = new ArrayList<>();
         this.mappedSuperclassDescriptors = new HashMap<>(2);
         this.metamodelIdClassMap = new HashMap<>();
@@ -334,10 +344,11 @@ public List<DatabaseQuery> getJPATablePerTenantQueries() {
      * INTERNAL:
      * Return the JPQL parse cache.
      * This is used to optimize dynamic JPQL.
+     * The cache keeps the most frequently used queries when full.
      */
     public ConcurrentFixedCache<String, DatabaseQuery> getJPQLParseCache() {
         if (jpqlParseCache==null) {
-            jpqlParseCache = new ConcurrentFixedCache<>(200);
+            jpqlParseCache = new ConcurrentTinyLFUCache<>(200);
         }
         return jpqlParseCache;
     }
@@ -348,7 +359,7 @@ public ConcurrentFixedCache<String, DatabaseQuery> getJPQLParseCache() {
      * This is used to optimize dynamic JPQL.
      */
     public void setJPQLParseCacheMaxSize(int maxSize) {
-        setJPQLParseCache(new ConcurrentFixedCache<>(maxSize));
+        setJPQLParseCache(new ConcurrentTinyLFUCache<>(maxSize));
     }
 
     /**
@@ -1332,6 +1343,33 @@ public boolean allowSQLDeferral() {
         return this.allowSQLDeferral;
     }
 
+    /**
+     * INTERNAL:
+     * Return true if the writes of classes without dependencies between each other
+     * can be grouped by table on commit, so they are batched together.
+     */
+    public boolean allowCommitGrouping() {
+        return this.allowCommitGrouping;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of registered objects from which the existing objects of a unit of work
+     * are screened for changes in parallel, 0 if change detection is never parallel.
+     */
+    public int getParallelChangeDetectionThreshold() {
+        return this.parallelChangeDetectionThreshold;
+    }
+
+    /**
+     * INTERNAL:
+     * Return true if descriptors without a configured change policy use a SnapshotChangeDetectionPolicy
+     * instead of a DeferredChangeDetectionPolicy.
+     */
+    public boolean shouldUseSnapshotChangeDetection() {
+        return this.useSnapshotChangeDetection;
+    }
+
     /**
      * INTERNAL:
      * Return true is allowed to transform named stored procedure parameters into positional/index based.
@@ -1419,6 +1457,31 @@ public void setAllowSQLDeferral(boolean allowSQLDeferral) {
         this.allowSQLDeferral = allowSQLDeferral;
     }
 
+    /**
+     * INTERNAL:
+     * Set whether the writes of independent classes can be grouped by table on commit on this project.
+     */
+    public void setAllowCommitGrouping(boolean allowCommitGrouping) {
+        this.allowCommitGrouping = allowCommitGrouping;
+    }
+
+    /**
+     * INTERNAL:
+     * Set the number of registered objects from which the existing objects of a unit of work
+     * are screened for changes in parallel, 0 to never detect changes in parallel.
+     */
+    public void setParallelChangeDetectionThreshold(int parallelChangeDetectionThreshold) {
+        this.parallelChangeDetectionThreshold = parallelChangeDetectionThreshold;
+    }
+
+    /**
+     * INTERNAL:
+     * Set whether descriptors without a configured change policy use a SnapshotChangeDetectionPolicy.
+     */
+    public void setShouldUseSnapshotChangeDetection(boolean useSnapshotChangeDetection) {
+        this.useSnapshotChangeDetection = useSnapshotChangeDetection;
+    }
+
     /**
      * INTERNAL:
      * Set whether named stored procedure parameters is allowed to transform into positional/index based.
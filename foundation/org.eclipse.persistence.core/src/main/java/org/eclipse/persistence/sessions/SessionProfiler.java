@@ -52,6 +52,16 @@ public interface SessionProfiler {
     String CacheMisses = "Counter:CacheMisses";
     String ChangeSetsProcessed = "Counter:ChangesProcessed";
     String ChangeSetsNotProcessed = "Counter:ChangesNotProcessed";
+    String ConnectionWaits = "Counter:ConnectionWaits";
+    String ConnectionWaitTimeouts = "Counter:ConnectionWaitTimeouts";
+    String StatementCacheHits = "Counter:StatementCacheHits";
+    String StatementCacheMisses = "Counter:StatementCacheMisses";
+    String StatementCacheEvictions = "Counter:StatementCacheEvictions";
+    String JpqlParseCacheHits = "Counter:JpqlParseCacheHits";
+    String JpqlParseCacheMisses = "Counter:JpqlParseCacheMisses";
+    String JpqlParseCacheEvictions = "Counter:JpqlParseCacheEvictions";
+    String ExpressionQueryCacheHits = "Counter:ExpressionQueryCacheHits";
+    String ExpressionQueryCacheMisses = "Counter:ExpressionQueryCacheMisses";
 
     String DescriptorEvent = "Timer:DescriptorEvents";
     String SessionEvent = "Timer:SessionEvents";
@@ -69,6 +79,7 @@ public interface SessionProfiler {
     String CacheCoordinationSerialize = "Timer:CacheCoordinationSerialize";
     String CacheCoordination = "Timer:CacheCoordination";
     String ConnectionManagement = "Timer:ConnectionManagement";
+    String ConnectionWait = "Timer:ConnectionWait";
     String Logging = "Timer:Logging";
     String JtsBeforeCompletion = "Timer:TXBeforeCompletion";
     String JtsAfterCompletion = "Timer:TXAfterCompletion";
@@ -24,6 +24,7 @@
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
 import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.internal.sessions.coordination.BatchedCommandPropagator;
 import org.eclipse.persistence.internal.sessions.coordination.CommandPropagator;
 import org.eclipse.persistence.internal.sessions.coordination.RCMCommand;
 import org.eclipse.persistence.internal.sessions.coordination.RemoteConnection;
@@ -78,6 +79,8 @@
 public class RemoteCommandManager implements org.eclipse.persistence.sessions.coordination.CommandManager {
     public static final String DEFAULT_CHANNEL = "EclipseLinkCommandChannel";
     public static final boolean DEFAULT_ASYNCHRONOUS_MODE = true;
+    public static final long DEFAULT_COMMAND_BATCH_DELAY = 10;
+    public static final int DEFAULT_MAX_PENDING_COMMANDS = 1000;
 
     /** Uniquely identifies this service in the cluster */
     protected ServiceId serviceId;
@@ -106,6 +109,18 @@ public class RemoteCommandManager implements org.eclipse.persistence.sessions.co
     /** Set the Serializer to use for serialization of commands. */
     protected Serializer serializer;
 
+    /** Maximum number of commands sent as one batch, batching is disabled unless greater than 1. */
+    protected int commandBatchSize;
+
+    /** Maximum time in milliseconds to wait for the batch size to be reached. */
+    protected long commandBatchDelay;
+
+    /** Maximum number of commands waiting to be sent before propagation blocks. */
+    protected int maxPendingCommands;
+
+    /** Queues and sends the commands when batching is enabled. */
+    protected BatchedCommandPropagator batchedPropagator;
+
     //** Indicates whether RCM is active. In case there's discoveryManager it mirrors discoveryManager.isDiscoveryStopped()
     protected boolean isStopped = true;
 
@@ -122,6 +137,9 @@ public RemoteCommandManager(CommandProcessor commandProcessor) {
         this.serviceId.setChannel(DEFAULT_CHANNEL);
         this.isAsynchronous = DEFAULT_ASYNCHRONOUS_MODE;
         this.serializer = JavaSerializer.instance;
+        this.commandBatchDelay = DEFAULT_COMMAND_BATCH_DELAY;
+        this.maxPendingCommands = DEFAULT_MAX_PENDING_COMMANDS;
+        this.batchedPropagator = new BatchedCommandPropagator(this);
 
         // Set the command processor to point back to this command manager
         commandProcessor.setCommandManager(this);
@@ -198,6 +216,8 @@ public void shutdown() {
             discoveryManager = newDmgr;
         }
         isStopped = true;
+        // Send the queued commands before the connections are discarded.
+        batchedPropagator.flush();
         transportManager.discardConnections();
     }
 
@@ -234,6 +254,12 @@ public void propagateCommand(Object command) {
             // Set our service id on the command to indicate that it came from us
             newCommand.setServiceId(getServiceId());
 
+            if (shouldPropagateAsynchronously() && shouldBatchCommands()) {
+                // The batch is serialized and sent by the propagator's worker.
+                getBatchedPropagator().propagateCommand(newCommand);
+                return;
+            }
+
             // PERF: Support plugable serialization.
             Serializer serializer = getSerializer();
             byte[] commandBytes = null;
@@ -523,6 +549,77 @@ public boolean shouldPropagateAsynchronously() {
         return isAsynchronous;
     }
 
+    /**
+     * PUBLIC:
+     * Return the maximum number of commands sent as one batch in asynchronous mode.
+     * @see #setCommandBatchSize(int)
+     */
+    public int getCommandBatchSize() {
+        return commandBatchSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the maximum number of commands sent as one batch in asynchronous mode.
+     * When greater than 1, commands are queued and sent by a single worker instead of a thread per command,
+     * and the change sets of a batch are coalesced into one command where possible.
+     * By default batching is disabled.
+     */
+    public void setCommandBatchSize(int commandBatchSize) {
+        this.commandBatchSize = commandBatchSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the maximum time in milliseconds to wait for the batch size to be reached.
+     */
+    public long getCommandBatchDelay() {
+        return commandBatchDelay;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the maximum time in milliseconds to wait for the batch size to be reached before sending a smaller batch.
+     * The default is 10 milliseconds.
+     */
+    public void setCommandBatchDelay(long commandBatchDelay) {
+        this.commandBatchDelay = commandBatchDelay;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the maximum number of commands waiting to be sent.
+     */
+    public int getMaxPendingCommands() {
+        return maxPendingCommands;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the maximum number of commands waiting to be sent when batching.
+     * When reached, propagating a command blocks until the pending commands are sent.
+     * The default is 1000.
+     */
+    public void setMaxPendingCommands(int maxPendingCommands) {
+        this.maxPendingCommands = maxPendingCommands;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if asynchronous propagation sends the commands in batches.
+     */
+    public boolean shouldBatchCommands() {
+        return this.commandBatchSize > 1;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the propagator that queues the commands when batching.
+     */
+    public BatchedCommandPropagator getBatchedPropagator() {
+        return this.batchedPropagator;
+    }
+
     /**
      * ADVANCED:
      * Set whether this command manager should propagate commands
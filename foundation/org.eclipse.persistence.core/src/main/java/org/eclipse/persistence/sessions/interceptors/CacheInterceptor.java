@@ -209,6 +209,14 @@ public CacheKey getCacheKey(Object primaryKey, boolean forMerge) {
         return this.targetIdentityMap.getCacheKey(primaryKey, forMerge);
     }
 
+    /**
+     * Get the cache keys (with objects) for the primary keys.
+     */
+    @Override
+    public CacheKey[] getAllCacheKeys(Object[] primaryKeys, boolean forMerge) {
+        return this.targetIdentityMap.getAllCacheKeys(primaryKeys, forMerge);
+    }
+
     /**
      * Get the cache key (with object) for the primary key.
      */
@@ -0,0 +1,375 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.sessions.interceptors;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.exceptions.ValidationException;
+import org.eclipse.persistence.internal.helper.CustomObjectInputStream;
+import org.eclipse.persistence.internal.helper.SerializationHelper;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.identitymaps.IdentityMap;
+import org.eclipse.persistence.internal.identitymaps.OffHeapCacheStore;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.logging.SessionLog;
+
+/**
+ * <p>
+ * <b>Purpose</b>: A cache interceptor that adds an off-heap second tier to the shared cache.
+ * <p>
+ * <b>Description</b>: Whenever a lock on a cache key is released the object is serialized into an
+ * {@link OffHeapCacheStore}, unless the stored copy has the same version and read time.
+ * When the on-heap identity map does not contain a primary key, for example because it was
+ * garbage collected from a soft or weak cache or evicted from a fixed size cache, the object is
+ * deserialized from the store and put back into the identity map with its original version and read time,
+ * so cache invalidation still applies.
+ * Invalidating an object, locally or through cache coordination, removes it from the store,
+ * so an invalidated object is never rebuilt from the store.
+ * <p>
+ * Only objects that are {@link Serializable} and whose descriptor has no relationship mappings are stored,
+ * as deserializing related objects would break object identity.
+ * The tier is ignored for isolated and unit of work caches.
+ * <p>
+ * <b>Configuration</b>: Set this class as the cache interceptor class of the descriptor.
+ * The size of the store of each class hierarchy is set through the
+ * {@link PersistenceUnitProperties#CACHE_OFF_HEAP_SIZE} session property.
+ * @see OffHeapCacheStore
+ * @since 5.0
+ */
+public class OffHeapCacheInterceptor extends CacheInterceptor {
+
+    /** Default size of the off-heap store of each class hierarchy, 64MB. */
+    public static final long DEFAULT_SIZE = 64L * 1024 * 1024;
+
+    /** The off-heap tier, null if the tier does not apply to the intercepted cache. */
+    protected OffHeapCacheStore store;
+
+    public OffHeapCacheInterceptor(IdentityMap targetIdentityMap, AbstractSession interceptedSession) {
+        super(targetIdentityMap, interceptedSession);
+        if (!interceptedSession.isUnitOfWork() && !interceptedSession.isIsolatedClientSession()) {
+            this.store = new OffHeapCacheStore(getConfiguredSize(interceptedSession), OffHeapCacheStore.DEFAULT_BLOCK_SIZE);
+        }
+    }
+
+    protected OffHeapCacheInterceptor(IdentityMap targetIdentityMap, AbstractSession interceptedSession, OffHeapCacheStore store) {
+        super(targetIdentityMap, interceptedSession);
+        this.store = store;
+    }
+
+    /**
+     * Return the configured size of the store in bytes.
+     * An invalid size is reported to the session's exception handler, and the default size is used.
+     */
+    protected static long getConfiguredSize(AbstractSession session) {
+        Object size = session.getProperty(PersistenceUnitProperties.CACHE_OFF_HEAP_SIZE);
+        if (size == null) {
+            return DEFAULT_SIZE;
+        }
+        try {
+            long configuredSize = Long.parseLong(size.toString().trim());
+            if (configuredSize < OffHeapCacheStore.DEFAULT_BLOCK_SIZE) {
+                throw new IllegalArgumentException("size: " + configuredSize);
+            }
+            return configuredSize;
+        } catch (IllegalArgumentException exception) {
+            session.handleException(ValidationException.invalidValueForProperty(size, PersistenceUnitProperties.CACHE_OFF_HEAP_SIZE, exception));
+            return DEFAULT_SIZE;
+        }
+    }
+
+    /**
+     * Return the off-heap store, or null if the tier does not apply to the intercepted cache.
+     */
+    public OffHeapCacheStore getStore() {
+        return store;
+    }
+
+    /**
+     * The clone shares the off-heap store, it is only used for commit and resume on failure.
+     */
+    @Override
+    public IdentityMap clone() {
+        return new OffHeapCacheInterceptor(this.targetIdentityMap.clone(), this.interceptedSession, this.store);
+    }
+
+    /**
+     * Wrap the cache key so the object is stored off-heap when its lock is released,
+     * and removed from the store when it is invalidated.
+     */
+    @Override
+    protected CacheKeyInterceptor createCacheKeyInterceptor(CacheKey wrappedCacheKey) {
+        if (this.store == null) {
+            return new CacheKeyInterceptor(wrappedCacheKey);
+        }
+        return new CacheKeyInterceptor(wrappedCacheKey) {
+            @Override
+            public void release() {
+                // Serialize while the lock is still held, so a concurrent merge cannot change the object meanwhile.
+                if ((wrappedKey.getDepth() == 1) && (wrappedKey.getActiveThread() == Thread.currentThread())) {
+                    store(wrappedKey);
+                }
+                wrappedKey.release();
+            }
+
+            @Override
+            public void releaseDeferredLock() {
+                wrappedKey.releaseDeferredLock();
+                // The object was built under a deferred lock, serialize it under a read lock to exclude merges.
+                if (wrappedKey.acquireReadLockNoWait()) {
+                    try {
+                        store(wrappedKey);
+                    } finally {
+                        wrappedKey.releaseReadLock();
+                    }
+                }
+            }
+
+            @Override
+            public void setInvalidationState(int invalidationState) {
+                // Remove first, so a concurrent rehydration either sees the removal or the invalid state.
+                if (invalidationState == CacheKey.CACHE_KEY_INVALID) {
+                    store.remove(wrappedKey.getKey());
+                }
+                wrappedKey.setInvalidationState(invalidationState);
+            }
+        };
+    }
+
+    /**
+     * Serialize the cache key's object into the store, if it can be stored and the same version is not already stored.
+     * An invalidated object is removed from the store.
+     */
+    protected void store(CacheKey cacheKey) {
+        Object object = cacheKey.getObject();
+        Object primaryKey = cacheKey.getKey();
+        if ((object == null) || (primaryKey == null)) {
+            return;
+        }
+        if (cacheKey.getInvalidationState() == CacheKey.CACHE_KEY_INVALID) {
+            this.store.remove(primaryKey);
+            return;
+        }
+        if (!(object instanceof Serializable)) {
+            return;
+        }
+        ClassDescriptor descriptor = this.interceptedSession.getDescriptor(object);
+        if ((descriptor == null) || !descriptor.getObjectBuilder().getRelationshipMappings().isEmpty()) {
+            return;
+        }
+        // Only a version tells that the object has not changed, the read time of an unversioned
+        // object is not updated when a change is merged into it.
+        if (descriptor.usesOptimisticLocking() && (cacheKey.getWriteLockValue() != null)
+                && this.store.isCurrent(primaryKey, cacheKey.getWriteLockValue(), cacheKey.getReadTime())) {
+            return;
+        }
+        try {
+            this.store.put(primaryKey, SerializationHelper.serialize((Serializable)object), cacheKey.getWriteLockValue(), cacheKey.getReadTime());
+        } catch (IOException exception) {
+            this.store.remove(primaryKey);
+            this.interceptedSession.logThrowable(SessionLog.FINE, SessionLog.CACHE, exception);
+        }
+    }
+
+    /**
+     * Rebuild the object from the store and put it back into the identity map.
+     * @return the cache key of the object, or null if it is not stored off-heap.
+     */
+    protected CacheKey rehydrate(Object primaryKey) {
+        if ((this.store == null) || (primaryKey == null)) {
+            return null;
+        }
+        CacheKey existingKey = this.targetIdentityMap.getCacheKeyForLock(primaryKey);
+        if ((existingKey != null) && (existingKey.getInvalidationState() == CacheKey.CACHE_KEY_INVALID)) {
+            // Invalidated by a path that did not go through this interceptor.
+            this.store.remove(primaryKey);
+            return null;
+        }
+        OffHeapCacheStore.Entry entry = this.store.get(primaryKey);
+        if (entry == null) {
+            return null;
+        }
+        Object object;
+        try (ObjectInputStream stream = new CustomObjectInputStream(new ByteArrayInputStream(entry.getBytes()), this.interceptedSession)) {
+            object = stream.readObject();
+        } catch (IOException | ClassNotFoundException exception) {
+            this.store.remove(primaryKey);
+            this.interceptedSession.logThrowable(SessionLog.FINE, SessionLog.CACHE, exception);
+            return null;
+        }
+        // Lock the key so an object built or merged by another thread in the meantime is not replaced.
+        CacheKey cacheKey = this.targetIdentityMap.acquireLock(primaryKey, false, false);
+        try {
+            if (cacheKey.getObject() == null) {
+                cacheKey.setObject(object);
+                cacheKey.setWriteLockValue(entry.getWriteLockValue());
+                cacheKey.setReadTime(entry.getReadTime());
+                // The object was invalidated or stored again while it was deserialized.
+                if (!this.store.isStored(primaryKey, entry)) {
+                    cacheKey.setInvalidationState(CacheKey.CACHE_KEY_INVALID);
+                }
+            }
+        } finally {
+            cacheKey.release();
+        }
+        return cacheKey;
+    }
+
+    /**
+     * Return the object cached in the identity map, or rebuilt from the off-heap store.
+     */
+    @Override
+    public Object get(Object primaryKey) {
+        Object object = this.targetIdentityMap.get(primaryKey);
+        if (object == null) {
+            CacheKey cacheKey = rehydrate(primaryKey);
+            if (cacheKey != null) {
+                object = cacheKey.getObject();
+            }
+        }
+        return object;
+    }
+
+    /**
+     * Get the cache key (with object) for the primary key, rebuilding the object from the off-heap store if missing.
+     */
+    @Override
+    public CacheKey getCacheKey(Object primaryKey, boolean forMerge) {
+        CacheKey cacheKey = this.targetIdentityMap.getCacheKey(primaryKey, forMerge);
+        if ((cacheKey == null) || ((cacheKey.getObject() == null) && !cacheKey.isAcquired())) {
+            CacheKey rehydrated = rehydrate(primaryKey);
+            if (rehydrated != null) {
+                return rehydrated;
+            }
+        }
+        return cacheKey;
+    }
+
+    /**
+     * Return the cache key to lock or invalidate, wrapped so that its invalidation removes the object from the store.
+     * If the object is no longer in the identity map, it is removed from the store, as the caller considers it not cached.
+     */
+    @Override
+    public CacheKey getCacheKeyForLock(Object primaryKey) {
+        CacheKey cacheKey = this.targetIdentityMap.getCacheKeyForLock(primaryKey);
+        if (this.store == null) {
+            return cacheKey;
+        }
+        if (cacheKey == null) {
+            this.store.remove(primaryKey);
+            // The object may have been rehydrated concurrently, before it was removed from the store.
+            cacheKey = this.targetIdentityMap.getCacheKeyForLock(primaryKey);
+            if (cacheKey == null) {
+                return null;
+            }
+        }
+        return createCacheKeyInterceptor(cacheKey);
+    }
+
+    /**
+     * Get the cache keys for the primary keys, rebuilding the objects missing from the identity map from the off-heap store.
+     */
+    @Override
+    public CacheKey[] getAllCacheKeys(Object[] primaryKeys, boolean forMerge) {
+        CacheKey[] cacheKeys = this.targetIdentityMap.getAllCacheKeys(primaryKeys, forMerge);
+        if (this.store != null) {
+            for (int index = 0; index < cacheKeys.length; index++) {
+                CacheKey cacheKey = cacheKeys[index];
+                if ((cacheKey == null) || ((cacheKey.getObject() == null) && !cacheKey.isAcquired())) {
+                    CacheKey rehydrated = rehydrate(primaryKeys[index]);
+                    if (rehydrated != null) {
+                        cacheKeys[index] = rehydrated;
+                    }
+                }
+            }
+        }
+        return cacheKeys;
+    }
+
+    @Override
+    public Map<Object, Object> getAllFromIdentityMapWithEntityPK(Object[] pkList, ClassDescriptor descriptor, AbstractSession session) {
+        Map<Object, Object> objects = this.targetIdentityMap.getAllFromIdentityMapWithEntityPK(pkList, descriptor, session);
+        if ((this.store != null) && (objects.size() < pkList.length)) {
+            objects = new HashMap<>(objects);
+            long currentTime = System.currentTimeMillis();
+            for (Object primaryKey : pkList) {
+                if (!objects.containsKey(primaryKey)) {
+                    CacheKey cacheKey = rehydrate(primaryKey);
+                    if ((cacheKey != null) && (cacheKey.getObject() != null) && !descriptor.getCacheInvalidationPolicy().isInvalidated(cacheKey, currentTime)) {
+                        objects.put(primaryKey, cacheKey.getObject());
+                    }
+                }
+            }
+        }
+        return objects;
+    }
+
+    @Override
+    public Map<Object, CacheKey> getAllCacheKeysFromIdentityMapWithEntityPK(Object[] pkList, ClassDescriptor descriptor, AbstractSession session) {
+        Map<Object, CacheKey> cacheKeys = this.targetIdentityMap.getAllCacheKeysFromIdentityMapWithEntityPK(pkList, descriptor, session);
+        if ((this.store != null) && (cacheKeys.size() < pkList.length)) {
+            cacheKeys = new HashMap<>(cacheKeys);
+            long currentTime = System.currentTimeMillis();
+            for (Object primaryKey : pkList) {
+                if (!cacheKeys.containsKey(primaryKey)) {
+                    CacheKey cacheKey = rehydrate(primaryKey);
+                    if ((cacheKey != null) && (cacheKey.getObject() != null) && !descriptor.getCacheInvalidationPolicy().isInvalidated(cacheKey, currentTime)) {
+                        cacheKeys.put(primaryKey, cacheKey);
+                    }
+                }
+            }
+        }
+        return cacheKeys;
+    }
+
+    /**
+     * Remove the object from both tiers.
+     */
+    @Override
+    public Object remove(Object primaryKey, Object object) {
+        if (this.store != null) {
+            this.store.remove(primaryKey);
+        }
+        return super.remove(primaryKey, object);
+    }
+
+    /**
+     * Remove the object from both tiers.
+     */
+    @Override
+    public Object remove(CacheKey cacheKey) {
+        if ((this.store != null) && (cacheKey != null)) {
+            this.store.remove(cacheKey.getKey());
+        }
+        return super.remove(cacheKey);
+    }
+
+    /**
+     * The identity map is being thrown away, so is the content of the off-heap store.
+     */
+    @Override
+    public void release() {
+        if (this.store != null) {
+            this.store.clear();
+        }
+        this.targetIdentityMap.release();
+    }
+}
@@ -0,0 +1,618 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//      Oracle - initial impl
+package org.eclipse.persistence.sessions.serializers;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.helper.ClassConstants;
+import org.eclipse.persistence.internal.helper.CustomObjectInputStream;
+import org.eclipse.persistence.internal.identitymaps.CacheId;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.DirectToFieldChangeRecord;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.internal.sessions.coordination.ConnectToHostCommand;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.sessions.Session;
+import org.eclipse.persistence.sessions.SessionEvent;
+import org.eclipse.persistence.sessions.SessionEventAdapter;
+import org.eclipse.persistence.sessions.changesets.ChangeRecord;
+import org.eclipse.persistence.sessions.coordination.Command;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.ServiceId;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compact binary serialization of cache coordination commands.
+ * <p>
+ * {@link MergeChangeSetCommand}s whose change sets only contain direct changes, and {@link ConnectToHostCommand}s,
+ * are written without Java serialization: class names are written once per message,
+ * attributes are written as the index of their mapping in the descriptor, and values with a one byte type tag.
+ * Both nodes must share the same descriptors.
+ * Values of other types are embedded using Java serialization,
+ * other commands and change sets with relationship changes are written using Java serialization.
+ * <p>
+ * Set through the {@code eclipselink.cache.coordination.serializer} persistence unit property.
+ * @see org.eclipse.persistence.sessions.coordination.RemoteCommandManager#setSerializer(Serializer)
+ * @since 5.0
+ */
+public class BinarySerializer extends AbstractSerializer {
+
+    public static final BinarySerializer instance = new BinarySerializer();
+
+    /** Format of the message, the first byte. */
+    protected static final byte JAVA = 0;
+    protected static final byte MERGE_CHANGE_SET = 1;
+    protected static final byte CONNECT_TO_HOST = 2;
+
+    /** Value type tags. */
+    protected static final byte NULL = 0;
+    protected static final byte STRING = 1;
+    protected static final byte INTEGER = 2;
+    protected static final byte LONG = 3;
+    protected static final byte SHORT = 4;
+    protected static final byte BYTE = 5;
+    protected static final byte TRUE = 6;
+    protected static final byte FALSE = 7;
+    protected static final byte DOUBLE = 8;
+    protected static final byte FLOAT = 9;
+    protected static final byte CHARACTER = 10;
+    protected static final byte BIG_DECIMAL = 11;
+    protected static final byte BIG_INTEGER = 12;
+    protected static final byte BYTES = 13;
+    protected static final byte DATE = 14;
+    protected static final byte SQL_DATE = 15;
+    protected static final byte SQL_TIME = 16;
+    protected static final byte TIMESTAMP = 17;
+    protected static final byte CACHE_ID = 18;
+    protected static final byte OBJECT = 19;
+
+    /** Object change set flags. */
+    protected static final int SHOULD_BE_DELETED = 1;
+    protected static final int IS_INVALID = 2;
+    protected static final int IS_NEW = 4;
+    protected static final int HAS_VERSION_CHANGE = 8;
+    protected static final int MODIFY_VERSION_FIELD = 16;
+    protected static final int DO_NOT_MODIFY_VERSION_FIELD = 32;
+
+    /** Session property holding the {@link MappingIndexes} of the session. */
+    public static final String MAPPING_INDEXES = "eclipselink.binary-serializer.mapping-indexes";
+
+    public BinarySerializer() {
+    }
+
+    /**
+     * Register the cache of the mapping indexes of the session's descriptors,
+     * it is kept in the session so that it does not outlive its descriptors, and is cleared on logout.
+     */
+    @Override
+    public void initialize(Class<?> serializeClass, String serializePackage, Session session) {
+        if ((session != null) && (session.getProperty(MAPPING_INDEXES) == null)) {
+            MappingIndexes indexes = new MappingIndexes();
+            session.setProperty(MAPPING_INDEXES, indexes);
+            session.getEventManager().addListener(indexes);
+        }
+    }
+
+    @Override
+    public Object serialize(Object object, Session session) {
+        ByteArrayOutputStream byteOut = new ByteArrayOutputStream(256);
+        try {
+            DataOutputStream out = new DataOutputStream(byteOut);
+            if ((object instanceof MergeChangeSetCommand) && canWrite(((MergeChangeSetCommand)object).getChangeSet((AbstractSession)session))) {
+                out.writeByte(MERGE_CHANGE_SET);
+                writeServiceId(((Command)object).getServiceId(), out);
+                writeChangeSet(((MergeChangeSetCommand)object).getChangeSet((AbstractSession)session), out, (AbstractSession)session);
+            } else if ((object != null) && (object.getClass() == ConnectToHostCommand.class)) {
+                out.writeByte(CONNECT_TO_HOST);
+                writeServiceId(((Command)object).getServiceId(), out);
+            } else {
+                out.writeByte(JAVA);
+                ObjectOutputStream objectOut = new ObjectOutputStream(out);
+                objectOut.writeObject(object);
+                objectOut.flush();
+            }
+            out.flush();
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+        return byteOut.toByteArray();
+    }
+
+    @Override
+    public Object deserialize(Object bytes, Session session) {
+        byte[] data = (byte[])bytes;
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+            byte format = in.readByte();
+            switch (format) {
+                case MERGE_CHANGE_SET: {
+                    MergeChangeSetCommand command = new MergeChangeSetCommand();
+                    command.setServiceId(readServiceId(in));
+                    command.setChangeSet(readChangeSet(in, (AbstractSession)session));
+                    return command;
+                }
+                case CONNECT_TO_HOST: {
+                    ConnectToHostCommand command = new ConnectToHostCommand();
+                    command.setServiceId(readServiceId(in));
+                    return command;
+                }
+                default:
+                    return readJavaObject(in, session);
+            }
+        } catch (IOException | ClassNotFoundException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    /**
+     * Return if the change set can be written in binary, it must only contain direct changes.
+     */
+    protected boolean canWrite(UnitOfWorkChangeSet changeSet) {
+        if (changeSet == null) {
+            return false;
+        }
+        for (ObjectChangeSet objectChangeSet : changeSet.getAllChangeSets().keySet()) {
+            if (!canWrite(objectChangeSet)) {
+                return false;
+            }
+        }
+        if (changeSet.hasDeletedObjects()) {
+            for (ObjectChangeSet objectChangeSet : changeSet.getDeletedObjects().keySet()) {
+                if (!canWrite(objectChangeSet)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    protected boolean canWrite(ObjectChangeSet objectChangeSet) {
+        if (objectChangeSet.isAggregate() || (objectChangeSet.getOldKey() != null) || (objectChangeSet.getNewKey() != null)
+                || objectChangeSet.hasProtectedForeignKeys()) {
+            return false;
+        }
+        for (ChangeRecord record : objectChangeSet.getChanges()) {
+            if (!(record instanceof DirectToFieldChangeRecord)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    protected void writeChangeSet(UnitOfWorkChangeSet changeSet, DataOutputStream out, AbstractSession session) throws IOException {
+        Map<String, Integer> classNames = new HashMap<>();
+        writeInt(changeSet.getAllChangeSets().size(), out);
+        for (ObjectChangeSet objectChangeSet : changeSet.getAllChangeSets().keySet()) {
+            writeObjectChangeSet(objectChangeSet, classNames, out, session);
+        }
+        if (changeSet.hasDeletedObjects()) {
+            writeInt(changeSet.getDeletedObjects().size(), out);
+            for (ObjectChangeSet objectChangeSet : changeSet.getDeletedObjects().keySet()) {
+                writeObjectChangeSet(objectChangeSet, classNames, out, session);
+            }
+        } else {
+            writeInt(0, out);
+        }
+    }
+
+    protected UnitOfWorkChangeSet readChangeSet(DataInputStream in, AbstractSession session) throws IOException, ClassNotFoundException {
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet();
+        List<ClassDescriptor> descriptors = new ArrayList<>();
+        List<String> classNames = new ArrayList<>();
+        int size = readInt(in);
+        if (size > 0) {
+            Map<ObjectChangeSet, ObjectChangeSet> allChangeSets = changeSet.getAllChangeSets();
+            for (int index = 0; index < size; index++) {
+                ObjectChangeSet objectChangeSet = readObjectChangeSet(descriptors, classNames, in, session);
+                allChangeSets.put(objectChangeSet, objectChangeSet);
+            }
+        }
+        size = readInt(in);
+        if (size > 0) {
+            Map<ObjectChangeSet, ObjectChangeSet> deletedObjects = new IdentityHashMap<>(size);
+            for (int index = 0; index < size; index++) {
+                ObjectChangeSet objectChangeSet = readObjectChangeSet(descriptors, classNames, in, session);
+                deletedObjects.put(objectChangeSet, objectChangeSet);
+            }
+            changeSet.setDeletedObjects(deletedObjects);
+        }
+        return changeSet;
+    }
+
+    protected void writeObjectChangeSet(ObjectChangeSet objectChangeSet, Map<String, Integer> classNames, DataOutputStream out, AbstractSession session) throws IOException {
+        String className = objectChangeSet.getClassName();
+        Integer classIndex = classNames.get(className);
+        if (classIndex == null) {
+            // A new class is written with the next index followed by its name.
+            writeInt(classNames.size(), out);
+            writeString(className, out);
+            classNames.put(className, classNames.size());
+        } else {
+            writeInt(classIndex, out);
+        }
+        int flags = 0;
+        if (objectChangeSet.shouldBeDeleted()) {
+            flags |= SHOULD_BE_DELETED;
+        }
+        if (objectChangeSet.isInvalid()) {
+            flags |= IS_INVALID;
+        }
+        if (objectChangeSet.isNew()) {
+            flags |= IS_NEW;
+        }
+        if (objectChangeSet.hasVersionChange()) {
+            flags |= HAS_VERSION_CHANGE;
+        }
+        Boolean shouldModifyVersionField = objectChangeSet.shouldModifyVersionField();
+        if (shouldModifyVersionField != null) {
+            flags |= shouldModifyVersionField ? MODIFY_VERSION_FIELD : DO_NOT_MODIFY_VERSION_FIELD;
+        }
+        out.writeByte(flags);
+        out.writeByte(objectChangeSet.getSynchronizationType());
+        writeValue(objectChangeSet.getId(), out);
+        writeValue(objectChangeSet.getWriteLockValue(), out);
+        writeValue(objectChangeSet.getInitialWriteLockValue(), out);
+        if (!isIdentityOnly(objectChangeSet)) {
+            List<ChangeRecord> changes = objectChangeSet.getChanges();
+            writeInt(changes.size(), out);
+            Map<String, Integer> indexes = getMappingIndexes(getDescriptor(objectChangeSet, session), session);
+            for (ChangeRecord record : changes) {
+                Integer mappingIndex = indexes.get(record.getAttribute());
+                if (mappingIndex == null) {
+                    // Unknown to the descriptor, write the attribute name.
+                    writeInt(0, out);
+                    writeString(record.getAttribute(), out);
+                } else {
+                    writeInt(mappingIndex + 1, out);
+                }
+                writeValue(((DirectToFieldChangeRecord)record).getNewValue(), out);
+            }
+        }
+    }
+
+    protected ObjectChangeSet readObjectChangeSet(List<ClassDescriptor> descriptors, List<String> classNames, DataInputStream in, AbstractSession session) throws IOException, ClassNotFoundException {
+        int classIndex = readInt(in);
+        if (classIndex == classNames.size()) {
+            String className = readString(in);
+            classNames.add(className);
+            Class<?> javaClass = session.getDatasourcePlatform().getConversionManager().convertObject(className, ClassConstants.CLASS);
+            descriptors.add(session.getDescriptor(javaClass));
+        }
+        ObjectChangeSet objectChangeSet = new ObjectChangeSet();
+        objectChangeSet.setClassName(classNames.get(classIndex));
+        int flags = in.readUnsignedByte();
+        objectChangeSet.setShouldBeDeleted((flags & SHOULD_BE_DELETED) != 0);
+        objectChangeSet.setIsInvalid((flags & IS_INVALID) != 0);
+        objectChangeSet.setIsNew((flags & IS_NEW) != 0);
+        objectChangeSet.setHasVersionChange((flags & HAS_VERSION_CHANGE) != 0);
+        if ((flags & MODIFY_VERSION_FIELD) != 0) {
+            objectChangeSet.setShouldModifyVersionField(Boolean.TRUE);
+        } else if ((flags & DO_NOT_MODIFY_VERSION_FIELD) != 0) {
+            objectChangeSet.setShouldModifyVersionField(Boolean.FALSE);
+        }
+        objectChangeSet.setSynchronizationType(in.readUnsignedByte());
+        objectChangeSet.setId(readValue(in, session));
+        objectChangeSet.setWriteLockValue(readValue(in, session));
+        objectChangeSet.setInitialWriteLockValue(readValue(in, session));
+        if (!isIdentityOnly(objectChangeSet)) {
+            int size = readInt(in);
+            List<org.eclipse.persistence.sessions.changesets.ChangeRecord> changes = new ArrayList<>(size);
+            List<DatabaseMapping> mappings = descriptors.get(classIndex).getMappings();
+            for (int index = 0; index < size; index++) {
+                int mappingIndex = readInt(in);
+                DirectToFieldChangeRecord record = new DirectToFieldChangeRecord(objectChangeSet);
+                record.setAttribute((mappingIndex == 0) ? readString(in) : mappings.get(mappingIndex - 1).getAttributeName());
+                record.setNewValue(readValue(in, session));
+                changes.add(record);
+            }
+            objectChangeSet.setChanges(changes);
+        }
+        return objectChangeSet;
+    }
+
+    /**
+     * Only the identity of deleted and invalidated objects is sent, as in Java serialization of the change set.
+     */
+    protected boolean isIdentityOnly(ObjectChangeSet objectChangeSet) {
+        int synchronizationType = objectChangeSet.getSynchronizationType();
+        return objectChangeSet.shouldBeDeleted() || (synchronizationType == ClassDescriptor.DO_NOT_SEND_CHANGES)
+            || (synchronizationType == ClassDescriptor.INVALIDATE_CHANGED_OBJECTS);
+    }
+
+    protected ClassDescriptor getDescriptor(ObjectChangeSet objectChangeSet, AbstractSession session) {
+        ClassDescriptor descriptor = objectChangeSet.getDescriptor();
+        if (descriptor == null) {
+            descriptor = session.getDescriptor(objectChangeSet.getClassType(session));
+        }
+        return descriptor;
+    }
+
+    /**
+     * Return the index of each attribute's mapping, the field IDs of the descriptor.
+     * They are cached in the session if the serializer was initialized for it.
+     */
+    protected Map<String, Integer> getMappingIndexes(ClassDescriptor descriptor, AbstractSession session) {
+        if (descriptor == null) {
+            return Collections.emptyMap();
+        }
+        Object indexes = session.getProperty(MAPPING_INDEXES);
+        if (indexes instanceof MappingIndexes) {
+            return ((MappingIndexes)indexes).get(descriptor);
+        }
+        return buildMappingIndexes(descriptor);
+    }
+
+    protected static Map<String, Integer> buildMappingIndexes(ClassDescriptor descriptor) {
+        List<DatabaseMapping> mappings = descriptor.getMappings();
+        Map<String, Integer> indexes = new HashMap<>(mappings.size());
+        for (int index = 0; index < mappings.size(); index++) {
+            indexes.put(mappings.get(index).getAttributeName(), index);
+        }
+        return indexes;
+    }
+
+    protected void writeServiceId(ServiceId serviceId, DataOutputStream out) throws IOException {
+        if (serviceId == null) {
+            out.writeBoolean(false);
+            return;
+        }
+        out.writeBoolean(true);
+        writeString(serviceId.getChannel(), out);
+        writeString(serviceId.getId(), out);
+        writeString(serviceId.getURL(), out);
+    }
+
+    protected ServiceId readServiceId(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        return new ServiceId(readString(in), readString(in), readString(in));
+    }
+
+    /**
+     * Write the value with a type tag, values of unknown types use Java serialization.
+     */
+    protected void writeValue(Object value, DataOutputStream out) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+            return;
+        }
+        Class<?> type = value.getClass();
+        if (type == ClassConstants.STRING) {
+            out.writeByte(STRING);
+            writeString((String)value, out);
+        } else if (type == ClassConstants.INTEGER) {
+            out.writeByte(INTEGER);
+            out.writeInt((Integer)value);
+        } else if (type == ClassConstants.LONG) {
+            out.writeByte(LONG);
+            out.writeLong((Long)value);
+        } else if (type == ClassConstants.SHORT) {
+            out.writeByte(SHORT);
+            out.writeShort((Short)value);
+        } else if (type == ClassConstants.BYTE) {
+            out.writeByte(BYTE);
+            out.writeByte((Byte)value);
+        } else if (type == ClassConstants.BOOLEAN) {
+            out.writeByte(((Boolean)value) ? TRUE : FALSE);
+        } else if (type == ClassConstants.DOUBLE) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double)value);
+        } else if (type == ClassConstants.FLOAT) {
+            out.writeByte(FLOAT);
+            out.writeFloat((Float)value);
+        } else if (type == ClassConstants.CHAR) {
+            out.writeByte(CHARACTER);
+            out.writeChar((Character)value);
+        } else if (type == ClassConstants.BIGDECIMAL) {
+            out.writeByte(BIG_DECIMAL);
+            writeInt(((BigDecimal)value).scale(), out);
+            writeBytes(((BigDecimal)value).unscaledValue().toByteArray(), out);
+        } else if (type == ClassConstants.BIGINTEGER) {
+            out.writeByte(BIG_INTEGER);
+            writeBytes(((BigInteger)value).toByteArray(), out);
+        } else if (type == ClassConstants.APBYTE) {
+            out.writeByte(BYTES);
+            writeBytes((byte[])value, out);
+        } else if (type == ClassConstants.UTILDATE) {
+            out.writeByte(DATE);
+            out.writeLong(((java.util.Date)value).getTime());
+        } else if (type == ClassConstants.SQLDATE) {
+            out.writeByte(SQL_DATE);
+            out.writeLong(((java.sql.Date)value).getTime());
+        } else if (type == ClassConstants.TIME) {
+            out.writeByte(SQL_TIME);
+            out.writeLong(((java.sql.Time)value).getTime());
+        } else if (type == ClassConstants.TIMESTAMP) {
+            out.writeByte(TIMESTAMP);
+            out.writeLong(((java.sql.Timestamp)value).getTime());
+            out.writeInt(((java.sql.Timestamp)value).getNanos());
+        } else if (type == CacheId.class) {
+            out.writeByte(CACHE_ID);
+            Object[] primaryKey = ((CacheId)value).getPrimaryKey();
+            writeInt(primaryKey.length, out);
+            for (Object keyValue : primaryKey) {
+                writeValue(keyValue, out);
+            }
+        } else {
+            out.writeByte(OBJECT);
+            ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+            ObjectOutputStream objectOut = new ObjectOutputStream(byteOut);
+            objectOut.writeObject(value);
+            objectOut.flush();
+            writeBytes(byteOut.toByteArray(), out);
+        }
+    }
+
+    protected Object readValue(DataInputStream in, Session session) throws IOException, ClassNotFoundException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case NULL:
+                return null;
+            case STRING:
+                return readString(in);
+            case INTEGER:
+                return in.readInt();
+            case LONG:
+                return in.readLong();
+            case SHORT:
+                return in.readShort();
+            case BYTE:
+                return in.readByte();
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            case DOUBLE:
+                return in.readDouble();
+            case FLOAT:
+                return in.readFloat();
+            case CHARACTER:
+                return in.readChar();
+            case BIG_DECIMAL: {
+                int scale = readInt(in);
+                return new BigDecimal(new BigInteger(readBytes(in)), scale);
+            }
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(in));
+            case BYTES:
+                return readBytes(in);
+            case DATE:
+                return new java.util.Date(in.readLong());
+            case SQL_DATE:
+                return new java.sql.Date(in.readLong());
+            case SQL_TIME:
+                return new java.sql.Time(in.readLong());
+            case TIMESTAMP: {
+                java.sql.Timestamp timestamp = new java.sql.Timestamp(in.readLong());
+                timestamp.setNanos(in.readInt());
+                return timestamp;
+            }
+            case CACHE_ID: {
+                Object[] primaryKey = new Object[readInt(in)];
+                for (int index = 0; index < primaryKey.length; index++) {
+                    primaryKey[index] = readValue(in, session);
+                }
+                return new CacheId(primaryKey);
+            }
+            case OBJECT:
+                return readJavaObject(new ByteArrayInputStream(readBytes(in)), session);
+            default:
+                throw new IOException("Invalid value tag: " + tag);
+        }
+    }
+
+    protected Object readJavaObject(java.io.InputStream in, Session session) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream objectIn = (session == null) ? new ObjectInputStream(in) : new CustomObjectInputStream(in, session)) {
+            return objectIn.readObject();
+        }
+    }
+
+    /**
+     * Write a positive int using 7 bits per byte, most values take a single byte.
+     */
+    protected void writeInt(int value, DataOutputStream out) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    protected int readInt(DataInputStream in) throws IOException {
+        int value = 0;
+        int shift = 0;
+        int next;
+        do {
+            next = in.readUnsignedByte();
+            value |= (next & 0x7F) << shift;
+            shift += 7;
+        } while ((next & 0x80) != 0);
+        return value;
+    }
+
+    protected void writeBytes(byte[] bytes, DataOutputStream out) throws IOException {
+        writeInt(bytes.length, out);
+        out.write(bytes);
+    }
+
+    protected byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readInt(in)];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    /**
+     * Strings are written as UTF-8 bytes, null is written as length 0 and the empty String as length 1.
+     */
+    protected void writeString(String value, DataOutputStream out) throws IOException {
+        if (value == null) {
+            writeInt(0, out);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeInt(bytes.length + 1, out);
+        out.write(bytes);
+    }
+
+    protected String readString(DataInputStream in) throws IOException {
+        int length = readInt(in);
+        if (length == 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length - 1];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * INTERNAL:
+     * The index of each attribute's mapping by descriptor, for a session.
+     * The descriptors may be re-initialized after a logout, so the indexes are cleared.
+     */
+    public static class MappingIndexes extends SessionEventAdapter {
+        protected final Map<ClassDescriptor, Map<String, Integer>> indexes = new ConcurrentHashMap<>();
+
+        public Map<String, Integer> get(ClassDescriptor descriptor) {
+            return this.indexes.computeIfAbsent(descriptor, BinarySerializer::buildMappingIndexes);
+        }
+
+        public boolean isEmpty() {
+            return this.indexes.isEmpty();
+        }
+
+        @Override
+        public void postLogout(SessionEvent event) {
+            this.indexes.clear();
+        }
+    }
+}
@@ -0,0 +1,493 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.sessions.server;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import org.eclipse.persistence.exceptions.ConcurrencyException;
+import org.eclipse.persistence.exceptions.DatabaseException;
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sessions.Login;
+import org.eclipse.persistence.sessions.SessionProfiler;
+
+/**
+ * <p>
+ * <b>Purpose</b>: A connection pool that does not serialize threads on the pool monitor.
+ * <p>
+ * Free connections are kept in a lock-free stack, the most recently released ("hot") connection is used first.
+ * The number of connections is reserved through an atomic counter, so a new connection
+ * can be built without blocking other threads.
+ * When the maximum number of connections are in use, threads are parked in a FIFO queue and released connections
+ * are handed off directly to the longest waiting thread, waits that exceed the wait timeout fail with an exception.
+ * The wait time, number of waiting threads and timeouts are reported to the session profiler.
+ * <p>
+ * This pool can be used in place of a {@link ConnectionPool} for any exclusive pool,
+ * i.e. through the {@code eclipselink.connection-pool.<pool>.concurrent} persistence unit property.
+ * @see ServerSession
+ */
+public class ConcurrentConnectionPool extends ConnectionPool {
+    protected static final String MONITOR_WAITING_HEADER = "Info:ConnectionPoolWaiting:";
+
+    /** Marks a waiter that gave up before a connection was handed off. */
+    protected static final Object CANCELLED = new Object();
+
+    /** Free connections, used as a stack to reuse the most recently released connection. */
+    protected Deque<Accessor> freeConnections;
+
+    /** Connections currently allocated to clients. */
+    protected Set<Accessor> usedConnections;
+
+    /** Number of connections connected or being connected, never exceeds the max number of connections. */
+    protected AtomicInteger numberOfConnections;
+
+    /** Threads waiting for a connection, in arrival order. */
+    protected Queue<Waiter> waiters;
+
+    /** Number of threads waiting for a connection. */
+    protected AtomicInteger numberOfWaiters;
+
+    /**
+     * A thread waiting for a connection, the connection is handed off through its slot.
+     */
+    protected static class Waiter {
+        protected final Thread thread;
+        protected final AtomicReference<Object> slot;
+
+        protected Waiter(Thread thread) {
+            this.thread = thread;
+            this.slot = new AtomicReference<>();
+        }
+    }
+
+    /**
+     * PUBLIC:
+     * A connection pool is used to specify how connection should be pooled in a server session.
+     */
+    public ConcurrentConnectionPool() {
+        super();
+    }
+
+    /**
+     * PUBLIC:
+     * A connection pool is used to specify how connection should be pooled in a server session.
+     */
+    public ConcurrentConnectionPool(String name, Login login, ServerSession owner) {
+        super(name, login, owner);
+    }
+
+    /**
+     * PUBLIC:
+     * A connection pool is used to specify how connection should be pooled in a server session.
+     */
+    public ConcurrentConnectionPool(String name, Login login, int minNumberOfConnections, int maxNumberOfConnections, ServerSession owner) {
+        super(name, login, minNumberOfConnections, maxNumberOfConnections, owner);
+    }
+
+    /**
+     * PUBLIC:
+     * A connection pool is used to specify how connection should be pooled in a server session.
+     */
+    public ConcurrentConnectionPool(String name, Login login, int initialNumberOfConnections, int minNumberOfConnections, int maxNumberOfConnections, ServerSession owner) {
+        super(name, login, initialNumberOfConnections, minNumberOfConnections, maxNumberOfConnections, owner);
+    }
+
+    /**
+     * INTERNAL:
+     * Allocate a free connection for the client, build a new one if still under the maximum,
+     * otherwise wait until a connection is released.
+     * A thread never takes a connection ahead of the threads already waiting, it waits behind them instead.
+     */
+    @Override
+    public Accessor acquireConnection() throws ConcurrencyException {
+        // Check for dead database and fail-over.
+        if (this.isDead) {
+            return failover();
+        }
+        Accessor connection = null;
+        if (this.numberOfWaiters.get() == 0) {
+            connection = pollFreeConnection();
+            if ((connection == null) && reserveConnection()) {
+                connection = buildReservedConnection();
+                if (connection == null) {
+                    return failover();
+                }
+            }
+        }
+        if (connection == null) {
+            connection = waitForConnection();
+            // The waiter is dequeued, so a retry of this pool does not wait behind it.
+            if (connection == null) {
+                return failover();
+            }
+        }
+        // Only the connections of this pool are allocated, a fail-over pool allocates its own.
+        return allocate(connection);
+    }
+
+    /**
+     * INTERNAL:
+     * Return a free connection or null if none are free.
+     * If the pool was flagged to check connections, free connections that fail the check are closed.
+     */
+    protected Accessor pollFreeConnection() {
+        Accessor connection = this.freeConnections.pollLast();
+        while ((connection != null) && this.checkConnections) {
+            // EclipseLink has encountered a problem with a connection where the database no longer responded
+            // We need to now ensure that the failure was specific to that connection or we need to empty
+            // the pool of dead connections in the case of a database failover.
+            if (this.owner.getLogin().isConnectionHealthValidatedOnError() && this.owner.getServerPlatform().wasFailureCommunicationBased(null, connection, this.owner)) {
+                try {
+                    //connection failed connect test
+                    connection.closeConnection();
+                } catch (Exception ex) {
+                    //ignore
+                } finally {
+                    connection.releaseCustomizer();
+                }
+                this.numberOfConnections.decrementAndGet();
+                connection = this.freeConnections.pollLast();
+            } else {
+                //connection was good use it.  And make sure we stop testing connections
+                this.checkConnections = false;
+            }
+        }
+        if (connection == null) {
+            // All connections were tested, let the pool build more.
+            this.checkConnections = false;
+        }
+        return connection;
+    }
+
+    /**
+     * INTERNAL:
+     * Reserve room for a new connection, return false if the maximum number of connections is reached.
+     */
+    protected boolean reserveConnection() {
+        int size = this.numberOfConnections.get();
+        while (size < this.maxNumberOfConnections) {
+            if (this.numberOfConnections.compareAndSet(size, size + 1)) {
+                return true;
+            }
+            size = this.numberOfConnections.get();
+        }
+        return false;
+    }
+
+    /**
+     * INTERNAL:
+     * Build the connection for a reservation.
+     * Return null if the database is down and the pool should fail-over.
+     */
+    protected Accessor buildReservedConnection() {
+        try {
+            return buildConnection();
+        } catch (RuntimeException failed) {
+            this.numberOfConnections.decrementAndGet();
+            signalWaiter();
+            if (!this.failoverConnectionPools.isEmpty()) {
+                this.isDead = true;
+                this.timeOfDeath = System.currentTimeMillis();
+                this.owner.logThrowable(SessionLog.WARNING, SessionLog.SQL, failed);
+                return null;
+            } else {
+                throw failed;
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Park the current thread until a connection is handed off, becomes free or can be built.
+     * Waiters are served in arrival order, only the longest waiting thread takes a free connection or builds a new one.
+     * The wait fails once the wait timeout is exceeded.
+     * Return null if the database is down and the pool should fail-over.
+     */
+    protected Accessor waitForConnection() throws ConcurrencyException {
+        Waiter waiter = new Waiter(Thread.currentThread());
+        this.waiters.add(waiter);
+        int waiting = this.numberOfWaiters.incrementAndGet();
+        if (this.owner.isInProfile()) {
+            this.owner.incrementProfile(SessionProfiler.ConnectionWaits);
+            this.owner.updateProfile(MONITOR_WAITING_HEADER + this.name, waiting);
+        }
+        this.owner.startOperationProfile(SessionProfiler.ConnectionWait);
+        long deadline = (this.waitTimeout > 0) ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.waitTimeout) : 0;
+        try {
+            while (true) {
+                Object handedOff = waiter.slot.get();
+                if (handedOff != null) {
+                    return (Accessor)handedOff;
+                }
+                boolean isFirst = this.waiters.peek() == waiter;
+                // Check again after being queued, a connection may have been released before the hand-off could see this waiter.
+                Accessor connection = isFirst ? pollFreeConnection() : null;
+                if (connection != null) {
+                    return claim(waiter, connection);
+                }
+                if (isFirst && reserveConnection()) {
+                    if (waiter.slot.compareAndSet(null, CANCELLED)) {
+                        return buildReservedConnection();
+                    }
+                    this.numberOfConnections.decrementAndGet();
+                    return (Accessor)waiter.slot.get();
+                }
+                if (this.isDead) {
+                    if (waiter.slot.compareAndSet(null, CANCELLED)) {
+                        return null;
+                    }
+                    return (Accessor)waiter.slot.get();
+                }
+                if (deadline == 0) {
+                    LockSupport.park(this);
+                } else {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        if (waiter.slot.compareAndSet(null, CANCELLED)) {
+                            this.owner.incrementProfile(SessionProfiler.ConnectionWaitTimeouts);
+                            throw ConcurrencyException.waitTimeoutOnConnectionPool(this.name, this.waitTimeout);
+                        }
+                        return (Accessor)waiter.slot.get();
+                    }
+                    LockSupport.parkNanos(this, remaining);
+                }
+                if (Thread.interrupted()) {
+                    if (waiter.slot.compareAndSet(null, CANCELLED)) {
+                        throw ConcurrencyException.waitFailureOnClientSession(new InterruptedException());
+                    }
+                    // A connection was handed off, keep it and restore the interrupt.
+                    Thread.currentThread().interrupt();
+                    return (Accessor)waiter.slot.get();
+                }
+            }
+        } finally {
+            this.waiters.remove(waiter);
+            waiting = this.numberOfWaiters.decrementAndGet();
+            // The next waiter may now be the first, let it check the free connections.
+            signalWaiter();
+            this.owner.endOperationProfile(SessionProfiler.ConnectionWait);
+            if (this.owner.isInProfile()) {
+                this.owner.updateProfile(MONITOR_WAITING_HEADER + this.name, waiting);
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Take the free connection found by the waiter, unless a connection was handed off to it concurrently,
+     * in which case the free connection is given back to the pool.
+     */
+    protected Accessor claim(Waiter waiter, Accessor connection) {
+        if (waiter.slot.compareAndSet(null, CANCELLED)) {
+            return connection;
+        }
+        offerConnection(connection);
+        return (Accessor)waiter.slot.get();
+    }
+
+    /**
+     * INTERNAL:
+     * Record the connection as used by a client.
+     */
+    protected Accessor allocate(Accessor connection) {
+        this.usedConnections.add(connection);
+        if (this.owner.isInProfile()) {
+            this.owner.updateProfile(MONITOR_HEADER + this.name, this.usedConnections.size());
+        }
+        if (this.owner.shouldLog(SessionLog.FINEST, SessionLog.CONNECTION)) {
+            Object[] args = new Object[1];
+            args[0] = this.name;
+            this.owner.log(SessionLog.FINEST, SessionLog.CONNECTION, "acquire_connection", args, connection);
+        }
+        return connection;
+    }
+
+    /**
+     * INTERNAL:
+     * Hand the connection off to the longest waiting thread, or return it to the free connections.
+     */
+    protected void offerConnection(Accessor connection) {
+        Waiter waiter = this.waiters.poll();
+        while (waiter != null) {
+            if (waiter.slot.compareAndSet(null, connection)) {
+                LockSupport.unpark(waiter.thread);
+                return;
+            }
+            waiter = this.waiters.poll();
+        }
+        this.freeConnections.addLast(connection);
+        // A thread may have been queued after the poll, and checked the free connections before this one was added.
+        signalWaiter();
+    }
+
+    /**
+     * INTERNAL:
+     * Wake up the longest waiting thread so it can build a connection in place of a closed one.
+     */
+    protected void signalWaiter() {
+        Waiter waiter = this.waiters.peek();
+        if (waiter != null) {
+            LockSupport.unpark(waiter.thread);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the connection to the pool, or hand it off to a waiting thread.
+     */
+    @Override
+    public void releaseConnection(Accessor connection) throws DatabaseException {
+        if (this.owner.shouldLog(SessionLog.FINEST, SessionLog.CONNECTION)) {
+            Object[] args = new Object[1];
+            args[0] = this.name;
+            this.owner.log(SessionLog.FINEST, SessionLog.CONNECTION, "release_connection", args, connection);
+        }
+        connection.reset();
+
+        this.usedConnections.remove(connection);
+
+        if (!connection.isValid()) {
+            this.checkConnections = true;
+            this.numberOfConnections.decrementAndGet();
+            try {
+                connection.disconnect(this.owner);
+            } catch (DatabaseException ex) {
+                //this is an invalid connection so expect an exception.
+            }
+            signalWaiter();
+        } else if ((this.numberOfWaiters.get() == 0) && (this.numberOfConnections.get() > this.minNumberOfConnections)) {
+            this.numberOfConnections.decrementAndGet();
+            connection.disconnect(getOwner());
+        } else {
+            offerConnection(connection);
+        }
+        if (this.owner.isInProfile()) {
+            this.owner.updateProfile(MONITOR_HEADER + this.name, this.usedConnections.size());
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Returns a snapshot of the connections currently available for use in the pool.
+     */
+    @Override
+    public List<Accessor> getConnectionsAvailable() {
+        return new ArrayList<>(this.freeConnections);
+    }
+
+    /**
+     * Return a snapshot of the connections that are being used.
+     */
+    @Override
+    protected List<Accessor> getConnectionsUsed() {
+        return new ArrayList<>(this.usedConnections);
+    }
+
+    /**
+     * INTERNAL:
+     * Return the total number of connections currently in use.
+     */
+    @Override
+    public int getTotalNumberOfConnections() {
+        return this.numberOfConnections.get();
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of threads waiting for a connection.
+     */
+    public int getNumberOfWaiters() {
+        return this.numberOfWaiters.get();
+    }
+
+    /**
+     * INTERNAL:
+     * Return if a connection is free.
+     */
+    @Override
+    public boolean hasConnectionAvailable() {
+        return !this.freeConnections.isEmpty();
+    }
+
+    /**
+     * INTERNAL:
+     * Reset the connections on shutDown and when the pool is started.
+     */
+    @Override
+    public void resetConnections() {
+        super.resetConnections();
+        this.freeConnections = new ConcurrentLinkedDeque<>();
+        this.usedConnections = ConcurrentHashMap.newKeySet();
+        this.numberOfConnections = new AtomicInteger();
+        if (this.waiters == null) {
+            this.waiters = new ConcurrentLinkedQueue<>();
+            this.numberOfWaiters = new AtomicInteger();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Disconnect all connections.
+     */
+    @Override
+    public synchronized void shutDown() {
+        setIsConnected(false);
+
+        for (Accessor connection : this.freeConnections) {
+            try {
+                connection.disconnect(getOwner());
+            } catch (DatabaseException exception) {
+                // Ignore.
+            }
+        }
+
+        for (Accessor connection : this.usedConnections) {
+            try {
+                connection.disconnect(getOwner());
+            } catch (DatabaseException exception) {
+                // Ignore.
+            }
+        }
+        resetConnections();
+    }
+
+    /**
+     * INTERNAL:
+     * Allocate the initial connections.
+     */
+    @Override
+    public synchronized void startUp() {
+        if (isConnected()) {
+            return;
+        }
+        for (int index = getInitialNumberOfConnections(); index > 0; index--) {
+            this.freeConnections.addLast(buildConnection());
+            this.numberOfConnections.incrementAndGet();
+        }
+
+        setIsConnected(true);
+    }
+}
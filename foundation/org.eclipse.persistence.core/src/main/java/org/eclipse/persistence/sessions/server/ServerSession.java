@@ -47,6 +47,9 @@
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Implementation of Server
@@ -81,6 +84,10 @@ public class ServerSession extends DatabaseSessionImpl implements Server {
     protected int numberOfNonPooledConnectionsUsed;
     protected int maxNumberOfNonPooledConnections;
 
+    /** Guards the number of non pooled connections used, a lock is used instead of the session monitor so waiting virtual threads do not pin their carrier. */
+    protected final Lock nonPooledConnectionsLock = new ReentrantLock();
+    protected final Condition nonPooledConnectionReleased = this.nonPooledConnectionsLock.newCondition();
+
     public static final int NO_MAX = -1;
     public static final String DEFAULT_POOL = "default";
     public static final String NOT_POOLED = "not-pooled";
@@ -271,15 +278,18 @@ public void acquireClientConnection(ClientSession clientSession) throws Database
             clientSession.addWriteConnection(pool.getName(), accessor);
         } else {
             if (this.maxNumberOfNonPooledConnections != NO_MAX) {
-                synchronized (this) {
+                this.nonPooledConnectionsLock.lock();
+                try {
                     while (this.numberOfNonPooledConnectionsUsed >= this.maxNumberOfNonPooledConnections) {
                         try {
-                            wait();// Notify is called when connections are released.
+                            this.nonPooledConnectionReleased.await();// Signal is called when connections are released.
                         } catch (InterruptedException exception) {
                             throw ConcurrencyException.waitFailureOnServerSession(exception);
                         }
                     }
                     this.numberOfNonPooledConnectionsUsed++;
+                } finally {
+                    this.nonPooledConnectionsLock.unlock();
                 }
             }
             try {
@@ -290,10 +300,7 @@ public void acquireClientConnection(ClientSession clientSession) throws Database
                 // A DatabaseException was thrown, undo the numberOfNonPooledConnectionsUsed counter increment otherwise
                 // the counter will be out of synch with the actual number of connections.
                 if (this.maxNumberOfNonPooledConnections != NO_MAX) {
-                    synchronized (this) {
-                        this.numberOfNonPooledConnectionsUsed--;
-                        notify();
-                    }
+                    releaseNonPooledConnection();
                 }
                 throw dbe;
             }
@@ -851,10 +858,7 @@ public void releaseInvalidClientSession(ClientSession clientSession) throws Data
                     }
                     } finally {
                     if (this.maxNumberOfNonPooledConnections != NO_MAX) {
-                        synchronized (this) {
-                            this.numberOfNonPooledConnectionsUsed--;
-                            notify();
-                        }
+                        releaseNonPooledConnection();
                     }
                 }
                 }
@@ -863,6 +867,20 @@ public void releaseInvalidClientSession(ClientSession clientSession) throws Data
         }
     }
 
+    /**
+     * INTERNAL:
+     * Decrement the number of non pooled connections used and wake up a client session waiting for one.
+     */
+    protected void releaseNonPooledConnection() {
+        this.nonPooledConnectionsLock.lock();
+        try {
+            this.numberOfNonPooledConnectionsUsed--;
+            this.nonPooledConnectionReleased.signal();
+        } finally {
+            this.nonPooledConnectionsLock.unlock();
+        }
+    }
+
     /**
      * INTERNAL:
      * Release the clients connection resource.
@@ -894,10 +912,7 @@ public void releaseClientSession(ClientSession clientSession) throws DatabaseExc
             }
             clientSession.setWriteConnections(null);
             if (this.maxNumberOfNonPooledConnections != NO_MAX) {
-                synchronized (this) {
-                    this.numberOfNonPooledConnectionsUsed--;
-                    notify();
-                }
+                releaseNonPooledConnection();
             }
         }
     }
@@ -64,6 +64,8 @@
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * <p>
@@ -131,6 +133,7 @@ public static Test suite() {
         suite.addTest(new AdvancedQueryTest("testObjectResultType"));
         suite.addTest(new AdvancedQueryTest("testNativeResultType"));
         suite.addTest(new AdvancedQueryTest("testCursors"));
+        suite.addTest(new AdvancedQueryTest("testResultStream"));
         suite.addTest(new AdvancedQueryTest("testFetchGroups"));
         suite.addTest(new AdvancedQueryTest("testMultipleNamedJoinFetchs"));
         suite.addTest(new AdvancedQueryTest("testNativeQueryTransactions"));
@@ -417,6 +420,63 @@ public void testCursors() {
         }
     }
 
+    /**
+     * Test getResultStream() reads the results through a cursor.
+     */
+    public void testResultStream() {
+        EntityManager em = createEntityManager();
+        beginTransaction(em);
+        try {
+            TypedQuery<Employee> query = em.createQuery("Select employee from Employee employee order by employee.id", Employee.class);
+            List<Employee> expected = query.getResultList();
+            List<Employee> streamed;
+            try (Stream<Employee> stream = query.getResultStream()) {
+                streamed = stream.collect(Collectors.toList());
+            }
+            assertEquals("Stream results do not match list results", expected, streamed);
+            // The query must still return a List after being streamed.
+            assertEquals(expected.size(), query.getResultList().size());
+
+            TypedQuery<String> reportQuery = em.createQuery("Select employee.firstName from Employee employee order by employee.id", String.class);
+            try (Stream<String> stream = reportQuery.getResultStream()) {
+                assertEquals(expected.size(), stream.count());
+            }
+            // Null values must not end the stream.
+            TypedQuery<Integer> nullQuery = em.createQuery("Select NULLIF(employee.id, employee.id) from Employee employee order by employee.id", Integer.class);
+            try (Stream<Integer> stream = nullQuery.getResultStream()) {
+                assertEquals(expected.size(), stream.filter(value -> value == null).count());
+            }
+        } finally {
+            rollbackTransaction(em);
+            closeEntityManager(em);
+        }
+
+        em = createEntityManager();
+        beginTransaction(em);
+        try {
+            // An entity managed and changed before streaming must stay managed with its changes.
+            Employee managed = em.createQuery("Select employee from Employee employee order by employee.id", Employee.class).setMaxResults(1).getSingleResult();
+            managed.setFirstName("Streamed");
+            TypedQuery<Employee> query = em.createQuery("Select employee from Employee employee order by employee.id", Employee.class);
+            query.setHint(QueryHints.RESULT_STREAM_DETACH, true);
+            query.setHint(QueryHints.JDBC_FETCH_SIZE, 5);
+            List<Employee> streamed;
+            try (Stream<Employee> stream = query.getResultStream()) {
+                streamed = stream.collect(Collectors.toList());
+            }
+            assertTrue("No employees streamed", streamed.size() > 1);
+            assertSame("Managed employee not streamed", managed, streamed.get(0));
+            assertTrue("Managed employee was detached", em.contains(managed));
+            assertEquals("Changes to the managed employee were lost", "Streamed", managed.getFirstName());
+            for (Employee employee : streamed.subList(1, streamed.size())) {
+                assertFalse("Streamed employee was not detached", em.contains(employee));
+            }
+        } finally {
+            rollbackTransaction(em);
+            closeEntityManager(em);
+        }
+    }
+
     /**
      * Test the result type of various queries.
      */
@@ -28,10 +28,18 @@
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.CacheStoreMode;
@@ -42,16 +50,21 @@
 import jakarta.persistence.PersistenceException;
 import jakarta.persistence.TemporalType;
 import jakarta.persistence.TypedQuery;
+import org.eclipse.persistence.config.QueryHints;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.exceptions.DatabaseException;
 import org.eclipse.persistence.exceptions.QueryException;
 import org.eclipse.persistence.expressions.Expression;
 import org.eclipse.persistence.internal.databaseaccess.DatasourcePlatform;
 import org.eclipse.persistence.internal.helper.ClassConstants;
+import org.eclipse.persistence.internal.helper.ConcurrentFixedCache;
 import org.eclipse.persistence.internal.helper.Helper;
 import org.eclipse.persistence.internal.jpa.querydef.ParameterExpressionImpl;
 import org.eclipse.persistence.internal.localization.ExceptionLocalization;
 import org.eclipse.persistence.internal.queries.ContainerPolicy;
 import org.eclipse.persistence.internal.queries.JPQLCallQueryMechanism;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
 import org.eclipse.persistence.jpa.JpaQuery;
 import org.eclipse.persistence.queries.Cursor;
 import org.eclipse.persistence.queries.DataReadQuery;
@@ -63,7 +76,10 @@
 import org.eclipse.persistence.queries.ReadObjectQuery;
 import org.eclipse.persistence.queries.ReadQuery;
 import org.eclipse.persistence.queries.ResultSetMappingQuery;
+import org.eclipse.persistence.queries.ScrollableCursor;
+import org.eclipse.persistence.queries.ScrollableCursorPolicy;
 import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.SessionProfiler;
 
 /**
  * Concrete JPA query class. The JPA query wraps a DatabaseQuery which is
@@ -136,8 +152,11 @@ public static DatabaseQuery buildEJBQLDatabaseQuery(String queryName, String jpq
         // Only allow queries with default properties to be parse cached.
         boolean isCacheable = (queryName == null) && (hints == null);
         DatabaseQuery databaseQuery = null;
+        String parseCacheKey = null;
         if (isCacheable) {
-            databaseQuery = session.getProject().getJPQLParseCache().get(jpqlQuery);
+            parseCacheKey = buildParseCacheKey(jpqlQuery);
+            databaseQuery = session.getProject().getJPQLParseCache().get(parseCacheKey);
+            session.incrementProfile((databaseQuery == null) ? SessionProfiler.JpqlParseCacheMisses : SessionProfiler.JpqlParseCacheHits);
         }
         if ((databaseQuery == null) || (!databaseQuery.isPrepared())) {
             JPAQueryBuilder queryBuilder = session.getQueryBuilder();
@@ -194,13 +213,61 @@ public static DatabaseQuery buildEJBQLDatabaseQuery(String queryName, String jpq
                 // Prepare query as hint may cause cloning (but not un-prepare
                 // as in read-only).
                 databaseQuery.checkPrepare(session, new DatabaseRecord());
-                session.getProject().getJPQLParseCache().put(jpqlQuery, databaseQuery);
+                ConcurrentFixedCache<String, DatabaseQuery> parseCache = session.getProject().getJPQLParseCache();
+                long evictions = parseCache.getEvictions();
+                parseCache.put(parseCacheKey, databaseQuery);
+                if (parseCache.getEvictions() != evictions) {
+                    session.incrementProfile(SessionProfiler.JpqlParseCacheEvictions);
+                }
             }
         }
 
         return databaseQuery;
     }
 
+    /**
+     * INTERNAL:
+     * Return the key of the JPQL string in the parse cache.
+     * Runs of whitespace outside of string literals are replaced by a single space,
+     * so queries only formatted differently share the same parsed query.
+     */
+    protected static String buildParseCacheKey(String jpqlQuery) {
+        StringBuilder key = null;
+        char quote = 0;
+        int length = jpqlQuery.length();
+        for (int index = 0; index < length; index++) {
+            char character = jpqlQuery.charAt(index);
+            if (quote != 0) {
+                if (character == quote) {
+                    quote = 0;
+                }
+            } else if ((character == '\'') || (character == '"')) {
+                quote = character;
+            } else if (Character.isWhitespace(character)) {
+                int end = index + 1;
+                while ((end < length) && Character.isWhitespace(jpqlQuery.charAt(end))) {
+                    end++;
+                }
+                boolean isEdge = (index == 0) || (end == length);
+                if (isEdge || (character != ' ') || (end > index + 1)) {
+                    if (key == null) {
+                        key = new StringBuilder(length);
+                        key.append(jpqlQuery, 0, index);
+                    }
+                    if (!isEdge) {
+                        key.append(' ');
+                    }
+                    index = end - 1;
+                    continue;
+                }
+            }
+            if (key != null) {
+                key.append(character);
+            }
+        }
+        return (key == null) ? jpqlQuery : key.toString();
+    }
+
     /**
      * Build a ReadAllQuery from a class and sql string.
      */
@@ -419,6 +486,146 @@ public Cursor getResultCursor() {
         }
     }
 
+    /**
+     * Execute the query and return the results as a lazy Stream.
+     * <p>
+     * The results are read through a forward only {@link ScrollableCursor}, using the query's JDBC fetch size,
+     * so each result is only built when the stream advances to it.
+     * The cursor, its JDBC statement and connection are released when the stream is closed or exhausted.
+     * Queries that do not read entities into a List are executed as by getResultList(),
+     * as a cursor ends at the first null result of a report or data query.
+     *
+     * @return a stream of the results
+     * @see QueryHints#RESULT_STREAM_DETACH
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Stream<X> getResultStream() {
+        // bug51411440: need to throw IllegalStateException if query executed on closed em
+        this.entityManager.verifyOpenWithSetRollbackOnly();
+        setAsSQLReadQuery();
+        propagateResultProperties();
+        DatabaseQuery query = getDatabaseQueryInternal();
+        if (!query.isReadAllQuery() || query.isReportQuery()) {
+            return (Stream<X>) getResultList().stream();
+        }
+        ContainerPolicy policy = ((ReadAllQuery) query).getContainerPolicy();
+        if (policy.isCursorPolicy() || !Helper.classImplementsInterface(policy.getContainerClass(), ClassConstants.List_Class)) {
+            return (Stream<X>) getResultList().stream();
+        }
+
+        // Execute a cursor clone of the query, so the query itself can still be executed as a List.
+        ReadAllQuery streamQuery = (ReadAllQuery) query.clone();
+        ScrollableCursorPolicy cursorPolicy = new ScrollableCursorPolicy();
+        cursorPolicy.setResultSetType(ScrollableCursorPolicy.TYPE_FORWARD_ONLY);
+        cursorPolicy.setResultSetConcurrency(ScrollableCursorPolicy.CONCUR_READ_ONLY);
+        if (streamQuery.getFetchSize() > 0) {
+            cursorPolicy.setPageSize(streamQuery.getFetchSize());
+        }
+        streamQuery.useScrollableCursor(cursorPolicy);
+
+        UnitOfWorkImpl unitOfWork = null;
+        Set<Object> managedObjects = null;
+        if (Boolean.TRUE.equals(query.getProperty(QueryHints.RESULT_STREAM_DETACH)) && getActiveSession().isUnitOfWork()) {
+            unitOfWork = (UnitOfWorkImpl) getActiveSession();
+            // The entities already managed are not detached, only the ones the stream registers.
+            managedObjects = Collections.newSetFromMap(new IdentityHashMap<>());
+            if (unitOfWork.hasCloneMapping()) {
+                managedObjects.addAll(unitOfWork.getCloneMapping().keySet());
+            }
+        }
+        boolean isShared = this.isShared;
+        this.databaseQuery = streamQuery;
+        this.isShared = false;
+        ScrollableCursor cursor;
+        try {
+            cursor = (ScrollableCursor) executeReadQuery();
+        } catch (LockTimeoutException exception) {
+            throw exception;
+        } catch (PersistenceException | IllegalStateException exception) {
+            setRollbackOnly();
+            throw exception;
+        } catch (RuntimeException exception) {
+            setRollbackOnly();
+            throw new PersistenceException(exception);
+        } finally {
+            this.databaseQuery = query;
+            this.isShared = isShared;
+        }
+
+        ResultStreamIterator<X> iterator = new ResultStreamIterator<>(cursor, unitOfWork, managedObjects);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false).onClose(iterator::close);
+    }
+
+    /**
+     * Iterates the results of getResultStream() over the cursor.
+     * If a unit of work is set, each entity it did not already manage is detached from it once the next result is read.
+     */
+    protected class ResultStreamIterator<T> implements Iterator<T> {
+        protected final ScrollableCursor cursor;
+        protected final UnitOfWorkImpl unitOfWork;
+        protected final Set<Object> managedObjects;
+        protected Object previous;
+
+        protected ResultStreamIterator(ScrollableCursor cursor, UnitOfWorkImpl unitOfWork, Set<Object> managedObjects) {
+            this.cursor = cursor;
+            this.unitOfWork = unitOfWork;
+            this.managedObjects = managedObjects;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                if (this.cursor.hasNext()) {
+                    return true;
+                }
+                close();
+                return false;
+            } catch (DatabaseException exception) {
+                throw getDetailedException(exception);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            Object next;
+            try {
+                next = this.cursor.next();
+            } catch (DatabaseException exception) {
+                throw getDetailedException(exception);
+            }
+            detachPrevious();
+            this.previous = next;
+            return (T) next;
+        }
+
+        /**
+         * Detach the result read before the current one, if detaching is enabled
+         * and it is an entity that was not managed before the stream was created.
+         */
+        protected void detachPrevious() {
+            Object previous = this.previous;
+            if ((this.unitOfWork != null) && (previous != null) && !this.managedObjects.contains(previous)) {
+                ClassDescriptor descriptor = this.unitOfWork.getDescriptor(previous.getClass());
+                if ((descriptor != null) && !descriptor.isDescriptorTypeAggregate()) {
+                    this.unitOfWork.unregisterObject(previous, 0, true);
+                }
+            }
+            this.previous = null;
+        }
+
+        /**
+         * Release the cursor, this is called when the stream is closed or all results have been read.
+         */
+        protected void close() {
+            detachPrevious();
+            if (!this.cursor.isClosed()) {
+                this.cursor.close();
+            }
+        }
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public X getSingleResult() {
@@ -514,7 +721,7 @@ public TypedQuery setParameter(Parameter<Calendar> param, Calendar value, Tempor
         if (param == null)
             throw new IllegalArgumentException(ExceptionLocalization.buildMessage("NULL_PARAMETER_PASSED_TO_SET_PARAMETER"));
         //bug 402686: type validation
-        String position = getParameterId(param);
+        String position = getQueryParameterId(param);
         ParameterExpressionImpl parameter = (ParameterExpressionImpl) this.getInternalParameters().get(position);
         if (parameter == null ) {
             throw new IllegalArgumentException(ExceptionLocalization.buildMessage("NO_PARAMETER_WITH_NAME", new Object[] { param.toString(), this.databaseQuery }));
@@ -539,7 +746,7 @@ public TypedQuery setParameter(Parameter<Date> param, Date value, TemporalType t
         if (param == null)
             throw new IllegalArgumentException(ExceptionLocalization.buildMessage("NULL_PARAMETER_PASSED_TO_SET_PARAMETER"));
         //bug 402686: type validation
-        String position = getParameterId(param);
+        String position = getQueryParameterId(param);
         ParameterExpressionImpl parameter = (ParameterExpressionImpl) this.getInternalParameters().get(position);
         if (parameter == null ) {
             throw new IllegalArgumentException(ExceptionLocalization.buildMessage("NO_PARAMETER_WITH_NAME", new Object[] { param.toString(), this.databaseQuery }));
@@ -567,7 +774,7 @@ public <T> TypedQuery setParameter(Parameter<T> param, T value) {
             throw new IllegalArgumentException(ExceptionLocalization.buildMessage("NULL_PARAMETER_PASSED_TO_SET_PARAMETER"));
         }
         //bug 402686: type validation
-        String position = getParameterId(param);
+        String position = getQueryParameterId(param);
         ParameterExpressionImpl parameter = (ParameterExpressionImpl) this.getInternalParameters().get(position);
         if (parameter == null ) {
             throw new IllegalArgumentException(ExceptionLocalization.buildMessage("NO_PARAMETER_WITH_NAME", new Object[] { param.toString(), this.databaseQuery }));
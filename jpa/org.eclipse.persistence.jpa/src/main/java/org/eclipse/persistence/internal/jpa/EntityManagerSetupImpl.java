@@ -291,6 +291,7 @@
 import org.eclipse.persistence.sessions.remote.rmi.RMIServerSessionManagerDispatcher;
 import org.eclipse.persistence.sessions.serializers.JavaSerializer;
 import org.eclipse.persistence.sessions.serializers.Serializer;
+import org.eclipse.persistence.sessions.server.ConcurrentConnectionPool;
 import org.eclipse.persistence.sessions.server.ConnectionPolicy;
 import org.eclipse.persistence.sessions.server.ConnectionPool;
 import org.eclipse.persistence.sessions.server.ExternalConnectionPool;
@@ -1596,6 +1597,21 @@ protected void updateConnectionSettings(ServerSession serverSession, Map propert
         if (connectionsMap.isEmpty()) {
             return;
         }
+        // Replace the concurrent pools first, so that the other properties of a pool apply to it
+        // whatever the order in which the properties are processed.
+        for (Map.Entry<String, Object> entry : connectionsMap.entrySet()) {
+            String key = entry.getKey();
+            if (key.equals(PersistenceUnitProperties.CONNECTION_POOL_CONCURRENT) || key.endsWith("." + PersistenceUnitProperties.CONNECTION_POOL_CONCURRENT)) {
+                try {
+                    String poolName = (key.indexOf('.') == -1) ? "default" : key.substring(0, key.indexOf('.'));
+                    if (Boolean.parseBoolean((String)entry.getValue())) {
+                        updateConcurrentConnectionPool(serverSession, poolName);
+                    }
+                } catch (RuntimeException exception) {
+                    this.session.handleException(ValidationException.invalidValueForProperty(entry.getValue(), key, exception));
+                }
+            }
+        }
         for (Map.Entry<String, Object> entry : connectionsMap.entrySet()) {
             String poolName = "default";
             String attribute = null;
@@ -1608,42 +1624,10 @@ protected void updateConnectionSettings(ServerSession serverSession, Map propert
                     poolName = key.substring(0, dotIdx);
                     attribute = key.substring(dotIdx + 1);
                 }
-                ConnectionPool pool = null;
                 if (poolName.equals("write")) {
                     poolName = "default";
                 }
-                if (poolName.equals("read")) {
-                    pool = serverSession.getReadConnectionPool();
-                    // By default there is no connection pool, so if the default, create a new one.
-                    if ((pool == null) || (pool == serverSession.getDefaultConnectionPool())) {
-                        if (this.session.getDatasourceLogin().shouldUseExternalConnectionPooling()) {
-                            pool = new ExternalConnectionPool(poolName, serverSession.getDatasourceLogin(), serverSession);
-                        } else {
-                            pool = new ConnectionPool(poolName, serverSession.getDatasourceLogin(), serverSession);
-                        }
-                        serverSession.setReadConnectionPool(pool);
-                    }
-                } else if (poolName.equals("sequence")) {
-                    pool = getDatabaseSession().getSequencingControl().getConnectionPool();
-                    if (pool == null) {
-                        if (this.session.getDatasourceLogin().shouldUseExternalConnectionPooling()) {
-                            pool = new ExternalConnectionPool(poolName, serverSession.getDatasourceLogin(), serverSession);
-                        } else {
-                            pool = new ConnectionPool(poolName, serverSession.getDatasourceLogin(), serverSession);
-                        }
-                        getDatabaseSession().getSequencingControl().setConnectionPool(pool);
-                    }
-                } else {
-                    pool = serverSession.getConnectionPool(poolName);
-                    if (pool == null) {
-                        if (this.session.getDatasourceLogin().shouldUseExternalConnectionPooling()) {
-                            pool = new ExternalConnectionPool(poolName, serverSession.getDatasourceLogin(), serverSession);
-                        } else {
-                            pool = new ConnectionPool(poolName, serverSession.getDatasourceLogin(), serverSession);
-                        }
-                        serverSession.addConnectionPool(pool);
-                    }
-                }
+                ConnectionPool pool = getConnectionPool(serverSession, poolName);
                 if (attribute.equals(PersistenceUnitProperties.CONNECTION_POOL_INITIAL)) {
                     pool.setInitialNumberOfConnections(Integer.parseInt((String)entry.getValue()));
                 } else if (attribute.equals(PersistenceUnitProperties.CONNECTION_POOL_MIN)) {
@@ -1688,6 +1672,8 @@ protected void updateConnectionSettings(ServerSession serverSession, Map propert
                         readPool.setLogin(pool.getLogin());
                         serverSession.setReadConnectionPool(readPool);
                     }
+                } else if (attribute.equals(PersistenceUnitProperties.CONNECTION_POOL_CONCURRENT)) {
+                    // Already processed.
                 }
             } catch (RuntimeException exception) {
                 this.session.handleException(ValidationException.invalidValueForProperty(entry.getValue(), entry.getKey(), exception));
@@ -1695,6 +1681,73 @@ protected void updateConnectionSettings(ServerSession serverSession, Map propert
         }
     }
 
+    /**
+     * Return the connection pool of the name, or create it if the session does not define it yet.
+     * The "read" and "sequence" pools are created in place of the default connection pool.
+     */
+    protected ConnectionPool getConnectionPool(ServerSession serverSession, String poolName) {
+        ConnectionPool pool = null;
+        if (poolName.equals("read")) {
+            pool = serverSession.getReadConnectionPool();
+            // By default there is no connection pool, so if the default, create a new one.
+            if ((pool == null) || (pool == serverSession.getDefaultConnectionPool())) {
+                if (this.session.getDatasourceLogin().shouldUseExternalConnectionPooling()) {
+                    pool = new ExternalConnectionPool(poolName, serverSession.getDatasourceLogin(), serverSession);
+                } else {
+                    pool = new ConnectionPool(poolName, serverSession.getDatasourceLogin(), serverSession);
+                }
+                serverSession.setReadConnectionPool(pool);
+            }
+        } else if (poolName.equals("sequence")) {
+            pool = getDatabaseSession().getSequencingControl().getConnectionPool();
+            if (pool == null) {
+                if (this.session.getDatasourceLogin().shouldUseExternalConnectionPooling()) {
+                    pool = new ExternalConnectionPool(poolName, serverSession.getDatasourceLogin(), serverSession);
+                } else {
+                    pool = new ConnectionPool(poolName, serverSession.getDatasourceLogin(), serverSession);
+                }
+                getDatabaseSession().getSequencingControl().setConnectionPool(pool);
+            }
+        } else {
+            pool = serverSession.getConnectionPool(poolName);
+            if (pool == null) {
+                if (this.session.getDatasourceLogin().shouldUseExternalConnectionPooling()) {
+                    pool = new ExternalConnectionPool(poolName, serverSession.getDatasourceLogin(), serverSession);
+                } else {
+                    pool = new ConnectionPool(poolName, serverSession.getDatasourceLogin(), serverSession);
+                }
+                serverSession.addConnectionPool(pool);
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * Replace the exclusive connection pool of the name by a {@link ConcurrentConnectionPool} with the same settings.
+     */
+    protected void updateConcurrentConnectionPool(ServerSession serverSession, String poolName) {
+        if (poolName.equals("write")) {
+            poolName = "default";
+        }
+        ConnectionPool pool = getConnectionPool(serverSession, poolName);
+        if (pool.getClass() != ConnectionPool.class) {
+            return;
+        }
+        ConcurrentConnectionPool concurrentPool = new ConcurrentConnectionPool(pool.getName(), pool.getLogin(), serverSession);
+        concurrentPool.setInitialNumberOfConnections(pool.getInitialNumberOfConnections());
+        concurrentPool.setMinNumberOfConnections(pool.getMinNumberOfConnections());
+        concurrentPool.setMaxNumberOfConnections(pool.getMaxNumberOfConnections());
+        concurrentPool.setWaitTimeout(pool.getWaitTimeout());
+        concurrentPool.setFailoverConnectionPools(pool.getFailoverConnectionPools());
+        if (poolName.equals("read")) {
+            serverSession.setReadConnectionPool(concurrentPool);
+        } else if (poolName.equals("sequence")) {
+            getDatabaseSession().getSequencingControl().setConnectionPool(concurrentPool);
+        } else {
+            serverSession.addConnectionPool(concurrentPool);
+        }
+    }
+
     protected void updateConnectionPolicy(ServerSession serverSession, Map m) {
         String isLazyString = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.EXCLUSIVE_CONNECTION_IS_LAZY, m, session);
         if(isLazyString != null) {
@@ -2349,6 +2402,24 @@ protected void updateCacheCoordination(Map m, ClassLoader loader) {
                 if (threadPoolSize != null) {
                     this.session.getServerPlatform().setThreadPoolSize(Integer.parseInt(threadPoolSize));
                 }
+                String batchSize = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_BATCH_SIZE, m, this.session);
+                if (batchSize != null) {
+                    property = PersistenceUnitProperties.COORDINATION_BATCH_SIZE;
+                    value = batchSize;
+                    rcm.setCommandBatchSize(Integer.parseInt(batchSize));
+                }
+                String batchDelay = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_BATCH_DELAY, m, this.session);
+                if (batchDelay != null) {
+                    property = PersistenceUnitProperties.COORDINATION_BATCH_DELAY;
+                    value = batchDelay;
+                    rcm.setCommandBatchDelay(Long.parseLong(batchDelay));
+                }
+                String maxPending = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_MAX_PENDING, m, this.session);
+                if (maxPending != null) {
+                    property = PersistenceUnitProperties.COORDINATION_MAX_PENDING;
+                    value = maxPending;
+                    rcm.setMaxPendingCommands(Integer.parseInt(maxPending));
+                }
                 String channel = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_CHANNEL, m, this.session);
                 if (channel != null) {
                     rcm.setChannel(channel);
@@ -2916,6 +2987,9 @@ protected void updateSession(Map m, ClassLoader loader) {
             updateQueryTimeoutUnit(m);
             updateLockingTimestampDefault(m);
             updateSQLCallDeferralDefault(m);
+            updateCommitGrouping(m);
+            updateParallelChangeDetection(m);
+            updateSnapshotChangeDetection(m);
             updateNamingIntoIndexed(m);
             if (!session.hasBroker()) {
                 updateCacheCoordination(m, loader);
@@ -3249,6 +3323,11 @@ protected void updateBatchWritingSetting(Map persistenceProperties, ClassLoader
                     this.session.getPlatform().setUsesNativeBatchWriting(true);
                     this.session.getPlatform().setUsesJDBCBatchWriting(true);
                 }
+                case BatchWriting.MultiRowInsert -> {
+                    this.session.getPlatform().setUsesJDBCBatchWriting(true);
+                    this.session.getPlatform().setUsesNativeBatchWriting(false);
+                    this.session.getPlatform().setUsesMultiRowInsertBatchWriting(true);
+                }
                 case BatchWriting.None -> {
                     // Nothing required.
                 }
@@ -3281,6 +3360,17 @@ protected void updateBatchWritingSetting(Map persistenceProperties, ClassLoader
                 session.handleException(ValidationException.invalidValueForProperty(sizeString, PersistenceUnitProperties.BATCH_WRITING_SIZE, invalid));
             }
         }
+        // Set pipelined batch execution.
+        String pipelined = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.BATCH_WRITING_PIPELINED, persistenceProperties, this.session);
+        if (pipelined != null) {
+            if (pipelined.equalsIgnoreCase("true")) {
+                this.session.getPlatform().setUsesPipelinedBatchWriting(true);
+            } else if (pipelined.equalsIgnoreCase("false")) {
+                this.session.getPlatform().setUsesPipelinedBatchWriting(false);
+            } else {
+                this.session.handleException(ValidationException.invalidBooleanValueForProperty(pipelined, PersistenceUnitProperties.BATCH_WRITING_PIPELINED));
+            }
+        }
     }
 
     /**
@@ -3756,6 +3846,43 @@ private void updateSQLCallDeferralDefault(Map persistenceProperties) {
         }
     }
 
+    private void updateCommitGrouping(Map persistenceProperties) {
+        String grouping = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.BATCH_WRITING_GROUP_COMMITS, persistenceProperties, this.session);
+        if (grouping != null) {
+            if (grouping.equalsIgnoreCase("true")) {
+                this.session.getProject().setAllowCommitGrouping(true);
+            } else if (grouping.equalsIgnoreCase("false")) {
+                this.session.getProject().setAllowCommitGrouping(false);
+            } else {
+                this.session.handleException(ValidationException.invalidBooleanValueForProperty(grouping, PersistenceUnitProperties.BATCH_WRITING_GROUP_COMMITS));
+            }
+        }
+    }
+
+    private void updateParallelChangeDetection(Map persistenceProperties) {
+        String threshold = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.CHANGE_DETECTION_PARALLEL_THRESHOLD, persistenceProperties, this.session);
+        if (threshold != null) {
+            try {
+                this.session.getProject().setParallelChangeDetectionThreshold(Integer.parseInt(threshold.trim()));
+            } catch (NumberFormatException exception) {
+                this.session.handleException(ValidationException.invalidValueForProperty(threshold, PersistenceUnitProperties.CHANGE_DETECTION_PARALLEL_THRESHOLD, exception));
+            }
+        }
+    }
+
+    private void updateSnapshotChangeDetection(Map persistenceProperties) {
+        String snapshot = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.CHANGE_DETECTION_SNAPSHOT, persistenceProperties, this.session);
+        if (snapshot != null) {
+            if (snapshot.equalsIgnoreCase("true")) {
+                this.session.getProject().setShouldUseSnapshotChangeDetection(true);
+            } else if (snapshot.equalsIgnoreCase("false")) {
+                this.session.getProject().setShouldUseSnapshotChangeDetection(false);
+            } else {
+                this.session.handleException(ValidationException.invalidBooleanValueForProperty(snapshot, PersistenceUnitProperties.CHANGE_DETECTION_SNAPSHOT));
+            }
+        }
+    }
+
     private void updateNamingIntoIndexed(Map persistenceProperties) {
         String namingIntoIndexed = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.NAMING_INTO_INDEXED, persistenceProperties, this.session);
         if (namingIntoIndexed != null) {
@@ -296,6 +296,7 @@ protected static abstract class Hint {
             addHint(new CursorPageSizeHint());
             addHint(new ScrollableCursorHint());
             addHint(new CursorSizeHint());
+            addHint(new ResultStreamDetachHint());
             addHint(new FetchGroupHint());
             addHint(new FetchGraphHint());
             addHint(new FetchGroupNameHint());
@@ -1852,6 +1853,25 @@ DatabaseQuery applyToDatabaseQuery(Object valueToApply, DatabaseQuery query, Cla
         }
     }
 
+    protected static class ResultStreamDetachHint extends Hint {
+        ResultStreamDetachHint() {
+            super(QueryHints.RESULT_STREAM_DETACH, HintValues.FALSE);
+            valueArray = new Object[][] {
+                {HintValues.FALSE, Boolean.FALSE},
+                {HintValues.TRUE, Boolean.TRUE}
+            };
+        }
+
+        @Override
+        DatabaseQuery applyToDatabaseQuery(Object valueToApply, DatabaseQuery query, ClassLoader loader, AbstractSession activeSession) {
+            if (!query.isReadQuery()) {
+                throw new IllegalArgumentException(ExceptionLocalization.buildMessage("ejb30-wrong-type-for-query-hint",new Object[]{getQueryId(query), name, getPrintValue(valueToApply)}));
+            }
+            query.setProperty(QueryHints.RESULT_STREAM_DETACH, valueToApply);
+            return query;
+        }
+    }
+
     protected static class CursorSizeHint extends Hint {
         CursorSizeHint() {
             super(QueryHints.CURSOR_SIZE, "");
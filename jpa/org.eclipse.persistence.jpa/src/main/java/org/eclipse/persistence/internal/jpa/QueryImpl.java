@@ -57,6 +57,7 @@
 import org.eclipse.persistence.internal.helper.ConversionManager;
 import org.eclipse.persistence.internal.helper.DatabaseField;
 import org.eclipse.persistence.internal.helper.Helper;
+import org.eclipse.persistence.internal.jpa.querydef.CommonAbstractCriteriaImpl;
 import org.eclipse.persistence.internal.jpa.querydef.ParameterExpressionImpl;
 import org.eclipse.persistence.internal.localization.ExceptionLocalization;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
@@ -755,6 +756,24 @@ public static String getParameterId(Parameter param){
         return String.valueOf(id);
     }
 
+    /**
+     * INTERNAL:
+     * Return the identifier of the parameter in this query.
+     * A criteria query can use a copy of an unnamed parameter in place of the parameter,
+     * the parameter is then bound through the name of its copy.
+     */
+    @SuppressWarnings("unchecked")
+    protected String getQueryParameterId(Parameter<?> param) {
+        Map<Parameter<?>, String> copyNames = (Map<Parameter<?>, String>) getDatabaseQueryInternal().getProperty(CommonAbstractCriteriaImpl.PARAMETER_COPY_NAMES);
+        if (copyNames != null) {
+            String copyName = copyNames.get(param);
+            if (copyName != null) {
+                return copyName;
+            }
+        }
+        return getParameterId(param);
+    }
+
     /**
      * Return a boolean indicating whether a value has been bound to the
      * parameter.
@@ -767,7 +786,7 @@ public boolean isBound(Parameter<?> param) {
         entityManager.verifyOpenWithSetRollbackOnly();
         if (param == null)
             return false;
-        return this.parameterValues.containsKey(getParameterId(param));
+        return this.parameterValues.containsKey(getQueryParameterId(param));
     }
 
     /**
@@ -1102,12 +1121,12 @@ public <T> T getParameterValue(Parameter<T> param) {
         if (param == null)
             throw new IllegalArgumentException(ExceptionLocalization.buildMessage("PARAMETER_NILL_NOT_FOUND"));
 
-        ParameterExpressionImpl<T> parameter = (ParameterExpressionImpl<T>) this.getInternalParameters().get(getParameterId(param));
+        ParameterExpressionImpl<T> parameter = (ParameterExpressionImpl<T>) this.getInternalParameters().get(getQueryParameterId(param));
         if (parameter == null || !parameter.getParameterType().equals(param.getParameterType())) {
             throw new IllegalArgumentException(ExceptionLocalization.buildMessage("NO_PARAMETER_WITH_NAME", new Object[] { param.toString(), this.databaseQuery }));
         }
 
-        return (T) this.getParameterValue(getParameterId(param));
+        return (T) this.getParameterValue(getQueryParameterId(param));
     }
 
     /**
@@ -29,6 +29,7 @@
 import org.eclipse.persistence.descriptors.changetracking.AttributeChangeTrackingPolicy;
 import org.eclipse.persistence.descriptors.changetracking.DeferredChangeDetectionPolicy;
 import org.eclipse.persistence.descriptors.changetracking.ObjectChangeTrackingPolicy;
+import org.eclipse.persistence.descriptors.changetracking.SnapshotChangeDetectionPolicy;
 
 import org.eclipse.persistence.internal.jpa.metadata.MetadataDescriptor;
 import org.eclipse.persistence.internal.jpa.metadata.ORMetadata;
@@ -116,6 +117,8 @@ public void process(MetadataDescriptor descriptor) {
             classDescriptor.setObjectChangePolicy(new ObjectChangeTrackingPolicy());
         } else if (m_type.equals(ChangeTrackingType.DEFERRED.name())) {
             classDescriptor.setObjectChangePolicy(new DeferredChangeDetectionPolicy());
+        } else if (m_type.equals(ChangeTrackingType.SNAPSHOT.name())) {
+            classDescriptor.setObjectChangePolicy(new SnapshotChangeDetectionPolicy());
         }
     }
 
@@ -21,7 +21,9 @@
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -36,7 +38,13 @@
 import jakarta.persistence.metamodel.Metamodel;
 import org.eclipse.persistence.expressions.ExpressionBuilder;
 import org.eclipse.persistence.internal.expressions.ConstantExpression;
+import org.eclipse.persistence.internal.expressions.ExpressionIterator;
+import org.eclipse.persistence.internal.queries.ReportItem;
+import org.eclipse.persistence.queries.ConstructorReportItem;
 import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.queries.ObjectLevelReadQuery;
+import org.eclipse.persistence.queries.ReportQuery;
+import org.eclipse.persistence.queries.UpdateAllQuery;
 
 /**
  * <p>
@@ -63,8 +71,17 @@
     protected CriteriaBuilderImpl queryBuilder;
     protected Class<T> queryType;
 
+    /**
+     * Property of the translated query holding the names of the copies of its parameters by parameter,
+     * the parameters are bound through the names of their copies.
+     */
+    public static final String PARAMETER_COPY_NAMES = "eclipselink.criteria.parameter-copy-names";
+
     protected Set<ParameterExpression<?>> parameters;
 
+    /** Copies with unique names of the unnamed parameters whose names clash with other parameters of the query. */
+    protected Map<ParameterExpression<?>, ParameterExpressionImpl<?>> parameterCopies;
+
     public CommonAbstractCriteriaImpl(Metamodel metamodel, CriteriaBuilderImpl queryBuilder, Class<T> resultType){
         this.metamodel = metamodel;
         this.queryBuilder = queryBuilder;
@@ -223,7 +240,59 @@ public void addParameter(ParameterExpression<?> parameter) {
         if (this.parameters == null) {
             this.parameters = new HashSet<>();
         }
-        this.parameters.add(parameter);
+        if (this.parameters.add(parameter) || ((this.parameterCopies != null) && this.parameterCopies.containsKey(parameter))) {
+            return;
+        }
+        // Unnamed parameters of different criteria builders, or an unnamed and a named parameter,
+        // can have the same internal name, the query uses a copy of the unnamed parameter with a unique name.
+        ParameterExpression<?> existingParameter = getParameterWithSameName(parameter);
+        if (existingParameter == parameter) {
+            return;
+        }
+        if (isUnnamedParameter(parameter)) {
+            this.parameters.add(copyParameter(parameter));
+        } else if (isUnnamedParameter(existingParameter)) {
+            this.parameters.remove(existingParameter);
+            this.parameters.add(copyParameter(existingParameter));
+            this.parameters.add(parameter);
+        }
+    }
+
+    /**
+     * Return a copy with a unique name of the unnamed parameter, to be used by the query in place of the parameter.
+     */
+    protected ParameterExpressionImpl<?> copyParameter(ParameterExpression<?> parameter) {
+        if (this.parameterCopies == null) {
+            this.parameterCopies = new IdentityHashMap<>();
+        }
+        ParameterExpressionImpl<?> copy = ((ParameterExpressionImpl<?>)parameter).copyWithUniqueInternalName();
+        this.parameterCopies.put(parameter, copy);
+        return copy;
+    }
+
+    /**
+     * Return the parameter of the query equal to the parameter,
+     * which is either the same parameter or a parameter with the same name.
+     */
+    protected ParameterExpression<?> getParameterWithSameName(ParameterExpression<?> parameter) {
+        for (ParameterExpression<?> existingParameter : this.parameters) {
+            if (existingParameter == parameter) {
+                return existingParameter;
+            }
+        }
+        for (ParameterExpression<?> existingParameter : this.parameters) {
+            if (existingParameter.equals(parameter)) {
+                return existingParameter;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Return if the parameter was created without name nor position by a criteria builder.
+     */
+    protected boolean isUnnamedParameter(ParameterExpression<?> parameter) {
+        return (parameter instanceof ParameterExpressionImpl) && (parameter.getName() == null) && (parameter.getPosition() == null);
     }
 
     protected abstract DatabaseQuery getDatabaseQuery();
@@ -249,7 +318,7 @@ public Set<ParameterExpression<?>> getParameters() {
      */
     @Override
     public DatabaseQuery translate() {
-        return translate(getDatabaseQuery());
+        return useParameterCopies(translate(getDatabaseQuery()));
     }
 
     /**
@@ -276,4 +345,82 @@ protected DatabaseQuery translate(DatabaseQuery query) {
         return query;
     }
 
+    /**
+     * INTERNAL:
+     * Replace the parameters that were copied by their copies in the expressions of the translated query.
+     * The expressions containing the parameters are copied, the expressions of the criteria query are not changed.
+     * The names of the copies are set on the query, so the parameters are bound to their copies.
+     */
+    @SuppressWarnings("unchecked")
+    protected DatabaseQuery useParameterCopies(DatabaseQuery query) {
+        if ((this.parameterCopies == null) || this.parameterCopies.isEmpty()) {
+            return query;
+        }
+        Map<org.eclipse.persistence.expressions.Expression, org.eclipse.persistence.expressions.Expression> alreadyDone = new IdentityHashMap<>();
+        Map<ParameterExpression<?>, String> copyNames = new IdentityHashMap<>();
+        for (Map.Entry<ParameterExpression<?>, ParameterExpressionImpl<?>> entry : this.parameterCopies.entrySet()) {
+            alreadyDone.put(((ParameterExpressionImpl<?>)entry.getKey()).getCurrentNode(), entry.getValue().getCurrentNode());
+            copyNames.put(entry.getKey(), entry.getValue().getInternalName());
+        }
+        query.setProperty(PARAMETER_COPY_NAMES, copyNames);
+        if (query.getSelectionCriteria() != null) {
+            query.setSelectionCriteria(copyWithParameterCopies(query.getSelectionCriteria(), alreadyDone));
+        }
+        if (query.isObjectLevelReadQuery() && ((ObjectLevelReadQuery)query).hasOrderByExpressions()) {
+            List<org.eclipse.persistence.expressions.Expression> orderBy = ((ObjectLevelReadQuery)query).getOrderByExpressions();
+            orderBy.replaceAll(expression -> copyWithParameterCopies(expression, alreadyDone));
+        }
+        if (query.isReportQuery()) {
+            ReportQuery reportQuery = (ReportQuery)query;
+            for (ReportItem item : reportQuery.getItems()) {
+                if (item.isConstructorItem()) {
+                    for (ReportItem constructorItem : ((ConstructorReportItem)item).getReportItems()) {
+                        if (constructorItem.getAttributeExpression() != null) {
+                            constructorItem.setAttributeExpression(copyWithParameterCopies(constructorItem.getAttributeExpression(), alreadyDone));
+                        }
+                    }
+                }
+                if (item.getAttributeExpression() != null) {
+                    item.setAttributeExpression(copyWithParameterCopies(item.getAttributeExpression(), alreadyDone));
+                }
+            }
+            if (reportQuery.hasGroupByExpressions()) {
+                reportQuery.getGroupByExpressions().replaceAll(expression -> copyWithParameterCopies(expression, alreadyDone));
+            }
+            if (reportQuery.getHavingExpression() != null) {
+                reportQuery.setHavingExpression(copyWithParameterCopies(reportQuery.getHavingExpression(), alreadyDone));
+            }
+        }
+        if (query.isUpdateAllQuery() && (((UpdateAllQuery)query).getUpdateClauses() != null)) {
+            for (Map.Entry<Object, Object> clause : ((Map<Object, Object>)((UpdateAllQuery)query).getUpdateClauses()).entrySet()) {
+                if (clause.getValue() instanceof org.eclipse.persistence.expressions.Expression value) {
+                    clause.setValue(copyWithParameterCopies(value, alreadyDone));
+                }
+            }
+        }
+        return query;
+    }
+
+    /**
+     * Return a copy of the expression using the parameter copies registered in alreadyDone.
+     * The builders, query keys and joins are not copied so the copy keeps the table aliases of the query.
+     */
+    private static org.eclipse.persistence.expressions.Expression copyWithParameterCopies(org.eclipse.persistence.expressions.Expression expression,
+            Map<org.eclipse.persistence.expressions.Expression, org.eclipse.persistence.expressions.Expression> alreadyDone) {
+        expression.iterateOn(new ExpressionIterator<Void>() {
+            @Override
+            public void iterate(org.eclipse.persistence.expressions.Expression each) {
+                if (each.isObjectExpression()) {
+                    alreadyDone.putIfAbsent(each, each);
+                }
+            }
+
+            @Override
+            public boolean shouldIterateOverSubSelects() {
+                return true;
+            }
+        });
+        return expression.copiedVersionFrom(alreadyDone);
+    }
+
 }
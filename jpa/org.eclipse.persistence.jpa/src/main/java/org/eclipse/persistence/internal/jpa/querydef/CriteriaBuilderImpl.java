@@ -31,6 +31,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import jakarta.persistence.Tuple;
 import jakarta.persistence.criteria.CollectionJoin;
@@ -83,8 +84,12 @@ public class CriteriaBuilderImpl implements JpaCriteriaBuilder, Serializable {
 
     protected Metamodel metamodel;
 
+    /** Number of unnamed parameters created, used to name them by their creation order. */
+    protected AtomicInteger parameterCount;
+
     public CriteriaBuilderImpl(Metamodel metamodel){
         this.metamodel = metamodel;
+        this.parameterCount = new AtomicInteger();
     }
 
     /**
@@ -1596,7 +1601,7 @@ protected <T> Expression<T> internalLiteral(T value){
      */
     @Override
     public <T> ParameterExpression<T> parameter(Class<T> paramClass){
-        return new ParameterExpressionImpl<>(metamodel, paramClass);
+        return ParameterExpressionImpl.createUnnamedParameter(metamodel, paramClass, this.parameterCount.incrementAndGet());
     }
 
     /**
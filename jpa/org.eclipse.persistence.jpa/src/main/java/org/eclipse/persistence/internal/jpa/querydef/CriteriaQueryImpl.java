@@ -842,7 +842,7 @@ private ReadAllQuery translate(boolean toReportQuery) {
             }
         }
 
-        return query;
+        return (ReadAllQuery) useParameterCopies(query);
     }
 
     /**
@@ -23,6 +23,9 @@
 
 public class ParameterExpressionImpl<T> extends ExpressionImpl<T> implements ParameterExpression<T> {
 
+    /** Prefix of the internal names of the unnamed parameters created by a criteria builder. */
+    public static final String UNNAMED_PARAMETER_PREFIX = "_param";
+
     protected String name;
     protected String internalName;
     protected Integer position;
@@ -44,6 +47,28 @@ public ParameterExpressionImpl(Metamodel metamodel, Class<T> javaType, Integer p
         this.position = position;
     }
 
+    /**
+     * INTERNAL:
+     * Create an unnamed parameter named by its creation order in the criteria builder.
+     * PERF: This gives the same expressions each time a criteria query is built, so its
+     * prepared query can be reused from the expression query cache of the descriptor.
+     */
+    public static <T> ParameterExpressionImpl<T> createUnnamedParameter(Metamodel metamodel, Class<T> javaType, int index){
+        ParameterExpressionImpl<T> parameter = new ParameterExpressionImpl<>(metamodel, javaType);
+        parameter.internalName = UNNAMED_PARAMETER_PREFIX + index;
+        parameter.currentNode = new ExpressionBuilder().getParameter(parameter.internalName, javaType);
+        return parameter;
+    }
+
+    /**
+     * INTERNAL:
+     * Return a copy of the unnamed parameter with a name unique to the copy, the parameter is not changed.
+     * Used when unnamed parameters of different criteria builders are used in the same query.
+     */
+    public ParameterExpressionImpl<T> copyWithUniqueInternalName(){
+        return new ParameterExpressionImpl<>(this.metamodel, getParameterType());
+    }
+
     @Override
     public void findRootAndParameters(CommonAbstractCriteriaImpl query){
         query.addParameter(this);
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.jpa.querydef;
+
+import java.util.Map;
+
+import jakarta.persistence.criteria.ParameterExpression;
+import org.eclipse.persistence.descriptors.DescriptorQueryManager;
+import org.eclipse.persistence.expressions.Expression;
+import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test the internal names of the unnamed criteria parameters,
+ * which must be the same each time a criteria query is built.
+ */
+class ParameterExpressionImplTest {
+
+    @Test
+    void testUnnamedParametersAreNamedByCreationOrder() {
+        CriteriaBuilderImpl builder = new CriteriaBuilderImpl(null);
+        ParameterExpressionImpl<?> first = (ParameterExpressionImpl<?>) builder.parameter(String.class);
+        ParameterExpressionImpl<?> second = (ParameterExpressionImpl<?>) builder.parameter(Integer.class);
+        ParameterExpressionImpl<?> other = (ParameterExpressionImpl<?>) new CriteriaBuilderImpl(null).parameter(String.class);
+        Assertions.assertEquals("_param1", first.getInternalName());
+        Assertions.assertEquals("_param2", second.getInternalName());
+        Assertions.assertEquals(first.getInternalName(), other.getInternalName());
+        Assertions.assertNull(first.getName());
+        Assertions.assertEquals(first.getCurrentNode(), other.getCurrentNode());
+    }
+
+    @Test
+    void testParametersOfDifferentBuildersAreCopied() {
+        CriteriaBuilderImpl builder = new CriteriaBuilderImpl(null);
+        ParameterExpression<String> first = builder.parameter(String.class);
+        ParameterExpression<String> other = new CriteriaBuilderImpl(null).parameter(String.class);
+        CommonAbstractCriteriaImpl<?> query = (CommonAbstractCriteriaImpl<?>) builder.createQuery(String.class);
+        query.addParameter(first);
+        query.addParameter(first);
+        query.addParameter(other);
+        query.addParameter(other);
+        Assertions.assertEquals(2, query.getParameters().size());
+        // The parameters are not changed, the query uses a copy of the other parameter.
+        Assertions.assertEquals("_param1", ((ParameterExpressionImpl<?>) first).getInternalName());
+        Assertions.assertEquals("_param1", ((ParameterExpressionImpl<?>) other).getInternalName());
+        ParameterExpressionImpl<?> copy = query.parameterCopies.get(other);
+        Assertions.assertNotEquals("_param1", copy.getInternalName());
+        Assertions.assertTrue(query.getParameters().contains(copy));
+    }
+
+    @Test
+    void testUnnamedParameterIsCopiedForNamedParameter() {
+        CriteriaBuilderImpl builder = new CriteriaBuilderImpl(null);
+        ParameterExpression<String> unnamed = builder.parameter(String.class);
+        ParameterExpression<String> named = builder.parameter(String.class, "_param1");
+        CommonAbstractCriteriaImpl<?> query = (CommonAbstractCriteriaImpl<?>) builder.createQuery(String.class);
+        query.addParameter(unnamed);
+        query.addParameter(named);
+        query.addParameter(unnamed);
+        Assertions.assertEquals(2, query.getParameters().size());
+        Assertions.assertTrue(query.getParameters().contains(named));
+        Assertions.assertEquals("_param1", ((ParameterExpressionImpl<?>) unnamed).getInternalName());
+        Assertions.assertTrue(query.getParameters().contains(query.parameterCopies.get(unnamed)));
+    }
+
+    @Test
+    void testCopiesReplaceParametersInTranslatedQuery() {
+        CriteriaBuilderImpl builder = new CriteriaBuilderImpl(null);
+        ParameterExpressionImpl<String> first = (ParameterExpressionImpl<String>) builder.parameter(String.class);
+        ParameterExpressionImpl<String> other = (ParameterExpressionImpl<String>) new CriteriaBuilderImpl(null).parameter(String.class);
+        CommonAbstractCriteriaImpl<?> query = (CommonAbstractCriteriaImpl<?>) builder.createQuery(String.class);
+        query.addParameter(first);
+        query.addParameter(other);
+        ExpressionBuilder employee = new ExpressionBuilder();
+        Expression criteria = employee.get("firstName").equal(first.getCurrentNode()).and(employee.get("lastName").equal(other.getCurrentNode()));
+        ReadAllQuery translated = new ReadAllQuery(Object.class, criteria);
+
+        query.useParameterCopies(translated);
+
+        String copyName = query.parameterCopies.get(other).getInternalName();
+        Assertions.assertEquals(Map.of(other, copyName), translated.getProperty(CommonAbstractCriteriaImpl.PARAMETER_COPY_NAMES));
+        Assertions.assertEquals(employee.get("firstName").equal(employee.getParameter("_param1"))
+                .and(employee.get("lastName").equal(employee.getParameter(copyName))), translated.getSelectionCriteria());
+        // The expressions of the criteria query are not changed.
+        Assertions.assertNotSame(criteria, translated.getSelectionCriteria());
+        Assertions.assertEquals("_param1", ((org.eclipse.persistence.internal.expressions.ParameterExpression) other.getCurrentNode()).getField().getName());
+    }
+
+    /**
+     * Build the same query through a new criteria builder, as a query built for each execution.
+     */
+    private static ReadAllQuery buildQuery(boolean unnamed) {
+        CriteriaBuilderImpl builder = new CriteriaBuilderImpl(null);
+        ParameterExpressionImpl<String> parameter = unnamed ? (ParameterExpressionImpl<String>) builder.parameter(String.class)
+                : new ParameterExpressionImpl<>(null, String.class);
+        ExpressionBuilder employee = new ExpressionBuilder();
+        ReadAllQuery query = new ReadAllQuery(Object.class, employee.get("firstName").equal(parameter.getCurrentNode()));
+        query.addArgument(parameter.getInternalName(), String.class);
+        return query;
+    }
+
+    @Test
+    void testSameCriteriaQueryHitsExpressionQueryCache() {
+        DescriptorQueryManager queryManager = new DescriptorQueryManager();
+        ReadAllQuery first = buildQuery(true);
+        queryManager.putCachedExpressionQuery(first);
+        Assertions.assertSame(first, queryManager.getCachedExpressionQuery(buildQuery(true)));
+        // Parameters named by their identity give a different query each time.
+        ReadAllQuery identityNamed = buildQuery(false);
+        queryManager.putCachedExpressionQuery(identityNamed);
+        Assertions.assertNull(queryManager.getCachedExpressionQuery(buildQuery(false)));
+    }
+}
@@ -169,7 +169,7 @@ public class JAXBContext extends jakarta.xml.bind.JAXBContext {
         }
     }
 
-    private static final String RI_XML_ACCESSOR_FACTORY_SUPPORT = "org.glassfish.jaxb.XmlAccessorFactory";
+    static final String RI_XML_ACCESSOR_FACTORY_SUPPORT = "org.glassfish.jaxb.XmlAccessorFactory";
 
     /**
       * For JAXB 2 there is no explicitly defined default validation handler
@@ -524,6 +524,44 @@ Map<QName, Class<?>> getQNameToGeneratedClasses() {
         return contextState.getQNameToGeneratedClasses();
     }
 
+    /**
+     * INTERNAL:
+     * Return the types this JAXBContext was created on.
+     */
+    TypeMappingInfo[] getBoundTypes() {
+        return contextState.boundTypes;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the properties this JAXBContext was created with.
+     */
+    Map getProperties() {
+        return contextState.properties;
+    }
+
+    /**
+     * INTERNAL:
+     * Return true if this JAXBContext relies on state which is not part of its project,
+     * such as generated classes, root level adapters or callbacks.
+     * @see JAXBContextSnapshot
+     */
+    boolean hasGeneratedState() {
+        Generator generator = contextState.getGenerator();
+        if (generator == null) {
+            return false;
+        }
+        return !isEmpty(contextState.getClassToGeneratedClasses())
+                || !isEmpty(contextState.getQNameToGeneratedClasses())
+                || !isEmpty(contextState.getTypeMappingInfoToGeneratedType())
+                || !isEmpty(contextState.getTypeMappingInfoToJavaTypeAdapters())
+                || generator.hasMarshalCallbacks() || generator.hasUnmarshalCallbacks();
+    }
+
+    private static boolean isEmpty(Map<?, ?> map) {
+        return map == null || map.isEmpty();
+    }
+
     /**
      *  INTERNAL:
      *  Set the map of which QName corresponds to which declared class.
@@ -1069,6 +1107,39 @@ private boolean isJAXB2ObjectFactory(Class<?> objectFactoryClass, ClassLoader cl
 
     }
 
+    static class SnapshotInput extends JAXBContextInput {
+
+        private JAXBContextSnapshot snapshot;
+        private TypeMappingInfo[] typeMappingInfo;
+
+        SnapshotInput(JAXBContextSnapshot snapshot, TypeMappingInfo[] typeMappingInfo, Map properties, ClassLoader classLoader) {
+            super(properties, classLoader);
+            this.snapshot = snapshot;
+            this.typeMappingInfo = typeMappingInfo;
+        }
+
+        @Override
+        protected JAXBContextState createContextState() throws jakarta.xml.bind.JAXBException {
+            Project project = snapshot.getProject();
+            XMLContext xmlContext = new XMLContext(project, classLoader, sessionEventListeners());
+            ((XMLLogin) xmlContext.getSession().getDatasourceLogin()).setEqualNamespaceResolvers(true);
+
+            JAXBContextState contextState = new JAXBContextState(xmlContext);
+            contextState.qNamesToDeclaredClasses = snapshot.getQNamesToDeclaredClasses();
+            contextState.boundTypes = typeMappingInfo;
+            if (properties != null) {
+                contextState.properties = new HashMap(properties);
+            }
+            for (TypeMappingInfo next : typeMappingInfo) {
+                if (next.getType() instanceof Class) {
+                    next.setXmlDescriptor((Descriptor) project.getDescriptor((Class) next.getType()));
+                }
+            }
+            return contextState;
+        }
+
+    }
+
     static class TypeMappingInfoInput extends JAXBContextInput {
 
         private TypeMappingInfo[] typeMappingInfo;
@@ -39,11 +39,14 @@
 
 import org.eclipse.persistence.jaxb.JAXBContext.JAXBContextInput;
 import org.eclipse.persistence.jaxb.JAXBContext.ContextPathInput;
+import org.eclipse.persistence.jaxb.JAXBContext.SnapshotInput;
 import org.eclipse.persistence.jaxb.JAXBContext.TypeMappingInfoInput;
 import org.eclipse.persistence.jaxb.compiler.CompilerHelper;
 import org.eclipse.persistence.jaxb.compiler.XMLProcessor;
 import org.eclipse.persistence.jaxb.metadata.MetadataSource;
 import org.eclipse.persistence.jaxb.xmlmodel.XmlBindings;
+import org.eclipse.persistence.logging.AbstractSessionLog;
+import org.eclipse.persistence.logging.SessionLog;
 import org.eclipse.persistence.oxm.MediaType;
 import org.w3c.dom.Node;
 import org.xml.sax.InputSource;
@@ -163,6 +166,12 @@ public static jakarta.xml.bind.JAXBContext createContext(Type[] typesToBeBound,
      * array.  This is the preferred means of creating a Type aware JAXBContext.
      */
     public static jakarta.xml.bind.JAXBContext createContext(TypeMappingInfo[] typesToBeBound, Map<String, Object> properties, ClassLoader classLoader) throws JAXBException {
+        if (properties != null && properties.get(JAXBContextProperties.CONTEXT_SNAPSHOT) != null) {
+            JAXBContext context = createContextFromSnapshot(typesToBeBound, properties, classLoader);
+            if (context != null) {
+                return context;
+            }
+        }
         JAXBContextInput contextInput = new TypeMappingInfoInput(typesToBeBound, properties, classLoader);
         JAXBContext context = new JAXBContext(contextInput);
         if (context.isRefreshable()) {
@@ -171,6 +180,27 @@ public static jakarta.xml.bind.JAXBContext createContext(TypeMappingInfo[] types
         return context;
     }
 
+    /**
+     * Restore a JAXBContext from the snapshot set as {@link JAXBContextProperties#CONTEXT_SNAPSHOT},
+     * or return null if the snapshot cannot be read or was written for other types or properties.
+     */
+    private static JAXBContext createContextFromSnapshot(TypeMappingInfo[] typesToBeBound, Map<String, Object> properties, ClassLoader classLoader) throws JAXBException {
+        Object snapshot = properties.get(JAXBContextProperties.CONTEXT_SNAPSHOT);
+        ClassLoader loader = (classLoader == null) ? Thread.currentThread().getContextClassLoader() : classLoader;
+        JAXBContextSnapshot contextSnapshot;
+        try {
+            contextSnapshot = JAXBContextSnapshot.readSnapshot(snapshot, loader, typesToBeBound, properties);
+        } catch (Exception e) {
+            AbstractSessionLog.getLog().log(SessionLog.WARNING, SessionLog.MOXY, "jaxb_context_snapshot_not_read", new Object[] {snapshot, e});
+            return null;
+        }
+        if (contextSnapshot == null) {
+            AbstractSessionLog.getLog().log(SessionLog.WARNING, SessionLog.MOXY, "jaxb_context_snapshot_not_matching", new Object[] {snapshot});
+            return null;
+        }
+        return new JAXBContext(new SnapshotInput(contextSnapshot, typesToBeBound, properties, loader));
+    }
+
     /**
      * <p>Convenience method for processing a properties map and creating a map of
      * package names to XmlBindings instances.</p>
@@ -444,4 +444,24 @@ public static final class Factory {
      * @see org.eclipse.persistence.jaxb.UnmarshallerProperties#MOXY_LOG_PAYLOAD
      */
     public static final String MOXY_LOG_PAYLOAD = "eclipselink.logging.payload.moxy";
+
+    /**
+     * The name of the property used to specify a snapshot of the JAXBContext, written at build time
+     * by {@link JAXBContextSnapshot} for the same classes and properties. The JAXBContext is then
+     * restored from the snapshot without processing the annotations of the classes. If the snapshot
+     * cannot be read, or was written for other classes or properties, a warning is logged and the
+     * JAXBContext is created from the classes.
+     *
+     * The snapshot can be one of the following:
+     * <ul>
+     * <li>java.io.File
+     * <li>java.io.InputStream
+     * <li>java.lang.String, the name of a resource of the class loader, a URL or a file
+     * <li>java.net.URL
+     * </ul>
+     *
+     * @since 5.0
+     * @see JAXBContextSnapshot
+     */
+    public static final String CONTEXT_SNAPSHOT = "eclipselink.context-snapshot";
 }
@@ -0,0 +1,456 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.jaxb;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.xml.namespace.QName;
+
+import jakarta.xml.bind.JAXBException;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.helper.ConversionManager;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.security.PrivilegedAccessHelper;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.converters.Converter;
+import org.eclipse.persistence.mappings.foundation.AbstractColumnMapping;
+import org.eclipse.persistence.mappings.foundation.AbstractCompositeCollectionMapping;
+import org.eclipse.persistence.mappings.foundation.AbstractCompositeDirectCollectionMapping;
+import org.eclipse.persistence.mappings.foundation.AbstractCompositeObjectMapping;
+import org.eclipse.persistence.oxm.NamespaceResolver;
+import org.eclipse.persistence.oxm.XMLDescriptor;
+import org.eclipse.persistence.oxm.mappings.XMLNillableMapping;
+import org.eclipse.persistence.oxm.mappings.nullpolicy.AbstractNullPolicy;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.factories.XMLProjectReader;
+import org.eclipse.persistence.sessions.factories.XMLProjectWriter;
+
+/**
+ * <p>A JAXBContextSnapshot stores the descriptors and mappings of a JAXBContext, so that the
+ * JAXBContext can be created again without processing the annotations of the domain classes.</p>
+ *
+ * <p>The snapshot is written at build time, either by {@link #write(jakarta.xml.bind.JAXBContext, OutputStream)}
+ * or by running this class as a tool, for instance with the exec-maven-plugin:</p>
+ * <pre>
+ * java org.eclipse.persistence.jaxb.JAXBContextSnapshot target/classes/META-INF/context.snapshot example.ObjectFactory
+ * </pre>
+ *
+ * <p>It is then loaded by setting the {@link JAXBContextProperties#CONTEXT_SNAPSHOT} property
+ * when creating the JAXBContext on the same classes and properties. The snapshot records the names of
+ * the bound types and the properties which change the descriptors, and it is not used if they differ
+ * from the types and properties the JAXBContext is created on. The properties are recorded by value
+ * if they are strings, booleans, numbers, files or URLs, and by class otherwise.</p>
+ *
+ * <p>The snapshot is compressed with GZIP. It holds the names of the bound types, the properties,
+ * the declared classes of the root elements, followed by the EclipseLink project deployment XML.
+ * A JAXBContext which relies on other state than
+ * its project, such as generated wrapper classes, root level adapters or marshal callbacks, or whose
+ * mappings are not restored identically, cannot be written as a snapshot.</p>
+ *
+ * @see JAXBContextProperties#CONTEXT_SNAPSHOT
+ * @since 5.0
+ */
+public final class JAXBContextSnapshot {
+
+    private static final int VERSION = 2;
+
+    /**
+     * The properties of the JAXBContext which change its descriptors, including their older names.
+     */
+    private static final String[] PROJECT_PROPERTIES = {
+            JAXBContextProperties.OXM_METADATA_SOURCE, JAXBContextFactory.ECLIPSELINK_OXM_XML_KEY,
+            JAXBContextProperties.DEFAULT_TARGET_NAMESPACE, JAXBContextFactory.DEFAULT_TARGET_NAMESPACE_KEY,
+            JAXBContextProperties.ANNOTATION_HELPER, JAXBContextFactory.ANNOTATION_HELPER_KEY,
+            JAXBContextProperties.XML_ACCESSOR_FACTORY_SUPPORT, JAXBContext.RI_XML_ACCESSOR_FACTORY_SUPPORT,
+            JAXBContextProperties.BEAN_VALIDATION_FACETS};
+
+    private final List<String> boundTypeNames;
+    private final Map<String, String> projectProperties;
+    private final Project project;
+    private final Map<QName, Class<?>> qNamesToDeclaredClasses;
+
+    private JAXBContextSnapshot(List<String> boundTypeNames, Map<String, String> projectProperties, Project project, Map<QName, Class<?>> qNamesToDeclaredClasses) {
+        this.boundTypeNames = boundTypeNames;
+        this.projectProperties = projectProperties;
+        this.project = project;
+        this.qNamesToDeclaredClasses = qNamesToDeclaredClasses;
+    }
+
+    /**
+     * Return the names of the types the JAXBContext was created on.
+     */
+    public List<String> getBoundTypeNames() {
+        return boundTypeNames;
+    }
+
+    /**
+     * Return the properties of the JAXBContext which change its descriptors.
+     */
+    public Map<String, String> getProjectProperties() {
+        return projectProperties;
+    }
+
+    /**
+     * Return the project holding the descriptors and mappings of the JAXBContext.
+     */
+    public Project getProject() {
+        return project;
+    }
+
+    /**
+     * Return the map of which QName corresponds to which declared class.
+     */
+    public Map<QName, Class<?>> getQNamesToDeclaredClasses() {
+        return qNamesToDeclaredClasses;
+    }
+
+    /**
+     * Write the snapshot of the JAXBContext to the stream.
+     * The snapshot is read back and compared to the JAXBContext before it is written.
+     *
+     * @param jaxbContext the EclipseLink JAXBContext to write
+     * @param stream the stream to write the snapshot to, which is not closed
+     * @throws JAXBException if the JAXBContext cannot be written as a snapshot
+     */
+    public static void write(jakarta.xml.bind.JAXBContext jaxbContext, OutputStream stream) throws JAXBException {
+        if (!(jaxbContext instanceof JAXBContext context)) {
+            throw new JAXBException("The snapshot of a JAXBContext requires an EclipseLink JAXBContext: " + jaxbContext);
+        }
+        if (context.hasGeneratedState()) {
+            throw new JAXBException("The JAXBContext relies on generated classes, adapters or callbacks, and cannot be written as a snapshot.");
+        }
+        Project project = context.getXMLContext().getSession().getProject();
+        ClassLoader classLoader = context.getXMLContext().getSession().getDatasourcePlatform().getConversionManager().getLoader();
+        Map<QName, Class<?>> qNamesToDeclaredClasses = context.getQNamesToDeclaredClasses();
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream dataStream = new DataOutputStream(new GZIPOutputStream(bytes))) {
+                dataStream.writeInt(VERSION);
+                List<String> boundTypeNames = boundTypeNames(context.getBoundTypes());
+                dataStream.writeInt(boundTypeNames.size());
+                for (String boundTypeName : boundTypeNames) {
+                    dataStream.writeUTF(boundTypeName);
+                }
+                Map<String, String> projectProperties = projectProperties(context.getProperties());
+                dataStream.writeInt(projectProperties.size());
+                for (Map.Entry<String, String> entry : projectProperties.entrySet()) {
+                    dataStream.writeUTF(entry.getKey());
+                    dataStream.writeUTF(entry.getValue());
+                }
+                if (qNamesToDeclaredClasses == null) {
+                    dataStream.writeInt(0);
+                } else {
+                    dataStream.writeInt(qNamesToDeclaredClasses.size());
+                    for (Map.Entry<QName, Class<?>> entry : qNamesToDeclaredClasses.entrySet()) {
+                        dataStream.writeUTF(entry.getKey().getNamespaceURI());
+                        dataStream.writeUTF(entry.getKey().getLocalPart());
+                        dataStream.writeUTF(entry.getValue().getName());
+                    }
+                }
+                Writer writer = new OutputStreamWriter(dataStream, StandardCharsets.UTF_8);
+                XMLProjectWriter.write(project, writer);
+            }
+            verify(project, read(new ByteArrayInputStream(bytes.toByteArray()), classLoader).getProject());
+            bytes.writeTo(stream);
+            stream.flush();
+        } catch (IOException | RuntimeException e) {
+            throw new JAXBException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Read a snapshot from the stream.
+     *
+     * @param stream the stream to read the snapshot from, which is not closed
+     * @param classLoader the class loader of the domain classes
+     * @return the snapshot
+     */
+    public static JAXBContextSnapshot read(InputStream stream, ClassLoader classLoader) throws IOException {
+        return read(stream, classLoader, null, null);
+    }
+
+    /**
+     * Read a snapshot from the stream, or return null if the bound types are not null,
+     * and the snapshot was written for other types or properties.
+     */
+    private static JAXBContextSnapshot read(InputStream stream, ClassLoader classLoader, TypeMappingInfo[] boundTypes, Map<?, ?> properties) throws IOException {
+        DataInputStream dataStream = new DataInputStream(new GZIPInputStream(stream, 8192));
+        int version = dataStream.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported snapshot version: " + version);
+        }
+        int boundTypesSize = dataStream.readInt();
+        List<String> boundTypeNames = new ArrayList<>(boundTypesSize);
+        for (int i = 0; i < boundTypesSize; i++) {
+            boundTypeNames.add(dataStream.readUTF());
+        }
+        int propertiesSize = dataStream.readInt();
+        Map<String, String> projectProperties = new TreeMap<>();
+        for (int i = 0; i < propertiesSize; i++) {
+            projectProperties.put(dataStream.readUTF(), dataStream.readUTF());
+        }
+        // The project is not read if the snapshot is not used.
+        if (boundTypes != null && (!boundTypeNames.equals(boundTypeNames(boundTypes))
+                || !projectProperties.equals(projectProperties(properties)))) {
+            return null;
+        }
+        ConversionManager conversionManager = new ConversionManager();
+        conversionManager.setLoader(classLoader);
+        int size = dataStream.readInt();
+        Map<QName, Class<?>> qNamesToDeclaredClasses = new HashMap<>(size);
+        for (int i = 0; i < size; i++) {
+            QName qName = new QName(dataStream.readUTF(), dataStream.readUTF());
+            qNamesToDeclaredClasses.put(qName, conversionManager.convertClassNameToClass(dataStream.readUTF()));
+        }
+        Project project = XMLProjectReader.read(new InputStreamReader(dataStream, StandardCharsets.UTF_8), classLoader);
+        return new JAXBContextSnapshot(boundTypeNames, projectProperties, project, qNamesToDeclaredClasses);
+    }
+
+    /**
+     * INTERNAL:
+     * Read the snapshot set as {@link JAXBContextProperties#CONTEXT_SNAPSHOT}, or return null if the
+     * snapshot was written for other types or properties than the types and properties of the JAXBContext.
+     * The snapshot may be an InputStream, a File, a URL, or a String naming a resource of
+     * the class loader, a URL or a file.
+     */
+    static JAXBContextSnapshot readSnapshot(Object snapshot, ClassLoader classLoader, TypeMappingInfo[] boundTypes, Map<?, ?> properties) throws IOException {
+        if (snapshot instanceof InputStream stream) {
+            return read(stream, classLoader, boundTypes, properties);
+        }
+        try (InputStream stream = open(snapshot, classLoader)) {
+            return read(stream, classLoader, boundTypes, properties);
+        }
+    }
+
+    /**
+     * Return the names of the bound types, with the element name of the types which have one.
+     */
+    private static List<String> boundTypeNames(TypeMappingInfo[] boundTypes) {
+        List<String> boundTypeNames = new ArrayList<>();
+        if (boundTypes != null) {
+            for (TypeMappingInfo boundType : boundTypes) {
+                String boundTypeName = (boundType.getType() == null) ? "" : boundType.getType().getTypeName();
+                if (boundType.getXmlTagName() != null) {
+                    boundTypeName = boundTypeName + " " + boundType.getXmlTagName();
+                }
+                boundTypeNames.add(boundTypeName);
+            }
+        }
+        return boundTypeNames;
+    }
+
+    /**
+     * Return the properties which change the descriptors, sorted by name.
+     */
+    private static Map<String, String> projectProperties(Map<?, ?> properties) {
+        Map<String, String> projectProperties = new TreeMap<>();
+        if (properties != null) {
+            for (String name : PROJECT_PROPERTIES) {
+                Object value = properties.get(name);
+                if (value != null) {
+                    projectProperties.put(name, describe(value));
+                }
+            }
+        }
+        return projectProperties;
+    }
+
+    private static String describe(Object value) {
+        if (value instanceof String || value instanceof Boolean || value instanceof Number
+                || value instanceof File || value instanceof URL) {
+            return value.toString();
+        }
+        if (value instanceof Map<?, ?> map) {
+            Map<String, String> entries = new TreeMap<>();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                entries.put(describe(entry.getKey()), describe(entry.getValue()));
+            }
+            return entries.toString();
+        }
+        if (value instanceof Collection<?> collection) {
+            List<String> elements = new ArrayList<>(collection.size());
+            for (Object element : collection) {
+                elements.add(describe(element));
+            }
+            return elements.toString();
+        }
+        return (value == null) ? "null" : value.getClass().getName();
+    }
+
+    private static InputStream open(Object snapshot, ClassLoader classLoader) throws IOException {
+        if (snapshot instanceof File file) {
+            return new FileInputStream(file);
+        }
+        if (snapshot instanceof URL url) {
+            return url.openStream();
+        }
+        if (snapshot instanceof String name) {
+            URL url = (classLoader == null) ? null : classLoader.getResource(name);
+            if (url != null) {
+                return url.openStream();
+            }
+            if (name.indexOf(':') > 1) {
+                return new URL(name).openStream();
+            }
+            return new FileInputStream(name);
+        }
+        throw new IOException("Unsupported snapshot: " + snapshot);
+    }
+
+    /**
+     * Check that the restored project maps the same classes and attributes with the same
+     * kind of mappings, accessors, converters, XPaths and null policies, and that the descriptors
+     * have the same root elements and namespaces as the original project.
+     */
+    private static void verify(Project project, Project restoredProject) throws JAXBException {
+        List<ClassDescriptor> descriptors = project.getOrderedDescriptors();
+        if (descriptors.size() != restoredProject.getOrderedDescriptors().size()) {
+            throw new JAXBException("The snapshot does not restore the descriptors of the JAXBContext.");
+        }
+        Map<String, ClassDescriptor> restoredDescriptors = new HashMap<>();
+        for (ClassDescriptor restoredDescriptor : restoredProject.getOrderedDescriptors()) {
+            restoredDescriptors.put(restoredDescriptor.getJavaClassName(), restoredDescriptor);
+        }
+        for (ClassDescriptor descriptor : descriptors) {
+            ClassDescriptor restoredDescriptor = restoredDescriptors.get(descriptor.getJavaClassName());
+            if (restoredDescriptor == null || descriptor.getMappings().size() != restoredDescriptor.getMappings().size()
+                    || !descriptor.getTableNames().equals(restoredDescriptor.getTableNames())
+                    || !sameNamespaces(descriptor, restoredDescriptor)) {
+                throw new JAXBException("The snapshot does not restore the descriptor of " + descriptor.getJavaClassName());
+            }
+            for (DatabaseMapping mapping : descriptor.getMappings()) {
+                DatabaseMapping restoredMapping = restoredDescriptor.getMappingForAttributeName(mapping.getAttributeName());
+                if (restoredMapping == null || restoredMapping.getClass() != mapping.getClass()
+                        || restoredMapping.getAttributeAccessor().getClass() != mapping.getAttributeAccessor().getClass()
+                        || converterClass(restoredMapping) != converterClass(mapping)
+                        || !Objects.equals(xPath(restoredMapping), xPath(mapping))
+                        || !sameNullPolicy(restoredMapping, mapping)) {
+                    throw new JAXBException("The snapshot does not restore the mapping of " + descriptor.getJavaClassName() + "." + mapping.getAttributeName());
+                }
+            }
+        }
+    }
+
+    private static boolean sameNamespaces(ClassDescriptor descriptor, ClassDescriptor restoredDescriptor) {
+        if (!(descriptor instanceof XMLDescriptor xmlDescriptor) || !(restoredDescriptor instanceof XMLDescriptor restoredXmlDescriptor)) {
+            return descriptor.getClass() == restoredDescriptor.getClass();
+        }
+        NamespaceResolver namespaceResolver = xmlDescriptor.getNamespaceResolver();
+        NamespaceResolver restoredNamespaceResolver = restoredXmlDescriptor.getNamespaceResolver();
+        if (namespaceResolver == null || restoredNamespaceResolver == null) {
+            return namespaceResolver == restoredNamespaceResolver;
+        }
+        return Objects.equals(namespaceResolver.getDefaultNamespaceURI(), restoredNamespaceResolver.getDefaultNamespaceURI())
+                && namespaceResolver.getPrefixesToNamespaces().equals(restoredNamespaceResolver.getPrefixesToNamespaces());
+    }
+
+    /**
+     * Return the XPath of the field of the mapping, or null if it is not a direct or composite mapping.
+     * The fields of the restored mappings are not collected until the project is initialized.
+     */
+    private static String xPath(DatabaseMapping mapping) {
+        DatabaseField field = null;
+        if (mapping instanceof AbstractColumnMapping columnMapping) {
+            field = columnMapping.getField();
+        } else if (mapping instanceof AbstractCompositeDirectCollectionMapping directCollectionMapping) {
+            field = directCollectionMapping.getField();
+        } else if (mapping instanceof AbstractCompositeObjectMapping compositeObjectMapping) {
+            field = compositeObjectMapping.getField();
+        } else if (mapping instanceof AbstractCompositeCollectionMapping compositeCollectionMapping) {
+            field = compositeCollectionMapping.getField();
+        }
+        return (field == null) ? null : field.getName();
+    }
+
+    private static boolean sameNullPolicy(DatabaseMapping restoredMapping, DatabaseMapping mapping) {
+        if (!(mapping instanceof XMLNillableMapping nillableMapping)) {
+            return true;
+        }
+        AbstractNullPolicy nullPolicy = nillableMapping.getNullPolicy();
+        AbstractNullPolicy restoredNullPolicy = ((XMLNillableMapping) restoredMapping).getNullPolicy();
+        if (nullPolicy == null || restoredNullPolicy == null) {
+            return nullPolicy == restoredNullPolicy;
+        }
+        return nullPolicy.getClass() == restoredNullPolicy.getClass()
+                && nullPolicy.getMarshalNullRepresentation() == restoredNullPolicy.getMarshalNullRepresentation()
+                && nullPolicy.isNullRepresentedByEmptyNode() == restoredNullPolicy.isNullRepresentedByEmptyNode()
+                && nullPolicy.isNullRepresentedByXsiNil() == restoredNullPolicy.isNullRepresentedByXsiNil()
+                && nullPolicy.getIsSetPerformedForAbsentNode() == restoredNullPolicy.getIsSetPerformedForAbsentNode()
+                && nullPolicy.ignoreAttributesForNil() == restoredNullPolicy.ignoreAttributesForNil();
+    }
+
+    private static Class<?> converterClass(DatabaseMapping mapping) {
+        Converter converter = null;
+        if (mapping instanceof AbstractColumnMapping columnMapping) {
+            converter = columnMapping.getConverter();
+        } else if (mapping instanceof AbstractCompositeDirectCollectionMapping directCollectionMapping) {
+            converter = directCollectionMapping.getValueConverter();
+        } else if (mapping instanceof AbstractCompositeObjectMapping compositeObjectMapping) {
+            converter = compositeObjectMapping.getConverter();
+        } else if (mapping instanceof AbstractCompositeCollectionMapping compositeCollectionMapping) {
+            converter = compositeCollectionMapping.getConverter();
+        }
+        return (converter == null) ? null : converter.getClass();
+    }
+
+    /**
+     * Write the snapshot of the JAXBContext created on the classes to a file.
+     * <p>Usage: {@code JAXBContextSnapshot <snapshot file> <class name>...}</p>
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: JAXBContextSnapshot <snapshot file> <class name>...");
+            System.exit(1);
+        }
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        Class<?>[] classes = new Class<?>[args.length - 1];
+        for (int i = 1; i < args.length; i++) {
+            classes[i - 1] = PrivilegedAccessHelper.getClassForName(args[i], true, classLoader);
+        }
+        jakarta.xml.bind.JAXBContext context = JAXBContextFactory.createContext(classes, null, classLoader);
+        File file = new File(args[0]);
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        try (OutputStream stream = new BufferedOutputStream(new FileOutputStream(file))) {
+            write(context, stream);
+        }
+    }
+}
@@ -78,6 +78,17 @@ public final class MOXySystemProperties {
      */
     public static final String MOXY_LOG_PAYLOAD = "eclipselink.logging.payload.moxy";
 
+    /**
+     * User can specify via org.eclipse.persistence.moxy.annotation.parallel-processing property, that the declared fields
+     * and methods of the classes of a JAXBContext, and of the classes reachable from them, should be discovered concurrently
+     * before their annotations are processed. The TypeInfos and mappings are then built sequentially from the discovered
+     * members, in the same order as when the property is not set, so the generated project does not change.
+     * Unlike the other properties of this class, it is read each time a JAXBContext is created.
+     *
+     * @since 5.0
+     */
+    public static final String PARALLEL_ANNOTATION_PROCESSING = "org.eclipse.persistence.moxy.annotation.parallel-processing";
+
 
     public static final Boolean xmlIdExtension = getBoolean(XML_ID_EXTENSION);
 
@@ -263,12 +263,15 @@ public final class AnnotationsProcessor {
     private List<String> referencedByTransformer;
     private boolean hasXmlBindings = false;
     private boolean facets;
+    private boolean parallelProcessing;
+    private ClassIntrospector classIntrospector;
 
     public AnnotationsProcessor(Helper helper) {
         this.helper = helper;
         this.facets = helper.isFacets();
         isDefaultNamespaceAllowed = true;
         hasSwaRef = false;
+        parallelProcessing = PrivilegedAccessHelper.getSystemPropertyBoolean(MOXySystemProperties.PARALLEL_ANNOTATION_PROCESSING, false);
     }
 
     /**
@@ -294,6 +297,7 @@ void postInitialize() {
         helper = null;
         logger = null;
         referencedByTransformer = null;
+        classIntrospector = null;
     }
 
     /**
@@ -302,6 +306,7 @@ void postInitialize() {
      */
     void processClassesAndProperties(JavaClass[] classes, TypeMappingInfo[] typeMappingInfos) {
         init(classes, typeMappingInfos);
+        introspectClasses(classes);
         preBuildTypeInfo(classes);
         postBuildTypeInfo(classes);
         processPropertyTypes(this.typeInfoClasses.toArray(new JavaClass[0]));
@@ -1876,6 +1881,32 @@ public boolean shouldGenerateTypeInfo(JavaClass javaClass) {
         return true;
     }
 
+    /**
+     * Discover the declared members of the classes concurrently if parallel annotation processing
+     * is enabled. The properties are then built from these members in the usual order.
+     *
+     * @see ClassIntrospector
+     */
+    void introspectClasses(JavaClass[] classes) {
+        if (parallelProcessing && classes != null) {
+            classIntrospector = ClassIntrospector.introspect(classes);
+        }
+    }
+
+    private Collection<JavaField> getDeclaredFields(JavaClass cls) {
+        if (classIntrospector != null) {
+            return classIntrospector.getDeclaredFields(cls);
+        }
+        return cls.getDeclaredFields();
+    }
+
+    private Collection<JavaMethod> getDeclaredMethods(JavaClass cls) {
+        if (classIntrospector != null) {
+            return classIntrospector.getDeclaredMethods(cls);
+        }
+        return cls.getDeclaredMethods();
+    }
+
     public ArrayList<Property> getPropertiesForClass(JavaClass cls, TypeInfo info) {
         ArrayList<Property> returnList = new ArrayList<>();
 
@@ -1930,7 +1961,7 @@ public ArrayList<Property> getFieldPropertiesForClass(JavaClass cls, TypeInfo in
             return properties;
         }
 
-        for (JavaField javaField : cls.getDeclaredFields()) {
+        for (JavaField javaField : getDeclaredFields(cls)) {
             Property property = null;
             int modifiers = javaField.getModifiers();
 
@@ -2930,7 +2961,7 @@ public ArrayList<Property> getPropertyPropertiesForClass(JavaClass cls, TypeInfo
 
         // First collect all the getters and setters
         ArrayList<JavaMethod> propertyMethods = new ArrayList<>();
-        for (JavaMethod next : new ArrayList<>(cls.getDeclaredMethods())) {
+        for (JavaMethod next : new ArrayList<>(getDeclaredMethods(cls))) {
             if(!next.isSynthetic()){
                 if (((next.getName().startsWith(GET_STR) && next.getName().length() > 3) || (next.getName().startsWith(IS_STR) && next.getName().length() > 2)) && next.getParameterTypes().length == 0 && next.getReturnType() != helper.getJavaClass(java.lang.Void.class)) {
                     int modifiers = next.getModifiers();
@@ -0,0 +1,352 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.jaxb.compiler;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountedCompleter;
+import java.util.concurrent.ForkJoinPool;
+
+import jakarta.xml.bind.annotation.XmlRegistry;
+import jakarta.xml.bind.annotation.XmlSeeAlso;
+
+import org.eclipse.persistence.internal.security.PrivilegedAccessHelper;
+import org.eclipse.persistence.jaxb.javamodel.JavaClass;
+import org.eclipse.persistence.jaxb.javamodel.JavaField;
+import org.eclipse.persistence.jaxb.javamodel.JavaMethod;
+import org.eclipse.persistence.jaxb.javamodel.reflection.JavaClassImpl;
+import org.eclipse.persistence.logging.AbstractSessionLog;
+import org.eclipse.persistence.logging.SessionLog;
+
+/**
+ * INTERNAL:
+ * <p><b>Purpose:</b> Discover the declared fields and methods of the classes to be bound concurrently,
+ * before the AnnotationsProcessor builds their TypeInfos.</p>
+ *
+ * <p>Each class is discovered by a task of the common fork join pool, which stores its declared members
+ * as a per class result. The AnnotationsProcessor builds the properties of the classes sequentially, in the
+ * same order as without the introspector, from the members returned by {@link #getDeclaredFields(JavaClass)}
+ * and {@link #getDeclaredMethods(JavaClass)}, and falls back to the JavaModel for the classes without a result.</p>
+ *
+ * <p>For the reflection JavaModel the result of a class keeps the {@link Field} and {@link Method} instances
+ * whose annotations and generic signatures were parsed by the task. The JDK caches a parsed generic signature
+ * in the instance it was read from, and each call of {@link Class#getDeclaredFields()} returns new instances,
+ * so keeping them is what saves the sequential processing from parsing the signatures again. Only the classes
+ * a reflection class can bind are discovered by new tasks: the types of its instance fields, of its getters and
+ * setters and of the factory methods of an {@literal @XmlRegistry}, its super types, inner classes and
+ * {@literal @XmlSeeAlso} classes. The members of the other JavaModels are only read from their in memory models,
+ * the tasks discover the classes to be bound but not the classes they reference.</p>
+ *
+ * <p>The introspection does not change the JavaModel nor the TypeInfos, and the classes it fails to introspect
+ * have no result, so that the failure is reported by the sequential processing.</p>
+ *
+ * @see org.eclipse.persistence.jaxb.MOXySystemProperties#PARALLEL_ANNOTATION_PROCESSING
+ */
+final class ClassIntrospector {
+
+    private final Set<Class<?>> visitedClasses = ConcurrentHashMap.newKeySet();
+    private final Map<Class<?>, ReflectionMembers> reflectionMembers = new ConcurrentHashMap<>();
+    private final Map<JavaClass, ModelMembers> modelMembers = new IdentityHashMap<>();
+
+    private ClassIntrospector() {
+    }
+
+    /**
+     * Introspect the classes and the classes reachable from them concurrently,
+     * and wait for the introspection to complete.
+     */
+    static ClassIntrospector introspect(JavaClass[] javaClasses) {
+        ClassIntrospector introspector = new ClassIntrospector();
+        List<Class<?>> classes = new ArrayList<>(javaClasses.length);
+        List<JavaClass> otherClasses = new ArrayList<>();
+        for (JavaClass javaClass : javaClasses) {
+            if (javaClass instanceof JavaClassImpl) {
+                introspector.addClass(((JavaClassImpl) javaClass).getJavaClass(), classes);
+            } else if (javaClass != null) {
+                otherClasses.add(javaClass);
+            }
+        }
+        ModelMembers[] results = new ModelMembers[otherClasses.size()];
+        if (!classes.isEmpty() || !otherClasses.isEmpty()) {
+            ForkJoinPool.commonPool().invoke(introspector.new IntrospectionTask(null, classes, otherClasses, results));
+        }
+        for (int index = 0; index < results.length; index++) {
+            if (results[index] != null) {
+                introspector.modelMembers.put(otherClasses.get(index), results[index]);
+            }
+        }
+        return introspector;
+    }
+
+    /**
+     * Return the declared fields of the class, in the order of {@link JavaClass#getDeclaredFields()}.
+     */
+    Collection<JavaField> getDeclaredFields(JavaClass javaClass) {
+        if (javaClass instanceof JavaClassImpl) {
+            JavaClassImpl reflectionClass = (JavaClassImpl) javaClass;
+            ReflectionMembers members = reflectionMembers.get(reflectionClass.getJavaClass());
+            if (members != null) {
+                List<JavaField> fields = new ArrayList<>(members.fields.length);
+                for (Field field : members.fields) {
+                    fields.add(reflectionClass.getJavaField(field));
+                }
+                return fields;
+            }
+        } else {
+            ModelMembers members = modelMembers.get(javaClass);
+            if (members != null) {
+                return new ArrayList<>(members.fields);
+            }
+        }
+        return javaClass.getDeclaredFields();
+    }
+
+    /**
+     * Return the declared methods of the class, in the order of {@link JavaClass#getDeclaredMethods()}.
+     */
+    Collection<JavaMethod> getDeclaredMethods(JavaClass javaClass) {
+        if (javaClass instanceof JavaClassImpl) {
+            JavaClassImpl reflectionClass = (JavaClassImpl) javaClass;
+            ReflectionMembers members = reflectionMembers.get(reflectionClass.getJavaClass());
+            if (members != null) {
+                List<JavaMethod> methods = new ArrayList<>(members.methods.length);
+                for (Method method : members.methods) {
+                    methods.add(reflectionClass.getJavaMethod(method));
+                }
+                return methods;
+            }
+        } else {
+            ModelMembers members = modelMembers.get(javaClass);
+            if (members != null) {
+                return new ArrayList<>(members.methods);
+            }
+        }
+        return javaClass.getDeclaredMethods();
+    }
+
+    /**
+     * Add the class to the classes to introspect, unless it was already added.
+     */
+    private void addClass(Class<?> javaClass, List<Class<?>> classes) {
+        while (javaClass != null && javaClass.isArray()) {
+            javaClass = javaClass.getComponentType();
+        }
+        if (javaClass == null || javaClass.isPrimitive() || isPlatformClass(javaClass.getName())) {
+            return;
+        }
+        if (visitedClasses.add(javaClass)) {
+            classes.add(javaClass);
+        }
+    }
+
+    private void addClasses(Type type, List<Class<?>> classes) {
+        if (type instanceof Class<?> javaClass) {
+            addClass(javaClass, classes);
+        } else if (type instanceof ParameterizedType parameterizedType) {
+            addClasses(parameterizedType.getRawType(), classes);
+            for (Type argument : parameterizedType.getActualTypeArguments()) {
+                addClasses(argument, classes);
+            }
+        } else if (type instanceof GenericArrayType genericArrayType) {
+            addClasses(genericArrayType.getGenericComponentType(), classes);
+        } else if (type instanceof WildcardType wildcardType) {
+            for (Type bound : wildcardType.getUpperBounds()) {
+                addClasses(bound, classes);
+            }
+        }
+    }
+
+    private static boolean isGetter(Method method, Type[] parameterTypes) {
+        String name = method.getName();
+        return (parameterTypes.length == 0) && (method.getReturnType() != void.class)
+                && ((name.startsWith("get") && name.length() > 3) || (name.startsWith("is") && name.length() > 2));
+    }
+
+    private static boolean isSetter(Method method, Type[] parameterTypes) {
+        String name = method.getName();
+        return (parameterTypes.length == 1) && name.startsWith("set") && (name.length() > 3);
+    }
+
+    private static boolean isPlatformClass(String className) {
+        return className.startsWith("java.") || className.startsWith("javax.") || className.startsWith("jakarta.")
+                || className.startsWith("jdk.") || className.startsWith("sun.") || className.startsWith("com.sun.");
+    }
+
+    /**
+     * The declared members of a reflection class, read by the task which introspected it.
+     */
+    private static final class ReflectionMembers {
+        private final Field[] fields;
+        private final Method[] methods;
+
+        private ReflectionMembers(Field[] fields, Method[] methods) {
+            this.fields = fields;
+            this.methods = methods;
+        }
+    }
+
+    /**
+     * The declared members of a class of another JavaModel.
+     */
+    private static final class ModelMembers {
+        private final List<JavaField> fields;
+        private final List<JavaMethod> methods;
+
+        private ModelMembers(Collection<JavaField> fields, Collection<JavaMethod> methods) {
+            this.fields = new ArrayList<>(fields);
+            this.methods = new ArrayList<>(methods);
+        }
+    }
+
+    /**
+     * Introspect a class, or fork the introspection of the initial classes if it has no class.
+     * The task completes when the tasks it forked for the classes referenced by its class complete.
+     */
+    private final class IntrospectionTask extends CountedCompleter<Void> {
+
+        private final Class<?> javaClass;
+        private final JavaClass otherClass;
+        private final int index;
+        private final List<Class<?>> initialClasses;
+        private final List<JavaClass> initialOtherClasses;
+        private final ModelMembers[] results;
+
+        IntrospectionTask(CountedCompleter<?> completer, Class<?> javaClass) {
+            this(completer, javaClass, null, -1, null, null, null);
+        }
+
+        IntrospectionTask(CountedCompleter<?> completer, JavaClass otherClass, int index, ModelMembers[] results) {
+            this(completer, null, otherClass, index, null, null, results);
+        }
+
+        IntrospectionTask(CountedCompleter<?> completer, List<Class<?>> initialClasses, List<JavaClass> initialOtherClasses, ModelMembers[] results) {
+            this(completer, null, null, -1, initialClasses, initialOtherClasses, results);
+        }
+
+        private IntrospectionTask(CountedCompleter<?> completer, Class<?> javaClass, JavaClass otherClass, int index,
+                List<Class<?>> initialClasses, List<JavaClass> initialOtherClasses, ModelMembers[] results) {
+            super(completer);
+            this.javaClass = javaClass;
+            this.otherClass = otherClass;
+            this.index = index;
+            this.initialClasses = initialClasses;
+            this.initialOtherClasses = initialOtherClasses;
+            this.results = results;
+        }
+
+        @Override
+        public void compute() {
+            List<Class<?>> classes;
+            if (javaClass != null) {
+                classes = introspect();
+            } else if (otherClass != null) {
+                classes = List.of();
+                introspectOtherClass();
+            } else {
+                classes = initialClasses;
+                for (int next = 0; next < initialOtherClasses.size(); next++) {
+                    addToPendingCount(1);
+                    new IntrospectionTask(this, initialOtherClasses.get(next), next, results).fork();
+                }
+            }
+            for (Class<?> next : classes) {
+                addToPendingCount(1);
+                new IntrospectionTask(this, next).fork();
+            }
+            tryComplete();
+        }
+
+        /**
+         * Read the members of a class of another JavaModel.
+         */
+        private void introspectOtherClass() {
+            try {
+                results[index] = new ModelMembers(otherClass.getDeclaredFields(), otherClass.getDeclaredMethods());
+            } catch (RuntimeException e) {
+                // The sequential processing reports the failure.
+            }
+        }
+
+        /**
+         * Read the metadata of the class, keep its members, and return the classes it references which were not introspected yet.
+         */
+        private List<Class<?>> introspect() {
+            List<Class<?>> classes = new ArrayList<>();
+            try {
+                javaClass.getAnnotations();
+                addClasses(javaClass.getGenericSuperclass(), classes);
+                for (Type genericInterface : javaClass.getGenericInterfaces()) {
+                    addClasses(genericInterface, classes);
+                }
+                XmlSeeAlso xmlSeeAlso = javaClass.getAnnotation(XmlSeeAlso.class);
+                if (xmlSeeAlso != null) {
+                    for (Class<?> seeAlsoClass : xmlSeeAlso.value()) {
+                        addClass(seeAlsoClass, classes);
+                    }
+                }
+                for (Class<?> declaredClass : javaClass.getDeclaredClasses()) {
+                    addClass(declaredClass, classes);
+                }
+                Field[] fields = PrivilegedAccessHelper.getDeclaredFields(javaClass);
+                for (Field field : fields) {
+                    // As JavaClassImpl.getDeclaredFields() does for the fields it returns.
+                    try {
+                        if (!field.trySetAccessible()) {
+                            AbstractSessionLog.getLog().log(SessionLog.FINE, SessionLog.MISC, "set_accessible_in",
+                                    "field", field.getName(), javaClass.getName());
+                        }
+                    } catch (NoSuchMethodError nsme) {
+                        //android
+                    }
+                    field.getDeclaredAnnotations();
+                    Type fieldType = field.getGenericType();
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        addClasses(fieldType, classes);
+                    }
+                }
+                boolean isRegistry = javaClass.isAnnotationPresent(XmlRegistry.class);
+                Method[] methods = javaClass.getDeclaredMethods();
+                for (Method method : methods) {
+                    method.getDeclaredAnnotations();
+                    if (method.isSynthetic() || Modifier.isStatic(method.getModifiers())) {
+                        continue;
+                    }
+                    Type[] parameterTypes = method.getGenericParameterTypes();
+                    if (isRegistry || isGetter(method, parameterTypes)) {
+                        addClasses(method.getGenericReturnType(), classes);
+                    } else if (isSetter(method, parameterTypes)) {
+                        addClasses(parameterTypes[0], classes);
+                    }
+                }
+                reflectionMembers.put(javaClass, new ReflectionMembers(fields, methods));
+            } catch (RuntimeException | LinkageError e) {
+                // The sequential processing reports the failure.
+            }
+            return classes;
+        }
+    }
+}
@@ -131,6 +131,7 @@ public void processXML(AnnotationsProcessor annotationsProcessor, JavaModelInput
         this.aProcessor.setHasXmlBindings(true);
         Map<String, XmlEnum> xmlEnumMap = new HashMap<>();
         aProcessor.init(originalJavaClasses, typeMappingInfos);
+        aProcessor.introspectClasses(originalJavaClasses);
 
         // build a map of packages to JavaClass so we only process the
         // JavaClasses for a given package additional classes - i.e. ones from
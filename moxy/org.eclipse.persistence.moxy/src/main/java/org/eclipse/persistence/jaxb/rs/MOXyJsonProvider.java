@@ -29,7 +29,6 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Deque;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
@@ -41,6 +40,11 @@
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
 
 import jakarta.activation.DataSource;
 import jakarta.ws.rs.Consumes;
@@ -218,7 +222,9 @@ public class MOXyJsonProvider implements MessageBodyReader<Object>, MessageBodyW
     protected Providers providers;
 
     private String attributePrefix = null;
-    private Map<Set<Class<?>>, JAXBContext> contextCache = new HashMap<>();
+    private final ConcurrentMap<Set<Class<?>>, CachedContext> contextCache = new ConcurrentHashMap<>();
+    private volatile int contextCacheSize = 0;
+    private final AtomicLong contextCacheEvictionCount = new AtomicLong();
     private boolean formattedOutput = false;
     private boolean includeRoot = false;
     private boolean marshalEmptyCollections = true;
@@ -237,6 +243,25 @@ public String getAttributePrefix() {
         return attributePrefix;
     }
 
+    /**
+     * The maximum number of <i>JAXBContext</i>s cached by this provider, the least
+     * recently used contexts are evicted when the cache is full.  By default the
+     * cache is not bounded (0).
+     * @since 5.0
+     */
+    public int getContextCacheSize() {
+        return contextCacheSize;
+    }
+
+    /**
+     * The number of <i>JAXBContext</i>s evicted from the cache of this provider.
+     * @see #setContextCacheSize(int)
+     * @since 5.0
+     */
+    public long getContextCacheEvictionCount() {
+        return contextCacheEvictionCount.get();
+    }
+
     /**
      * A convenience method to get the domain class (i.e. <i>Customer</i> or <i>Foo, Bar</i>) from
      * the parameter/return type (i.e. <i>Customer</i>, <i>List&lt;Customer&gt;</i>,
@@ -304,37 +329,80 @@ private Set<Class<?>> asSet(Class<?> clazz) {
      */
     protected JAXBContext getJAXBContext(Set<Class<?>> domainClasses, Annotation[] annotations, MediaType mediaType, MultivaluedMap<String, ?> httpHeaders) throws JAXBException {
 
-        JAXBContext jaxbContext = contextCache.get(domainClasses);
-        if(null != jaxbContext) {
-            return jaxbContext;
+        CachedContext cachedContext = contextCache.get(domainClasses);
+        if(null != cachedContext) {
+            return getContext(cachedContext);
+        }
+
+        ContextResolver<JAXBContext> resolver = null;
+        if(null != providers) {
+            resolver = providers.getContextResolver(JAXBContext.class, mediaType);
         }
 
-        synchronized (contextCache) {
-            jaxbContext = contextCache.get(domainClasses);
-            if(null != jaxbContext) {
+        if (null != resolver && domainClasses.size() == 1) {
+            JAXBContext jaxbContext = resolver.getContext(domainClasses.iterator().next());
+            if (jaxbContext instanceof org.eclipse.persistence.jaxb.JAXBContext) {
                 return jaxbContext;
             }
+        }
 
-            ContextResolver<JAXBContext> resolver = null;
-            if(null != providers) {
-                resolver = providers.getContextResolver(JAXBContext.class, mediaType);
-            }
+        // Contexts of other domain classes are built in parallel,
+        // and the threads requesting the same domain classes wait for the first one.
+        cachedContext = new CachedContext(domainClasses);
+        CachedContext existingContext = contextCache.putIfAbsent(domainClasses, cachedContext);
+        if (null != existingContext) {
+            return getContext(existingContext);
+        }
+        if (contextCacheSize > 0) {
+            evictContexts(contextCacheSize);
+        }
+        cachedContext.build();
+        try {
+            return getContext(cachedContext);
+        } catch (JAXBException | RuntimeException | Error e) {
+            // The context is built again on the next request.
+            contextCache.remove(domainClasses, cachedContext);
+            throw e;
+        }
+    }
 
-            if (null != resolver && domainClasses.size() == 1) {
-                jaxbContext = resolver.getContext(domainClasses.iterator().next());
-            }
+    private JAXBContext getContext(CachedContext cachedContext) throws JAXBException {
+        if (contextCacheSize > 0) {
+            cachedContext.lastAccess = System.nanoTime();
+        }
+        return cachedContext.getContext();
+    }
 
-            if(null == jaxbContext) {
-                jaxbContext = JAXBContextFactory.createContext(domainClasses.toArray(new Class<?>[0]), null);
-                contextCache.put(domainClasses, jaxbContext);
-                return jaxbContext;
-            } else if (jaxbContext instanceof org.eclipse.persistence.jaxb.JAXBContext) {
-                return jaxbContext;
-            } else {
-                jaxbContext = JAXBContextFactory.createContext(domainClasses.toArray(new Class<?>[0]), null);
-                contextCache.put(domainClasses, jaxbContext);
-                return jaxbContext;
+    /**
+     * Evict the least recently used contexts until the cache holds at most the number of contexts.
+     */
+    private void evictContexts(int size) {
+        while (contextCache.size() > size) {
+            Map.Entry<Set<Class<?>>, CachedContext> leastRecentlyUsed = null;
+            for (Map.Entry<Set<Class<?>>, CachedContext> entry : contextCache.entrySet()) {
+                if (null == leastRecentlyUsed || entry.getValue().lastAccess - leastRecentlyUsed.getValue().lastAccess < 0) {
+                    leastRecentlyUsed = entry;
+                }
             }
+            if (null == leastRecentlyUsed) {
+                return;
+            }
+            if (contextCache.remove(leastRecentlyUsed.getKey(), leastRecentlyUsed.getValue())) {
+                contextCacheEvictionCount.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Build and cache the <i>JAXBContext</i>s of the parameter/return types, so that
+     * they are not built by the first requests.  This is typically called at
+     * application startup with the types of the JAX-RS operations.
+     * @param genericTypes - The parameter/return types of the JAX-RS operations.
+     * @since 5.0
+     */
+    public void prewarmContexts(Type... genericTypes) throws JAXBException {
+        for (Type genericType : genericTypes) {
+            getJAXBContext(getDomainClasses(genericType), null, null, null);
         }
     }
 
@@ -812,6 +880,21 @@ public void setAttributePrefix(String attributePrefix) {
         this.attributePrefix = attributePrefix;
     }
 
+    /**
+     * Specify the maximum number of <i>JAXBContext</i>s cached by this provider,
+     * the least recently used contexts are evicted when the cache is full.  By
+     * default the cache is not bounded (0).
+     * @param contextCacheSize - the maximum number of cached contexts, or 0 if
+     * the cache is not bounded.
+     * @since 5.0
+     */
+    public void setContextCacheSize(int contextCacheSize) {
+        this.contextCacheSize = contextCacheSize;
+        if (contextCacheSize > 0) {
+            evictContexts(contextCacheSize);
+        }
+    }
+
     /**
      * Specify if the JSON output should be formatted (default is false).
      * @param formattedOutput - true if the output should be formatted, else
@@ -986,4 +1069,42 @@ public void writeTo(Object object, Class<?> type, Type genericType, Annotation[]
             throw new WebApplicationException(jaxbException);
         }
     }
+
+    /**
+     * A cached <i>JAXBContext</i>, built once by the first thread requesting it.
+     */
+    private static final class CachedContext {
+
+        private final FutureTask<JAXBContext> task;
+        private volatile long lastAccess = System.nanoTime();
+
+        CachedContext(Set<Class<?>> domainClasses) {
+            this.task = new FutureTask<>(() -> JAXBContextFactory.createContext(domainClasses.toArray(new Class<?>[0]), null));
+        }
+
+        void build() {
+            task.run();
+        }
+
+        JAXBContext getContext() throws JAXBException {
+            try {
+                return task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new JAXBException(e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof JAXBException jaxbException) {
+                    throw jaxbException;
+                } else if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                } else if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw new JAXBException(cause);
+            }
+        }
+
+    }
+
 }
@@ -21,6 +21,8 @@
 import org.eclipse.persistence.testing.jaxb.file.FileTestCases;
 import org.eclipse.persistence.testing.jaxb.idresolver.IDResolverTestCases;
 import org.eclipse.persistence.testing.jaxb.jaxbcontext.JAXBContextMediaTypeTestCases;
+import org.eclipse.persistence.testing.jaxb.jaxbcontext.JAXBContextSnapshotTestCases;
+import org.eclipse.persistence.testing.jaxb.jaxbcontext.ParallelAnnotationProcessingTestCases;
 import org.eclipse.persistence.testing.jaxb.namespaceuri.xml.XMLNamespaceTestCases;
 import org.eclipse.persistence.testing.jaxb.namespaceuri.xml.XMLNamespaceXmlPathTestCases;
 import org.eclipse.persistence.testing.jaxb.nomappings.NoMappingsTestCases;
@@ -74,6 +76,8 @@ public static Test suite() {
         suite.addTestSuite(XMLNamespaceXmlPathTestCases.class);
         suite.addTestSuite(NoMappingsTestCases.class);
         suite.addTestSuite(JAXBContextMediaTypeTestCases.class);
+        suite.addTestSuite(JAXBContextSnapshotTestCases.class);
+        suite.addTestSuite(ParallelAnnotationProcessingTestCases.class);
         suite.addTestSuite(org.eclipse.persistence.testing.jaxb.xmlschema.attributeformdefault.qualified.AttributeFormDefaultQualifiedTestCases.class);
         suite.addTestSuite(org.eclipse.persistence.testing.jaxb.xmlschema.attributeformdefault.unqualified.AttributeFormDefaultUnqualifiedTestCases.class);
         suite.addTestSuite(org.eclipse.persistence.testing.jaxb.xmlschema.attributeformdefault.unset.AttributeFormDefaultUnsetTestCases.class);
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.jaxb.jaxbcontext;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.annotation.XmlAttribute;
+import jakarta.xml.bind.annotation.XmlRootElement;
+
+import junit.framework.TestCase;
+
+import org.eclipse.persistence.jaxb.JAXBContextFactory;
+import org.eclipse.persistence.jaxb.JAXBContextProperties;
+import org.eclipse.persistence.jaxb.JAXBContextSnapshot;
+
+/**
+ * Test the creation of a JAXBContext from a snapshot.
+ */
+public class JAXBContextSnapshotTestCases extends TestCase {
+
+    public void testCreateContextFromSnapshot() throws Exception {
+        JAXBContext context = JAXBContextFactory.createContext(new Class<?>[] {SnapshotBean.class}, null);
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+        JAXBContextSnapshot.write(context, snapshot);
+
+        JAXBContext restoredContext = JAXBContextFactory.createContext(new Class<?>[] {SnapshotBean.class},
+                Map.of(JAXBContextProperties.CONTEXT_SNAPSHOT, new ByteArrayInputStream(snapshot.toByteArray())));
+        assertNotSame(context, restoredContext);
+
+        String xml = marshal(context, SnapshotBean.example());
+        assertEquals(xml, marshal(restoredContext, SnapshotBean.example()));
+        SnapshotBean bean = (SnapshotBean) restoredContext.createUnmarshaller().unmarshal(new StringReader(xml));
+        assertEquals(SnapshotBean.example().name, bean.name);
+        assertEquals(SnapshotBean.example().roles, bean.roles);
+    }
+
+    public void testCreateContextFromInvalidSnapshot() throws Exception {
+        JAXBContext context = JAXBContextFactory.createContext(new Class<?>[] {SnapshotBean.class},
+                Map.of(JAXBContextProperties.CONTEXT_SNAPSHOT, new ByteArrayInputStream(new byte[] {1, 2, 3})));
+        assertEquals(marshal(JAXBContextFactory.createContext(new Class<?>[] {SnapshotBean.class}, null), SnapshotBean.example()),
+                marshal(context, SnapshotBean.example()));
+    }
+
+    public void testSnapshotHeader() throws Exception {
+        JAXBContext context = JAXBContextFactory.createContext(new Class<?>[] {SnapshotBean.class},
+                Map.of(JAXBContextProperties.DEFAULT_TARGET_NAMESPACE, "urn:snapshot", JAXBContextProperties.JSON_INCLUDE_ROOT, false));
+        JAXBContextSnapshot snapshot = JAXBContextSnapshot.read(new ByteArrayInputStream(write(context)), getClass().getClassLoader());
+        assertEquals(List.of(SnapshotBean.class.getName()), snapshot.getBoundTypeNames());
+        // Only the properties which change the descriptors are recorded.
+        assertEquals(Map.of(JAXBContextProperties.DEFAULT_TARGET_NAMESPACE, "urn:snapshot"), snapshot.getProjectProperties());
+    }
+
+    public void testOtherClassesAreNotRestored() throws Exception {
+        byte[] snapshot = write(JAXBContextFactory.createContext(new Class<?>[] {SnapshotBean.class}, null));
+        JAXBContext context = JAXBContextFactory.createContext(new Class<?>[] {SnapshotBean.class, OtherBean.class},
+                Map.of(JAXBContextProperties.CONTEXT_SNAPSHOT, new ByteArrayInputStream(snapshot)));
+        OtherBean other = new OtherBean();
+        other.value = "other";
+        assertTrue(marshal(context, other).contains("<value>other</value>"));
+    }
+
+    public void testOtherPropertiesAreNotRestored() throws Exception {
+        byte[] snapshot = write(JAXBContextFactory.createContext(new Class<?>[] {SnapshotBean.class}, null));
+        JAXBContext context = JAXBContextFactory.createContext(new Class<?>[] {SnapshotBean.class},
+                Map.of(JAXBContextProperties.CONTEXT_SNAPSHOT, new ByteArrayInputStream(snapshot),
+                        JAXBContextProperties.DEFAULT_TARGET_NAMESPACE, "urn:other"));
+        assertTrue(marshal(context, SnapshotBean.example()).contains("urn:other"));
+    }
+
+    private byte[] write(JAXBContext context) throws Exception {
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+        JAXBContextSnapshot.write(context, snapshot);
+        return snapshot.toByteArray();
+    }
+
+    private String marshal(JAXBContext context, Object object) throws Exception {
+        StringWriter writer = new StringWriter();
+        context.createMarshaller().marshal(object, writer);
+        return writer.toString();
+    }
+
+    @XmlRootElement
+    public static class SnapshotBean {
+
+        @XmlAttribute
+        public int id;
+
+        public String name;
+
+        public List<String> roles = new ArrayList<>();
+
+        static SnapshotBean example() {
+            SnapshotBean bean = new SnapshotBean();
+            bean.id = 1;
+            bean.name = "Bean";
+            bean.roles.add("ROLE-A");
+            bean.roles.add("ROLE-B");
+            return bean;
+        }
+    }
+
+    @XmlRootElement
+    public static class OtherBean {
+
+        public String value;
+    }
+}
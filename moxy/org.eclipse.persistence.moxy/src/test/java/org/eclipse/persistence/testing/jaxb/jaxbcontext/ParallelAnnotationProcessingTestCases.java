@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.jaxb.jaxbcontext;
+
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.transform.stream.StreamSource;
+
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.annotation.XmlAccessType;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlAttribute;
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlEnum;
+import jakarta.xml.bind.annotation.XmlRootElement;
+import jakarta.xml.bind.annotation.XmlSeeAlso;
+import jakarta.xml.bind.annotation.XmlTransient;
+
+import junit.framework.TestCase;
+
+import org.eclipse.persistence.jaxb.JAXBContextFactory;
+import org.eclipse.persistence.jaxb.JAXBContextProperties;
+import org.eclipse.persistence.jaxb.MOXySystemProperties;
+import org.eclipse.persistence.jaxb.dynamic.DynamicJAXBContextFactory;
+import org.eclipse.persistence.sessions.factories.XMLProjectWriter;
+
+/**
+ * Test that the parallel annotation processing generates the same project as the sequential processing.
+ */
+public class ParallelAnnotationProcessingTestCases extends TestCase {
+
+    private static final String BINDINGS =
+            "<xml-bindings xmlns=\"http://www.eclipse.org/eclipselink/xsds/persistence/oxm\" package-name=\"org.eclipse.persistence.testing.jaxb.jaxbcontext\">"
+            + "<java-types>"
+            + "<java-type name=\"ParallelAnnotationProcessingTestCases$Order\" xml-mapping-metadata-complete=\"true\">"
+            + "<xml-root-element name=\"purchase\"/>"
+            + "<java-attributes>"
+            + "<xml-attribute java-attribute=\"id\" name=\"number\"/>"
+            + "<xml-element java-attribute=\"lines\" name=\"line\"/>"
+            + "</java-attributes>"
+            + "</java-type>"
+            + "</java-types>"
+            + "</xml-bindings>";
+
+    private static final String XSD = "org/eclipse/persistence/testing/jaxb/dynamic/contextcreation.xsd";
+    private static final String OXM = "org/eclipse/persistence/testing/jaxb/dynamic/contextcreation-oxm.xml";
+
+    public void testAnnotatedClasses() throws Exception {
+        assertSameProject(() -> JAXBContextFactory.createContext(new Class<?>[] {Order.class, Status.class}, null));
+    }
+
+    public void testBindings() throws Exception {
+        assertSameProject(() -> JAXBContextFactory.createContext(new Class<?>[] {Order.class},
+                Map.of(JAXBContextProperties.OXM_METADATA_SOURCE, new StreamSource(new StringReader(BINDINGS)))));
+    }
+
+    public void testDynamicContextFromXSD() throws Exception {
+        assertSameProject(() -> {
+            try (InputStream schema = getClass().getClassLoader().getResourceAsStream(XSD)) {
+                return DynamicJAXBContextFactory.createContextFromXSD(schema, null, null, null);
+            }
+        });
+    }
+
+    public void testDynamicContextFromOXM() throws Exception {
+        assertSameProject(() -> {
+            try (InputStream bindings = getClass().getClassLoader().getResourceAsStream(OXM)) {
+                return DynamicJAXBContextFactory.createContextFromOXM(getClass().getClassLoader(),
+                        Map.of(JAXBContextProperties.OXM_METADATA_SOURCE, Map.of("org.eclipse.persistence.testing.jaxb.dynamic", new StreamSource(bindings))));
+            }
+        });
+    }
+
+    private void assertSameProject(ContextSupplier supplier) throws Exception {
+        String sequential = writeProject(supplier.create());
+        String previous = System.setProperty(MOXySystemProperties.PARALLEL_ANNOTATION_PROCESSING, "true");
+        String parallel;
+        try {
+            parallel = writeProject(supplier.create());
+        } finally {
+            if (previous != null) {
+                System.setProperty(MOXySystemProperties.PARALLEL_ANNOTATION_PROCESSING, previous);
+            } else {
+                System.clearProperty(MOXySystemProperties.PARALLEL_ANNOTATION_PROCESSING);
+            }
+        }
+        assertEquals(sequential, parallel);
+    }
+
+    private String writeProject(JAXBContext context) {
+        StringWriter writer = new StringWriter();
+        XMLProjectWriter.write(((org.eclipse.persistence.jaxb.JAXBContext) context).getXMLContext().getSession().getProject(), writer);
+        return writer.toString();
+    }
+
+    private interface ContextSupplier {
+        JAXBContext create() throws Exception;
+    }
+
+    @XmlTransient
+    public static class Entity<K> {
+
+        @XmlAttribute
+        public K id;
+
+        public String createdBy;
+    }
+
+    @XmlRootElement
+    @XmlSeeAlso({Order.Priority.class})
+    public static class Order extends Entity<Long> {
+
+        public List<Line> lines = new ArrayList<>();
+
+        @XmlElement(name = "state")
+        public Status status;
+
+        public static class Priority extends Order {
+
+            public int level;
+        }
+    }
+
+    @XmlAccessorType(XmlAccessType.PROPERTY)
+    public static class Line {
+
+        private String product;
+        private List<Integer> quantities = new ArrayList<>();
+
+        public String getProduct() {
+            return product;
+        }
+
+        public void setProduct(String product) {
+            this.product = product;
+        }
+
+        public List<Integer> getQuantities() {
+            return quantities;
+        }
+
+        public void setQuantities(List<Integer> quantities) {
+            this.quantities = quantities;
+        }
+    }
+
+    @XmlEnum
+    public enum Status {
+        OPEN, CLOSED
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.jaxb.json.reader;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.xml.bind.JAXBContext;
+
+import junit.framework.TestCase;
+
+import org.eclipse.persistence.exceptions.XMLMarshalException;
+import org.eclipse.persistence.internal.oxm.Root;
+import org.eclipse.persistence.internal.oxm.XMLUnmarshaller;
+import org.eclipse.persistence.internal.oxm.record.XMLReader;
+import org.eclipse.persistence.internal.oxm.record.json.JsonByteReader;
+import org.eclipse.persistence.internal.oxm.record.json.JsonStructureReader;
+import org.eclipse.persistence.jaxb.JAXBContextFactory;
+import org.eclipse.persistence.jaxb.JAXBContextProperties;
+import org.eclipse.persistence.jaxb.JAXBUnmarshaller;
+import org.xml.sax.InputSource;
+
+/**
+ * Tests that the native JSON reader reports the same values as the JSON-P reader.
+ */
+public class JsonByteReaderTestCases extends TestCase {
+
+    private XMLUnmarshaller unmarshaller;
+
+    public JsonByteReaderTestCases(String name) {
+        super(name);
+    }
+
+    @Override
+    public void setUp() throws Exception {
+        JAXBContext context = JAXBContextFactory.createContext(new Class<?>[] {ReaderHolder.class},
+                Map.of(JAXBContextProperties.MEDIA_TYPE, "application/json"));
+        unmarshaller = ((JAXBUnmarshaller) context.createUnmarshaller()).getXMLUnmarshaller();
+    }
+
+    private ReaderHolder unmarshal(XMLReader reader, byte[] json) {
+        Object result = unmarshaller.unmarshal(reader, new InputSource(new ByteArrayInputStream(json)), ReaderHolder.class);
+        if (result instanceof Root) {
+            result = ((Root) result).getObject();
+        }
+        return (ReaderHolder) result;
+    }
+
+    private ReaderHolder unmarshalNative(byte[] json) {
+        return unmarshal(new JsonByteReader(unmarshaller, ReaderHolder.class), json);
+    }
+
+    /**
+     * Unmarshal the document with both readers, and return the result of the native reader.
+     */
+    private ReaderHolder assertSameAsJsonP(byte[] json) {
+        ReaderHolder expected = unmarshal(new JsonStructureReader(unmarshaller, ReaderHolder.class), json);
+        ReaderHolder actual = unmarshalNative(json);
+        assertEquals(expected.id, actual.id);
+        assertEquals(expected.text, actual.text);
+        assertEquals(expected.items, actual.items);
+        return actual;
+    }
+
+    private ReaderHolder assertSameAsJsonP(String json, Charset encoding) {
+        return assertSameAsJsonP(json.getBytes(encoding));
+    }
+
+    public void testNumbers() {
+        String json = "{\"readerHolder\":{\"id\":1.50,\"text\":-0,\"items\":[0,-0,12,1.50,1e2,1.5E-3,-0.0,123456789012345678901234567890,-12e+3]}}";
+        ReaderHolder holder = assertSameAsJsonP(json, StandardCharsets.UTF_8);
+        assertEquals("1.50", holder.id);
+        assertEquals("0", holder.text);
+        assertEquals(List.of("0", "0", "12", "1.50", "1E+2", "0.0015", "0.0", "123456789012345678901234567890", "-1.2E+4"), holder.items);
+    }
+
+    public void testEscapesAndNonAscii() {
+        String json = "{\"readerHolder\":{\"id\":\"\\u00e9\\\"\",\"text\":\"a\\n\\t\\\\\\/b \u00e9\u4e2d\\ud83d\\ude00\ud83d\ude00\",\"items\":[\"\\u0000\",\"\u00fc\"]}}";
+        ReaderHolder holder = assertSameAsJsonP(json, StandardCharsets.UTF_8);
+        assertEquals("\u00e9\"", holder.id);
+        assertEquals("a\n\t\\/b \u00e9\u4e2d\ud83d\ude00\ud83d\ude00", holder.text);
+        assertEquals(List.of("\u0000", "\u00fc"), holder.items);
+    }
+
+    public void testDetectedEncodings() {
+        String json = "{\"readerHolder\":{\"id\":\"x\",\"text\":\"\u00e9\u4e2d\ud83d\ude00\",\"items\":[1e2]}}";
+        String[] encodings = {"UTF-8", "UTF-16BE", "UTF-16LE", "UTF-32BE", "UTF-32LE"};
+        for (String encoding : encodings) {
+            for (String document : new String[] {json, "\ufeff" + json}) {
+                ReaderHolder holder = assertSameAsJsonP(document, Charset.forName(encoding));
+                assertEquals(encoding, "\u00e9\u4e2d\ud83d\ude00", holder.text);
+                assertEquals(encoding, List.of("1E+2"), holder.items);
+            }
+        }
+    }
+
+    public void testInvalidNumber() {
+        for (String number : new String[] {"1-2", "-", "1e", "1.2.3", "+1", "01", "1.", "-.5", "1e2.5"}) {
+            String json = "{\"readerHolder\":{\"text\":" + number + "}}";
+            try {
+                unmarshalNative(json.getBytes(StandardCharsets.UTF_8));
+                fail("No exception for " + number);
+            } catch (XMLMarshalException exception) {
+                // expected
+            }
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.jaxb.json.writer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.Marshaller;
+
+import junit.framework.TestCase;
+
+import org.eclipse.persistence.jaxb.JAXBContextFactory;
+import org.eclipse.persistence.jaxb.JAXBContextProperties;
+
+/**
+ * Tests that JSON marshalled to an output stream is the JSON marshalled to a writer, encoded in UTF-8.
+ */
+public class JsonOutputStreamTestCases extends TestCase {
+
+    static final String NAMESPACE = "urn:writer";
+
+    private Marshaller marshaller;
+
+    public JsonOutputStreamTestCases(String name) {
+        super(name);
+    }
+
+    @Override
+    public void setUp() throws Exception {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(JAXBContextProperties.MEDIA_TYPE, "application/json");
+        properties.put(JAXBContextProperties.JSON_ATTRIBUTE_PREFIX, "@");
+        properties.put(JAXBContextProperties.NAMESPACE_PREFIX_MAPPER, Map.of(NAMESPACE, "w"));
+        JAXBContext context = JAXBContextFactory.createContext(new Class<?>[] {WriterHolder.class}, properties);
+        marshaller = context.createMarshaller();
+    }
+
+    /**
+     * Marshal the holder to an output stream and to a writer, and return the object of the holder.
+     */
+    private JsonObject marshal(WriterHolder holder) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        marshaller.marshal(holder, outputStream);
+        StringWriter writer = new StringWriter();
+        marshaller.marshal(holder, writer);
+        String json = outputStream.toString(StandardCharsets.UTF_8);
+        assertEquals(writer.toString(), json);
+        try (JsonReader reader = Json.createReader(new StringReader(json))) {
+            return reader.readObject().getJsonObject("writerHolder");
+        }
+    }
+
+    public void testControlCharactersAndQuotes() throws Exception {
+        WriterHolder holder = new WriterHolder();
+        holder.text = "\"\\/\b\f\n\r\t\u0000\u0001\u001F\u007F end";
+        String json = marshalToString(holder);
+        assertTrue(json, json.contains("\\\"\\\\/\\b\\f\\n\\r\\t\\u0000\\u0001\\u001F\\u007F end"));
+        assertEquals(holder.text, marshal(holder).getString("text"));
+    }
+
+    public void testNonAsciiAndSurrogates() throws Exception {
+        WriterHolder holder = new WriterHolder();
+        holder.text = "éü中文 😀 \ud800";
+        holder.items = List.of("ÿ", "ࠀ", "￿", "􏿿");
+        JsonObject object = marshal(holder);
+        assertEquals(holder.text, object.getString("text"));
+        JsonArray items = object.getJsonArray("items");
+        for (int index = 0; index < holder.items.size(); index++) {
+            assertEquals(holder.items.get(index), items.getString(index));
+        }
+    }
+
+    /**
+     * Values of every length around the size of the buffer, with characters encoded in up to 4 bytes,
+     * so the buffer is written out within values, escapes and encoded characters.
+     */
+    public void testBufferBoundary() throws Exception {
+        WriterHolder holder = new WriterHolder();
+        StringBuilder text = new StringBuilder();
+        for (int index = 0; text.length() < 20000; index++) {
+            text.append(index % 2 == 0 ? "aé中😀\n\"" : "ascii text ");
+        }
+        holder.text = text.toString();
+        for (int length = 8180; length < 8200; length++) {
+            holder.items.add(holder.text.substring(0, length));
+        }
+        holder.items.add("x".repeat(9000));
+        JsonObject object = marshal(holder);
+        assertEquals(holder.text, object.getString("text"));
+        JsonArray items = object.getJsonArray("items");
+        assertEquals(holder.items.size(), items.size());
+        for (int index = 0; index < holder.items.size(); index++) {
+            assertEquals(holder.items.get(index), items.getString(index));
+        }
+    }
+
+    public void testPrefixedAndEscapedKeys() throws Exception {
+        WriterHolder holder = new WriterHolder();
+        holder.id = "1";
+        holder.qualified = "q";
+        holder.entries.add(new WriterEntry("a\"b\\c\nd", "escaped"));
+        holder.entries.add(new WriterEntry("é😀", "non-ascii"));
+        holder.entries.add(new WriterEntry("plain", "plain"));
+        // The quoted key is cached by the fragment, the second marshal writes the cached key.
+        for (int index = 0; index < 2; index++) {
+            JsonObject object = marshal(holder);
+            assertEquals("1", object.getString("@id"));
+            assertEquals("q", object.getString("w.qualified"));
+            assertEquals("escaped", object.getString("a\"b\\c\nd"));
+            assertEquals("non-ascii", object.getString("é😀"));
+            assertEquals("plain", object.getString("plain"));
+        }
+    }
+
+    private String marshalToString(WriterHolder holder) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        marshaller.marshal(holder, outputStream);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.jaxb.rs;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import jakarta.xml.bind.JAXBContext;
+
+import junit.framework.TestCase;
+
+import org.eclipse.persistence.jaxb.rs.MOXyJsonProvider;
+import org.eclipse.persistence.testing.jaxb.rs.model.Bar;
+import org.eclipse.persistence.testing.jaxb.rs.model.Foo;
+import org.eclipse.persistence.testing.jaxb.rs.model.JaxbBean;
+
+public class ContextCacheTestCases extends TestCase {
+
+    private TestMOXyJsonProvider moxyJsonProvider;
+
+    @Override
+    protected void setUp() throws Exception {
+        moxyJsonProvider = new TestMOXyJsonProvider();
+    }
+
+    public void testContextIsCached() throws Exception {
+        JAXBContext context = moxyJsonProvider.getContext(Foo.class);
+        assertSame(context, moxyJsonProvider.getContext(Foo.class));
+        assertNotSame(context, moxyJsonProvider.getContext(Bar.class));
+    }
+
+    public void testContextIsBuiltOnce() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<JAXBContext>> contexts = new ArrayList<>();
+            for (int x = 0; x < 8; x++) {
+                contexts.add(executor.submit(new Callable<JAXBContext>() {
+                    @Override
+                    public JAXBContext call() throws Exception {
+                        return moxyJsonProvider.getContext(JaxbBean.class);
+                    }
+                }));
+            }
+            JAXBContext context = contexts.get(0).get();
+            for (Future<JAXBContext> otherContext : contexts) {
+                assertSame(context, otherContext.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    public void testLeastRecentlyUsedContextIsEvicted() throws Exception {
+        moxyJsonProvider.setContextCacheSize(2);
+        JAXBContext fooContext = moxyJsonProvider.getContext(Foo.class);
+        JAXBContext barContext = moxyJsonProvider.getContext(Bar.class);
+        assertSame(fooContext, moxyJsonProvider.getContext(Foo.class));
+        moxyJsonProvider.getContext(JaxbBean.class);
+        assertEquals(1, moxyJsonProvider.getContextCacheEvictionCount());
+        assertSame(fooContext, moxyJsonProvider.getContext(Foo.class));
+        assertNotSame(barContext, moxyJsonProvider.getContext(Bar.class));
+    }
+
+    public void testPrewarmContexts() throws Exception {
+        moxyJsonProvider.prewarmContexts(Foo.class, Bar.class);
+        moxyJsonProvider.setContextCacheSize(1);
+        assertEquals(1, moxyJsonProvider.getContextCacheEvictionCount());
+    }
+
+    private static class TestMOXyJsonProvider extends MOXyJsonProvider {
+
+        public JAXBContext getContext(Class<?> domainClass) throws Exception {
+            return getJAXBContext(Set.of(domainClass), null, null, null);
+        }
+
+    }
+
+}
@@ -31,6 +31,7 @@ public static Test suite() {
         suite.addTestSuite(MapAdapterTestCases.class);
         suite.addTestSuite(JAXBElementsGenericListTestCases.class);
         suite.addTestSuite(MyArrayListTestCases.class);
+        suite.addTestSuite(ContextCacheTestCases.class);
         return suite;
     }
 
@@ -14,7 +14,13 @@
 //     Oracle - initial implementation
 package org.eclipse.persistence.testing.perf;
 
+import org.eclipse.persistence.testing.perf.core.AttributeAccessorBenchmark;
+import org.eclipse.persistence.testing.perf.core.ChangeDetectionPolicyBenchmark;
+import org.eclipse.persistence.testing.perf.core.ChangeSetSerializerBenchmark;
 import org.eclipse.persistence.testing.perf.core.ConcurrencyManagerBenchmark;
+import org.eclipse.persistence.testing.perf.core.IdentityMapBenchmark;
+import org.eclipse.persistence.testing.perf.core.IndirectCollectionsBenchmark;
+import org.eclipse.persistence.testing.perf.core.ResultSetReaderBenchmark;
 import org.openjdk.jmh.results.format.ResultFormatType;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
@@ -42,6 +48,12 @@ public static void main(String[] args) throws RunnerException {
 
         Options opt = new OptionsBuilder()
                 .include(getInclude(ConcurrencyManagerBenchmark.class))
+                .include(getInclude(IdentityMapBenchmark.class))
+                .include(getInclude(ChangeSetSerializerBenchmark.class))
+                .include(getInclude(IndirectCollectionsBenchmark.class))
+                .include(getInclude(ChangeDetectionPolicyBenchmark.class))
+                .include(getInclude(ResultSetReaderBenchmark.class))
+                .include(getInclude(AttributeAccessorBenchmark.class))
                 .result(resultFile)
                 .resultFormat(ResultFormatType.valueOf(resultFormat.toUpperCase()))
                 .warmupIterations(warmupIterations)
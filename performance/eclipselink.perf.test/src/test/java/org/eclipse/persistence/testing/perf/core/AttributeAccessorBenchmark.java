@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial implementation
+package org.eclipse.persistence.testing.perf.core;
+
+import org.eclipse.persistence.internal.descriptors.AttributeAccessorGenerator;
+import org.eclipse.persistence.internal.descriptors.GeneratedAttributeAccessor;
+import org.eclipse.persistence.internal.descriptors.InstanceVariableAttributeAccessor;
+import org.eclipse.persistence.internal.descriptors.MethodAttributeAccessor;
+import org.eclipse.persistence.testing.perf.json.model.Employee;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * This benchmark compares getting and setting the attributes of 10k objects through
+ * {@code org.eclipse.persistence.internal.descriptors.InstanceVariableAttributeAccessor}
+ * and {@code org.eclipse.persistence.internal.descriptors.MethodAttributeAccessor} reflection,
+ * and through the accessors generated by
+ * {@code org.eclipse.persistence.internal.descriptors.AttributeAccessorGenerator}.
+ *
+ */
+@State(Scope.Benchmark)
+public class AttributeAccessorBenchmark {
+
+    private static final int SIZE = 10000;
+
+    @Param({"Reflection", "Generated"})
+    private String accessorType;
+
+    private InstanceVariableAttributeAccessor idAccessor;
+    private MethodAttributeAccessor firstNameAccessor;
+    private GeneratedAttributeAccessor generatedIdAccessor;
+    private GeneratedAttributeAccessor generatedFirstNameAccessor;
+    private Employee[] employees;
+    private Object[] ids;
+    private String[] firstNames;
+
+    @Setup
+    public void setup() throws Exception {
+        idAccessor = new InstanceVariableAttributeAccessor();
+        idAccessor.setAttributeName("id");
+        idAccessor.initializeAttributes(Employee.class);
+        firstNameAccessor = new MethodAttributeAccessor();
+        firstNameAccessor.setAttributeName("firstName");
+        firstNameAccessor.setGetMethodName("getFirstName");
+        firstNameAccessor.setSetMethodName("setFirstName");
+        firstNameAccessor.initializeAttributes(Employee.class);
+        if ("Generated".equals(accessorType)) {
+            generatedIdAccessor = AttributeAccessorGenerator.generateAttributeAccessor(Employee.class.getDeclaredField("id"));
+            generatedFirstNameAccessor = AttributeAccessorGenerator.generateAttributeAccessor(
+                    Employee.class.getMethod("getFirstName"), Employee.class.getMethod("setFirstName", String.class));
+        }
+
+        employees = new Employee[SIZE];
+        ids = new Object[SIZE];
+        firstNames = new String[SIZE];
+        for (int index = 0; index < SIZE; index++) {
+            Employee employee = new Employee();
+            employee.setId(index);
+            employee.setFirstName("First" + index);
+            employees[index] = employee;
+            ids[index] = index;
+            firstNames[index] = employee.getFirstName();
+        }
+    }
+
+    @Benchmark
+    public Employee[] set() {
+        for (int index = 0; index < SIZE; index++) {
+            Employee employee = employees[index];
+            if (generatedIdAccessor != null) {
+                generatedIdAccessor.setAttributeValueInObject(employee, ids[index]);
+                generatedFirstNameAccessor.setAttributeValueInObject(employee, firstNames[index]);
+            } else {
+                idAccessor.setAttributeValueInObject(employee, ids[index]);
+                firstNameAccessor.setAttributeValueInObject(employee, firstNames[index]);
+            }
+        }
+        return employees;
+    }
+
+    @Benchmark
+    public int get() {
+        int length = 0;
+        for (int index = 0; index < SIZE; index++) {
+            Employee employee = employees[index];
+            if (generatedIdAccessor != null) {
+                length += (Integer)generatedIdAccessor.getAttributeValueFromObject(employee);
+                length += ((String)generatedFirstNameAccessor.getAttributeValueFromObject(employee)).length();
+            } else {
+                length += (Integer)idAccessor.getAttributeValueFromObject(employee);
+                length += ((String)firstNameAccessor.getAttributeValueFromObject(employee)).length();
+            }
+        }
+        return length;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial implementation
+package org.eclipse.persistence.testing.perf.core;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.descriptors.changetracking.DeferredChangeDetectionPolicy;
+import org.eclipse.persistence.descriptors.changetracking.SnapshotChangeDetectionPolicy;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.perf.json.model.Employee;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * This benchmark compares {@code org.eclipse.persistence.descriptors.changetracking.DeferredChangeDetectionPolicy}
+ * and {@code org.eclipse.persistence.descriptors.changetracking.SnapshotChangeDetectionPolicy}
+ * backing up 100k read objects and detecting that they are unchanged on commit.
+ *
+ */
+@State(Scope.Benchmark)
+public class ChangeDetectionPolicyBenchmark {
+
+    private static final int SIZE = 100000;
+
+    @Param({"Deferred", "Snapshot"})
+    private String policyType;
+
+    private RelationalDescriptor descriptor;
+    private DeferredChangeDetectionPolicy policy;
+    private UnitOfWorkImpl unitOfWork;
+    private Employee[] employees;
+    private Object[] backups;
+
+    @Setup
+    public void setup() {
+        policy = "Deferred".equals(policyType) ? new DeferredChangeDetectionPolicy() : new SnapshotChangeDetectionPolicy();
+        descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Employee.class);
+        descriptor.addTableName("EMPLOYEE");
+        descriptor.addPrimaryKeyFieldName("EMPLOYEE.ID");
+        descriptor.addDirectMapping("id", "EMPLOYEE.ID");
+        descriptor.addDirectMapping("firstName", "EMPLOYEE.F_NAME");
+        descriptor.addDirectMapping("lastName", "EMPLOYEE.L_NAME");
+        for (DatabaseMapping mapping : descriptor.getMappings()) {
+            mapping.getAttributeAccessor().initializeAttributes(Employee.class);
+        }
+        descriptor.getObjectBuilder().getCloningMappings().addAll(descriptor.getMappings());
+        descriptor.setObjectChangePolicy(policy);
+        Project project = new Project(new DatabaseLogin());
+        project.addDescriptor(descriptor);
+        AbstractSession session = (AbstractSession)project.createDatabaseSession();
+        unitOfWork = (UnitOfWorkImpl)session.acquireUnitOfWork();
+
+        employees = new Employee[SIZE];
+        for (int index = 0; index < SIZE; index++) {
+            Employee employee = new Employee();
+            employee.setId(index);
+            employee.setFirstName("First" + index);
+            employee.setLastName("Last" + index);
+            employees[index] = employee;
+        }
+        backups = backup();
+    }
+
+    @Benchmark
+    public Object[] backup() {
+        Object[] newBackups = new Object[SIZE];
+        for (int index = 0; index < SIZE; index++) {
+            newBackups[index] = policy.buildBackupClone(employees[index], descriptor.getObjectBuilder(), unitOfWork);
+        }
+        return newBackups;
+    }
+
+    @Benchmark
+    public int detectChanges() {
+        int unchanged = 0;
+        for (int index = 0; index < SIZE; index++) {
+            if (policy.isUnchanged(employees[index], backups[index], unitOfWork, descriptor)) {
+                unchanged++;
+            }
+        }
+        return unchanged;
+    }
+}
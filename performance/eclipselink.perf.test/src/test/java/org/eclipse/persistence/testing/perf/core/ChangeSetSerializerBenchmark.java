@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial implementation
+package org.eclipse.persistence.testing.perf.core;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.identitymaps.CacheId;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.DirectToFieldChangeRecord;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.ServiceId;
+import org.eclipse.persistence.sessions.serializers.BinarySerializer;
+import org.eclipse.persistence.sessions.serializers.JavaSerializer;
+import org.eclipse.persistence.sessions.serializers.Serializer;
+import org.eclipse.persistence.testing.perf.json.model.Employee;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * This benchmark compares {@code org.eclipse.persistence.sessions.serializers.JavaSerializer} and
+ * {@code org.eclipse.persistence.sessions.serializers.BinarySerializer} serializing the
+ * cache coordination command of a commit that updated the names of a batch of employees.
+ *
+ */
+@State(Scope.Benchmark)
+public class ChangeSetSerializerBenchmark {
+
+    private static final int SIZE = 10;
+
+    @Param({"Java", "Binary"})
+    private String serializerType;
+
+    private Serializer serializer;
+    private AbstractSession session;
+    private MergeChangeSetCommand command;
+    private Object bytes;
+
+    @Setup
+    public void setup() {
+        serializer = "Java".equals(serializerType) ? JavaSerializer.instance : BinarySerializer.instance;
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Employee.class);
+        descriptor.addTableName("EMPLOYEE");
+        descriptor.addPrimaryKeyFieldName("EMPLOYEE.ID");
+        descriptor.addDirectMapping("id", "EMPLOYEE.ID");
+        descriptor.addDirectMapping("firstName", "EMPLOYEE.F_NAME");
+        descriptor.addDirectMapping("lastName", "EMPLOYEE.L_NAME");
+        Project project = new Project(new DatabaseLogin());
+        project.addDescriptor(descriptor);
+        session = (AbstractSession)project.createDatabaseSession();
+        // As the RemoteCommandManager does on login.
+        serializer.initialize(UnitOfWorkChangeSet.class, null, session);
+
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet();
+        for (int index = 0; index < SIZE; index++) {
+            ObjectChangeSet objectChangeSet = new ObjectChangeSet(new CacheId(new Object[] {index}), descriptor, null, changeSet, false);
+            objectChangeSet.setWriteLockValue((long)index + 1);
+            objectChangeSet.setInitialWriteLockValue((long)index);
+            addChange(objectChangeSet, "firstName", "First" + index);
+            addChange(objectChangeSet, "lastName", "Last" + index);
+            changeSet.getAllChangeSets().put(objectChangeSet, objectChangeSet);
+        }
+        command = new MergeChangeSetCommand();
+        command.setChangeSet(changeSet);
+        command.setServiceId(new ServiceId("channel", "node1", "rmi://host:1099"));
+        bytes = serializer.serialize(command, session);
+    }
+
+    private static void addChange(ObjectChangeSet objectChangeSet, String attribute, Object value) {
+        DirectToFieldChangeRecord record = new DirectToFieldChangeRecord(objectChangeSet);
+        record.setAttribute(attribute);
+        record.setNewValue(value);
+        objectChangeSet.addChange(record);
+    }
+
+    @Benchmark
+    public Object serialize() {
+        return serializer.serialize(command, session);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(bytes, session);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial implementation
+package org.eclipse.persistence.testing.perf.core;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.eclipse.persistence.internal.identitymaps.CacheIdentityMap;
+import org.eclipse.persistence.internal.identitymaps.ConcurrentCacheIdentityMap;
+import org.eclipse.persistence.internal.identitymaps.IdentityMap;
+import org.eclipse.persistence.internal.identitymaps.SoftCacheWeakIdentityMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * This benchmark compares cache hits and misses of the LRU based identity maps
+ * {@code org.eclipse.persistence.internal.identitymaps.CacheIdentityMap},
+ * {@code org.eclipse.persistence.internal.identitymaps.SoftCacheWeakIdentityMap} and
+ * {@code org.eclipse.persistence.internal.identitymaps.ConcurrentCacheIdentityMap}.
+ * The single threaded tests measure the cost of the LRU bookkeeping, the multi threaded tests
+ * the contention of the threads sharing the map on it.
+ *
+ */
+@State(Scope.Benchmark)
+public class IdentityMapBenchmark {
+
+    private static final int SIZE = 10000;
+
+    public static final int THREADS = 8;
+
+    @Param({"Cache", "SoftWeak", "ConcurrentCache"})
+    private String mapType;
+
+    private IdentityMap identityMap;
+
+    @Setup
+    public void setup() {
+        switch (mapType) {
+            case "Cache":
+                identityMap = new CacheIdentityMap(SIZE, null, null, false);
+                break;
+            case "SoftWeak":
+                identityMap = new SoftCacheWeakIdentityMap(SIZE, null, null, false);
+                break;
+            default:
+                identityMap = new ConcurrentCacheIdentityMap(SIZE, null, null, false);
+        }
+        for (int index = 0; index < SIZE; index++) {
+            identityMap.put(index, "value" + index, null, 0);
+        }
+    }
+
+    @Benchmark
+    public void testCacheHit(Blackhole bh) {
+        bh.consume(identityMap.getCacheKey(ThreadLocalRandom.current().nextInt(SIZE), false));
+    }
+
+    @Benchmark
+    public void testCacheHitAndMiss(Blackhole bh) {
+        int key = ThreadLocalRandom.current().nextInt(SIZE * 2);
+        if (identityMap.getCacheKey(key, false) == null) {
+            identityMap.put(key, "value" + key, null, 0);
+        }
+    }
+
+    @Benchmark
+    @Threads(THREADS)
+    public void testConcurrentCacheHit(Blackhole bh) {
+        testCacheHit(bh);
+    }
+
+    @Benchmark
+    @Threads(THREADS)
+    public void testConcurrentCacheHitAndMiss(Blackhole bh) {
+        testCacheHitAndMiss(bh);
+    }
+
+    /**
+     * Readers hitting the cache while writers insert new keys, which evicts the least recently used ones.
+     */
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(THREADS - 2)
+    public void testReadWriteHit(Blackhole bh) {
+        testCacheHit(bh);
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(2)
+    public void testReadWritePut() {
+        int key = SIZE + ThreadLocalRandom.current().nextInt(SIZE);
+        identityMap.put(key, "value" + key, null, 0);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial implementation
+package org.eclipse.persistence.testing.perf.core;
+
+import org.eclipse.persistence.indirection.IndirectList;
+import org.eclipse.persistence.indirection.IndirectMap;
+import org.eclipse.persistence.indirection.UnsynchronizedIndirectList;
+import org.eclipse.persistence.indirection.UnsynchronizedIndirectMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * This benchmark compares the synchronized {@code org.eclipse.persistence.indirection.IndirectList} and
+ * {@code org.eclipse.persistence.indirection.IndirectMap} with their unsynchronized variants
+ * when iterating, reading and populating large collections from a single thread.
+ *
+ */
+@State(Scope.Benchmark)
+public class IndirectCollectionsBenchmark {
+
+    private static final int SIZE = 10000;
+
+    @Param({"Synchronized", "Unsynchronized"})
+    private String collectionType;
+
+    private IndirectList<Integer> list;
+    private IndirectMap<Integer, Integer> map;
+
+    @Setup
+    public void setup() {
+        list = newList();
+        map = newMap();
+        for (int index = 0; index < SIZE; index++) {
+            list.add(index);
+            map.put(index, index);
+        }
+    }
+
+    private IndirectList<Integer> newList() {
+        return "Synchronized".equals(collectionType) ? new IndirectList<>(SIZE, 0) : new UnsynchronizedIndirectList<>(SIZE, 0);
+    }
+
+    private IndirectMap<Integer, Integer> newMap() {
+        return "Synchronized".equals(collectionType) ? new IndirectMap<>(SIZE * 2, 0.75f) : new UnsynchronizedIndirectMap<>(SIZE * 2, 0.75f);
+    }
+
+    @Benchmark
+    public long iterateList() {
+        long sum = 0;
+        for (Integer element : list) {
+            sum += element;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long getList() {
+        long sum = 0;
+        for (int index = 0; index < SIZE; index++) {
+            sum += list.get(index);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Object populateList() {
+        IndirectList<Integer> newList = newList();
+        for (int index = 0; index < SIZE; index++) {
+            newList.add(index);
+        }
+        return newList;
+    }
+
+    @Benchmark
+    public long getMap() {
+        long sum = 0;
+        for (int index = 0; index < SIZE; index++) {
+            sum += map.get(index);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Object populateMap() {
+        IndirectMap<Integer, Integer> newMap = newMap();
+        for (int index = 0; index < SIZE; index++) {
+            newMap.put(index, index);
+        }
+        return newMap;
+    }
+}
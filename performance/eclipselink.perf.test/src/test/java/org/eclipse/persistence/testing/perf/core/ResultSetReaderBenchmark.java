@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial implementation
+package org.eclipse.persistence.testing.perf.core;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.databaseaccess.DatabasePlatform;
+import org.eclipse.persistence.internal.descriptors.ResultSetReader;
+import org.eclipse.persistence.internal.descriptors.ResultSetReaderGenerator;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.perf.json.model.Employee;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * This benchmark compares reading 10k rows of a simple descriptor from a result set
+ * through the mappings, as done by result set optimized queries,
+ * and through the {@code org.eclipse.persistence.internal.descriptors.ResultSetReader}
+ * generated for the descriptor.
+ *
+ */
+@State(Scope.Benchmark)
+public class ResultSetReaderBenchmark {
+
+    private static final int SIZE = 10000;
+
+    @Param({"Mappings", "Generated"})
+    private String readerType;
+
+    private DatabaseSessionImpl session;
+    private DatabasePlatform platform;
+    private List<DatabaseMapping> mappings;
+    private ResultSetReader reader;
+    private Object[][] rows;
+    private int row;
+    private ResultSet resultSet;
+
+    @Setup
+    public void setup() {
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Employee.class);
+        descriptor.addTableName("EMPLOYEE");
+        descriptor.addPrimaryKeyFieldName("EMPLOYEE.ID");
+        descriptor.addDirectMapping("id", "EMPLOYEE.ID");
+        descriptor.addDirectMapping("firstName", "EMPLOYEE.F_NAME");
+        descriptor.addDirectMapping("lastName", "EMPLOYEE.L_NAME");
+        Project project = new Project(new DatabaseLogin());
+        project.addDescriptor(descriptor);
+        session = (DatabaseSessionImpl)project.createDatabaseSession();
+        session.initializeDescriptors();
+        platform = (DatabasePlatform)session.getPlatform();
+        mappings = descriptor.getMappings();
+        if ("Generated".equals(readerType)) {
+            reader = ResultSetReaderGenerator.generateResultSetReader(descriptor, 1, platform, session);
+        }
+
+        rows = new Object[SIZE][];
+        for (int index = 0; index < SIZE; index++) {
+            rows[index] = new Object[] {index, "First" + index, "Last" + index};
+        }
+        // Only the getters used to read the attributes are needed.
+        resultSet = (ResultSet)Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] {ResultSet.class},
+                (proxy, method, arguments) -> rows[row][(Integer)arguments[0] - 1]);
+    }
+
+    @Benchmark
+    public Employee[] read() throws SQLException {
+        Employee[] employees = new Employee[SIZE];
+        int size = mappings.size();
+        for (row = 0; row < SIZE; row++) {
+            Employee employee = new Employee();
+            if (reader != null) {
+                reader.readFromResultSetIntoObject(resultSet, employee, null, session, null, null, 1, platform);
+            } else {
+                for (int index = 1; index < size; index++) {
+                    mappings.get(index).readFromResultSetIntoObject(resultSet, employee, null, session, null, null, index + 1, platform);
+                }
+            }
+            employees[row] = employee;
+        }
+        return employees;
+    }
+}
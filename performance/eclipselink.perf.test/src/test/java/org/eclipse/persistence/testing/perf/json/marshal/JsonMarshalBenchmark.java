@@ -15,6 +15,7 @@
 package org.eclipse.persistence.testing.perf.json.marshal;
 
 import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -49,12 +50,15 @@ public class JsonMarshalBenchmark {
 
     private JAXBContext jaxbContext;
 
+    private List<Employee> employees;
+
     /*
      * Initial setup.
      */
     @Setup
     public void prepare() throws Exception {
         prepareJAXBContext();
+        prepareEmployees();
     }
 
     @Benchmark
@@ -119,6 +123,43 @@ public void testJsonMarshal(Blackhole bh) throws Exception {
         bh.consume(baos);
     }
 
+    @Benchmark
+    public void testJsonMOXyMarshalOutputStream(Blackhole bh) throws Exception {
+        Marshaller marshaller = jaxbContext.createMarshaller();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        marshaller.marshal(employees, baos);
+        bh.consume(baos);
+    }
+
+    @Benchmark
+    public void testJsonMOXyMarshalWriter(Blackhole bh) throws Exception {
+        Marshaller marshaller = jaxbContext.createMarshaller();
+        StringWriter writer = new StringWriter();
+        marshaller.marshal(employees, writer);
+        bh.consume(writer);
+    }
+
+    private void prepareEmployees() {
+        employees = new ArrayList<Employee>(100);
+        for (int i = 0; i < 100; i++) {
+            Employee employee = new Employee();
+            employee.setId(i);
+            employee.setFirstName("Jane" + i);
+            employee.setLastName("Doe \"" + i + "\"");
+
+            PhoneNumber workPhone = new PhoneNumber();
+            workPhone.setType("work");
+            workPhone.setNumber("555-" + i);
+            employee.getPhoneNumbers().add(workPhone);
+
+            PhoneNumber homePhone = new PhoneNumber();
+            homePhone.setType("home");
+            homePhone.setNumber("555-" + (i + 1000));
+            employee.getPhoneNumbers().add(homePhone);
+            employees.add(employee);
+        }
+    }
+
     private void prepareJAXBContext() throws Exception {
 
         Map<String, Object> jaxbProperties = new HashMap<String, Object>(2);
@@ -30,10 +30,12 @@
 import jakarta.xml.bind.Unmarshaller;
 import javax.xml.transform.stream.StreamSource;
 
+import org.eclipse.persistence.internal.oxm.OXMSystemProperties;
 import org.eclipse.persistence.jaxb.JAXBContextProperties;
 import org.eclipse.persistence.oxm.json.JsonStructureSource;
 import org.eclipse.persistence.testing.perf.json.model.Employee;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -140,6 +142,16 @@ public void testJsonMOXyUnmarshal(Blackhole bh) throws Exception {
 
     }
 
+    /*
+     * Same as testJsonMOXyUnmarshal, with the native UTF-8 reader in place of the JSON-P based reader.
+     * The reader is selected by a system property, so the benchmark runs in its own fork.
+     */
+    @Benchmark
+    @Fork(jvmArgsAppend = "-D" + OXMSystemProperties.JSON_NATIVE_READER + "=true")
+    public void testJsonMOXyNativeUnmarshal(Blackhole bh) throws Exception {
+        testJsonMOXyUnmarshal(bh);
+    }
+
     @Benchmark
     public void testJsonParser(Blackhole bh) throws Exception {
         InputStream inputStream = null;
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial implementation
+package org.eclipse.persistence.testing.perf.largexml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.xml.bind.JAXBContext;
+
+import org.eclipse.persistence.jaxb.JAXBContextFactory;
+import org.eclipse.persistence.jaxb.MOXySystemProperties;
+import org.eclipse.persistence.testing.perf.largexml.bigpo.ObjectFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * This benchmark compares the creation of the JAXBContext of the large xml model with the
+ * sequential and the parallel processing of its annotations. The classes of the model are loaded
+ * by a new class loader for each JAXBContext, so that their reflective metadata is not cached.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LargeXmlAnnotationsProcessingBenchmark {
+
+    @Benchmark
+    public void testCreateContext(Blackhole bh) throws Exception {
+        bh.consume(createContext());
+    }
+
+    @Benchmark
+    @Fork(jvmArgsAppend = "-D" + MOXySystemProperties.PARALLEL_ANNOTATION_PROCESSING + "=true")
+    public void testCreateContextParallel(Blackhole bh) throws Exception {
+        bh.consume(createContext());
+    }
+
+    private JAXBContext createContext() throws Exception {
+        ClassLoader classLoader = new ModelClassLoader(ObjectFactory.class.getClassLoader());
+        Class<?> objectFactoryClass = classLoader.loadClass(ObjectFactory.class.getName());
+        return JAXBContextFactory.createContext(new Class<?>[] {objectFactoryClass}, null, classLoader);
+    }
+
+    /**
+     * Class loader defining its own copy of the classes of the model.
+     */
+    private static final class ModelClassLoader extends ClassLoader {
+        private static final String MODEL_PACKAGE = ObjectFactory.class.getPackageName() + ".";
+
+        ModelClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.startsWith(MODEL_PACKAGE)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> modelClass = findLoadedClass(name);
+                if (modelClass == null) {
+                    try (InputStream stream = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                        if (stream == null) {
+                            throw new ClassNotFoundException(name);
+                        }
+                        byte[] bytes = stream.readAllBytes();
+                        modelClass = defineClass(name, bytes, 0, bytes.length);
+                    } catch (IOException e) {
+                        throw new ClassNotFoundException(name, e);
+                    }
+                }
+                if (resolve) {
+                    resolveClass(modelClass);
+                }
+                return modelClass;
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial implementation
+package org.eclipse.persistence.testing.perf.largexml;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.xml.bind.JAXBContext;
+
+import org.eclipse.persistence.jaxb.JAXBContextFactory;
+import org.eclipse.persistence.jaxb.JAXBContextProperties;
+import org.eclipse.persistence.jaxb.JAXBContextSnapshot;
+import org.eclipse.persistence.testing.perf.largexml.bigpo.ObjectFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * This benchmark compares the creation of the JAXBContext of the large xml model
+ * from its annotated classes and from a snapshot of the JAXBContext.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LargeXmlStartupBenchmark {
+    private static final String BIG_PURCHASE_ORDER_XML = "org/eclipse/persistence/testing/perf/largexml/bigpo/BigPurchaseOrder.xml";
+
+    private byte[] snapshot;
+
+    /*
+     * Initial setup.
+     */
+    @Setup
+    public void prepare() throws Exception {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        JAXBContextSnapshot.write(createContext(null), stream);
+        snapshot = stream.toByteArray();
+        // Check the restored JAXBContext.
+        createContext(Map.of(JAXBContextProperties.CONTEXT_SNAPSHOT, new ByteArrayInputStream(snapshot))).createUnmarshaller()
+                .unmarshal(Thread.currentThread().getContextClassLoader().getResource(BIG_PURCHASE_ORDER_XML));
+    }
+
+    @Benchmark
+    public void testCreateContext(Blackhole bh) throws Exception {
+        bh.consume(createContext(null));
+    }
+
+    @Benchmark
+    public void testCreateContextFromSnapshot(Blackhole bh) throws Exception {
+        bh.consume(createContext(Map.of(JAXBContextProperties.CONTEXT_SNAPSHOT, new ByteArrayInputStream(snapshot))));
+    }
+
+    private JAXBContext createContext(Map<String, Object> properties) throws Exception {
+        return JAXBContextFactory.createContext(new Class<?>[] {ObjectFactory.class}, properties);
+    }
+}